@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -116,6 +117,20 @@ public final class JacksonCborFactory implements CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    @Override
+    public void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        try (final JacksonSerializationContext serializationContext =
+                new JacksonSerializationContext(JACKSON_CBOR_FACTORY, byteBuffer)) {
+            writeStartObjectWithLength(serializationContext, jsonFields.size());
+            for (final JsonField jsonField : jsonFields) {
+                jsonField.writeKeyAndValue(serializationContext);
+            }
+            serializationContext.getJacksonGenerator().writeEndObject();
+        }
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
@@ -21,6 +21,8 @@ import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -113,4 +115,18 @@ public final class JacksonCborFactoryTest {
         allocate.flip();
         assertThat(BinaryToHexConverter.toHexString(allocate)).isEqualTo(CborTestUtils.serializeToHexString(testValue));
     }
+
+    @Test
+    public void writeFieldsToByteBufferEqualsWritingTheObject() throws IOException {
+        final JsonObject envelope = JsonObject.newBuilder()
+                .set("dittoHeaders", JsonObject.newBuilder().set("correlation-id", "foo").build())
+                .set("payload", testValue)
+                .build();
+        final ByteBuffer allocate = ByteBuffer.allocate(1024);
+        cborFactory.writeFieldsToByteBuffer(Arrays.asList(
+                JsonField.newInstance("dittoHeaders", JsonObject.newBuilder().set("correlation-id", "foo").build()),
+                JsonField.newInstance("payload", testValue)), allocate);
+        allocate.flip();
+        assertThat(BinaryToHexConverter.toHexString(allocate)).isEqualTo(CborTestUtils.serializeToHexString(envelope));
+    }
 }
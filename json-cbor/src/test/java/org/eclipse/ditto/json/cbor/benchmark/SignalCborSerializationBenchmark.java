@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark measuring the CBOR serialization of signals the way the cluster serializer does it: a JSON object
+ * containing the headers and the payload is written into a pooled direct ByteBuffer and read from it again.
+ * Writing the envelope via an intermediate JSON object is compared with writing its fields directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SignalCborSerializationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String DITTO_HEADERS_KEY = "dittoHeaders";
+    private static final String PAYLOAD_KEY = "payload";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Param({"ModifyThing", "ThingModified", "RetrieveThingResponse"})
+    public String signalType;
+
+    private JacksonCborFactory cborFactory;
+    private Signal<?> signal;
+    private BiFunction<JsonObject, DittoHeaders, Signal<?>> signalParser;
+    private ByteBuffer byteBuffer;
+    private ByteBuffer serializedSignal;
+
+    @Setup
+    public void setup() throws IOException {
+        cborFactory = new JacksonCborFactory();
+        final ThingId thingId = ThingId.of("org.eclipse.ditto", "benchmark");
+        final ThingBuilder.FromScratch thingBuilder = Thing.newBuilder()
+                .setId(thingId)
+                .setPolicyId(PolicyId.of(thingId))
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("model"), JsonValue.of("Rocket Skates"));
+        for (int i = 0; i < 10; i++) {
+            thingBuilder.setFeature("feature" + i, FeatureProperties.newBuilder()
+                    .set("temperature", 23.5 + i)
+                    .set("humidity", 42 + i)
+                    .set("status", i % 2 == 0 ? "ON" : "STANDBY")
+                    .build());
+        }
+        final Thing thing = thingBuilder.setRevision(42L).build();
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(UUID.randomUUID().toString())
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .responseRequired(true)
+                .putHeader("content-type", "application/json")
+                .build();
+
+        switch (signalType) {
+            case "ModifyThing":
+                signal = ModifyThing.of(thingId, thing, null, dittoHeaders);
+                signalParser = ModifyThing::fromJson;
+                break;
+            case "ThingModified":
+                signal = ThingModified.of(thing, 42L, dittoHeaders);
+                signalParser = ThingModified::fromJson;
+                break;
+            case "RetrieveThingResponse":
+                signal = RetrieveThingResponse.of(thingId, thing.toJson(), dittoHeaders);
+                signalParser = RetrieveThingResponse::fromJson;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown signal type: " + signalType);
+        }
+
+        // pooled buffers of the cluster serializer are direct
+        byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        serializedSignal = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        writeFieldsDirectly(serializedSignal);
+        serializedSignal.flip();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int serializeViaJsonObject() throws IOException {
+        byteBuffer.clear();
+        final JsonObject envelope = JsonObject.newBuilder()
+                .set(DITTO_HEADERS_KEY, signal.getDittoHeaders().toJson())
+                .set(PAYLOAD_KEY, getPayload())
+                .build();
+        cborFactory.writeToByteBuffer(envelope, byteBuffer);
+        return byteBuffer.position();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int serializeFieldsDirectly() throws IOException {
+        byteBuffer.clear();
+        writeFieldsDirectly(byteBuffer);
+        return byteBuffer.position();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> deserialize() {
+        final JsonObject envelope = cborFactory.readFrom(serializedSignal.duplicate()).asObject();
+        final DittoHeaders dittoHeaders = envelope.getValue(DITTO_HEADERS_KEY)
+                .map(JsonValue::asObject)
+                .map(DittoHeaders::newBuilder)
+                .orElseGet(DittoHeaders::newBuilder)
+                .build();
+        final JsonObject payload = envelope.getValue(PAYLOAD_KEY)
+                .map(JsonValue::asObject)
+                .orElseGet(JsonObject::empty);
+        return signalParser.apply(payload, dittoHeaders);
+    }
+
+    private void writeFieldsDirectly(final ByteBuffer targetBuffer) throws IOException {
+        cborFactory.writeFieldsToByteBuffer(Arrays.asList(
+                JsonField.newInstance(DITTO_HEADERS_KEY, signal.getDittoHeaders().toJson()),
+                JsonField.newInstance(PAYLOAD_KEY, getPayload())), targetBuffer);
+    }
+
+    private JsonObject getPayload() {
+        return signal.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+    }
+
+}
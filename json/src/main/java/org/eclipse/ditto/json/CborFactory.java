@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -94,6 +95,18 @@ public interface CborFactory {
      */
     void writeToByteBuffer(JsonValue jsonValue, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes a JSON object consisting of the passed {@code jsonFields} into the passed {@code byteBuffer} applying
+     * CBOR without creating the JSON object first.
+     * Values which already have a CBOR representation are copied into the buffer as they are.
+     *
+     * @param jsonFields the fields of the JSON object to serialize into CBOR.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing the value to the backing OutputStream causes an IOException.
+     * @since 1.3.0
+     */
+    void writeFieldsToByteBuffer(Collection<JsonField> jsonFields, ByteBuffer byteBuffer) throws IOException;
+
     /**
      * Creates the CBOR representation of the passed JSON fieldMap and the estimated required serialized size of it.
      *
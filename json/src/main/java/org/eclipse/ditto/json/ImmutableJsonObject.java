@@ -115,6 +115,19 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is backed only by its string representation.
+     * Its fields are parsed on demand: single lookups parse only the requested value, while iteration and
+     * modification parse all fields.
+     *
+     * @param stringRepresentation the string representation of a JSON object as created by this class.
+     * @return a new JSON object of {@code stringRepresentation}.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     */
+    static ImmutableJsonObject ofStringRepresentation(final String stringRepresentation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofStringRepresentation(stringRepresentation));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -557,6 +570,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private byte[] cborObjectRepresentation;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private JsonObjectFieldIndex fieldIndex;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
@@ -579,6 +593,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 }
             }
             hashCode = 0;
+            fieldIndex = null;
+        }
+
+        private SoftReferencedFieldMap(final String stringRepresentation) {
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = requireNonNull(stringRepresentation,
+                    "The string representation of JSON object must not be null!");
+            cborObjectRepresentation = null;
+            hashCode = 0;
+            fieldIndex = null;
         }
 
         static SoftReferencedFieldMap empty() {
@@ -605,6 +629,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        static SoftReferencedFieldMap ofStringRepresentation(final String stringRepresentation) {
+            return new SoftReferencedFieldMap(stringRepresentation);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -620,22 +648,54 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.getSize();
+                }
+            }
             return fields().size();
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == getSize();
         }
 
         boolean containsKey(final String key) {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.containsKey(key);
+                }
+            }
             return fields().containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                // only parse the requested value instead of recovering all fields
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.getOrNull(key);
+                }
+            }
             return fields().get(key);
         }
 
+        @Nullable
+        private JsonObjectFieldIndex getFieldIndex() {
+            JsonObjectFieldIndex result = fieldIndex;
+            if (null == result && null != jsonObjectStringRepresentation) {
+                result = JsonObjectFieldIndex.of(jsonObjectStringRepresentation);
+                fieldIndex = result;
+            }
+            return result;
+        }
+
         SoftReferencedFieldMap put(final String key, final JsonField value) {
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.put(key, value);
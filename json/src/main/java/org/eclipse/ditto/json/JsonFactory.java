@@ -15,6 +15,7 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
@@ -195,6 +196,39 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes as JSON value without decoding them to a String first.
+     *
+     * @param utf8Bytes the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} is empty or if it is no valid UTF-8 encoded JSON.
+     * @since 1.3.0
+     */
+    public static JsonValue readFrom(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(utf8Bytes));
+    }
+
+    /**
+     * Parses the remaining bytes of the given buffer as UTF-8 encoded JSON value without decoding them to a String
+     * first. The position of the buffer is not changed.
+     *
+     * @param utf8Bytes the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} has no remaining bytes or if it is no valid UTF-8 encoded JSON.
+     * @since 1.3.0
+     */
+    public static JsonValue readFrom(final ByteBuffer utf8Bytes) {
+        requireNonNull(utf8Bytes, "The byte buffer to read from must not be null!");
+        if (!utf8Bytes.hasRemaining()) {
+            throw new JsonParseException("The bytes to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(utf8Bytes);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
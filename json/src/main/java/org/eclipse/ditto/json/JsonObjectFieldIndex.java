@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.lang.ref.SoftReference;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An index of the top-level fields of the string representation of a JSON object.
+ * It only consists of the offsets of the keys and values within the string and an open addressing hash table of these
+ * offsets.
+ * A value is parsed only when it is accessed, thus a lookup is independent of the size of the other values.
+ * Parsed values are kept softly referenced, so that repeated lookups of the same key do not parse again. Nested
+ * objects are not parsed at all but backed by their string representation, so that they are indexed in turn on their
+ * first lookup.
+ * The memo of parsed values is the only mutable state. Racing lookups may parse the same value twice or replace each
+ * other's memo, which only costs the repeated parsing, because parsing is idempotent and fields are immutable.
+ */
+@ThreadSafe
+final class JsonObjectFieldIndex {
+
+    private static final int KEY_START = 0;
+    private static final int KEY_END = 1;
+    private static final int VALUE_START = 2;
+    private static final int VALUE_END = 3;
+    private static final int OFFSETS_PER_FIELD = 4;
+
+    private final String jsonObjectString;
+    private final int[] offsets;
+    private final int size;
+    private final int[] hashTable;
+    private volatile SoftReference<JsonField[]> parsedFieldsReference;
+
+    private JsonObjectFieldIndex(final String jsonObjectString, final int[] offsets, final int size,
+            final int[] hashTable) {
+
+        this.jsonObjectString = jsonObjectString;
+        this.offsets = offsets;
+        this.size = size;
+        this.hashTable = hashTable;
+        parsedFieldsReference = new SoftReference<>(null);
+    }
+
+    /**
+     * Scans the top-level fields of the given string representation of a JSON object without parsing their values.
+     *
+     * @param jsonObjectString the string representation of a JSON object.
+     * @return the index.
+     * @throws JsonParseException if {@code jsonObjectString} is no JSON object.
+     */
+    static JsonObjectFieldIndex of(final String jsonObjectString) {
+        try {
+            return new Scanner(jsonObjectString).scan();
+        } catch (final IndexOutOfBoundsException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to index JSON object string!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Returns the number of distinct top-level keys.
+     *
+     * @return the size.
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Indicates whether the JSON object contains a top-level field with the given key.
+     *
+     * @param key the key.
+     * @return {@code true} if the key exists.
+     */
+    boolean containsKey(final String key) {
+        return 0 <= findField(key);
+    }
+
+    /**
+     * Parses the value of the top-level field with the given key.
+     *
+     * @param key the key.
+     * @return the field or {@code null} if the JSON object does not contain the key.
+     */
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final int field = findField(key);
+        if (0 > field) {
+            return null;
+        }
+        JsonField[] parsedFields = parsedFieldsReference.get();
+        if (null == parsedFields) {
+            parsedFields = new JsonField[size];
+            parsedFieldsReference = new SoftReference<>(parsedFields);
+        }
+        JsonField result = parsedFields[field];
+        if (null == result) {
+            result = JsonField.newInstance(key, parseValue(field));
+            parsedFields[field] = result;
+        }
+        return result;
+    }
+
+    private JsonValue parseValue(final int field) {
+        final int base = field * OFFSETS_PER_FIELD;
+        final String valueString = jsonObjectString.substring(offsets[base + VALUE_START], offsets[base + VALUE_END]);
+        if ('{' == valueString.charAt(0)) {
+            return ImmutableJsonObject.ofStringRepresentation(valueString);
+        }
+        return JsonValueParser.fromString().apply(valueString);
+    }
+
+    private int findField(final String key) {
+        return findField(jsonObjectString, offsets, hashTable, key);
+    }
+
+    private static int findField(final String jsonObjectString, final int[] offsets, final int[] hashTable,
+            final String key) {
+
+        final int mask = hashTable.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (0 != hashTable[slot]) {
+            final int field = hashTable[slot] - 1;
+            if (keyEquals(jsonObjectString, offsets, field, key)) {
+                return field;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean keyEquals(final String jsonObjectString, final int[] offsets, final int field,
+            final String key) {
+
+        final int base = field * OFFSETS_PER_FIELD;
+        final int start = offsets[base + KEY_START];
+        final int end = offsets[base + KEY_END];
+        if (containsEscape(jsonObjectString, start, end)) {
+            return key.equals(decodeKey(jsonObjectString, start, end));
+        }
+        return end - start - 2 == key.length() && jsonObjectString.regionMatches(start + 1, key, 0, key.length());
+    }
+
+    private static boolean containsEscape(final String jsonObjectString, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if ('\\' == jsonObjectString.charAt(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String decodeKey(final String jsonObjectString, final int start, final int end) {
+        if (containsEscape(jsonObjectString, start, end)) {
+            return JsonValueParser.fromString().apply(jsonObjectString.substring(start, end)).asString();
+        }
+        return jsonObjectString.substring(start + 1, end - 1);
+    }
+
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Determines the offsets of the top-level keys and values of a JSON object string.
+     * The string is expected to be well-formed as it is the representation of an existing JSON object.
+     */
+    private static final class Scanner {
+
+        private final String jsonObjectString;
+        private int index;
+        private int[] offsets;
+        private int size;
+        private int[] hashTable;
+
+        private Scanner(final String jsonObjectString) {
+            this.jsonObjectString = jsonObjectString;
+            index = 0;
+            offsets = new int[8 * OFFSETS_PER_FIELD];
+            size = 0;
+            hashTable = new int[16];
+        }
+
+        private JsonObjectFieldIndex scan() {
+            skipWhiteSpace();
+            expect('{');
+            skipWhiteSpace();
+            if ('}' != current()) {
+                do {
+                    skipWhiteSpace();
+                    final int keyStart = index;
+                    final int keyEnd = endOfString(keyStart);
+                    index = keyEnd;
+                    skipWhiteSpace();
+                    expect(':');
+                    skipWhiteSpace();
+                    final int valueStart = index;
+                    final int valueEnd = endOfValue(valueStart);
+                    index = valueEnd;
+                    addField(keyStart, keyEnd, valueStart, valueEnd);
+                    skipWhiteSpace();
+                } while (tryToRead(','));
+            }
+            expect('}');
+            return new JsonObjectFieldIndex(jsonObjectString, offsets, size, hashTable);
+        }
+
+        private void addField(final int keyStart, final int keyEnd, final int valueStart, final int valueEnd) {
+            final String key = decodeKey(jsonObjectString, keyStart, keyEnd);
+            final int existingField = findField(jsonObjectString, offsets, hashTable, key);
+            if (0 <= existingField) {
+                // like in a LinkedHashMap the last value of a duplicate key wins while the first position is kept
+                offsets[existingField * OFFSETS_PER_FIELD + VALUE_START] = valueStart;
+                offsets[existingField * OFFSETS_PER_FIELD + VALUE_END] = valueEnd;
+                return;
+            }
+            if (offsets.length < (size + 1) * OFFSETS_PER_FIELD) {
+                final int[] newOffsets = new int[offsets.length * 2];
+                System.arraycopy(offsets, 0, newOffsets, 0, offsets.length);
+                offsets = newOffsets;
+            }
+            final int base = size * OFFSETS_PER_FIELD;
+            offsets[base + KEY_START] = keyStart;
+            offsets[base + KEY_END] = keyEnd;
+            offsets[base + VALUE_START] = valueStart;
+            offsets[base + VALUE_END] = valueEnd;
+            size++;
+            if (hashTable.length < size * 2) {
+                rehash(hashTable.length * 2);
+            } else {
+                insert(hashTable, size - 1, key);
+            }
+        }
+
+        private void rehash(final int capacity) {
+            final int[] newHashTable = new int[capacity];
+            for (int field = 0; field < size; field++) {
+                final int base = field * OFFSETS_PER_FIELD;
+                insert(newHashTable, field,
+                        decodeKey(jsonObjectString, offsets[base + KEY_START], offsets[base + KEY_END]));
+            }
+            hashTable = newHashTable;
+        }
+
+        private static void insert(final int[] hashTable, final int field, final String key) {
+            final int mask = hashTable.length - 1;
+            int slot = spread(key.hashCode()) & mask;
+            while (0 != hashTable[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            hashTable[slot] = field + 1;
+        }
+
+        private int endOfString(final int start) {
+            if ('"' != jsonObjectString.charAt(start)) {
+                throw unexpectedCharacter(start);
+            }
+            int i = start + 1;
+            char c = jsonObjectString.charAt(i);
+            while ('"' != c) {
+                i += '\\' == c ? 2 : 1;
+                c = jsonObjectString.charAt(i);
+            }
+            return i + 1;
+        }
+
+        private int endOfValue(final int start) {
+            final char first = jsonObjectString.charAt(start);
+            if ('"' == first) {
+                return endOfString(start);
+            } else if ('{' == first || '[' == first) {
+                int depth = 0;
+                int i = start;
+                do {
+                    final char c = jsonObjectString.charAt(i);
+                    if ('"' == c) {
+                        i = endOfString(i);
+                        continue;
+                    } else if ('{' == c || '[' == c) {
+                        depth++;
+                    } else if ('}' == c || ']' == c) {
+                        depth--;
+                    }
+                    i++;
+                } while (0 < depth);
+                return i;
+            } else {
+                // literal or number
+                int i = start;
+                char c = first;
+                while (',' != c && '}' != c && ']' != c && !isWhiteSpace(c)) {
+                    c = jsonObjectString.charAt(++i);
+                }
+                return i;
+            }
+        }
+
+        private void skipWhiteSpace() {
+            while (index < jsonObjectString.length() && isWhiteSpace(jsonObjectString.charAt(index))) {
+                index++;
+            }
+        }
+
+        private static boolean isWhiteSpace(final char c) {
+            return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+        }
+
+        private char current() {
+            return jsonObjectString.charAt(index);
+        }
+
+        private boolean tryToRead(final char c) {
+            if (index < jsonObjectString.length() && c == current()) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char c) {
+            if (!tryToRead(c)) {
+                throw unexpectedCharacter(index);
+            }
+        }
+
+        private JsonParseException unexpectedCharacter(final int position) {
+            return new JsonParseException("Unexpected character in JSON object string at offset " + position);
+        }
+
+    }
+
+}
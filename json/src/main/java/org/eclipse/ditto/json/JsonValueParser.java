@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,17 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing the remaining bytes of a {@code ByteBuffer} as UTF-8 encoded JSON to an instance
+     * of {@link JsonValue} without decoding them to a String first.
+     * The position of the buffer is not changed.
+     *
+     * @return the function.
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::tryToParseJsonValueFrom;
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -100,6 +112,34 @@ final class JsonValueParser {
         return dittoJsonHandler.getValue();
     }
 
+    private static JsonValue tryToParseJsonValueFrom(final ByteBuffer byteBuffer) {
+        try {
+            return parseJsonValueFrom(byteBuffer);
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue parseJsonValueFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The byte buffer must not be null!");
+        final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
+        if (byteBuffer.hasArray()) {
+            Utf8JsonParser.parse(dittoJsonHandler, byteBuffer.array(),
+                    byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        } else {
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            Utf8JsonParser.parse(dittoJsonHandler, bytes, 0, bytes.length);
+        }
+        return dittoJsonHandler.getValue();
+    }
+
     private static JsonValue tryToReadJsonValueFrom(final Reader reader) {
         try {
             return readJsonValueFrom(reader);
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A parser for UTF-8 encoded JSON which reports the parsed values to a {@link DittoJsonHandler} in the same order as
+ * {@link com.eclipsesource.json.JsonParser} does.
+ * The bytes are decoded on the fly, i. e. only the contained strings and numbers are materialized as Java Strings,
+ * never the whole document.
+ * <p>
+ * <em>An instance of this class is not safe to be re-used!</em>
+ * </p>
+ *
+ * @param <A> the type the handler uses for parsing JSON arrays.
+ * @param <O> the type the handler uses for parsing JSON objects.
+ */
+@NotThreadSafe
+final class Utf8JsonParser<A, O> {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+    private static final int DEFAULT_CHAR_BUFFER_CAPACITY = 64;
+
+    private final DittoJsonHandler<A, O, ?> handler;
+    private final byte[] bytes;
+    private final int offset;
+    private final int limit;
+    private int index;
+    private int nestingLevel;
+    private char[] charBuffer;
+
+    private Utf8JsonParser(final DittoJsonHandler<A, O, ?> handler, final byte[] bytes, final int offset,
+            final int length) {
+
+        this.handler = handler;
+        this.bytes = bytes;
+        this.offset = offset;
+        limit = offset + length;
+        index = offset;
+        nestingLevel = 0;
+        charBuffer = null;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON document and reports the parsed values to the given handler.
+     *
+     * @param handler the handler to receive the parser events.
+     * @param bytes the bytes containing the JSON document.
+     * @param offset the index of the first byte of the JSON document.
+     * @param length the number of bytes of the JSON document.
+     * @throws JsonParseException if the bytes are no valid UTF-8 encoded JSON.
+     */
+    static void parse(final DittoJsonHandler<?, ?, ?> handler, final byte[] bytes, final int offset,
+            final int length) {
+
+        new Utf8JsonParser<>(handler, bytes, offset, length).parse();
+    }
+
+    private void parse() {
+        skipWhiteSpace();
+        readValue();
+        skipWhiteSpace();
+        if (!isEndOfInput()) {
+            throw error("Unexpected character");
+        }
+    }
+
+    private void readValue() {
+        switch (current()) {
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readStringInternal());
+                break;
+            case '[':
+                readArray();
+                break;
+            case '{':
+                readObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                handler.startNumber();
+                handler.endNumber(readNumber());
+                break;
+            default:
+                throw expected("value");
+        }
+    }
+
+    private void readArray() {
+        final A array = handler.startArray();
+        index++;
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        skipWhiteSpace();
+        if (readByte(']')) {
+            nestingLevel--;
+            handler.endArray(array);
+            return;
+        }
+        do {
+            skipWhiteSpace();
+            handler.startArrayValue(array);
+            readValue();
+            handler.endArrayValue(array);
+            skipWhiteSpace();
+        } while (readByte(','));
+        if (!readByte(']')) {
+            throw expected("',' or ']'");
+        }
+        nestingLevel--;
+        handler.endArray(array);
+    }
+
+    private void readObject() {
+        final O object = handler.startObject();
+        index++;
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        skipWhiteSpace();
+        if (readByte('}')) {
+            nestingLevel--;
+            handler.endObject(object);
+            return;
+        }
+        do {
+            skipWhiteSpace();
+            handler.startObjectName(object);
+            if (current() != '"') {
+                throw expected("name");
+            }
+            final String name = readStringInternal();
+            handler.endObjectName(object, name);
+            skipWhiteSpace();
+            if (!readByte(':')) {
+                throw expected("':'");
+            }
+            skipWhiteSpace();
+            handler.startObjectValue(object, name);
+            readValue();
+            handler.endObjectValue(object, name);
+            skipWhiteSpace();
+        } while (readByte(','));
+        if (!readByte('}')) {
+            throw expected("',' or '}'");
+        }
+        nestingLevel--;
+        handler.endObject(object);
+    }
+
+    private void readLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (current() != literal.charAt(i)) {
+                throw expected("'" + literal.charAt(i) + "'");
+            }
+            index++;
+        }
+    }
+
+    private String readStringInternal() {
+        // skip the opening quote
+        final int start = ++index;
+
+        // fast path for the common case of a string consisting of printable ASCII characters only
+        while (index < limit) {
+            final int b = bytes[index];
+            if ('"' == b) {
+                index++;
+                return new String(bytes, start, index - start - 1, StandardCharsets.ISO_8859_1);
+            } else if ('\\' == b || b < 0x20) {
+                // negative values are the leading or continuation bytes of multi-byte sequences
+                break;
+            }
+            index++;
+        }
+
+        int length = index - start;
+        ensureCharBufferCapacity(length + DEFAULT_CHAR_BUFFER_CAPACITY);
+        for (int i = 0; i < length; i++) {
+            charBuffer[i] = (char) bytes[start + i];
+        }
+        while (true) {
+            final int b = current();
+            if ('"' == b) {
+                index++;
+                return new String(charBuffer, 0, length);
+            }
+            ensureCharBufferCapacity(length + 2);
+            if ('\\' == b) {
+                index++;
+                charBuffer[length++] = readEscape();
+            } else if (b < 0x20) {
+                throw expected("valid string character");
+            } else if (b < 0x80) {
+                index++;
+                charBuffer[length++] = (char) b;
+            } else {
+                length = readMultiByteCharacter(b, length);
+            }
+        }
+    }
+
+    private char readEscape() {
+        final int b = current();
+        index++;
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(current(), 16);
+                    if (digit < 0) {
+                        throw expected("hexadecimal digit");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                    index++;
+                }
+                return (char) codeUnit;
+            default:
+                index--;
+                throw expected("valid escape sequence");
+        }
+    }
+
+    private int readMultiByteCharacter(final int leadingByte, final int length) {
+        final int codePoint;
+        if ((leadingByte & 0xE0) == 0xC0) {
+            codePoint = readContinuationBytes(leadingByte & 0x1F, 1);
+            if (codePoint < 0x80) {
+                throw error("Overlong UTF-8 sequence");
+            }
+        } else if ((leadingByte & 0xF0) == 0xE0) {
+            codePoint = readContinuationBytes(leadingByte & 0x0F, 2);
+            if (codePoint < 0x800 || Character.isSurrogate((char) codePoint)) {
+                throw error("Invalid UTF-8 sequence");
+            }
+        } else if ((leadingByte & 0xF8) == 0xF0) {
+            codePoint = readContinuationBytes(leadingByte & 0x07, 3);
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                throw error("Invalid UTF-8 sequence");
+            }
+        } else {
+            throw error("Invalid UTF-8 byte");
+        }
+        return length + Character.toChars(codePoint, charBuffer, length);
+    }
+
+    private int readContinuationBytes(final int initialBits, final int count) {
+        index++;
+        int codePoint = initialBits;
+        for (int i = 0; i < count; i++) {
+            final int b = current();
+            if ((b & 0xC0) != 0x80) {
+                throw error("Invalid UTF-8 continuation byte");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+            index++;
+        }
+        return codePoint;
+    }
+
+    private void ensureCharBufferCapacity(final int capacity) {
+        if (null == charBuffer) {
+            charBuffer = new char[Math.max(capacity, DEFAULT_CHAR_BUFFER_CAPACITY)];
+        } else if (charBuffer.length < capacity) {
+            final char[] newCharBuffer = new char[Math.max(capacity, charBuffer.length * 2)];
+            System.arraycopy(charBuffer, 0, newCharBuffer, 0, charBuffer.length);
+            charBuffer = newCharBuffer;
+        }
+    }
+
+    private String readNumber() {
+        final int start = index;
+        readByte('-');
+        final int firstDigit = current();
+        if (!readDigit()) {
+            throw expected("digit");
+        }
+        if ('0' != firstDigit) {
+            while (readDigit()) {
+                // consume all digits of the integer part
+            }
+        }
+        if (readByte('.')) {
+            if (!readDigit()) {
+                throw expected("digit");
+            }
+            while (readDigit()) {
+                // consume all digits of the fraction
+            }
+        }
+        if (readByte('e') || readByte('E')) {
+            if (!readByte('+')) {
+                readByte('-');
+            }
+            if (!readDigit()) {
+                throw expected("digit");
+            }
+            while (readDigit()) {
+                // consume all digits of the exponent
+            }
+        }
+        return new String(bytes, start, index - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private boolean readDigit() {
+        final int b = current();
+        if (b >= '0' && b <= '9') {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean readByte(final char expected) {
+        if (current() == expected) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhiteSpace() {
+        while (index < limit) {
+            final byte b = bytes[index];
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Returns the current byte as unsigned value or {@code -1} at the end of input.
+     */
+    private int current() {
+        return isEndOfInput() ? -1 : bytes[index] & 0xFF;
+    }
+
+    private boolean isEndOfInput() {
+        return index >= limit;
+    }
+
+    private JsonParseException expected(final String expected) {
+        if (isEndOfInput()) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private JsonParseException error(final String message) {
+        return new JsonParseException(message + " at byte offset " + (index - offset));
+    }
+
+}
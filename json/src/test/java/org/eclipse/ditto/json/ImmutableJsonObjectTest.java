@@ -1410,6 +1410,37 @@ public final class ImmutableJsonObjectTest {
         assertThat(jsonObject.getValue(KNOWN_KEY_FOO).isPresent()).isTrue();
     }
 
+    @Test
+    public void getValueAfterSoftReferenceWasClearedParsesOnlyRequestedValue()
+            throws IllegalAccessException, NoSuchFieldException {
+
+        final JsonObject nested = JsonObject.newBuilder().set("bar", JsonObject.newBuilder().set("baz", 42).build())
+                .build();
+        final ImmutableJsonObject jsonObject =
+                ImmutableJsonObject.of(toMap("foo", nested), "{\"foo\":{\"bar\":{\"baz\":42}}}");
+
+        final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final ImmutableJsonObject.SoftReferencedFieldMap
+                fieldMap = (ImmutableJsonObject.SoftReferencedFieldMap) fieldMapField.get(jsonObject);
+        final Field softReferenceField = fieldMap.getClass().getDeclaredField("fieldsReference");
+        softReferenceField.setAccessible(true);
+        ((SoftReference) softReferenceField.get(fieldMap)).clear();
+
+        assertThat(jsonObject.getValue("foo/bar/baz")).contains(JsonValue.of(42));
+        assertThat(jsonObject.contains("foo")).isTrue();
+        assertThat(jsonObject.contains("bar")).isFalse();
+        assertThat(jsonObject.getSize()).isEqualTo(1);
+        assertThat(((SoftReference) softReferenceField.get(fieldMap)).get()).isNull();
+
+        // nested objects are indexed instead of parsed as well
+        final JsonValue foo = jsonObject.getValue("foo").orElseThrow();
+        final ImmutableJsonObject.SoftReferencedFieldMap fooFieldMap =
+                (ImmutableJsonObject.SoftReferencedFieldMap) fieldMapField.get(foo);
+        assertThat(((SoftReference) softReferenceField.get(fooFieldMap)).get()).isNull();
+        assertThat(foo).isEqualTo(nested);
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
@@ -21,6 +21,8 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -290,6 +292,42 @@ public final class JsonFactoryTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void readFromUtf8BytesEqualsReadFromString() {
+        final JsonValue expected = JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING);
+        final JsonValue actual = JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void readFromByteBufferDoesNotChangeItsPosition() {
+        final byte[] bytes = ("  " + KNOWN_JSON_ARRAY_STRING).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes).flip().position(2);
+
+        final JsonValue actual = JsonFactory.readFrom(byteBuffer);
+
+        assertThat(actual).isEqualTo(JsonFactory.newArray(KNOWN_JSON_ARRAY_STRING));
+        assertThat(byteBuffer.position()).isEqualTo(2);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToReadFromNullBytes() {
+        JsonFactory.readFrom((byte[]) null);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadFromEmptyBytes() {
+        JsonFactory.readFrom(new byte[0]);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadJsonValueFromInvalidBytes() {
+        JsonFactory.readFrom("{\"foo\":\"bar\"".getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test(expected = JsonParseException.class)
     public void tryToReadFromNullReader() {
         JsonFactory.readFrom((Reader) null);
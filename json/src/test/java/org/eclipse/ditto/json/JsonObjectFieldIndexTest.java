@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectFieldIndex}.
+ */
+public final class JsonObjectFieldIndexTest {
+
+    private static final String KNOWN_JSON_OBJECT_STRING = "{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":{\"latitude\":47.68,\"longitude\":9.38},\"tags\":[\"a\",\"}\",\"\\\"\"]}," +
+            "\"_revision\":42,\"active\":true,\"deleted\":null}";
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(JsonObjectFieldIndex.class, areImmutable(),
+                assumingFields("offsets", "hashTable").areNotModifiedAndDoNotEscape(),
+                assumingFields("parsedFieldsReference").areModifiedAsPartOfAnUnobservableCachingStrategy());
+    }
+
+    @Test
+    public void indexTopLevelFields() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of(KNOWN_JSON_OBJECT_STRING);
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING);
+
+        assertThat(underTest.getSize()).isEqualTo(expected.getSize());
+        for (final JsonField jsonField : expected) {
+            assertThat(underTest.containsKey(jsonField.getKeyName())).isTrue();
+            assertThat(underTest.getOrNull(jsonField.getKeyName())).isEqualTo(jsonField);
+        }
+    }
+
+    @Test
+    public void repeatedLookupsReturnTheParsedField() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of(KNOWN_JSON_OBJECT_STRING);
+
+        final JsonField firstLookup = underTest.getOrNull("thingId");
+
+        assertThat(underTest.getOrNull("thingId")).isSameAs(firstLookup);
+    }
+
+    @Test
+    public void nestedObjectsAreBackedByTheirStringRepresentation() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of(KNOWN_JSON_OBJECT_STRING);
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING).getValue("attributes")
+                .map(JsonValue::asObject)
+                .orElseThrow();
+
+        final JsonValue attributes = underTest.getOrNull("attributes").getValue();
+
+        assertThat(attributes).isInstanceOf(ImmutableJsonObject.class);
+        assertThat(attributes.toString()).isEqualTo(expected.toString());
+        assertThat(attributes.asObject().getValue("location/latitude")).contains(JsonValue.of(47.68));
+        assertThat(attributes.asObject().getValue("tags")).isEqualTo(expected.getValue("tags"));
+        assertThat(attributes).isEqualTo(expected);
+        assertThat(attributes.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void unknownKeyIsNotFound() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of(KNOWN_JSON_OBJECT_STRING);
+
+        assertThat(underTest.containsKey("location")).isFalse();
+        assertThat(underTest.getOrNull("location")).isNull();
+    }
+
+    @Test
+    public void indexEmptyObject() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of("{ }");
+
+        assertThat(underTest.getSize()).isZero();
+        assertThat(underTest.getOrNull("foo")).isNull();
+    }
+
+    @Test
+    public void indexObjectWithWhiteSpaceAndEscapedKeys() {
+        final String jsonObjectString = "{ \"a\\\"b\" : 1 ,\n\"c\\nd\": \"e\" }";
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of(jsonObjectString);
+
+        assertThat(underTest.getSize()).isEqualTo(2);
+        assertThat(underTest.getOrNull("a\"b")).isEqualTo(JsonField.newInstance("a\"b", JsonValue.of(1)));
+        assertThat(underTest.getOrNull("c\nd")).isEqualTo(JsonField.newInstance("c\nd", JsonValue.of("e")));
+        assertThat(underTest.containsKey("c\\nd")).isFalse();
+    }
+
+    @Test
+    public void lastValueOfDuplicateKeyWins() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertThat(underTest.getSize()).isEqualTo(2);
+        assertThat(underTest.getOrNull("a")).isEqualTo(JsonField.newInstance("a", JsonValue.of(3)));
+    }
+
+    @Test
+    public void indexManyFields() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.set("field" + i, i);
+        }
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.of(builder.build().toString());
+
+        assertThat(underTest.getSize()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(underTest.getOrNull("field" + i)).isEqualTo(JsonField.newInstance("field" + i, JsonValue.of(i)));
+        }
+    }
+
+    @Test
+    public void tryToIndexNoObject() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonObjectFieldIndex.of("[1,2]"));
+    }
+
+    @Test
+    public void tryToIndexTruncatedObject() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonObjectFieldIndex.of("{\"a\":\"b"));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    @Test
+    public void parseObjectWithAllValueTypes() {
+        assertParsesLikeStringParser("{\"a\":1,\"b\":[true,false,null,-0.5e+3,12345678901,1.5E2],\"c\":{},\"d\":[]}");
+    }
+
+    @Test
+    public void parseWithWhiteSpace() {
+        assertParsesLikeStringParser(" \t\r\n{ \"a\" : [ 1 , 2 ] }\n");
+    }
+
+    @Test
+    public void parseEscapeSequences() {
+        assertParsesLikeStringParser("{\"k\\t\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\u20AC\"}");
+    }
+
+    @Test
+    public void parseMultiByteCharacters() {
+        assertParsesLikeStringParser("{\"sch\u00f6n\":\"\u00e4\u20ac\uD83D\uDE00 and ASCII\"}");
+    }
+
+    @Test
+    public void parseWithinOffset() {
+        final byte[] bytes = "xx[1,\"two\"]yy".getBytes(StandardCharsets.UTF_8);
+        final DefaultDittoJsonHandler handler = DefaultDittoJsonHandler.newInstance();
+
+        Utf8JsonParser.parse(handler, bytes, 2, bytes.length - 4);
+
+        assertThat(handler.getValue()).isEqualTo(JsonArray.newBuilder().add(1).add("two").build());
+    }
+
+    @Test
+    public void rejectIncompleteObject() {
+        assertRejects("{\"foo\":\"bar\"", "Unexpected end of input at byte offset 12");
+    }
+
+    @Test
+    public void rejectTrailingCharacters() {
+        assertRejects("[1] x", "Unexpected character at byte offset 4");
+    }
+
+    @Test
+    public void rejectLeadingZero() {
+        assertRejects("01", "Unexpected character at byte offset 1");
+    }
+
+    @Test
+    public void rejectTrailingComma() {
+        assertRejects("[1,]", "Expected value at byte offset 3");
+    }
+
+    @Test
+    public void rejectControlCharacterInString() {
+        assertRejects("\"\u0001\"", "Expected valid string character at byte offset 1");
+    }
+
+    @Test
+    public void rejectInvalidEscapeSequence() {
+        assertRejects("\"\\x\"", "Expected valid escape sequence at byte offset 2");
+    }
+
+    @Test
+    public void rejectTruncatedMultiByteCharacter() {
+        final byte[] bytes = {'"', (byte) 0xC3, '"'};
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> Utf8JsonParser.parse(DefaultDittoJsonHandler.newInstance(), bytes, 0, bytes.length))
+                .withMessage("Invalid UTF-8 continuation byte at byte offset 2");
+    }
+
+    @Test
+    public void rejectTooDeeplyNestedArrays() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append('[');
+        }
+
+        assertRejects(stringBuilder.toString(), "Nesting too deep at byte offset 1001");
+    }
+
+    private static void assertParsesLikeStringParser(final String jsonString) {
+        final byte[] bytes = jsonString.getBytes(StandardCharsets.UTF_8);
+        final DefaultDittoJsonHandler handler = DefaultDittoJsonHandler.newInstance();
+
+        Utf8JsonParser.parse(handler, bytes, 0, bytes.length);
+
+        final JsonValue expected = JsonFactory.readFrom(jsonString);
+        assertThat(handler.getValue()).isEqualTo(expected);
+        assertThat(handler.getValue().toString()).isEqualTo(expected.toString());
+    }
+
+    private static void assertRejects(final String jsonString, final String expectedMessage) {
+        final byte[] bytes = jsonString.getBytes(StandardCharsets.UTF_8);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> Utf8JsonParser.parse(DefaultDittoJsonHandler.newInstance(), bytes, 0, bytes.length))
+                .withMessage(expectedMessage);
+    }
+
+}
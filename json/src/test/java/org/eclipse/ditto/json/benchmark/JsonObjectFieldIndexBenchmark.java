@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark comparing repeated and nested {@code getValue} calls on JSON objects which are only backed by their
+ * string representation, e. g. after their fields were softly cleared, with the same calls on a fully parsed object
+ * as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonObjectFieldIndexBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int REPEATED_LOOKUPS = 10;
+
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private String thingString;
+    private JsonPointer nestedPointer;
+    private Method ofStringRepresentation;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set("feature" + i, JsonObject.newBuilder()
+                    .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("temperature", 23.5 + i)
+                            .set("humidity", 42 + i)
+                            .set("status", i % 2 == 0 ? "ON" : "STANDBY")
+                            .set("location", JsonObject.newBuilder()
+                                    .set("latitude", 47.6823)
+                                    .set("longitude", 9.3862)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        thingString = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set("policyId", "org.eclipse.ditto:benchmark")
+                .set("features", featuresBuilder.build())
+                .set("_revision", 42)
+                .build()
+                .toString();
+        nestedPointer = JsonPointer.of("features/feature" + featureCount / 2 + "/properties/location/latitude");
+
+        // objects backed only by their string representation are otherwise created by the JVM clearing soft references
+        ofStringRepresentation = Class.forName("org.eclipse.ditto.json.ImmutableJsonObject")
+                .getDeclaredMethod("ofStringRepresentation", String.class);
+        ofStringRepresentation.setAccessible(true);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> parsedNestedValue() {
+        return JsonFactory.newObject(thingString).getValue(nestedPointer);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> indexedNestedValue() throws ReflectiveOperationException {
+        return unparsedThing().getValue(nestedPointer);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parsedNestedValueRepeatedly(final Blackhole blackhole) {
+        final JsonObject thing = JsonFactory.newObject(thingString);
+        for (int i = 0; i < REPEATED_LOOKUPS; i++) {
+            blackhole.consume(thing.getValue(nestedPointer));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void indexedNestedValueRepeatedly(final Blackhole blackhole) throws ReflectiveOperationException {
+        final JsonObject thing = unparsedThing();
+        for (int i = 0; i < REPEATED_LOOKUPS; i++) {
+            blackhole.consume(thing.getValue(nestedPointer));
+        }
+    }
+
+    private JsonObject unparsedThing() throws ReflectiveOperationException {
+        return (JsonObject) ofStringRepresentation.invoke(null, thingString);
+    }
+
+}
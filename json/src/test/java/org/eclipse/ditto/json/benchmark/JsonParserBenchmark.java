@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing parsing UTF-8 encoded thing payloads directly from bytes with decoding them to a String
+ * and parsing the String.
+ * Run with the GC profiler ({@code -prof gc}) to compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private String thingString;
+    private byte[] thingBytes;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set("feature" + i, JsonObject.newBuilder()
+                    .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("temperature", 23.5 + i)
+                            .set("humidity", 42 + i)
+                            .set("status", i % 2 == 0 ? "ON" : "STANDBY")
+                            .set("lastUpdate", "2020-06-01T12:00:00.000Z")
+                            .set("location", JsonObject.newBuilder()
+                                    .set("latitude", 47.6823)
+                                    .set("longitude", 9.3862)
+                                    .set("description", "Gewächshaus Süd")
+                                    .build())
+                            .build())
+                    .build());
+        }
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set("policyId", "org.eclipse.ditto:benchmark")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("model", "Rocket Skates \"Turbo\"")
+                        .set("serialNumber", 1234567890123L)
+                        .set("active", true)
+                        .set("maintenance", JsonValue.nullLiteral())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .set("_revision", 42)
+                .set("_modified", "2020-06-01T12:00:00.000Z")
+                .build();
+
+        thingString = thing.toString();
+        thingBytes = thingString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseString() {
+        return JsonFactory.readFrom(thingString);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue decodeAndParseString() {
+        return JsonFactory.readFrom(new String(thingBytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseUtf8Bytes() {
+        return JsonFactory.readFrom(thingBytes);
+    }
+
+}
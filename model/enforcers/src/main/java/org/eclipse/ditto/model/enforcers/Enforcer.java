@@ -321,4 +321,22 @@ public interface Enforcer {
     JsonObject buildJsonView(ResourceKey resourceKey, Iterable<JsonField> jsonFields,
             AuthorizationContext authorizationContext, Permissions permissions);
 
+    /**
+     * Compiles the view of JSON fields for {@code authorizationContext} and {@code permissions} into a mask which
+     * builds the same views as {@link #buildJsonView(ResourceKey, Iterable, AuthorizationContext, Permissions)} but
+     * does not need to evaluate the policy again for each JSON object.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from for building views.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param permissions the permissions.
+     * @return the mask.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 1.3.0
+     */
+    default JsonViewMask compileJsonViewMask(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+        return jsonFields -> buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Builds views of JSON fields for a fixed resource key, authorization context and permissions. A mask is obtained by
+ * {@link Enforcer#compileJsonViewMask(org.eclipse.ditto.model.policies.ResourceKey,
+ * org.eclipse.ditto.model.base.auth.AuthorizationContext, org.eclipse.ditto.model.policies.Permissions)} and may be
+ * applied to any number of JSON objects.
+ * <p>
+ * Implementations of this interface are required to be immutable!
+ * </p>
+ *
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface JsonViewMask {
+
+    /**
+     * Builds a view of the passed {@code jsonFields} which only contains the fields visible through this mask.
+     *
+     * @param jsonFields the full JsonFields from which to build the view.
+     * @return the view as JsonObject.
+     * @throws NullPointerException if {@code jsonFields} is {@code null}.
+     */
+    JsonObject apply(Iterable<JsonField> jsonFields);
+
+}
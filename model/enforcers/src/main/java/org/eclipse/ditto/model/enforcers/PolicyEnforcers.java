@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.CompactTrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 
@@ -66,4 +67,18 @@ public final class PolicyEnforcers {
         return TreeBasedPolicyEnforcer.createInstance(policy);
     }
 
+    /**
+     * Returns a Enforcer with the same throughput characteristics as {@link #throughputOptimizedEvaluator(Policy)}
+     * whose memory is shared with the Enforcers of other Policies: subject IDs and resource paths are interned and
+     * structurally identical Policies are stored only once.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized memory compact Enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 1.3.0
+     */
+    public static Enforcer memoryCompactEvaluator(final Policy policy) {
+        return CompactTrieBasedPolicyEnforcer.newInstance(policy);
+    }
+
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
+
+/**
+ * Immutable and compact form of a {@link GrantRevokeIndex}. The index is stored as rows sorted by subject ID and
+ * weight; each row holds the bit sets of the permissions granted to and revoked from the subject with that weight.
+ * Permissions are mapped to bits by {@link PermissionBits}. The answers of all queries equal those of the
+ * {@code GrantRevokeIndex} the index was created from.
+ */
+@Immutable
+final class CompactGrantRevokeIndex {
+
+    private final String[] subjectIds;
+    private final int[] weights;
+    private final long[] grantedPermissions;
+    private final long[] revokedPermissions;
+
+    /**
+     * Bit set of the permissions which are keys of the grant map, even if no subject is related to them.
+     */
+    private final long grantedPermissionKeys;
+
+    private final int hashCode;
+
+    private CompactGrantRevokeIndex(final String[] subjectIds, final int[] weights, final long[] grantedPermissions,
+            final long[] revokedPermissions, final long grantedPermissionKeys) {
+
+        this.subjectIds = subjectIds;
+        this.weights = weights;
+        this.grantedPermissions = grantedPermissions;
+        this.revokedPermissions = revokedPermissions;
+        this.grantedPermissionKeys = grantedPermissionKeys;
+        hashCode = 31 * (31 * (31 * (31 * Arrays.hashCode(subjectIds) + Arrays.hashCode(weights)) +
+                Arrays.hashCode(grantedPermissions)) + Arrays.hashCode(revokedPermissions)) +
+                Long.hashCode(grantedPermissionKeys);
+    }
+
+    /**
+     * Creates the compact form of a {@code GrantRevokeIndex} whose permissions are all registered at
+     * {@link PermissionBits}.
+     *
+     * @param grantRevokeIndex the index to convert.
+     * @param subjectIdInterner the interner of the subject IDs.
+     * @return the compact index.
+     * @throws IllegalArgumentException if a permission of the index was not registered.
+     */
+    static CompactGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex,
+            final WeakInterner<String> subjectIdInterner) {
+
+        final Map<String, Map<Integer, long[]>> rows = new TreeMap<>();
+        long grantedPermissionKeys = 0L;
+        for (final Map.Entry<String, Map<String, Integer>> entry : grantRevokeIndex.getGranted().entrySet()) {
+            final long bit = bitOf(entry.getKey());
+            grantedPermissionKeys |= bit;
+            entry.getValue().forEach((subjectId, weight) -> getRow(rows, subjectId, weight)[0] |= bit);
+        }
+        for (final Map.Entry<String, Map<String, Integer>> entry : grantRevokeIndex.getRevoked().entrySet()) {
+            final long bit = bitOf(entry.getKey());
+            entry.getValue().forEach((subjectId, weight) -> getRow(rows, subjectId, weight)[1] |= bit);
+        }
+
+        final int size = rows.values().stream().mapToInt(Map::size).sum();
+        final String[] subjectIds = new String[size];
+        final int[] weights = new int[size];
+        final long[] grantedPermissions = new long[size];
+        final long[] revokedPermissions = new long[size];
+        int i = 0;
+        for (final Map.Entry<String, Map<Integer, long[]>> subjectRows : rows.entrySet()) {
+            final String subjectId = subjectIdInterner.intern(subjectRows.getKey());
+            for (final Map.Entry<Integer, long[]> row : subjectRows.getValue().entrySet()) {
+                subjectIds[i] = subjectId;
+                weights[i] = row.getKey();
+                grantedPermissions[i] = row.getValue()[0];
+                revokedPermissions[i] = row.getValue()[1];
+                i++;
+            }
+        }
+        return new CompactGrantRevokeIndex(subjectIds, weights, grantedPermissions, revokedPermissions,
+                grantedPermissionKeys);
+    }
+
+    private static long bitOf(final String permission) {
+        final int bit = PermissionBits.bitOf(permission);
+        if (bit < 0) {
+            throw new IllegalArgumentException("Permission <" + permission + "> was not registered!");
+        }
+        return 1L << bit;
+    }
+
+    private static long[] getRow(final Map<String, Map<Integer, long[]>> rows, final String subjectId,
+            final int weight) {
+
+        return rows.computeIfAbsent(subjectId, s -> new TreeMap<>()).computeIfAbsent(weight, w -> new long[2]);
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given authorization subject such that
+     * none of the permissions is revoked from any of the subject IDs with the same or a greater weight.
+     *
+     * @param subjectIds Authorization subject IDs to check.
+     * @param permissions Permissions to check.
+     * @return Result of the check.
+     * @see GrantRevokeIndex#hasPermissions(Collection, Collection)
+     */
+    boolean hasPermissions(final Collection<String> subjectIds, final Collection<String> permissions) {
+        checkNotNull(subjectIds, "subject IDs to check");
+        checkNotNull(permissions, "permissions to check");
+
+        long requiredPermissions = 0L;
+        for (final String permission : permissions) {
+            final int bit = PermissionBits.bitOf(permission);
+            if (bit < 0) {
+                // no policy mentions the permission, thus it is not granted
+                return false;
+            }
+            requiredPermissions |= 1L << bit;
+        }
+
+        long coveredPermissions = 0L;
+        int grantWeight = Integer.MIN_VALUE;
+        boolean revoked = false;
+        int revokeWeight = Integer.MIN_VALUE;
+        for (int i = 0; i < this.subjectIds.length; i++) {
+            if (subjectIds.contains(this.subjectIds[i])) {
+                final long granted = grantedPermissions[i] & requiredPermissions;
+                if (0L != granted) {
+                    coveredPermissions |= granted;
+                    grantWeight = Math.max(grantWeight, weights[i]);
+                }
+                if (0L != (revokedPermissions[i] & requiredPermissions)) {
+                    revoked = true;
+                    revokeWeight = Math.max(revokeWeight, weights[i]);
+                }
+            }
+        }
+
+        return 0L != requiredPermissions && coveredPermissions == requiredPermissions &&
+                (!revoked || revokeWeight < grantWeight);
+    }
+
+    /**
+     * Returns the set of subject IDs for whom <em>all</em> of the given permissions are granted, and the set of
+     * subject IDs for whom <em>any</em> of the given permissions are revoked.
+     *
+     * @param permissions Permissions to check.
+     * @return An object containing the two sets of authorization subject IDs.
+     * @deprecated as of 1.1.0 please use {@link #getEffectedSubjects(Set)} instead.
+     */
+    @Deprecated
+    EffectedSubjectIds getEffectedSubjectIds(final Set<String> permissions) {
+        return ImmutableEffectedSubjectIds.of(getGrantedSubjectIds(permissions), getRevokedSubjectIds(permissions));
+    }
+
+    /**
+     * Returns the set of authorization subjects for whom <em>all</em> of the given permissions are granted, and the
+     * set of authorization subjects for whom <em>any</em> of the given permissions are revoked.
+     *
+     * @param permissions Permissions to check.
+     * @return an object containing the two sets of authorization subjects.
+     */
+    EffectedSubjects getEffectedSubjects(final Set<String> permissions) {
+        return DefaultEffectedSubjects.of(getGrantedSubjects(permissions), getRevokedSubjects(permissions));
+    }
+
+    /**
+     * Returns the set of subject IDs granted at this level.
+     *
+     * @param permissions Permissions to check.
+     * @return the subject IDs to whom all permissions are granted.
+     * @deprecated as of 1.1.0 please use {@link #getGrantedSubjects(Set)} instead.
+     */
+    @Deprecated
+    Set<String> getGrantedSubjectIds(final Set<String> permissions) {
+        checkNotNull(permissions, "permissions to check");
+        // like GrantRevokeIndex, only consider the permissions which are mentioned at this level
+        final long requiredPermissions = PermissionBits.maskOf(permissions) & grantedPermissionKeys;
+        final Set<String> result = new HashSet<>();
+        if (0L != requiredPermissions) {
+            int i = 0;
+            while (i < subjectIds.length) {
+                final String subjectId = subjectIds[i];
+                long granted = 0L;
+                for (; i < subjectIds.length && subjectId.equals(subjectIds[i]); i++) {
+                    granted |= grantedPermissions[i];
+                }
+                if ((granted & requiredPermissions) == requiredPermissions) {
+                    result.add(subjectId);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the set of subjects granted at this level.
+     *
+     * @param permissions Permissions to check.
+     * @return the subjects to whom all permissions are granted.
+     */
+    Set<AuthorizationSubject> getGrantedSubjects(final Set<String> permissions) {
+        return getAuthorizationSubjects(getGrantedSubjectIds(permissions));
+    }
+
+    /**
+     * @deprecated as of 1.1.0 please use {@link #getRevokedSubjects(Set)} instead.
+     */
+    @Deprecated
+    Set<String> getRevokedSubjectIds(final Set<String> permissions) {
+        checkNotNull(permissions, "permissions to check");
+        final long requiredPermissions = PermissionBits.maskOf(permissions);
+        final Set<String> result = new HashSet<>();
+        for (int i = 0; i < subjectIds.length; i++) {
+            if (0L != (revokedPermissions[i] & requiredPermissions)) {
+                result.add(subjectIds[i]);
+            }
+        }
+        return result;
+    }
+
+    Set<AuthorizationSubject> getRevokedSubjects(final Set<String> permissions) {
+        return getAuthorizationSubjects(getRevokedSubjectIds(permissions));
+    }
+
+    private static Set<AuthorizationSubject> getAuthorizationSubjects(final Collection<String> authSubjectIds) {
+        return authSubjectIds.stream()
+                .map(AuthorizationSubject::newInstance)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompactGrantRevokeIndex that = (CompactGrantRevokeIndex) o;
+        return hashCode == that.hashCode &&
+                grantedPermissionKeys == that.grantedPermissionKeys &&
+                Arrays.equals(subjectIds, that.subjectIds) &&
+                Arrays.equals(weights, that.weights) &&
+                Arrays.equals(grantedPermissions, that.grantedPermissions) &&
+                Arrays.equals(revokedPermissions, that.revokedPermissions);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "subjectIds=" + Arrays.toString(subjectIds) +
+                ", weights=" + Arrays.toString(weights) +
+                ", grantedPermissions=" + Arrays.toString(grantedPermissions) +
+                ", revokedPermissions=" + Arrays.toString(revokedPermissions) +
+                ", grantedPermissionKeys=" + grantedPermissionKeys +
+                "]";
+    }
+
+}
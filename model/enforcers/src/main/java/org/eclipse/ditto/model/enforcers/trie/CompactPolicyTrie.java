@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.model.policies.Permissions;
+
+/**
+ * Immutable and compact form of a {@link PolicyTrie}. Children are kept in an array sorted by key and looked up by
+ * binary search.
+ * <p>
+ * All instances are interned: subject IDs, JSON keys, grant-revoke-indices and trie nodes which are equal are shared
+ * by all tries, so that structurally identical policies and identical parts of different policies occupy memory only
+ * once. Nodes are only weakly interned; they are forgotten when no enforcer uses them any more.
+ * </p>
+ */
+@Immutable
+final class CompactPolicyTrie {
+
+    private static final Comparator<JsonKey> KEY_ORDER = Comparator.comparing(JsonKey::toString);
+
+    private static final WeakInterner<String> SUBJECT_IDS = new WeakInterner<>();
+    private static final WeakInterner<JsonKey> JSON_KEYS = new WeakInterner<>();
+    private static final WeakInterner<CompactGrantRevokeIndex> GRANT_REVOKE_INDICES = new WeakInterner<>();
+    private static final WeakInterner<CompactPolicyTrie> NODES = new WeakInterner<>();
+
+    private final CompactGrantRevokeIndex grantRevokeIndex;
+    private final JsonKey[] childKeys;
+    private final CompactPolicyTrie[] children;
+    private final int hashCode;
+
+    private CompactPolicyTrie(final CompactGrantRevokeIndex grantRevokeIndex, final JsonKey[] childKeys,
+            final CompactPolicyTrie[] children) {
+
+        this.grantRevokeIndex = grantRevokeIndex;
+        this.childKeys = childKeys;
+        this.children = children;
+        // components are interned, thus their identity hash codes are as good as their hash codes
+        int h = System.identityHashCode(grantRevokeIndex);
+        for (int i = 0; i < childKeys.length; i++) {
+            h = 31 * (31 * h + childKeys[i].hashCode()) + System.identityHashCode(children[i]);
+        }
+        hashCode = h;
+    }
+
+    /**
+     * Returns the interned compact form of a policy trie whose permissions are all registered at
+     * {@link PermissionBits}.
+     *
+     * @param policyTrie the trie to convert.
+     * @return the compact trie.
+     */
+    static CompactPolicyTrie of(final PolicyTrie policyTrie) {
+        final Map<JsonKey, PolicyTrie> trieChildren = policyTrie.getChildren();
+        final JsonKey[] childKeys = trieChildren.keySet().toArray(new JsonKey[0]);
+        Arrays.sort(childKeys, KEY_ORDER);
+        final CompactPolicyTrie[] children = new CompactPolicyTrie[childKeys.length];
+        for (int i = 0; i < childKeys.length; i++) {
+            children[i] = of(trieChildren.get(childKeys[i]));
+            childKeys[i] = JSON_KEYS.intern(childKeys[i]);
+        }
+        final CompactGrantRevokeIndex grantRevokeIndex = GRANT_REVOKE_INDICES.intern(
+                CompactGrantRevokeIndex.of(policyTrie.getGrantRevokeIndex(), SUBJECT_IDS));
+        return NODES.intern(new CompactPolicyTrie(grantRevokeIndex, childKeys, children));
+    }
+
+    /**
+     * Returns the grant-revoke-index at this node.
+     *
+     * @return the grant-revoke-index.
+     */
+    CompactGrantRevokeIndex getGrantRevokeIndex() {
+        return grantRevokeIndex;
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey Key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return null != getChild(childKey);
+    }
+
+    @Nullable
+    private CompactPolicyTrie getChild(final JsonKey childKey) {
+        final int index = Arrays.binarySearch(childKeys, childKey, KEY_ORDER);
+        return index >= 0 ? children[index] : null;
+    }
+
+    /**
+     * Seek to a trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path The path key to match.
+     * @return The best matched node.
+     */
+    CompactPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        CompactPolicyTrie node = this;
+        while (path.hasNext()) {
+            final CompactPolicyTrie child = node.getChild(path.next());
+            if (null == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} exactly.
+     *
+     * @param path The resource path to match.
+     * @return The exactly matched trie node, or {@code null} if no trie node matches {@code path} exactly.
+     */
+    @Nullable
+    CompactPolicyTrie seekToExactNode(final Iterator<JsonKey> path) {
+        CompactPolicyTrie node = this;
+        while (null != node && path.hasNext()) {
+            node = node.getChild(path.next());
+        }
+        return node;
+    }
+
+    /**
+     * Evaluates this trie for the given subjects and permissions.
+     *
+     * @param subjectIds the subject IDs.
+     * @param permissions the permissions.
+     * @return a mask building the same views as {@link PolicyTrie#buildJsonView(Iterable, Collection, Permissions)}.
+     */
+    CompiledJsonViewMask compileJsonViewMask(final Collection<String> subjectIds, final Permissions permissions) {
+        final Map<JsonKey, CompiledJsonViewMask> childMasks = new HashMap<>(children.length);
+        for (int i = 0; i < children.length; i++) {
+            childMasks.put(childKeys[i], children[i].compileJsonViewMask(subjectIds, permissions));
+        }
+        return new CompiledJsonViewMask(grantRevokeIndex.hasPermissions(subjectIds, permissions), childMasks);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompactPolicyTrie that = (CompactPolicyTrie) o;
+        if (hashCode != that.hashCode || grantRevokeIndex != that.grantRevokeIndex ||
+                !Arrays.equals(childKeys, that.childKeys)) {
+            return false;
+        }
+        // children are interned, thus identity is equality
+        for (int i = 0; i < children.length; i++) {
+            if (children[i] != that.children[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "grantRevokeIndex=" + grantRevokeIndex +
+                ", childKeys=" + Arrays.toString(childKeys) +
+                "]";
+    }
+
+}
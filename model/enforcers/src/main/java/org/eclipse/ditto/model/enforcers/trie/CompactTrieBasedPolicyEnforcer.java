@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.JsonViewMask;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Memory compact variant of {@link TrieBasedPolicyEnforcer} with the same decisions.
+ * <p>
+ * The three tries of the policy are built as in {@link TrieBasedPolicyEnforcer} and then frozen into
+ * {@link CompactPolicyTrie}s: subject IDs and resource path segments are interned across policies, the permissions of
+ * each subject are stored as bit sets and structurally identical trie nodes, e. g. those of policies created from the
+ * same template, are shared.
+ * </p>
+ *
+ * @since 1.3.0
+ */
+@Immutable
+public final class CompactTrieBasedPolicyEnforcer implements Enforcer {
+
+    private final CompactPolicyTrie inheritedTrie;
+    private final CompactPolicyTrie bottomUpGrantTrie;
+    private final CompactPolicyTrie bottomUpRevokeTrie;
+
+    private CompactTrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        final PolicyTrie inherited = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        inheritedTrie = CompactPolicyTrie.of(inherited);
+        bottomUpGrantTrie = CompactPolicyTrie.of(inherited.getBottomUpGrantTrie());
+        bottomUpRevokeTrie = CompactPolicyTrie.of(inherited.getBottomUpRevokeTrie());
+    }
+
+    /**
+     * Constructs a memory compact trie-based policy enforcer from a policy. Permission sets are stored as bit sets of
+     * at most 64 distinct permissions of all policies; if a policy exceeds that, a {@link TrieBasedPolicyEnforcer}
+     * is returned.
+     *
+     * @param policy The policy to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static Enforcer newInstance(final Policy policy) {
+        checkNotNull(policy, "policy to interpret");
+        if (PermissionBits.registerAll(getPermissions(policy))) {
+            return new CompactTrieBasedPolicyEnforcer(policy);
+        } else {
+            return TrieBasedPolicyEnforcer.newInstance(policy);
+        }
+    }
+
+    private static Collection<String> getPermissions(final Iterable<PolicyEntry> policy) {
+        final Collection<String> permissions = new ArrayList<>();
+        policy.forEach(policyEntry -> policyEntry.getResources().forEach(resource -> {
+            final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+            permissions.addAll(effectedPermissions.getGrantedPermissions());
+            permissions.addAll(effectedPermissions.getRevokedPermissions());
+        }));
+        return permissions;
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
+                .getGrantRevokeIndex()
+                .getEffectedSubjectIds(permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
+                .getGrantRevokeIndex()
+                .getEffectedSubjects(permissions);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .getGrantedSubjectIds(permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .getGrantedSubjects(permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkNotNull(jsonFields, "JSON fields");
+        return compileJsonViewMask(resourceKey, authorizationContext, permissions).apply(jsonFields);
+    }
+
+    @Override
+    public JsonViewMask compileJsonViewMask(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(authorizationContext, "authorization context");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final CompactPolicyTrie start =
+                    inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.compileJsonViewMask(authorizationContext.getAuthorizationSubjectIds(), permissions);
+        } else {
+            return jsonFields -> JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    /**
+     * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
+     * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
+     * best.
+     */
+    private static CompactPolicyTrie seekWithFallback(final ResourceKey resourceKey, final CompactPolicyTrie firstTry,
+            final CompactPolicyTrie fallback) {
+
+        final CompactPolicyTrie exactNode = firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        return null != exactNode
+                ? exactNode
+                : fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+    }
+
+}
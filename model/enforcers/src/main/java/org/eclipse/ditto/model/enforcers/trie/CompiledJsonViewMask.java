@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.enforcers.JsonViewMask;
+
+/**
+ * A {@link PolicyTrie} evaluated for one set of authorization subjects and permissions. Each node knows whether the
+ * permissions are granted on its resource, whether they are granted on all resources of its subtree and whether they
+ * are granted on any resource of its subtree. Thus views are built in one pass over the JSON fields; subtrees which are
+ * entirely visible are taken over as they are and subtrees which are entirely invisible are skipped.
+ */
+@Immutable
+final class CompiledJsonViewMask implements JsonViewMask {
+
+    private final boolean granted;
+    private final boolean grantedInWholeSubtree;
+    private final boolean grantedInSubtree;
+    private final Map<JsonKey, CompiledJsonViewMask> children;
+    private final CompiledJsonViewMask defaultChild;
+
+    CompiledJsonViewMask(final boolean granted, final Map<JsonKey, CompiledJsonViewMask> children) {
+        this.granted = granted;
+        this.children = Collections.unmodifiableMap(children);
+        boolean all = granted;
+        boolean any = granted;
+        for (final CompiledJsonViewMask child : children.values()) {
+            all &= child.grantedInWholeSubtree;
+            any |= child.grantedInSubtree;
+        }
+        grantedInWholeSubtree = all;
+        grantedInSubtree = any;
+        // fields without a node in the trie inherit the permissions of this node
+        defaultChild = children.isEmpty() ? this : new CompiledJsonViewMask(granted, Collections.emptyMap());
+    }
+
+    @Override
+    public JsonObject apply(final Iterable<JsonField> jsonFields) {
+        checkNotNull(jsonFields, "JSON fields");
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final CompiledJsonViewMask child = children.getOrDefault(field.getKey(), defaultChild);
+            final JsonValue jsonView = child.getViewForJsonValueOrNull(field.getValue());
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue) {
+        final JsonValue result;
+        if (grantedInWholeSubtree) {
+            result = jsonValue;
+        } else if (!grantedInSubtree) {
+            result = null;
+        } else if (jsonValue.isObject()) {
+            final JsonObject candidate = apply(jsonValue.asObject());
+            result = !candidate.isEmpty() || granted ? candidate : null;
+        } else if (jsonValue.isArray()) {
+            final JsonArray candidate = getViewForJsonArray(jsonValue.asArray());
+            result = !candidate.isEmpty() || granted ? candidate : null;
+        } else if (granted) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
+    private JsonArray getViewForJsonArray(final JsonArray jsonArray) {
+        final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+        for (final JsonValue element : jsonArray) {
+            final JsonValue elementView = getViewForJsonValueOrNull(element);
+            if (null != elementView) {
+                arrayBuilder.add(elementView);
+            }
+        }
+        return arrayBuilder.build();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Assigns each permission a bit of a {@code long} so that sets of permissions are stored as bit sets. The assignment
+ * is shared by all policies; at most {@value #MAX_PERMISSIONS} distinct permissions are supported.
+ */
+@ThreadSafe
+final class PermissionBits {
+
+    /**
+     * Maximum number of distinct permissions.
+     */
+    static final int MAX_PERMISSIONS = Long.SIZE;
+
+    private static final Map<String, Integer> BITS = new ConcurrentHashMap<>();
+
+    private PermissionBits() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Assigns a bit to each of the given permissions which does not have one yet.
+     *
+     * @param permissions the permissions.
+     * @return {@code true} if all permissions have a bit, {@code false} if there are too many distinct permissions.
+     */
+    static boolean registerAll(final Iterable<String> permissions) {
+        for (final String permission : permissions) {
+            if (register(permission) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int register(final String permission) {
+        final Integer bit = BITS.get(permission);
+        if (null != bit) {
+            return bit;
+        }
+        synchronized (BITS) {
+            final Integer registeredBit = BITS.get(permission);
+            if (null != registeredBit) {
+                return registeredBit;
+            }
+            if (BITS.size() >= MAX_PERMISSIONS) {
+                return -1;
+            }
+            final int newBit = BITS.size();
+            BITS.put(permission, newBit);
+            return newBit;
+        }
+    }
+
+    /**
+     * Returns the bit of a permission.
+     *
+     * @param permission the permission.
+     * @return the bit or -1 if the permission was never registered, i. e., no policy mentions it.
+     */
+    static int bitOf(final String permission) {
+        return BITS.getOrDefault(permission, -1);
+    }
+
+    /**
+     * Returns the bit set of the registered permissions among the given ones.
+     *
+     * @param permissions the permissions.
+     * @return the bit set; permissions which were never registered are left out.
+     */
+    static long maskOf(final Iterable<String> permissions) {
+        long mask = 0L;
+        for (final String permission : permissions) {
+            final int bit = bitOf(permission);
+            if (bit >= 0) {
+                mask |= 1L << bit;
+            }
+        }
+        return mask;
+    }
+
+}
@@ -151,6 +151,15 @@ final class PolicyTrie {
         return grantRevokeIndex;
     }
 
+    /**
+     * Returns the children of this node.
+     *
+     * @return An unmodifiable view of the children by their keys.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
     /**
      * Returns a copy of this trie such that each trie node inherits all grants and revokes from its ancestors except
      * those that are overridden by more specific policy entries.
@@ -306,6 +315,19 @@ final class PolicyTrie {
         return filterCandidate(candidate, subjectIds, permissions);
     }
 
+    /**
+     * Evaluates this trie for the given subjects and permissions.
+     *
+     * @param subjectIds the subject IDs.
+     * @param permissions the permissions.
+     * @return a mask building the same views as {@link #buildJsonView(Iterable, Collection, Permissions)}.
+     */
+    CompiledJsonViewMask compileJsonViewMask(final Collection<String> subjectIds, final Permissions permissions) {
+        final Map<JsonKey, CompiledJsonViewMask> childMasks = new HashMap<>(children.size());
+        children.forEach((key, child) -> childMasks.put(key, child.compileJsonViewMask(subjectIds, permissions)));
+        return new CompiledJsonViewMask(grantRevokeIndex.hasPermissions(subjectIds, permissions), childMasks);
+    }
+
     /**
      * Seek to a trie node whose path from root matches {@code path} as much as possible.
      *
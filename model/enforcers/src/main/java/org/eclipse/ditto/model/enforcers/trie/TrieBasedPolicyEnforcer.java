@@ -25,6 +25,7 @@ import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
 import org.eclipse.ditto.model.enforcers.EffectedSubjects;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.JsonViewMask;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyEntry;
@@ -204,6 +205,31 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The mask is compiled from {@code inheritedTrie} and knows for each resource of the policy whether the
+     * permissions are granted.
+     */
+    @Override
+    public JsonViewMask compileJsonViewMask(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(authorizationContext, "authorization context");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.compileJsonViewMask(authorizationContext.getAuthorizationSubjectIds(), permissions);
+        } else {
+            return jsonFields -> JsonFactory.newObject();
+        }
+    }
+
     /**
      * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
      * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
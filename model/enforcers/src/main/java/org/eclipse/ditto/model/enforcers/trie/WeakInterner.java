@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Returns one canonical instance for all equal objects. Canonical instances are only weakly referenced; they are
+ * forgotten as soon as nothing else refers to them.
+ *
+ * @param <T> type of the interned objects.
+ */
+@ThreadSafe
+final class WeakInterner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalInstances = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to the given object. The given object becomes the canonical instance if
+     * there is none yet.
+     *
+     * @param sample the object to intern.
+     * @return the canonical instance.
+     */
+    synchronized T intern(final T sample) {
+        final WeakReference<T> reference = canonicalInstances.get(sample);
+        if (null != reference) {
+            final T canonicalInstance = reference.get();
+            if (null != canonicalInstance) {
+                return canonicalInstance;
+            }
+        }
+        canonicalInstances.put(sample, new WeakReference<>(sample));
+        return sample;
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.testbench.algorithms.CompactTrieBasedPolicyAlgorithm;
+import org.eclipse.ditto.model.enforcers.testbench.algorithms.PolicyAlgorithm;
+import org.eclipse.ditto.model.enforcers.trie.CompactTrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the decision benchmarks of {@link AbstractPoliciesBenchmark} with the {@link CompactTrieBasedPolicyEnforcer}
+ * and compares building the enforcers of many policies created from the same template, as the concierge caches them
+ * for devices of a fleet, with the {@link TrieBasedPolicyEnforcer}.
+ * The heap retained per enforcer while all enforcers of the device policies are held is reported as the auxiliary
+ * counters {@code compactRetainedBytesPerEnforcer} and {@code trieRetainedBytesPerEnforcer}.
+ */
+public class CompactTrieBasedPolicyAlgorithmBenchmark extends AbstractPoliciesBenchmark {
+
+    private static final int DEVICE_POLICIES = 10_000;
+    private static final int DEVICE_GROUPS = 100;
+    private static final int MAX_GC_ROUNDS = 10;
+
+    private final List<Policy> devicePolicies;
+
+    public CompactTrieBasedPolicyAlgorithmBenchmark() {
+        devicePolicies = new ArrayList<>(DEVICE_POLICIES);
+        for (int i = 0; i < DEVICE_POLICIES; i++) {
+            devicePolicies.add(devicePolicy(i));
+        }
+    }
+
+    @Override
+    protected PolicyAlgorithm getPolicyAlgorithm(final Policy policy) {
+        return new CompactTrieBasedPolicyAlgorithm(policy);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    public Enforcer benchmark_buildDevicePolicyEnforcer_compact() {
+        return CompactTrieBasedPolicyEnforcer.newInstance(devicePolicies.get(0));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    public Enforcer benchmark_buildDevicePolicyEnforcer_trie() {
+        return TrieBasedPolicyEnforcer.newInstance(devicePolicies.get(0));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Enforcer> benchmark_buildAllDevicePolicyEnforcers_compact(final CompactRetainedHeap retainedHeap) {
+        return buildAll(CompactTrieBasedPolicyEnforcer::newInstance);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Enforcer> benchmark_buildAllDevicePolicyEnforcers_trie(final TrieRetainedHeap retainedHeap) {
+        return buildAll(TrieBasedPolicyEnforcer::newInstance);
+    }
+
+    private List<Enforcer> buildAll(final Function<Policy, Enforcer> enforcerFactory) {
+        final List<Enforcer> enforcers = new ArrayList<>(DEVICE_POLICIES);
+        devicePolicies.forEach(policy -> enforcers.add(enforcerFactory.apply(policy)));
+        return enforcers;
+    }
+
+    /**
+     * Measure the heap retained by the enforcers of all device policies as the difference of the used heap after
+     * garbage collections with and without the enforcers.
+     */
+    private long measureRetainedBytesPerEnforcer(final Function<Policy, Enforcer> enforcerFactory) {
+        final long usedBefore = usedHeapAfterGc();
+        final List<Enforcer> enforcers = buildAll(enforcerFactory);
+        final long usedAfter = usedHeapAfterGc();
+        Reference.reachabilityFence(enforcers);
+        return (usedAfter - usedBefore) / enforcers.size();
+    }
+
+    private static long usedHeapAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        long usedHeap = Long.MAX_VALUE;
+        // collect until a collection frees no more memory
+        for (int i = 0; i < MAX_GC_ROUNDS; i++) {
+            System.gc();
+            final long usedHeapAfterGc = runtime.totalMemory() - runtime.freeMemory();
+            if (usedHeapAfterGc >= usedHeap) {
+                break;
+            }
+            usedHeap = usedHeapAfterGc;
+        }
+        return usedHeap;
+    }
+
+    private static Policy devicePolicy(final int i) {
+        return PoliciesModelFactory.newPolicyBuilder(PolicyId.of("benchmark", "device-" + i))
+                .forLabel("owner")
+                .setSubject(SubjectIssuer.GOOGLE, "fleet-owner")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), "READ", "WRITE")
+                .forLabel("device")
+                .setSubject(SubjectIssuer.INTEGRATION, "device-group-" + (i % DEVICE_GROUPS))
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features"), "READ")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/telemetry"), "WRITE")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/telemetry/properties/config"),
+                        "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/outbox"), "WRITE")
+                .build();
+    }
+
+    /**
+     * Heap retained per {@link CompactTrieBasedPolicyEnforcer}, reported next to the build time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CompactRetainedHeap {
+
+        public long compactRetainedBytesPerEnforcer;
+
+        @Setup(Level.Iteration)
+        public void measure(final CompactTrieBasedPolicyAlgorithmBenchmark benchmark) {
+            compactRetainedBytesPerEnforcer =
+                    benchmark.measureRetainedBytesPerEnforcer(CompactTrieBasedPolicyEnforcer::newInstance);
+        }
+
+    }
+
+    /**
+     * Heap retained per {@link TrieBasedPolicyEnforcer}, reported next to the build time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TrieRetainedHeap {
+
+        public long trieRetainedBytesPerEnforcer;
+
+        @Setup(Level.Iteration)
+        public void measure(final CompactTrieBasedPolicyAlgorithmBenchmark benchmark) {
+            trieRetainedBytesPerEnforcer =
+                    benchmark.measureRetainedBytesPerEnforcer(TrieBasedPolicyEnforcer::newInstance);
+        }
+
+    }
+
+}
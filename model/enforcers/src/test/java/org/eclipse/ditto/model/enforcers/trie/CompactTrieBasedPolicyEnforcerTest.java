@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactTrieBasedPolicyEnforcer}.
+ */
+public final class CompactTrieBasedPolicyEnforcerTest {
+
+    private static final String[] SUBJECT_IDS = {"test:owner", "test:reader", "test:writer", "test:unknown"};
+
+    private static final ResourceKey[] RESOURCE_KEYS = {
+            ResourceKey.newInstance("thing", "/"),
+            ResourceKey.newInstance("thing", "/attributes"),
+            ResourceKey.newInstance("thing", "/attributes/secret"),
+            ResourceKey.newInstance("thing", "/attributes/public/a"),
+            ResourceKey.newInstance("thing", "/features/f1/properties/value"),
+            ResourceKey.newInstance("thing", "/features/f1/properties/value/hidden"),
+            ResourceKey.newInstance("policy", "/"),
+            ResourceKey.newInstance("message", "/inbox")
+    };
+
+    private static final Permissions[] PERMISSIONS = {
+            Permissions.none(),
+            Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"),
+            Permissions.newInstance("READ", "UNKNOWN")
+    };
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"namespace:id\"," +
+            "\"attributes\":{\"public\":{\"a\":[1,{\"b\":2}],\"empty\":{}},\"secret\":42,\"other\":[]}," +
+            "\"features\":{\"f1\":{\"properties\":{\"value\":{\"hidden\":1,\"shown\":[{}]},\"x\":1}}," +
+            "\"f2\":{}}}");
+
+    @Test
+    public void decisionsEqualThoseOfTrieBasedPolicyEnforcer() {
+        final Policy policy = policy(PolicyId.of("namespace", "id"));
+        final Enforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final Enforcer underTest = CompactTrieBasedPolicyEnforcer.newInstance(policy);
+
+        assertThat(underTest).isInstanceOf(CompactTrieBasedPolicyEnforcer.class);
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : PERMISSIONS) {
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                for (final String subjectId : SUBJECT_IDS) {
+                    final AuthorizationContext authorizationContext = authorizationContext(subjectId);
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.buildJsonView(resourceKey, THING, authorizationContext, permissions))
+                            .isEqualTo(expected.buildJsonView(resourceKey, THING, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void structurallyIdenticalPoliciesShareTheirTries() {
+        final PolicyTrie trie1 = PolicyTrie.fromPolicy(policy(PolicyId.of("namespace", "id1"))).getTransitiveClosure();
+        final PolicyTrie trie2 = PolicyTrie.fromPolicy(policy(PolicyId.of("namespace", "id2"))).getTransitiveClosure();
+        registerPermissions();
+
+        assertThat(CompactPolicyTrie.of(trie1)).isSameAs(CompactPolicyTrie.of(trie2));
+    }
+
+    @Test
+    public void unknownPermissionsAreNotGranted() {
+        final Enforcer underTest = CompactTrieBasedPolicyEnforcer.newInstance(policy(PolicyId.of("namespace", "id")));
+
+        assertThat(underTest.hasPartialPermissions(RESOURCE_KEYS[0], authorizationContext("test:owner"),
+                Permissions.newInstance("NEVER_MENTIONED_IN_ANY_POLICY"))).isFalse();
+    }
+
+    private static void registerPermissions() {
+        assertThat(PermissionBits.registerAll(Permissions.newInstance("READ", "WRITE"))).isTrue();
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId));
+    }
+
+    private static Policy policy(final PolicyId policyId) {
+        final Permissions read = Permissions.newInstance("READ");
+        final Permissions write = Permissions.newInstance("WRITE");
+        return PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("OWNER")
+                .setSubject("test:owner", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", Permissions.newInstance("READ", "WRITE"))
+                .setGrantedPermissions("policy", "/", Permissions.newInstance("READ", "WRITE"))
+                .setRevokedPermissions("thing", "/attributes/secret", read)
+                .forLabel("READER")
+                .setSubject("test:reader", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/attributes/public", read)
+                .setGrantedPermissions("thing", "/features/f1/properties/value", read)
+                .setRevokedPermissions("thing", "/features/f1/properties/value/hidden", read)
+                .forLabel("WRITER")
+                .setSubject("test:writer", SubjectType.GENERATED)
+                .setSubject("test:reader", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/features", write)
+                .setRevokedPermissions("thing", "/features/f1/properties", write)
+                .setRevision(1L)
+                .build();
+    }
+
+}
@@ -47,6 +47,43 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void compiledJsonViewMaskBuildsSameViewsAsBuildJsonView() {
+        final Permissions read = Permissions.newInstance("READ");
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("OWNER")
+                .setSubject("test:owner", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", read)
+                .setRevokedPermissions("thing", "/attributes/secret", read)
+                .forLabel("READER")
+                .setSubject("test:reader", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/attributes/public", read)
+                .setGrantedPermissions("thing", "/features/f1/properties/value", read)
+                .setRevokedPermissions("thing", "/features/f1/properties/value/hidden", read)
+                .setRevision(1L)
+                .build();
+        final JsonObject thing = JsonFactory.newObject("{\"thingId\":\"namespace:id\"," +
+                "\"attributes\":{\"public\":{\"a\":[1,{\"b\":2}],\"empty\":{}},\"secret\":42,\"other\":[]}," +
+                "\"features\":{\"f1\":{\"properties\":{\"value\":{\"hidden\":1,\"shown\":[{}]},\"x\":1}}," +
+                "\"f2\":{}}}");
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        for (final String subjectId : new String[]{"test:owner", "test:reader", "test:unknown"}) {
+            final AuthorizationContext authorizationContext =
+                    AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance(subjectId));
+            for (final ResourceKey resourceKey : new ResourceKey[]{ResourceKey.newInstance("thing", "/"),
+                    ResourceKey.newInstance("thing", "/attributes"), ResourceKey.newInstance("policy", "/")}) {
+
+                final JsonObject expected = underTest.buildJsonView(resourceKey, thing, authorizationContext, read);
+                final JsonObject actual =
+                        underTest.compileJsonViewMask(resourceKey, authorizationContext, read).apply(thing);
+
+                assertThat(actual).describedAs(subjectId + " " + resourceKey).isEqualTo(expected);
+            }
+        }
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
@@ -46,6 +46,32 @@ public interface ExpressionResolver {
      */
     PipelineElement resolveAsPipelineElement(String pipelineExpression);
 
+    /**
+     * Resolve a single placeholder without any pipeline stages, e.g. the placeholder {@code thing:id} of the pipeline
+     * expression {@code thing:id | fn:lower()}.
+     *
+     * @param prefix the prefix of the placeholder, e.g. {@code thing}.
+     * @param name the name of the placeholder, e.g. {@code id}.
+     * @return the pipeline element of the resolved placeholder.
+     * @throws UnresolvedPlaceholderException if the placeholder is not supported by this resolver
+     * @since 1.3.0
+     */
+    default PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        return resolveAsPipelineElement(prefix + Expression.SEPARATOR + name);
+    }
+
+    /**
+     * Resolves a template compiled by {@link PlaceholderFactory#compileTemplate(String)}. The result is the same as
+     * that of {@link #resolve(String)} for the template string, but the template is not parsed again.
+     *
+     * @param template the compiled template.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @since 1.3.0
+     */
+    default PipelineElement resolve(final PlaceholderTemplate template) {
+        return template.resolve(this);
+    }
+
     /**
      * Resolves a complete expression template starting with a {@link Placeholder} followed by optional pipeline stages
      * (e.g. functions).
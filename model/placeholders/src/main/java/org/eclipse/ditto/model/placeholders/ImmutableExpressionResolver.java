@@ -100,14 +100,26 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 });
     }
 
+    @Override
+    public PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        final PlaceholderResolver<?> resolver = placeholderResolvers.get(prefix);
+        if (null == resolver || !resolver.supports(name)) {
+            throw UnresolvedPlaceholderException.newBuilder(prefix + SEPARATOR + name).build();
+        }
+        return resolveSinglePlaceholder(resolver, name);
+    }
+
     private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline) {
         final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
                 .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
 
+        return resolveSinglePlaceholder(resolverPair.getKey(), resolverPair.getValue());
+    }
+
+    private PipelineElement resolveSinglePlaceholder(final PlaceholderResolver<?> resolver, final String name) {
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            return resolverPair.getKey()
-                    .resolve(resolverPair.getValue())
+            return resolver.resolve(name)
                     .map(PipelineElement::resolved)
                     .orElseGet(PipelineElement::unresolved);
         } else {
@@ -116,7 +128,15 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    /**
+     * Splits a pipeline expression into the expressions of its stages.
+     *
+     * @param template the pipeline expression.
+     * @return the trimmed expressions of the stages.
+     * @throws UnresolvedPlaceholderException if the pipeline expression is invalid.
+     * @throws PlaceholderFunctionTooComplexException if the pipeline contains too many stages.
+     */
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -137,7 +157,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
     }
 
     // the first expression can be a placeholder or a function expression
-    private String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
+    private static String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
         if (pipelineStagesExpressions.isEmpty()) {
             return "";
         }
@@ -185,7 +205,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
+    static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
         return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
     }
 }
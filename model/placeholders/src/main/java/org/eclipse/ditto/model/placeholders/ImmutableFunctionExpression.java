@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.placeholders;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
@@ -63,6 +64,18 @@ final class ImmutableFunctionExpression implements FunctionExpression {
                 .anyMatch(psfName -> expressionName.startsWith(psfName + "("));
     }
 
+    /**
+     * Finds the function called by a function expression.
+     *
+     * @param expression the function expression including the prefix, e.g. {@code fn:default('fallback')}.
+     * @return the called function or an empty optional if the expression does not call a supported function.
+     */
+    Optional<PipelineFunction> findFunction(final String expression) {
+        return SUPPORTED.stream()
+                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
+                .findFirst();
+    }
+
     @Override
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
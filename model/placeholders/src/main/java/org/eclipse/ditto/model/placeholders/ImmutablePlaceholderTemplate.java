@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+
+/**
+ * Immutable implementation of {@link PlaceholderTemplate}: the template is split into literal segments and compiled
+ * pipeline expressions, each consisting of an optional placeholder lookup and the {@link PipelineFunction}s of its
+ * stages. Expressions or stages which cannot be compiled are evaluated as before when they are reached during
+ * resolution, so that invalid templates fail in the same way as with {@link ExpressionResolver#resolve(String)}.
+ */
+@Immutable
+final class ImmutablePlaceholderTemplate implements PlaceholderTemplate {
+
+    private final String template;
+    private final List<String> literals;
+    private final List<CompiledExpression> expressions;
+
+    private ImmutablePlaceholderTemplate(final String template, final List<String> literals,
+            final List<CompiledExpression> expressions) {
+        this.template = template;
+        this.literals = Collections.unmodifiableList(literals);
+        this.expressions = Collections.unmodifiableList(expressions);
+    }
+
+    /**
+     * Compiles a template string.
+     *
+     * @param template the template string.
+     * @return the compiled template.
+     */
+    static ImmutablePlaceholderTemplate of(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<CompiledExpression> expressions = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(position, matcher.start()));
+            final String placeholderExpression = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+            expressions.add(compileExpression(placeholderExpression));
+            position = matcher.end();
+        }
+        literals.add(template.substring(position));
+        return new ImmutablePlaceholderTemplate(template, literals, expressions);
+    }
+
+    private static CompiledExpression compileExpression(final String pipelineExpression) {
+        final List<String> stageExpressions;
+        try {
+            stageExpressions = ImmutableExpressionResolver.getPipelineStagesExpressions(pipelineExpression);
+        } catch (final DittoRuntimeException e) {
+            return new UncompiledExpression(pipelineExpression);
+        }
+        final String firstExpression = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+        if (ImmutableExpressionResolver.isFirstPlaceholderFunction(firstExpression)) {
+            return new PipelineExpression(null, null, compileStages(stageExpressions));
+        }
+        final int separatorIndex = firstExpression.indexOf(SEPARATOR);
+        if (separatorIndex == -1) {
+            return new UncompiledExpression(pipelineExpression);
+        }
+        final String prefix = firstExpression.substring(0, separatorIndex).trim();
+        final String name = firstExpression.substring(prefix.length() + 1);
+        return new PipelineExpression(prefix, name, compileStages(stageExpressions.subList(1, stageExpressions.size())));
+    }
+
+    private static List<Stage> compileStages(final List<String> stageExpressions) {
+        final List<Stage> stages = new ArrayList<>(stageExpressions.size());
+        for (final String stageExpression : stageExpressions) {
+            final Optional<PipelineFunction> function =
+                    ImmutableFunctionExpression.INSTANCE.findFunction(stageExpression);
+            if (function.isPresent()) {
+                final PipelineFunction pipelineFunction = function.get();
+                final String params = stageExpression.substring(
+                        (FunctionExpression.PREFIX + SEPARATOR + pipelineFunction.getName()).length()).trim();
+                stages.add(new FunctionStage(pipelineFunction, params));
+            } else {
+                stages.add(new UncompiledStage(stageExpression));
+            }
+        }
+        return stages;
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        if (expressions.isEmpty()) {
+            return PipelineElement.resolved(template);
+        }
+        final StringBuilder resultBuilder = new StringBuilder(template.length());
+        for (int i = 0; i < expressions.size(); i++) {
+            resultBuilder.append(literals.get(i));
+            final PipelineElement element = expressions.get(i).resolve(expressionResolver);
+            switch (element.getType()) {
+                case DELETED:
+                case UNRESOLVED:
+                    // abort pipeline execution: resolution failed or the string has been deleted.
+                    return element;
+                default:
+                    // proceed to append resolution result and evaluate the next pipeline expression
+            }
+            element.map(resolvedValue -> {
+                resultBuilder.append(resolvedValue);
+                return resolvedValue;
+            });
+        }
+        resultBuilder.append(literals.get(expressions.size()));
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutablePlaceholderTemplate that = (ImmutablePlaceholderTemplate) o;
+        return Objects.equals(template, that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", literals=" + literals +
+                ", expressions=" + expressions +
+                "]";
+    }
+
+    /**
+     * A pipeline expression between curly braces.
+     */
+    private interface CompiledExpression {
+
+        PipelineElement resolve(ExpressionResolver expressionResolver);
+
+    }
+
+    /**
+     * A stage of a pipeline expression.
+     */
+    private interface Stage {
+
+        PipelineElement apply(PipelineElement element, ExpressionResolver expressionResolver);
+
+    }
+
+    /**
+     * A pipeline expression starting with a placeholder lookup or a function.
+     */
+    @Immutable
+    private static final class PipelineExpression implements CompiledExpression {
+
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+        private final List<Stage> stages;
+
+        private PipelineExpression(@Nullable final String placeholderPrefix, @Nullable final String placeholderName,
+                final List<Stage> stages) {
+            this.placeholderPrefix = placeholderPrefix;
+            this.placeholderName = placeholderName;
+            this.stages = Collections.unmodifiableList(stages);
+        }
+
+        @Override
+        public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+            PipelineElement element = null != placeholderPrefix && null != placeholderName
+                    ? expressionResolver.resolvePlaceholder(placeholderPrefix, placeholderName)
+                    : PipelineElement.unresolved();
+            for (final Stage stage : stages) {
+                element = stage.apply(element, expressionResolver);
+            }
+            return element;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "placeholderPrefix=" + placeholderPrefix +
+                    ", placeholderName=" + placeholderName +
+                    ", stages=" + stages +
+                    "]";
+        }
+
+    }
+
+    /**
+     * A pipeline expression which could not be compiled and is resolved by parsing it.
+     */
+    @Immutable
+    private static final class UncompiledExpression implements CompiledExpression {
+
+        private final String expression;
+
+        private UncompiledExpression(final String expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+            return expressionResolver.resolveAsPipelineElement(expression);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "expression=" + expression +
+                    "]";
+        }
+
+    }
+
+    /**
+     * A stage calling a pipeline function with fixed parameters.
+     */
+    @Immutable
+    private static final class FunctionStage implements Stage {
+
+        private final PipelineFunction function;
+        private final String paramsIncludingParentheses;
+
+        private FunctionStage(final PipelineFunction function, final String paramsIncludingParentheses) {
+            this.function = function;
+            this.paramsIncludingParentheses = paramsIncludingParentheses;
+        }
+
+        @Override
+        public PipelineElement apply(final PipelineElement element, final ExpressionResolver expressionResolver) {
+            return function.apply(element, paramsIncludingParentheses, expressionResolver);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "function=" + function.getName() +
+                    ", paramsIncludingParentheses=" + paramsIncludingParentheses +
+                    "]";
+        }
+
+    }
+
+    /**
+     * A stage which does not call a supported function and is executed by parsing it.
+     */
+    @Immutable
+    private static final class UncompiledStage implements Stage {
+
+        private final String expression;
+
+        private UncompiledStage(final String expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public PipelineElement apply(final PipelineElement element, final ExpressionResolver expressionResolver) {
+            return ImmutableFunctionExpression.INSTANCE.resolve(expression, element, expressionResolver);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "expression=" + expression +
+                    "]";
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.model.placeholders;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,7 +24,8 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 
 /**
- * Factory that creates instances of {@link Placeholder}, {@link PlaceholderResolver}s and {@link ExpressionResolver}s.
+ * Factory that creates instances of {@link Placeholder}, {@link PlaceholderResolver}s, {@link ExpressionResolver}s
+ * and {@link PlaceholderTemplate}s.
  */
 public final class PlaceholderFactory {
 
@@ -156,6 +159,19 @@ public final class PlaceholderFactory {
                 stringUsedInPlaceholderReplacement);
     }
 
+    /**
+     * Compiles a template string containing placeholders and pipeline functions once, so that it can be resolved for
+     * many {@link ExpressionResolver}s without being parsed again.
+     *
+     * @param template the template string, e.g. {@code {{ thing:namespace }}/{{ thing:name | fn:lower() }}}.
+     * @return the compiled template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     * @since 1.3.0
+     */
+    public static PlaceholderTemplate compileTemplate(final String template) {
+        return ImmutablePlaceholderTemplate.of(checkNotNull(template, "template"));
+    }
+
     private static ExpressionResolver newExpressionResolver(final List<PlaceholderResolver<?>> placeholderResolvers,
             final String stringUsedInPlaceholderValidation) {
         return new ImmutableExpressionResolver(placeholderResolvers, stringUsedInPlaceholderValidation);
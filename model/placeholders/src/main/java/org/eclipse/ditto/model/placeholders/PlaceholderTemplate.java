@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+/**
+ * A template string like {@code prefix/{{ thing:id | fn:substring-before(':') }}/suffix} which was parsed once into
+ * its literal parts, placeholders and pipeline functions. Resolving a compiled template yields the same result as
+ * {@link ExpressionResolver#resolve(String)} for the template string without parsing it again, so that templates
+ * which are resolved for many messages, e.g. target addresses and header mappings, should be compiled once.
+ *
+ * @since 1.3.0
+ */
+public interface PlaceholderTemplate {
+
+    /**
+     * @return the template string this template was compiled from.
+     */
+    String getTemplate();
+
+    /**
+     * Resolves the placeholders of this template and executes the pipeline functions.
+     *
+     * @param expressionResolver the resolver of the placeholders.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws UnresolvedPlaceholderException if a placeholder is not supported by the resolver or a pipeline
+     * expression of the template is invalid
+     * @throws PlaceholderFunctionTooComplexException if a pipeline expression of the template contains too many
+     * function calls
+     */
+    PipelineElement resolve(ExpressionResolver expressionResolver);
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ImmutablePlaceholderTemplate}.
+ */
+public final class ImmutablePlaceholderTemplateTest {
+
+    private static final ThingId THING_ID = ThingId.of("the.thing", "the.id:the-rest");
+
+    private static final List<String> TEMPLATES = Arrays.asList(
+            "",
+            "no placeholders at all",
+            "{{ thing:id }}",
+            "prefix/{{ thing:namespace }}/{{thing:name}}/suffix",
+            "{{ header:header:with:colon }}",
+            "{{ header:nonexistent | fn:default('fallback-val') }}",
+            "{{ header:nonexistent | fn:default(header:header-name) }}",
+            "{{ header:nonexistent | fn:default(header:alsoNotThere) }}",
+            "{{ thing:namespace }}:{{thing:name | fn:substring-before(':') }}",
+            "{{ thing:namespace }}:{{thing:name | fn:substring-before('_') | fn:default(thing:name)}}",
+            "{{ thing:name | fn:substring-after(':') | fn:upper() }}",
+            "{{ thing:name | fn:filter(header:header-name,'eq','header-val') | fn:lower() }}",
+            "{{ fn:delete() }}",
+            "a{{ fn:default(header:header-name) | fn:upper() }}b",
+            "{{ header:nonexistent }}/{{ thing:id }}",
+            "{{ header:header-name | fn:delete() }}",
+            "{{ header:nonexistent | fn:default(fn:delete()) }}",
+            "{{ header:header-name | fn:default('a|b') }}"
+    );
+
+    private static final List<String> INVALID_TEMPLATES = Arrays.asList(
+            "{{ unknown:placeholder }}",
+            "{{ thing:unknown }}",
+            "{{ no-prefix }}",
+            "{{ thing:id | fn:unknown() }}",
+            "{{ thing:id | fn:substring-before() }}",
+            "{{ thing:id | thing:name }}",
+            "{{ thing:id | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | " +
+                    "fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() }}"
+    );
+
+    private ExpressionResolver expressionResolver;
+
+    @Before
+    public void setupExpressionResolver() {
+        final Map<String, String> headersMap = new HashMap<>();
+        headersMap.put("header-name", "header-val");
+        headersMap.put("header:with:colon", "value:with:colon");
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headersMap),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), THING_ID)
+        );
+    }
+
+    @Test
+    public void compiledTemplatesResolveLikeTemplateStrings() {
+        for (final String template : TEMPLATES) {
+            final PlaceholderTemplate underTest = PlaceholderFactory.compileTemplate(template);
+
+            assertThat(underTest.getTemplate()).isEqualTo(template);
+            assertThat(underTest.resolve(expressionResolver))
+                    .describedAs(template)
+                    .isEqualTo(expressionResolver.resolve(template));
+            assertThat(expressionResolver.resolve(underTest)).isEqualTo(expressionResolver.resolve(template));
+        }
+    }
+
+    @Test
+    public void compiledTemplatesResolveLikeTemplateStringsInValidationMode() {
+        final ExpressionResolver validationResolver = PlaceholderFactory.newExpressionResolverForValidation("x",
+                PlaceholderFactory.newHeadersPlaceholder(), PlaceholderFactory.newThingPlaceholder());
+        for (final String template : TEMPLATES) {
+            assertThat(PlaceholderFactory.compileTemplate(template).resolve(validationResolver))
+                    .describedAs(template)
+                    .isEqualTo(validationResolver.resolve(template));
+        }
+    }
+
+    @Test
+    public void invalidTemplatesFailOnResolutionLikeTemplateStrings() {
+        for (final String template : INVALID_TEMPLATES) {
+            final PlaceholderTemplate underTest = PlaceholderFactory.compileTemplate(template);
+            final Throwable expected = catchThrowable(() -> expressionResolver.resolve(template));
+
+            assertThat(expected).describedAs(template).isNotNull();
+            assertThatExceptionOfType(expected.getClass())
+                    .describedAs(template)
+                    .isThrownBy(() -> underTest.resolve(expressionResolver))
+                    .withMessage(expected.getMessage());
+        }
+    }
+
+    @Test
+    public void unresolvedExpressionStopsResolutionBeforeInvalidExpression() {
+        final String template = "{{ header:nonexistent }}{{ unknown:placeholder }}";
+
+        assertThat(PlaceholderFactory.compileTemplate(template).resolve(expressionResolver))
+                .isEqualTo(PipelineElement.unresolved())
+                .isEqualTo(expressionResolver.resolve(template));
+    }
+
+}
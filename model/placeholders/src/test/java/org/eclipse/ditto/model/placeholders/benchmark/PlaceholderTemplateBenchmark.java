@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.PipelineElement;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderTemplate;
+import org.eclipse.ditto.model.things.ThingId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the resolution of template strings by {@link ExpressionResolver#resolve(String)} with the
+ * resolution of templates compiled once by {@link PlaceholderFactory#compileTemplate(String)}, as for the target
+ * addresses and header mappings of connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = PlaceholderTemplateBenchmark.WARMUP_ITERATIONS,
+        time = PlaceholderTemplateBenchmark.WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = PlaceholderTemplateBenchmark.MEASUREMENT_ITERATIONS,
+        time = PlaceholderTemplateBenchmark.MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+public class PlaceholderTemplateBenchmark {
+
+    static final int WARMUP_ITERATIONS = 5;
+    static final int MEASUREMENT_ITERATIONS = 10;
+    static final int WARMUP_TIME = 1000;
+    static final int MEASUREMENT_TIME = 1000;
+
+    @Param({
+            "telemetry/{{ thing:namespace }}/{{ thing:name }}",
+            "{{ thing:id | fn:substring-before(':') }}",
+            "{{ header:device-id | fn:default(thing:name) | fn:upper() }}",
+            "devices/{{ header:content-type | fn:substring-after('/') | fn:lower() }}/{{ thing:name }}"
+    })
+    public String template;
+
+    private PlaceholderTemplate compiledTemplate;
+    private ExpressionResolver expressionResolver;
+
+    @Setup
+    public void setup() {
+        compiledTemplate = PlaceholderFactory.compileTemplate(template);
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("content-type", "application/JSON");
+        headers.put("correlation-id", "1234-5678");
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headers),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(),
+                        ThingId.of("org.eclipse.ditto", "device:4711"))
+        );
+    }
+
+    @Benchmark
+    public PipelineElement resolveTemplateString() {
+        return expressionResolver.resolve(template);
+    }
+
+    @Benchmark
+    public PipelineElement resolveCompiledTemplate() {
+        return compiledTemplate.resolve(expressionResolver);
+    }
+
+    @Benchmark
+    public PipelineElement compileAndResolveTemplate() {
+        return PlaceholderFactory.compileTemplate(template).resolve(expressionResolver);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * A Java {@link Predicate} for {@link Thing}s which is compiled once from a Ditto query {@link Criteria}.
+ * <p>
+ * In contrast to the predicate created by {@link ThingPredicateVisitor}, all JSON pointers, LIKE patterns and
+ * comparison constants are resolved when the predicate is compiled. A Thing is converted to its JSON representation
+ * only once per evaluation, no matter how many leaf predicates the criteria contains.
+ * </p>
+ */
+public final class CompiledThingPredicate implements Predicate<Thing> {
+
+    private final Predicate<JsonObject> thingJsonPredicate;
+
+    private CompiledThingPredicate(final Predicate<JsonObject> thingJsonPredicate) {
+        this.thingJsonPredicate = thingJsonPredicate;
+    }
+
+    /**
+     * Compiles the given criteria into a predicate of Things.
+     *
+     * @param criteria the criteria to compile.
+     * @return the compiled predicate.
+     * @throws NullPointerException if {@code criteria} is {@code null}.
+     */
+    public static CompiledThingPredicate of(final Criteria criteria) {
+        return new CompiledThingPredicate(ThingJsonPredicateVisitor.apply(requireNonNull(criteria)));
+    }
+
+    /**
+     * Evaluates this predicate on the given Thing.
+     *
+     * @param thing the Thing to evaluate.
+     * @return {@code true} if the Thing matches the compiled criteria.
+     */
+    @Override
+    public boolean test(final Thing thing) {
+        return test(thing.toJson(field -> true));
+    }
+
+    /**
+     * Evaluates this predicate on the JSON representation of a Thing containing all fields, including special and
+     * hidden fields like {@code _namespace} or {@code _revision}.
+     *
+     * @param thingJson the JSON representation of the Thing to evaluate.
+     * @return {@code true} if the Thing JSON matches the compiled criteria.
+     */
+    public boolean test(final JsonObject thingJson) {
+        return thingJsonPredicate.test(thingJson);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * ExistsFieldExpressionVisitor for Java {@link Predicate}s of the JSON representation of Things.
+ */
+final class ExistsThingJsonPredicateVisitor implements ExistsFieldExpressionVisitor<Predicate<JsonObject>> {
+
+    /**
+     * Keys of hidden Thing fields. {@link ExistsThingPredicateVisitor} checks simple fields against the JSON
+     * representation without hidden fields; the compiled predicate evaluates the JSON with all fields, so these keys
+     * have to be excluded explicitly.
+     */
+    private static final Set<JsonKey> HIDDEN_KEYS = Collections.unmodifiableSet(Stream.<JsonFieldDefinition<?>>of(
+            Thing.JsonFields.SCHEMA_VERSION,
+            Thing.JsonFields.LIFECYCLE,
+            Thing.JsonFields.NAMESPACE,
+            Thing.JsonFields.REVISION,
+            Thing.JsonFields.MODIFIED,
+            Thing.JsonFields.CREATED,
+            Thing.JsonFields.METADATA)
+            .map(JsonFieldDefinition::getPointer)
+            .map(JsonPointer::getRoot)
+            .map(root -> root.orElseThrow(IllegalStateException::new))
+            .collect(Collectors.toSet()));
+
+    static Predicate<JsonObject> apply(final ExistsFieldExpression expression) {
+        return expression.acceptExistsVisitor(new ExistsThingJsonPredicateVisitor());
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAttribute(final String key) {
+        return exists(JsonPointer.of("/attributes/" + key));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitFeature(final String featureId) {
+        return exists(JsonPointer.of("/features/" + featureId));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitFeatureIdProperty(final String featureId, final String property) {
+        return exists(JsonPointer.of("/features/" + featureId + "/properties/" + property));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitSimple(final String fieldName) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        final boolean hidden = pointer.getRoot().filter(HIDDEN_KEYS::contains).isPresent();
+        return hidden ? thingJson -> false : exists(pointer);
+    }
+
+    private static Predicate<JsonObject> exists(final JsonPointer pointer) {
+        return thingJson -> thingJson.getValue(pointer).isPresent();
+    }
+
+}
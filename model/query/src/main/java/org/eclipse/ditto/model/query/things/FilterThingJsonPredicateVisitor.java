@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+
+/**
+ * FilterFieldExpressionVisitor for Java {@link Predicate}s of the JSON representation of Things. The JSON pointer of
+ * the filtered field is resolved once when the predicate is created.
+ */
+final class FilterThingJsonPredicateVisitor implements FilterFieldExpressionVisitor<Predicate<JsonObject>> {
+
+    private final Function<JsonPointer, Predicate<JsonObject>> predicateFunction;
+
+    private FilterThingJsonPredicateVisitor(final Function<JsonPointer, Predicate<JsonObject>> predicateFunction) {
+        this.predicateFunction = predicateFunction;
+    }
+
+    static Predicate<JsonObject> apply(final FilterFieldExpression expression,
+            final Function<JsonPointer, Predicate<JsonObject>> predicateFunction) {
+        return expression.acceptFilterVisitor(new FilterThingJsonPredicateVisitor(predicateFunction));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAttribute(final String key) {
+        return predicateFunction.apply(JsonPointer.of("/attributes/" + key));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitFeatureIdProperty(final String featureId, final String property) {
+        return predicateFunction.apply(JsonPointer.of("/features/" + featureId + "/properties/" + property));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitSimple(final String fieldName) {
+        return predicateFunction.apply(JsonPointer.of(fieldName));
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * PredicateVisitor creating Java {@link Predicate}s of the JSON representation of Things.
+ * <p>
+ * Evaluates like {@link ThingPredicatePredicateVisitor}, but prepares everything which only depends on the filter
+ * value when the predicate is created: LIKE patterns are compiled and numeric constants are converted to
+ * {@link BigDecimal} only once.
+ * </p>
+ */
+final class ThingJsonPredicatePredicateVisitor
+        implements PredicateVisitor<Function<JsonPointer, Predicate<JsonObject>>> {
+
+    private static final ThingJsonPredicatePredicateVisitor INSTANCE = new ThingJsonPredicatePredicateVisitor();
+
+    private ThingJsonPredicatePredicateVisitor() {
+        // only internally instantiable
+    }
+
+    static ThingJsonPredicatePredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitEq(@Nullable final Object value) {
+        return pointer -> thingJson -> isEqual(value, thingJson.getValue(pointer));
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitNe(@Nullable final Object value) {
+        return pointer -> thingJson -> !isEqual(value, thingJson.getValue(pointer));
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitGe(@Nullable final Object value) {
+        return compareWith(value, comparison -> comparison >= 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitGt(@Nullable final Object value) {
+        return compareWith(value, comparison -> comparison > 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLe(@Nullable final Object value) {
+        return compareWith(value, comparison -> comparison <= 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLt(@Nullable final Object value) {
+        return compareWith(value, comparison -> comparison < 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitIn(final List<?> values) {
+        final Set<?> valueSet = new HashSet<>(values);
+        return pointer -> thingJson -> {
+            final Optional<JsonValue> fieldValue = thingJson.getValue(pointer);
+            if (fieldValue.isPresent()) {
+                final Object javaValue = mapJsonValueToJava(fieldValue.get());
+                return null != javaValue && valueSet.contains(javaValue);
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
+        return pointer -> thingJson -> {
+            final Optional<JsonValue> fieldValue = thingJson.getValue(pointer);
+            return fieldValue.isPresent() && fieldValue.get().isString() &&
+                    pattern.matcher(fieldValue.get().asString()).matches();
+        };
+    }
+
+    private static boolean isEqual(@Nullable final Object value, final Optional<JsonValue> fieldValue) {
+        return null != value && fieldValue.isPresent() && value.equals(mapJsonValueToJava(fieldValue.get()));
+    }
+
+    private static Function<JsonPointer, Predicate<JsonObject>> compareWith(@Nullable final Object value,
+            final IntPredicate comparisonPredicate) {
+
+        if (!(value instanceof Comparable)) {
+            return pointer -> thingJson -> false;
+        }
+        final ComparisonConstant constant = new ComparisonConstant((Comparable<?>) value);
+        return pointer -> thingJson -> {
+            final Optional<JsonValue> fieldValue = thingJson.getValue(pointer);
+            if (fieldValue.isPresent()) {
+                final Object javaValue = mapJsonValueToJava(fieldValue.get());
+                return javaValue instanceof Comparable &&
+                        comparisonPredicate.test(constant.compareFieldValue((Comparable<?>) javaValue));
+            }
+            return false;
+        };
+    }
+
+    @Nullable
+    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+        final Object result;
+
+        if (jsonValue.isString()) {
+            result = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            result = jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                result = jsonValue.asLong();
+            } else {
+                result = jsonValue.asDouble();
+            }
+        } else {
+            result = null; // filtering null, arrays and objects is not supported
+        }
+
+        return result;
+    }
+
+    /**
+     * A filter value of a comparison predicate, converted once into all representations which are needed to compare
+     * it with field values the same way {@link ThingPredicatePredicateVisitor} does.
+     */
+    private static final class ComparisonConstant {
+
+        private final Comparable<?> value;
+        @Nullable private final BigDecimal stringValueAsNumber;
+        private final String stringRepresentation;
+
+        private ComparisonConstant(final Comparable<?> value) {
+            this.value = asNumber(value);
+            stringValueAsNumber = this.value instanceof String ? tryParseNumber((String) this.value) : null;
+            stringRepresentation = this.value.toString();
+        }
+
+        /**
+         * Compares a field value with this constant.
+         *
+         * @param fieldValue the field value.
+         * @return a negative integer, zero, or a positive integer as the field value is less than, equal to, or
+         * greater than this constant.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private int compareFieldValue(final Comparable<?> fieldValue) {
+            final Comparable comparableFieldValue = asNumber(fieldValue);
+            // best effort try to convert both values to a BigDecimal in order to compare them:
+            if (null != stringValueAsNumber && comparableFieldValue instanceof BigDecimal) {
+                return ((BigDecimal) comparableFieldValue).compareTo(stringValueAsNumber);
+            } else if (value instanceof BigDecimal && comparableFieldValue instanceof String) {
+                final BigDecimal fieldValueAsNumber = tryParseNumber((String) comparableFieldValue);
+                if (null != fieldValueAsNumber) {
+                    return fieldValueAsNumber.compareTo((BigDecimal) value);
+                }
+            }
+
+            if (value.getClass().equals(comparableFieldValue.getClass())) {
+                // only compare same classes:
+                return comparableFieldValue.compareTo(value);
+            } else {
+                // as a fallback, for different types, compare by their string representation:
+                return comparableFieldValue.toString().compareTo(stringRepresentation);
+            }
+        }
+
+        private static Comparable<?> asNumber(final Comparable<?> comparable) {
+            final Comparable<?> result;
+            if (comparable instanceof BigDecimal) {
+                result = comparable;
+            } else if (comparable instanceof Long || comparable instanceof Integer) {
+                result = BigDecimal.valueOf(((Number) comparable).longValue());
+            } else if (comparable instanceof Number) {
+                result = new BigDecimal(comparable.toString());
+            } else {
+                result = comparable;
+            }
+            return result;
+        }
+
+        @Nullable
+        private static BigDecimal tryParseNumber(final String string) {
+            try {
+                return new BigDecimal(string);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+
+/**
+ * CriteriaVisitor for Java {@link Predicate}s of the JSON representation of Things.
+ */
+final class ThingJsonPredicateVisitor implements CriteriaVisitor<Predicate<JsonObject>> {
+
+    private ThingJsonPredicateVisitor() {
+        // only internally instantiable
+    }
+
+    static Predicate<JsonObject> apply(final Criteria criteria) {
+        return criteria.accept(new ThingJsonPredicateVisitor());
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAnd(final List<Predicate<JsonObject>> conjuncts) {
+        final Predicate<JsonObject>[] predicates = toArray(conjuncts);
+        return thingJson -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (!predicate.test(thingJson)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAnd(final Stream<Predicate<JsonObject>> conjuncts) {
+        return visitAnd(conjuncts.collect(Collectors.toList()));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAny() {
+        return any -> true;
+    }
+
+    @Override
+    public Predicate<JsonObject> visitExists(final ExistsFieldExpression fieldExpression) {
+        return ExistsThingJsonPredicateVisitor.apply(fieldExpression);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+        return FilterThingJsonPredicateVisitor.apply(fieldExpression,
+                predicate.accept(ThingJsonPredicatePredicateVisitor.getInstance()));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitNor(final List<Predicate<JsonObject>> negativeDisjoints) {
+        return visitOr(negativeDisjoints).negate();
+    }
+
+    @Override
+    public Predicate<JsonObject> visitNor(final Stream<Predicate<JsonObject>> negativeDisjoints) {
+        return visitNor(negativeDisjoints.collect(Collectors.toList()));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitOr(final List<Predicate<JsonObject>> disjoints) {
+        final Predicate<JsonObject>[] predicates = toArray(disjoints);
+        return thingJson -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (predicate.test(thingJson)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public Predicate<JsonObject> visitOr(final Stream<Predicate<JsonObject>> disjoints) {
+        return visitOr(disjoints.collect(Collectors.toList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<JsonObject>[] toArray(final List<Predicate<JsonObject>> predicates) {
+        return predicates.toArray(new Predicate[0]);
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}. Verifies that the compiled predicate evaluates exactly like the
+ * predicate created by {@link ThingPredicateVisitor}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    private static final List<Thing> THINGS = Arrays.asList(
+            createThing("foo-1", 42, 42456489489489L, 22.26, true, "ccc_string"),
+            createThing("foo-2", 21, 21228244744744L, 11.13, false, "aaa_string"),
+            createThing("foo-3", 84, 84912978978978L, 44.52, false, "eee_string"),
+            Thing.newBuilder().setId(ThingId.of("org.eclipse.ditto", "empty")).build());
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(thingId,\"org.eclipse.ditto:foo-1\")",
+            "ne(thingId,\"org.eclipse.ditto:foo-1\")",
+            "eq(_namespace,\"org.eclipse.ditto\")",
+            "eq(attributes/anInteger,42)",
+            "ne(attributes/anInteger,42)",
+            "eq(attributes/aDouble,22.26)",
+            "eq(attributes/aBoolean,true)",
+            "eq(features/foo/properties/aString,\"ccc_string\")",
+            "ge(attributes/anInteger,42)",
+            "ge(attributes/anInteger,41.9)",
+            "ge(attributes/anInteger,\"41\")",
+            "gt(attributes/aLong,42456489489489)",
+            "le(attributes/aDouble,22.26)",
+            "lt(attributes/aDouble,22)",
+            "lt(attributes/aString,\"d\")",
+            "ge(attributes/aString,\"b\")",
+            "gt(attributes/aBoolean,false)",
+            "le(attributes/aString,42)",
+            "ge(features/foo/properties/aLong,\"21228244744744\")",
+            "in(attributes/anInteger,21,42)",
+            "in(attributes/aString,\"aaa_string\",\"eee_string\")",
+            "like(attributes/aString,\"c*\")",
+            "like(features/foo/properties/aString,\"*_str?ng\")",
+            "like(attributes/anInteger,\"4*\")",
+            "exists(attributes/aLong)",
+            "exists(features/foo)",
+            "exists(features/foo/properties/aDouble)",
+            "exists(thingId)",
+            "exists(_namespace)",
+            "exists(_revision)",
+            "and(eq(attributes/anInteger,42),like(attributes/aString,\"c*\"),exists(features/foo))",
+            "and(eq(attributes/anInteger,42),eq(attributes/aBoolean,false))",
+            "or(eq(attributes/anInteger,21),eq(attributes/anInteger,84))",
+            "not(eq(attributes/anInteger,42))",
+            "not(or(eq(attributes/anInteger,21),gt(attributes/aDouble,40)))"
+    );
+
+    @Test
+    public void compiledPredicateEvaluatesLikeThingPredicateVisitor() {
+        for (final String filter : FILTERS) {
+            final Criteria criteria = QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+            final Predicate<Thing> expected = ThingPredicateVisitor.apply(criteria);
+            final CompiledThingPredicate underTest = CompiledThingPredicate.of(criteria);
+
+            for (final Thing thing : THINGS) {
+                assertThat(underTest.test(thing))
+                        .as("Filtering <%s> with '%s'", thing.getEntityId().orElse(null), filter)
+                        .isEqualTo(expected.test(thing));
+            }
+        }
+    }
+
+    @Test
+    public void compiledPredicateEvaluatesThingJson() {
+        final Criteria criteria = QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(
+                "and(eq(attributes/anInteger,42),like(features/foo/properties/aString,\"ccc*\"))",
+                DittoHeaders.empty());
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(criteria);
+
+        assertThat(underTest.test(THINGS.get(0).toJson(field -> true))).isTrue();
+        assertThat(underTest.test(THINGS.get(1).toJson(field -> true))).isFalse();
+    }
+
+    private static Thing createThing(final String name, final int anInteger, final long aLong, final double aDouble,
+            final boolean aBoolean, final String aString) {
+
+        return Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", name))
+                .setRevision(anInteger)
+                .setAttribute(JsonPointer.of("anInteger"), JsonValue.of(anInteger))
+                .setAttribute(JsonPointer.of("aLong"), JsonValue.of(aLong))
+                .setAttribute(JsonPointer.of("aDouble"), JsonValue.of(aDouble))
+                .setAttribute(JsonPointer.of("aBoolean"), JsonValue.of(aBoolean))
+                .setAttribute(JsonPointer.of("aString"), JsonValue.of(aString))
+                .setFeature("foo", FeatureProperties.newBuilder()
+                        .set(JsonPointer.of("aLong"), JsonValue.of(aLong))
+                        .set(JsonPointer.of("aDouble"), JsonValue.of(aDouble))
+                        .set(JsonPointer.of("aString"), JsonValue.of(aString))
+                        .build())
+                .build();
+    }
+
+}
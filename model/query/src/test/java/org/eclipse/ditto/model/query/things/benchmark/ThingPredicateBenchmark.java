@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the {@link Predicate} created by {@link ThingPredicateVisitor} with the
+ * {@link CompiledThingPredicate} for the same RQL filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThingPredicateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String FILTER = "and(" +
+            "eq(attributes/manufacturer,\"ACME\")," +
+            "like(attributes/model,\"Rocket*\")," +
+            "ge(features/feature0/properties/temperature,20)," +
+            "lt(features/feature0/properties/temperature,\"40.5\")," +
+            "in(features/feature1/properties/status,\"ON\",\"STANDBY\"))";
+
+    @Param({"10", "100", "1000"})
+    public int attributeCount;
+
+    private Thing thing;
+    private Predicate<Thing> visitorPredicate;
+    private CompiledThingPredicate compiledPredicate;
+    private Criteria criteria;
+
+    @Setup
+    public void setup() {
+        final ThingBuilder.FromScratch thingBuilder = Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "benchmark"))
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("model"), JsonValue.of("Rocket Skates"));
+        for (int i = 0; i < attributeCount; i++) {
+            thingBuilder.setAttribute(JsonPointer.of("attribute" + i), JsonValue.of("value" + i));
+        }
+        thingBuilder.setFeature("feature0", FeatureProperties.newBuilder()
+                .set("temperature", 23.5)
+                .set("humidity", 42)
+                .build());
+        thingBuilder.setFeature("feature1", FeatureProperties.newBuilder()
+                .set("status", "ON")
+                .build());
+        thing = thingBuilder.build();
+
+        criteria = QueryFilterCriteriaFactory.modelBased().filterCriteria(FILTER, DittoHeaders.empty());
+        visitorPredicate = ThingPredicateVisitor.apply(criteria);
+        compiledPredicate = CompiledThingPredicate.of(criteria);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean thingPredicateVisitor() {
+        return visitorPredicate.test(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean compiledThingPredicate() {
+        return compiledPredicate.test(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean compileAndTestThingPredicate() {
+        return CompiledThingPredicate.of(criteria).test(thing);
+    }
+
+}
@@ -46,6 +46,21 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the config of the caches of the permission checks and JSON views of policy enforcers.
+     *
+     * @return the config.
+     */
+    CacheConfig getEnforcerDecisionCacheConfig();
+
+    /**
+     * Indicates whether policy enforcers are loaded as memory compact enforcers, which share subjects, resources and
+     * structurally identical parts with the enforcers of other policies, instead of default enforcers.
+     *
+     * @return {@code true} if memory compact enforcers are loaded.
+     */
+    boolean isMemoryCompactEnforcerEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +70,12 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * Whether policy enforcers are loaded as memory compact enforcers.
+         */
+        MEMORY_COMPACT_ENFORCER_ENABLED("memory-compact-enforcer-enabled", false);
 
         private final String path;
         private final Object defaultValue;
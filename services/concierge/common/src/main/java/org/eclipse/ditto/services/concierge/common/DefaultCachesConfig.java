@@ -35,11 +35,16 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final CacheConfig enforcerDecisionCacheConfig;
+    private final boolean memoryCompactEnforcerEnabled;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerDecisionCacheConfig = DefaultCacheConfig.of(config, "enforcer-decision");
+        memoryCompactEnforcerEnabled =
+                config.getBoolean(CachesConfigValue.MEMORY_COMPACT_ENFORCER_ENABLED.getConfigPath());
     }
 
     /**
@@ -68,6 +73,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public CacheConfig getEnforcerDecisionCacheConfig() {
+        return enforcerDecisionCacheConfig;
+    }
+
+    @Override
+    public boolean isMemoryCompactEnforcerEnabled() {
+        return memoryCompactEnforcerEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,14 +92,17 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return askTimeout.equals(that.askTimeout) &&
+        return memoryCompactEnforcerEnabled == that.memoryCompactEnforcerEnabled &&
+                askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                enforcerDecisionCacheConfig.equals(that.enforcerDecisionCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerDecisionCacheConfig,
+                memoryCompactEnforcerEnabled);
     }
 
     @Override
@@ -93,6 +111,8 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerDecisionCacheConfig=" + enforcerDecisionCacheConfig +
+                ", memoryCompactEnforcerEnabled=" + memoryCompactEnforcerEnabled +
                 "]";
     }
 
@@ -31,11 +31,13 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
 
     private final Duration askTimeout;
     private final int bufferSize;
+    private final int schedulerStripes;
     private final boolean globalLiveResponseDispatching;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
+        schedulerStripes = configWithFallback.getPositiveIntOrThrow(EnforcementConfigValue.SCHEDULER_STRIPES);
         globalLiveResponseDispatching =
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
     }
@@ -62,6 +64,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return bufferSize;
     }
 
+    @Override
+    public int getSchedulerStripes() {
+        return schedulerStripes;
+    }
+
     @Override
     public boolean shouldDispatchLiveResponsesGlobally() {
         return globalLiveResponseDispatching;
@@ -76,13 +83,14 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
             return false;
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
-        return bufferSize == that.bufferSize && askTimeout.equals(that.askTimeout) &&
+        return bufferSize == that.bufferSize && schedulerStripes == that.schedulerStripes &&
+                askTimeout.equals(that.askTimeout) &&
                 globalLiveResponseDispatching == that.globalLiveResponseDispatching;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching);
+        return Objects.hash(askTimeout, bufferSize, schedulerStripes, globalLiveResponseDispatching);
     }
 
     @Override
@@ -90,6 +98,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return getClass().getSimpleName() + " [" +
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
+                ", schedulerStripes=" + schedulerStripes +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
                 "]";
     }
@@ -38,6 +38,14 @@ public interface EnforcementConfig {
      */
     int getBufferSize();
 
+    /**
+     * Returns the number of stripes of the enforcement scheduler. Tasks of the same entity are always scheduled by
+     * the same stripe.
+     *
+     * @return the number of scheduler stripes, which is positive.
+     */
+    int getSchedulerStripes();
+
     /**
      * Returns whether live responses from channels other than their subscribers should be dispatched.
      *
@@ -61,6 +69,11 @@ public interface EnforcementConfig {
          */
         BUFFER_SIZE("buffer-size", 1_000),
 
+        /**
+         * The number of stripes of the enforcement scheduler.
+         */
+        SCHEDULER_STRIPES("scheduler-stripes", 4),
+
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
@@ -62,6 +62,10 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.isMemoryCompactEnforcerEnabled())
+                .as("isMemoryCompactEnforcerEnabled")
+                .isEqualTo(CachesConfig.CachesConfigValue.MEMORY_COMPACT_ENFORCER_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -72,6 +76,10 @@ public final class DefaultCachesConfigTest {
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
 
+        softly.assertThat(underTest.isMemoryCompactEnforcerEnabled())
+                .as(CachesConfig.CachesConfigValue.MEMORY_COMPACT_ENFORCER_ENABLED.getConfigPath())
+                .isTrue();
+
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
                 .satisfies(enforcerCacheConfig -> {
@@ -83,6 +91,17 @@ public final class DefaultCachesConfigTest {
                             .isEqualTo(Duration.ofMinutes(15L));
                 });
 
+        softly.assertThat(underTest.getEnforcerDecisionCacheConfig())
+                .as("enforcerDecisionCacheConfig")
+                .satisfies(enforcerDecisionCacheConfig -> {
+                    softly.assertThat(enforcerDecisionCacheConfig.getMaximumSize())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                            .isEqualTo(50000);
+                    softly.assertThat(enforcerDecisionCacheConfig.getExpireAfterWrite())
+                            .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(30L));
+                });
+
         softly.assertThat(underTest.getIdCacheConfig())
                 .as("idCacheConfig")
                 .satisfies(idCacheConfig -> {
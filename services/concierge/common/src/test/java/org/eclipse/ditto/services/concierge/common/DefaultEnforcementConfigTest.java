@@ -12,12 +12,14 @@
  */
 package org.eclipse.ditto.services.concierge.common;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.time.Duration;
 
 import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -64,6 +66,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getSchedulerStripes())
+                .as(EnforcementConfig.EnforcementConfigValue.SCHEDULER_STRIPES.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.SCHEDULER_STRIPES.getDefaultValue());
     }
 
     @Test
@@ -76,6 +81,18 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.getSchedulerStripes())
+                .as(EnforcementConfig.EnforcementConfigValue.SCHEDULER_STRIPES.getConfigPath())
+                .isEqualTo(7);
+    }
+
+    @Test
+    public void nonPositiveSchedulerStripesAreRejected() {
+        final Config config = ConfigFactory.parseString("enforcement.scheduler-stripes = -1");
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultEnforcementConfig.of(config))
+                .withMessageContaining(EnforcementConfig.EnforcementConfigValue.SCHEDULER_STRIPES.getConfigPath());
     }
 
 }
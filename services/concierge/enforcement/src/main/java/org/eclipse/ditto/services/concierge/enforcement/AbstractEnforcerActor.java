@@ -156,6 +156,13 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return enforcementConfig.getBufferSize();
     }
 
+    /**
+     * @return the number of stripes of the enforcement scheduler.
+     */
+    protected int getSchedulerStripes() {
+        return enforcementConfig.getSchedulerStripes();
+    }
+
     @Override
     protected Contextual<WithDittoHeaders> mapMessage(final WithDittoHeaders message) {
         return contextual.withReceivedMessage(message, getSender());
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapt
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -36,6 +37,10 @@ import akka.pattern.Patterns;
 
 /**
  * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * <p>
+ * Several instances may run side by side as stripes of one scheduler. Each entity must then be assigned to exactly one
+ * stripe by {@link #getStripe(EntityId, int)} so that the ordering of its enforcement tasks is preserved.
+ * </p>
  */
 final class EnforcementScheduler extends AbstractActor {
 
@@ -51,16 +56,48 @@ final class EnforcementScheduler extends AbstractActor {
     private final DittoDiagnosticLoggingAdapter log;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Gauge inFlightEnforcementTasks;
 
-    private EnforcementScheduler() {
+    @SuppressWarnings("unused")
+    private EnforcementScheduler(final int stripe) {
         futuresMap = new HashMap<>();
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
         completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        inFlightEnforcementTasks = DittoMetrics.gauge("in_flight_enforcement_tasks")
+                .tag("stripe", Integer.toString(stripe));
+        inFlightEnforcementTasks.set(0L);
     }
 
     static Props props() {
-        return Props.create(EnforcementScheduler.class);
+        return props(0);
+    }
+
+    /**
+     * Create Props of one stripe of the enforcement scheduler.
+     *
+     * @param stripe index of the stripe, used to tag its metrics.
+     * @return the Props object.
+     */
+    static Props props(final int stripe) {
+        return Props.create(EnforcementScheduler.class, stripe);
+    }
+
+    /**
+     * Compute the stripe responsible for enforcement tasks of an entity.
+     *
+     * @param entityId the entity ID.
+     * @param stripes the number of stripes.
+     * @return index of the stripe between 0 (inclusive) and {@code stripes} (exclusive).
+     */
+    static int getStripe(final EntityId entityId, final int stripes) {
+        return Math.floorMod(entityId.hashCode(), stripes);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        inFlightEnforcementTasks.set(0L);
+        super.postStop();
     }
 
     @Override
@@ -81,6 +118,7 @@ final class EnforcementScheduler extends AbstractActor {
             } else {
                 log.debug("Scheduling <{}> at <{}>", task, cachedFutures);
                 final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
+                inFlightEnforcementTasks.increment();
                 return scheduleTaskAfter(previousFutures, task);
             }
         });
@@ -92,6 +130,7 @@ final class EnforcementScheduler extends AbstractActor {
         futureComplete.getError().ifPresent(error -> log.error(error, "FutureFailed <{}>", futureComplete));
         futuresMap.computeIfPresent(futureComplete.entityId, (entityId, futures) -> {
             log.debug("Reducing reference count <{}>", futures);
+            inFlightEnforcementTasks.decrement();
             return futures.onComplete();
         });
         completedEnforcementTasks.increment();
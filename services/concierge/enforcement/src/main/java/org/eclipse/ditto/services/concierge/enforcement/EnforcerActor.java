@@ -13,12 +13,14 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.utils.cache.Cache;
@@ -60,9 +62,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
-        sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
+        final List<ActorRef> enforcementSchedulers = startEnforcementSchedulers(getSchedulerStripes());
+        sink = assembleSink(enforcementProviders, preEnforcer, enforcementSchedulers);
     }
 
     /**
@@ -122,19 +123,29 @@ public final class EnforcerActor extends AbstractEnforcerActor {
         return sink;
     }
 
+    private List<ActorRef> startEnforcementSchedulers(final int stripes) {
+        final List<ActorRef> enforcementSchedulers = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            final String actorName = i == 0 ? EnforcementScheduler.ACTOR_NAME : EnforcementScheduler.ACTOR_NAME + i;
+            enforcementSchedulers.add(getContext().actorOf(EnforcementScheduler.props(i), actorName));
+        }
+        return enforcementSchedulers;
+    }
+
     /**
      * Create the sink that defines the behavior of this enforcer actor by creating enforcement tasks for incoming
      * messages.
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementSchedulers the stripes of the enforcement scheduler.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final List<ActorRef> enforcementSchedulers) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -156,6 +167,12 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(task -> getEnforcementScheduler(enforcementSchedulers, task.getEntityId())
+                        .tell(task, ActorRef.noSender())), Keep.right());
+    }
+
+    private static ActorRef getEnforcementScheduler(final List<ActorRef> enforcementSchedulers,
+            final EntityId entityId) {
+        return enforcementSchedulers.get(EnforcementScheduler.getStripe(entityId, enforcementSchedulers.size()));
     }
 }
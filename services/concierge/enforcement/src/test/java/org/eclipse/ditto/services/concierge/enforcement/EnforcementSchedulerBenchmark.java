@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+
+/**
+ * JMH Benchmark measuring the throughput of the enforcement scheduler depending on the number of stripes.
+ * It resides in the package of the scheduler in order to create its package-private enforcement tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EnforcementSchedulerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int TASKS = 10_000;
+    private static final int ENTITIES = 1_000;
+
+    @Param({"1", "4", "16"})
+    public int stripes;
+
+    private ActorSystem actorSystem;
+    private List<ActorRef> schedulers;
+    private AtomicReference<CountDownLatch> latch;
+    private List<ScheduledTask> tasks;
+
+    @Setup
+    public void setup() throws Exception {
+        actorSystem = ActorSystem.create();
+        latch = new AtomicReference<>(new CountDownLatch(0));
+        schedulers = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            schedulers.add(actorSystem.actorOf(EnforcementScheduler.props(i)));
+        }
+        final ActorRef receiver = actorSystem.actorOf(Props.create(CountingReceiver.class, latch));
+        final ActorRef deadLetters = actorSystem.deadLetters();
+        // enforced messages are logged by the logger of the enforcing actor, which the receiver stands in for
+        final DittoDiagnosticLoggingAdapter log = (DittoDiagnosticLoggingAdapter) Patterns.ask(receiver,
+                CountingReceiver.GET_LOG, Duration.ofSeconds(10L)).toCompletableFuture().get();
+        final Contextual<WithDittoHeaders> baseContextual = Contextual.forActor(deadLetters, deadLetters,
+                deadLetters, deadLetters, Duration.ofSeconds(10L), log, null);
+
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            final ThingId thingId = ThingId.of("benchmark", "thing" + (i % ENTITIES));
+            // every tenth task changes authorization and acts as barrier for the following tasks of its entity
+            final Contextual<RetrieveThing> contextual =
+                    baseContextual.withMessage(RetrieveThing.of(thingId, DittoHeaders.empty())).withReceiver(receiver);
+            tasks.add(new ScheduledTask(thingId, EnforcementTask.of(thingId, i % 10 == 0,
+                    () -> CompletableFuture.supplyAsync(() -> contextual))));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void scheduleTasks() throws InterruptedException {
+        final CountDownLatch tasksDispatched = new CountDownLatch(TASKS);
+        latch.set(tasksDispatched);
+        for (final ScheduledTask task : tasks) {
+            schedulers.get(EnforcementScheduler.getStripe(task.thingId, stripes))
+                    .tell(task.task, ActorRef.noSender());
+        }
+        tasksDispatched.await(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Receiver of dispatched messages counting them down.
+     */
+    static final class CountingReceiver extends AbstractActor {
+
+        private static final String GET_LOG = "getLog";
+
+        private final AtomicReference<CountDownLatch> latch;
+        private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+        @SuppressWarnings("unused")
+        private CountingReceiver(final AtomicReference<CountDownLatch> latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchEquals(GET_LOG, getLog -> getSender().tell(log, getSelf()))
+                    .matchAny(message -> latch.get().countDown())
+                    .build();
+        }
+
+    }
+
+    private static final class ScheduledTask {
+
+        private final ThingId thingId;
+        private final EnforcementTask task;
+
+        private ScheduledTask(final ThingId thingId, final EnforcementTask task) {
+            this.thingId = thingId;
+            this.task = task;
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.timeout;
@@ -164,4 +165,59 @@ public final class EnforcementSchedulerTest {
         }};
     }
 
+    @Test
+    public void differentEntitiesRunConcurrentlyOnDifferentStripesAndSameEntitySerially() {
+        new TestKit(actorSystem) {{
+            final int stripes = 2;
+            final ActorRef firstStripe = actorSystem.actorOf(EnforcementScheduler.props(0));
+            final ActorRef secondStripe = actorSystem.actorOf(EnforcementScheduler.props(1));
+            final TestProbe receiverProbe = TestProbe.apply(actorSystem);
+            final Contextual<WithDittoHeaders> baseContextual = Contextual.forActor(getRef(), getRef(), getRef(),
+                    getRef(), Duration.ofSeconds(10), Mockito.mock(DittoDiagnosticLoggingAdapter.class), null);
+            final ThingId blockedThingId = findThingIdOfStripe(0, stripes);
+            final ThingId otherThingId = findThingIdOfStripe(1, stripes);
+            final RetrieveThing blockedCommand = RetrieveThing.of(blockedThingId, DittoHeaders.empty());
+            final RetrieveThing followUpCommand = RetrieveThing.of(blockedThingId,
+                    DittoHeaders.newBuilder().correlationId("follow-up").build());
+            final RetrieveThing otherCommand = RetrieveThing.of(otherThingId, DittoHeaders.empty());
+            final CompletableFuture<Void> unblock = new CompletableFuture<>();
+
+            firstStripe.tell(EnforcementTask.of(blockedThingId, false, () -> unblock.thenApply(done ->
+                    baseContextual.withMessage(blockedCommand).withReceiver(receiverProbe.ref()))), getRef());
+            firstStripe.tell(EnforcementTask.of(blockedThingId, false, () -> CompletableFuture.completedFuture(
+                    baseContextual.withMessage(followUpCommand).withReceiver(receiverProbe.ref()))), getRef());
+            secondStripe.tell(EnforcementTask.of(otherThingId, false, () -> CompletableFuture.completedFuture(
+                    baseContextual.withMessage(otherCommand).withReceiver(receiverProbe.ref()))), getRef());
+
+            // the other entity is not held up by the blocked one
+            receiverProbe.expectMsg(FiniteDuration.create(5, TimeUnit.SECONDS), otherCommand);
+            // the follow-up command of the blocked entity does not overtake it
+            receiverProbe.expectNoMessage(FiniteDuration.create(1, TimeUnit.SECONDS));
+
+            unblock.complete(null);
+            receiverProbe.expectMsg(blockedCommand);
+            receiverProbe.expectMsg(followUpCommand);
+        }};
+    }
+
+    @Test
+    public void stripesAreStableAndInRange() {
+        final int stripes = 5;
+        for (int i = 0; i < 1000; i++) {
+            final ThingId thingId = ThingId.of("namespace", "thing" + i);
+            final int stripe = EnforcementScheduler.getStripe(thingId, stripes);
+            assertThat(stripe).isBetween(0, stripes - 1);
+            assertThat(EnforcementScheduler.getStripe(ThingId.of(thingId.toString()), stripes)).isEqualTo(stripe);
+        }
+    }
+
+    private static ThingId findThingIdOfStripe(final int stripe, final int stripes) {
+        for (int i = 0; ; i++) {
+            final ThingId thingId = ThingId.of("namespace", "thing" + i);
+            if (EnforcementScheduler.getStripe(thingId, stripes) == stripe) {
+                return thingId;
+            }
+        }
+    }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Compiled scripts shared by all JavaScript mappers of all connections.
+ * <p>
+ * Scripts are identified by the hash of their name and content, thus mappers with the same scripts compile them only
+ * once. The compiled scripts are executed in the scope of each mapper, so that neither the state of the scripts nor
+ * the standard objects they may modify (e. g. prototypes of built-in objects) are shared.
+ * </p>
+ */
+@ThreadSafe
+final class CompiledScriptCache {
+
+    private static final int MAX_CACHED_SCRIPTS = 1000;
+
+    private static final CompiledScriptCache INSTANCE = new CompiledScriptCache();
+
+    private final Cache<String, Script> scripts;
+    private final Map<String, Script> bundledScripts;
+
+    private CompiledScriptCache() {
+        // rarely used scripts are evicted, e. g. scripts of deleted connections
+        scripts = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_SCRIPTS)
+                .build();
+        bundledScripts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the cache shared by all JavaScript mappers.
+     */
+    static CompiledScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a compiled script, compiling it if no mapper compiled the same script yet.
+     *
+     * @param cx the current context.
+     * @param source the source of the script.
+     * @param sourceName the name of the script used in error messages.
+     * @return the compiled script.
+     * @throws org.mozilla.javascript.RhinoException if the script cannot be compiled.
+     */
+    Script getScript(final Context cx, final String source, final String sourceName) {
+        return scripts.get(hash(sourceName, source), key -> cx.compileString(source, sourceName, 1, null));
+    }
+
+    /**
+     * Get a compiled script bundled as resource of the connectivity service.
+     *
+     * @param cx the current context.
+     * @param resourcePath the path of the resource.
+     * @return the compiled script.
+     */
+    Script getBundledScript(final Context cx, final String resourcePath) {
+        return bundledScripts.computeIfAbsent(resourcePath, path -> {
+            try (final InputStream inputStream = getClass().getResourceAsStream(path);
+                    final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                return cx.compileReader(reader, path, 1, null);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not load script <" + path + ">", e);
+            }
+        });
+    }
+
+    private static String hash(final String sourceName, final String source) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sourceName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(source.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
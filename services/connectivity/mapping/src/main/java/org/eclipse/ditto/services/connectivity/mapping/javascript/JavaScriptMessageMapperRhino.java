@@ -13,7 +13,6 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +52,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    private static final CompiledScriptCache SCRIPT_CACHE = CompiledScriptCache.getInstance();
+
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
@@ -119,21 +120,17 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     }
 
     private void initLibraries(final Context cx, final Scriptable scope) {
+        // the libraries are compiled once for all mappers, but executed in the scope of each mapper
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            SCRIPT_CACHE.getBundledScript(cx, WEBJARS_LONG).exec(cx, scope);
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            SCRIPT_CACHE.getBundledScript(cx, WEBJARS_BYTEBUFFER).exec(cx, scope);
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        SCRIPT_CACHE.getBundledScript(cx, DITTO_SCOPE_SCRIPT).exec(cx, scope);
+        SCRIPT_CACHE.getBundledScript(cx, INCOMING_SCRIPT).exec(cx, scope);
+        SCRIPT_CACHE.getBundledScript(cx, OUTGOING_SCRIPT).exec(cx, scope);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -143,8 +140,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            SCRIPT_CACHE.getScript(cx, userIncomingScript,
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT).exec(cx, scope);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -155,8 +152,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            SCRIPT_CACHE.getScript(cx, userOutgoingScript,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT).exec(cx, scope);
         }
     }
 
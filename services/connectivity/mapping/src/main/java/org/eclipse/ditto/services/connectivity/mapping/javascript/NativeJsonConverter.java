@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Symbol;
+import org.mozilla.javascript.Undefined;
+
+/**
+ * Converts values returned by JavaScript mapping functions to {@link JsonValue}s without serializing them to a JSON
+ * string and parsing that string again.
+ * <p>
+ * Plain objects, arrays and primitives are converted directly with the semantics of {@code JSON.stringify}. Values
+ * which need the full algorithm of {@code JSON.stringify} (e. g. objects defining {@code toJSON}, wrapper objects,
+ * typed arrays or cyclic structures) are converted via {@code JSON.stringify}.
+ * </p>
+ */
+final class NativeJsonConverter {
+
+    private static final String TO_JSON = "toJSON";
+
+    private NativeJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts the passed JavaScript value to a JSON value.
+     *
+     * @param cx the current context.
+     * @param scope the scope in which the value was created.
+     * @param value the JavaScript value.
+     * @return the JSON value.
+     * @throws org.mozilla.javascript.RhinoException if {@code JSON.stringify} fails for the value.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code JSON.stringify} produced no valid JSON.
+     */
+    static JsonValue toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        if (value != Undefined.instance) {
+            final JsonValue converted =
+                    convert(value, Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (null != converted) {
+                return converted;
+            }
+        }
+        return JsonFactory.readFrom((String) NativeJSON.stringify(cx, scope, value, null, null));
+    }
+
+    /**
+     * @return the converted value or {@code null} if the value has to be converted via {@code JSON.stringify}.
+     */
+    @Nullable
+    private static JsonValue convert(@Nullable final Object value, final Set<Scriptable> ancestors) {
+        if (null == value || value == Undefined.instance) {
+            return JsonFactory.nullLiteral();
+        } else if (value instanceof Boolean) {
+            return JsonFactory.newValue((boolean) value);
+        } else if (value instanceof Number) {
+            return convertNumber((Number) value);
+        } else if (value instanceof CharSequence) {
+            // also covers the ConsString of concatenated strings
+            return JsonFactory.newValue(value.toString());
+        } else if (value.getClass() == NativeArray.class) {
+            return convertArray((NativeArray) value, ancestors);
+        } else if (value.getClass() == NativeObject.class) {
+            return convertObject((NativeObject) value, ancestors);
+        }
+        return null;
+    }
+
+    private static JsonValue convertNumber(final Number number) {
+        if (number instanceof Integer) {
+            return JsonFactory.newValue(number.intValue());
+        } else if (number instanceof Long) {
+            return JsonFactory.newValue(number.longValue());
+        }
+        final double doubleValue = number.doubleValue();
+        if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+            return JsonFactory.nullLiteral();
+        }
+        final long longValue = (long) doubleValue;
+        if (longValue == doubleValue) {
+            // JSON.stringify prints integral numbers without fraction
+            if (Integer.MIN_VALUE <= longValue && longValue <= Integer.MAX_VALUE) {
+                return JsonFactory.newValue((int) longValue);
+            }
+            return JsonFactory.newValue(longValue);
+        }
+        return JsonFactory.newValue(doubleValue);
+    }
+
+    @Nullable
+    private static JsonValue convertArray(final NativeArray array, final Set<Scriptable> ancestors) {
+        if (hasToJson(array) || !ancestors.add(array)) {
+            return null;
+        }
+        final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+        final long length = array.getLength();
+        for (int index = 0; index < length; index++) {
+            final Object element = ScriptableObject.getProperty(array, index);
+            final JsonValue convertedElement;
+            if (element == Scriptable.NOT_FOUND || element instanceof Callable || element instanceof Symbol) {
+                // JSON.stringify writes null for missing elements, functions and symbols in arrays
+                convertedElement = JsonFactory.nullLiteral();
+            } else {
+                convertedElement = convert(element, ancestors);
+            }
+            if (null == convertedElement) {
+                return null;
+            }
+            arrayBuilder.add(convertedElement);
+        }
+        ancestors.remove(array);
+        return arrayBuilder.build();
+    }
+
+    @Nullable
+    private static JsonValue convertObject(final NativeObject object, final Set<Scriptable> ancestors) {
+        if (hasToJson(object) || !ancestors.add(object)) {
+            return null;
+        }
+        final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+        for (final Object id : object.getIds()) {
+            final Object property = id instanceof Integer
+                    ? ScriptableObject.getProperty(object, (Integer) id)
+                    : ScriptableObject.getProperty(object, id.toString());
+            if (property == Undefined.instance || property == Scriptable.NOT_FOUND ||
+                    property instanceof Callable || property instanceof Symbol) {
+                // JSON.stringify omits undefined values, functions and symbols in objects
+                continue;
+            }
+            final JsonValue convertedProperty = convert(property, ancestors);
+            if (null == convertedProperty) {
+                return null;
+            }
+            objectBuilder.set(id.toString(), convertedProperty);
+        }
+        ancestors.remove(object);
+        return objectBuilder.build();
+    }
+
+    private static boolean hasToJson(final Scriptable scriptable) {
+        return ScriptableObject.getProperty(scriptable, TO_JSON) instanceof Callable;
+    }
+
+}
@@ -18,7 +18,6 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -29,7 +28,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -123,10 +121,8 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     }
 
     private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
-        final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
-
         return DittoJsonException.wrapJsonRuntimeException(() -> {
-            final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
+            final JsonObject jsonObject = NativeJsonConverter.toJsonValue(cx, scope, result).asObject();
             return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
         });
     }
@@ -129,6 +129,15 @@ public final class JavaScriptMessageMapperRhinoTest {
                     "    );\n" +
                     "}";
 
+    private static final String MAPPING_INCOMING_SHOUTING =
+            "function mapToDittoProtocolMsg(headers, textPayload, bytePayload, contentType) {\n" +
+                    "    let text = String(textPayload);\n" +
+                    "    let value = typeof text.shout === \"function\" ? text.shout() : text;\n" +
+                    "    return Ditto.buildDittoProtocolMsg(\"" + MAPPING_INCOMING_NAMESPACE + "\", \"" +
+                    MAPPING_INCOMING_ID + "\", \"things\", \"twin\", \"commands\", \"modify\", \"" +
+                    MAPPING_INCOMING_PATH + "\", {}, value);\n" +
+                    "}";
+
     private static final String MAPPING_OUTGOING_PLAIN = "function mapFromDittoProtocolMsg(\n" +
             "    namespace,\n" +
             "    id,\n" +
@@ -856,6 +865,36 @@ public final class JavaScriptMessageMapperRhinoTest {
         });
     }
 
+    @Test
+    public void testIncomingMappingWithModifiedPrototypeIsIsolatedFromOtherMappers() {
+        final String prototypeExtension = "String.prototype.shout = function() { return this.toUpperCase(); };\n";
+        final MessageMapper mapperModifyingPrototype =
+                createMapperWithIncomingScript(prototypeExtension + MAPPING_INCOMING_SHOUTING);
+        final MessageMapper otherMapper = createMapperWithIncomingScript(MAPPING_INCOMING_SHOUTING);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(
+                Collections.singletonMap(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN))
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        assertThat(mapperModifyingPrototype.map(message)).hasSize(1).allSatisfy(adaptable ->
+                assertThat(adaptable.getPayload().getValue())
+                        .contains(JsonValue.of(MAPPING_INCOMING_PAYLOAD_STRING.toUpperCase())));
+        assertThat(otherMapper.map(message)).hasSize(1).allSatisfy(adaptable ->
+                assertThat(adaptable.getPayload().getValue()).contains(JsonValue.of(MAPPING_INCOMING_PAYLOAD_STRING)));
+    }
+
+    private static MessageMapper createMapperWithIncomingScript(final String incomingScript) {
+        final MessageMapper mapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        mapper.configure(MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("prototype", Collections.emptyMap())
+                        .incomingScript(incomingScript)
+                        .outgoingScript(MAPPING_OUTGOING_PLAIN)
+                        .build()
+        );
+        return mapper;
+    }
+
     @Nullable
     private static String byteBuffer2String(@Nullable final ByteBuffer buf) {
         if (buf == null) {
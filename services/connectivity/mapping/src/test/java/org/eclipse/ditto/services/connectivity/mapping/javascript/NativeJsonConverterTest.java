@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+import org.mozilla.javascript.EcmaError;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Unit test for {@link NativeJsonConverter}.
+ */
+public final class NativeJsonConverterTest {
+
+    private final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+
+    @Test
+    public void convertsPrimitivesLikeJsonStringify() {
+        assertConvertedLikeJsonStringify("null");
+        assertConvertedLikeJsonStringify("true");
+        assertConvertedLikeJsonStringify("42");
+        assertConvertedLikeJsonStringify("-0");
+        assertConvertedLikeJsonStringify("1.5 * 2");
+        assertConvertedLikeJsonStringify("25.3");
+        assertConvertedLikeJsonStringify("Math.pow(2, 40)");
+        assertConvertedLikeJsonStringify("NaN");
+        assertConvertedLikeJsonStringify("1 / 0");
+        assertConvertedLikeJsonStringify("'con' + 'cat' + 1");
+    }
+
+    @Test
+    public void convertsObjectsAndArraysLikeJsonStringify() {
+        assertConvertedLikeJsonStringify("({a: 1, b: 'two', c: [true, null, {d: 4.5}], e: {}})");
+        assertConvertedLikeJsonStringify("({u: undefined, f: function() {}, n: null, 1: 'one'})");
+        assertConvertedLikeJsonStringify("[undefined, function() {}, , 3]");
+        assertConvertedLikeJsonStringify("(function() { var a = [1]; a[3] = 4; return a; })()");
+        assertConvertedLikeJsonStringify("(function() { var shared = {x: 1}; return [shared, {y: shared}]; })()");
+        assertConvertedLikeJsonStringify("JSON.parse('{\"nested\":{\"value\":[1,2,3]}}')");
+    }
+
+    @Test
+    public void convertsSpecialObjectsViaJsonStringify() {
+        assertConvertedLikeJsonStringify("({toJSON: function() { return {replaced: true}; }})");
+        assertConvertedLikeJsonStringify("({date: new Date(0)})");
+        assertConvertedLikeJsonStringify("({boxed: new String('text'), number: new Number(1)})");
+        assertConvertedLikeJsonStringify("[new Uint8Array([1, 2])]");
+    }
+
+    @Test
+    public void cyclicObjectsFailLikeJsonStringify() {
+        contextFactory.call(cx -> {
+            final Scriptable scope = cx.initSafeStandardObjects();
+            final Object value = cx.evaluateString(scope, "var o = {}; o.self = o; o", "test", 1, null);
+            assertThatExceptionOfType(EcmaError.class)
+                    .isThrownBy(() -> NativeJsonConverter.toJsonValue(cx, scope, value));
+            return null;
+        });
+    }
+
+    private void assertConvertedLikeJsonStringify(final String expression) {
+        contextFactory.call(cx -> {
+            final Scriptable scope = cx.initSafeStandardObjects();
+            final Object value = cx.evaluateString(scope, expression, "test", 1, null);
+            final JsonValue expected =
+                    JsonFactory.readFrom((String) NativeJSON.stringify(cx, scope, value, null, null));
+
+            assertThat(NativeJsonConverter.toJsonValue(cx, scope, value))
+                    .describedAs(expression)
+                    .isEqualTo(expected);
+            return null;
+        });
+    }
+
+}
@@ -12,13 +12,16 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -76,9 +79,48 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    /**
+     * Configures a mapper without mapping a message: the compiled scripts are shared between the mappers.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public MessageMapper configureTest2ParseJsonPayloadToDitto(final Test2ParseJsonPayloadToDitto scenario) {
+        return scenario.getMessageMapper();
+    }
+
+    /**
+     * Maps a message with an already configured mapper: the result of the script is converted to JSON directly.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Adaptable> mapTest2ParseJsonPayloadToDittoWithConfiguredMapper(final ConfiguredMapper configured) {
+        return configured.messageMapper.map(configured.externalMessage);
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         messageMapper.map(externalMessage);
     }
+
+    /**
+     * Mapper of {@link Test2ParseJsonPayloadToDitto} which is configured once per benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class ConfiguredMapper {
+
+        private MessageMapper messageMapper;
+        private ExternalMessage externalMessage;
+
+        @Setup
+        public void setup() {
+            final MapToDittoProtocolScenario scenario = new Test2ParseJsonPayloadToDitto();
+            messageMapper = scenario.getMessageMapper();
+            externalMessage = scenario.getExternalMessage();
+        }
+
+    }
+
 }
@@ -61,7 +61,8 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
-import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderTemplate;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
@@ -121,6 +122,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
     private final List<Optional<ReplyTarget>> replyTargets;
     private final int acknowledgementSizeBudget;
+    private final PlaceholderTemplateCache placeholderTemplates;
 
     protected BasePublisherActor(final Connection connection) {
         checkNotNull(connection, "connection");
@@ -146,6 +148,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                 ConnectionLoggerRegistry.fromConfig(monitoringConfig.logger()).forConnection(connectionId);
         replyTargets = connection.getSources().stream().map(Source::getReplyTarget).collect(Collectors.toList());
         acknowledgementSizeBudget = connectionConfig.getAcknowledgementConfig().getIssuedMaxBytes();
+        placeholderTemplates = new PlaceholderTemplateCache();
     }
 
     @Override
@@ -331,14 +334,15 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final GenericTarget genericTarget = sendingContext.genericTarget;
             final String address = genericTarget.getAddress();
             final Optional<T> publishTargetOptional =
-                    resolveTargetAddress(resolver, address).map(this::toPublishTarget);
+                    resolveTargetAddress(resolver, placeholderTemplates.get(address)).map(this::toPublishTarget);
             if (publishTargetOptional.isPresent()) {
                 log().debug("Publishing mapped message of type <{}> to address <{}>: {}",
                         outbound.getSource().getType(), address, sendingContext.externalMessage);
                 final T publishTarget = publishTargetOptional.get();
                 @Nullable final Target autoAckTarget = sendingContext.autoAckTarget;
                 final HeaderMapping headerMapping = genericTarget.getHeaderMapping().orElse(null);
-                final ExternalMessage mappedMessage = applyHeaderMapping(resolver, outbound, headerMapping, log());
+                final ExternalMessage mappedMessage =
+                        applyHeaderMapping(resolver, outbound, headerMapping, placeholderTemplates::get, log());
                 final CompletionStage<CommandResponseOrAcknowledgement> responsesFuture =
                         publishMessage(outbound.getSource(), autoAckTarget, publishTarget, mappedMessage,
                                 maxTotalMessageSize, quota);
@@ -494,12 +498,14 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final @Nullable HeaderMapping mapping,
             final DiagnosticLoggingAdapter log) {
 
-        return applyHeaderMapping(Resolvers.forOutbound(outboundSignal), outboundSignal, mapping, log);
+        return applyHeaderMapping(Resolvers.forOutbound(outboundSignal), outboundSignal, mapping,
+                PlaceholderFactory::compileTemplate, log);
     }
 
     private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal,
             final @Nullable HeaderMapping mapping,
+            final Function<String, PlaceholderTemplate> templates,
             final DiagnosticLoggingAdapter log) {
 
         final ExternalMessage originalMessage = outboundSignal.getExternalMessage();
@@ -510,7 +516,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final Signal<?> sourceSignal = outboundSignal.getSource();
 
             final Map<String, String> mappedHeaders = mapping.getMapping().entrySet().stream()
-                    .flatMap(e -> mapHeaderByResolver(expressionResolver, e.getValue())
+                    .flatMap(e -> mapHeaderByResolver(expressionResolver, templates.apply(e.getValue()))
                             .stream()
                             .map(resolvedValue -> Pair.create(e.getKey(), resolvedValue))
                     )
@@ -525,15 +531,17 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return messageBuilder.build();
     }
 
-    private static Optional<String> mapHeaderByResolver(final ExpressionResolver resolver, final String value) {
-        return PlaceholderFilter.applyOrElseDelete(value, resolver);
+    private static Optional<String> mapHeaderByResolver(final ExpressionResolver resolver,
+            final PlaceholderTemplate value) {
+        return resolver.resolve(value).toOptional();
     }
 
     /**
      * Resolve target address.
      * If not resolvable, the returned Optional will be empty.
      */
-    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
+    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver,
+            final PlaceholderTemplate value) {
         return resolver.resolve(value).toOptional();
     }
 
@@ -29,6 +29,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -64,9 +66,8 @@ import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
-import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -156,6 +157,8 @@ public final class MessageMappingProcessorActor
     private final SourceQueue<ExternalMessageWithSender> inboundSourceQueue;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
+    private final PlaceholderTemplateCache headerMappingTemplates;
+    private final ConcurrentMap<String, CompiledThingPredicate> enrichmentFilterPredicates;
 
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef proxyActor,
@@ -187,6 +190,8 @@ public final class MessageMappingProcessorActor
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(connectionId);
         signalEnrichmentFacade =
                 ConnectivitySignalEnrichmentProvider.get(getContext().getSystem()).getFacade(connectionId);
+        headerMappingTemplates = new PlaceholderTemplateCache();
+        enrichmentFilterPredicates = new ConcurrentHashMap<>();
         this.processorPoolSize = this.determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
         inboundSourceQueue = materializeInboundStream(this.processorPoolSize);
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
@@ -835,7 +840,8 @@ public final class MessageMappingProcessorActor
                     final Map<String, String> mappedExternalHeaders = mapping.getMapping()
                             .entrySet()
                             .stream()
-                            .flatMap(e -> PlaceholderFilter.applyOrElseDelete(e.getValue(), expressionResolver)
+                            .flatMap(e -> expressionResolver.resolve(headerMappingTemplates.get(e.getValue()))
+                                    .toOptional()
                                     .stream()
                                     .map(resolvedValue -> new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue))
                             )
@@ -956,20 +962,20 @@ public final class MessageMappingProcessorActor
                 acknowledgements.getDittoHeaders());
     }
 
-    private static Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
+    private Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
             final FilteredTopic filteredTopic) {
 
         final Optional<String> filter = filteredTopic.getFilter();
         final Optional<JsonFieldSelector> extraFields = filteredTopic.getExtraFields();
         if (filter.isPresent() && extraFields.isPresent()) {
             // evaluate filter criteria again if signal enrichment is involved.
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased()
-                    .filterCriteria(filter.get(), outboundSignalWithExtra.getSource().getDittoHeaders());
+            final CompiledThingPredicate predicate =
+                    getEnrichmentFilterPredicate(filter.get(), outboundSignalWithExtra.getSource().getDittoHeaders());
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> {
                         final Signal<?> signal = outboundSignalWithExtra.getSource();
                         return ThingEventToThingConverter.mergeThingWithExtraFields(signal, extraFields.get(), extra)
-                                .filter(ThingPredicateVisitor.apply(criteria))
+                                .filter(predicate)
                                 .map(thing -> outboundSignalWithExtra);
                     })
                     .map(Collections::singletonList)
@@ -980,6 +986,19 @@ public final class MessageMappingProcessorActor
         }
     }
 
+    /**
+     * Returns the compiled predicate of a filter of the targets of this connection. The filters are part of the
+     * connection configuration, which bounds the number of compiled predicates.
+     */
+    private CompiledThingPredicate getEnrichmentFilterPredicate(final String filter, final DittoHeaders dittoHeaders) {
+        final CompiledThingPredicate predicate = enrichmentFilterPredicates.get(filter);
+        if (null != predicate) {
+            return predicate;
+        }
+        return enrichmentFilterPredicates.computeIfAbsent(filter, f -> CompiledThingPredicate.of(
+                QueryFilterCriteriaFactory.modelBased().filterCriteria(f, dittoHeaders)));
+    }
+
     private static String stackTraceAsString(final DittoRuntimeException exception) {
         final StringWriter stringWriter = new StringWriter();
         exception.printStackTrace(new PrintWriter(stringWriter));
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderTemplate;
+
+/**
+ * Cache of the compiled placeholder templates of one connection, e.g. of the addresses and header mappings of its
+ * targets and sources, so that they are parsed only once instead of for every message. The templates are part of the
+ * connection configuration, which bounds the size of the cache.
+ */
+@ThreadSafe
+final class PlaceholderTemplateCache {
+
+    private final ConcurrentMap<String, PlaceholderTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled template of a template string.
+     *
+     * @param template the template string.
+     * @return the compiled template.
+     */
+    PlaceholderTemplate get(final String template) {
+        final PlaceholderTemplate compiledTemplate = templates.get(template);
+        if (null != compiledTemplate) {
+            return compiledTemplate;
+        }
+        return templates.computeIfAbsent(template, PlaceholderFactory::compileTemplate);
+    }
+
+}
@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -29,4 +33,86 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by the Kafka client.
+     *
+     * @return internal consumer configuration needed by the Kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns how long a consumer blocks in one poll for new records.
+     *
+     * @return the poll timeout.
+     */
+    Duration getConsumerPollTimeout();
+
+    /**
+     * Returns how many records of one partition may be processed concurrently.
+     * Records of a partition are always dispatched in order; a value of 1 also processes them strictly in order.
+     *
+     * @return the maximum number of unacknowledged records per partition.
+     */
+    int getConsumerMaxInFlightPerPartition();
+
+    /**
+     * Returns the interval in which the offsets of acknowledged records are committed.
+     *
+     * @return the commit interval.
+     */
+    Duration getConsumerCommitInterval();
+
+    /**
+     * Returns after how many acknowledged records the offsets are committed before the commit interval elapsed.
+     *
+     * @return the commit batch size.
+     */
+    int getConsumerCommitBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * How long a consumer blocks in one poll for new records.
+         */
+        CONSUMER_POLL_TIMEOUT("consumer.poll-timeout", Duration.ofMillis(50L)),
+
+        /**
+         * How many records of one partition may be processed concurrently.
+         */
+        CONSUMER_MAX_IN_FLIGHT_PER_PARTITION("consumer.max-in-flight-per-partition", 1),
+
+        /**
+         * The interval in which the offsets of acknowledged records are committed.
+         */
+        CONSUMER_COMMIT_INTERVAL("consumer.commit-interval", Duration.ofSeconds(1L)),
+
+        /**
+         * After how many acknowledged records the offsets are committed before the commit interval elapsed.
+         */
+        CONSUMER_COMMIT_BATCH_SIZE("consumer.commit-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -24,11 +24,20 @@ public interface MqttConfig {
 
     /**
      * Returns the maximum number of buffered messages for each MQTT source.
+     * When consuming reactively, this is the maximum number of unacknowledged messages in flight per source.
      *
      * @return the buffer size.
      */
     int getSourceBufferSize();
 
+    /**
+     * Indicates whether MQTT messages are consumed reactively, i. e. whether further messages are only requested from
+     * the broker after messages in flight were acknowledged.
+     *
+     * @return {@code true} if MQTT messages are consumed with backpressure.
+     */
+    boolean isReactiveConsumptionEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MqttConfig}.
@@ -38,7 +47,12 @@ public interface MqttConfig {
         /**
          * The maximum number of buffered messages for each MQTT source.
          */
-        SOURCE_BUFFER_SIZE("source-buffer-size", 8);
+        SOURCE_BUFFER_SIZE("source-buffer-size", 8),
+
+        /**
+         * Whether MQTT messages are consumed with backpressure.
+         */
+        REACTIVE_CONSUMPTION_ENABLED("reactive-consumption-enabled", false);
 
         private final String path;
         private final Object defaultValue;
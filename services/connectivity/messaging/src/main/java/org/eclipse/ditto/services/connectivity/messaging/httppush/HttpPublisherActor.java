@@ -13,11 +13,8 @@
 package org.eclipse.ditto.services.connectivity.messaging.httppush;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,7 +25,6 @@ import java.util.function.BiFunction;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
@@ -58,6 +54,7 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -71,10 +68,10 @@ import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
 import org.eclipse.ditto.signals.commands.messages.SendThingMessageResponse;
 
 import akka.Done;
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
-import akka.http.javadsl.model.HttpCharset;
 import akka.http.javadsl.model.HttpEntities;
 import akka.http.javadsl.model.HttpEntity;
 import akka.http.javadsl.model.HttpHeader;
@@ -90,6 +87,7 @@ import akka.stream.KillSwitches;
 import akka.stream.OverflowStrategy;
 import akka.stream.QueueOfferResult;
 import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -109,6 +107,8 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
 
     private static final long READ_BODY_TIMEOUT_MS = 10000L;
 
+    private static final String BATCH_SIZE_METRIC = "http_push_batch_size";
+
     private static final AcknowledgementLabel NO_ACK_LABEL = AcknowledgementLabel.of("ditto-http-diagnostic");
     private static final DittoProtocolAdapter DITTO_PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
     private static final String LIVE_RESPONSE_NOT_OF_EXPECTED_TYPE =
@@ -134,9 +134,16 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final HttpPushConfig config = connectionConfig.getHttpPushConfig();
 
         materializer = ActorMaterializer.create(getContext());
+        final Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> batchingFlow =
+                HttpPushBatching.fromSpecificConfig(connection.getSpecificConfig())
+                        .map(batching -> HttpPushBatchFlow.of(batching,
+                                connectionConfig.getAcknowledgementConfig().getIssuedMaxBytes(), materializer,
+                                DittoMetrics.histogram(BATCH_SIZE_METRIC).tag("id", connectionId.toString())))
+                        .orElseGet(Flow::create);
         final Pair<Pair<SourceQueueWithComplete<Pair<HttpRequest, HttpPushContext>>, UniqueKillSwitch>,
                 CompletionStage<Done>> materialized =
                 Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
+                        .viaMat(batchingFlow, Keep.left())
                         .viaMat(factory.createFlow(system, log), Keep.left())
                         .viaMat(KillSwitches.single(), Keep.both())
                         .toMat(Sink.foreach(this::processResponse), Keep.both())
@@ -524,29 +531,8 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         return response.entity()
                 .withSizeLimit(maxBytes)
                 .toStrict(READ_BODY_TIMEOUT_MS, materializer)
-                .thenApply(strictEntity -> {
-                    final akka.http.javadsl.model.ContentType contentType = strictEntity.getContentType();
-                    final Charset charset = contentType.getCharsetOption()
-                            .map(HttpCharset::nioCharset)
-                            .orElse(StandardCharsets.UTF_8);
-                    final byte[] bytes = strictEntity.getData().toArray();
-                    final org.eclipse.ditto.model.base.headers.contenttype.ContentType dittoContentType =
-                            org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(contentType.toString());
-                    if (dittoContentType.isJson()) {
-                        final String bodyString = new String(bytes, charset);
-                        try {
-                            return JsonFactory.readFrom(bodyString);
-                        } catch (final Exception e) {
-                            return JsonValue.of(bodyString);
-                        }
-                    } else if (dittoContentType.isBinary()) {
-                        final String base64bytes = Base64.getEncoder().encodeToString(bytes);
-                        return JsonFactory.newValue(base64bytes);
-                    } else {
-                        // add text payload as JSON string
-                        return JsonFactory.newValue(new String(bytes, charset));
-                    }
-                });
+                .thenApply(strictEntity -> HttpPushBatchFlow.toJsonValue(strictEntity.getContentType(),
+                        strictEntity.getData().toArray()));
     }
 
     private static Uri stripUserInfo(final Uri requestUri) {
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpCharset;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Flow which aggregates the HTTP requests of an HTTP-push connection into batches.
+ * <p>
+ * Requests arriving within the configured delay are grouped by method and URI. Each group is sent as one request whose
+ * body is the JSON array of the request bodies and whose headers are those of the first request of the group. The
+ * response of a batch is split into one response per request: if its body is a JSON array with one element per
+ * request, the element at the position of a request is its response; elements of the form
+ * {@code {"status": <int>, "value": <any>}} additionally define the status of the response. Elements of responses of
+ * Ditto protocol content type are taken as they are. Otherwise, every request gets the whole response of its batch.
+ * The body of a batch response is read up to the response size limit of each request times the number of requests; if
+ * it is larger, reading the response body fails for every request of the batch.
+ * </p>
+ */
+final class HttpPushBatchFlow {
+
+    private static final long READ_BODY_TIMEOUT_MS = 10000L;
+    private static final String STATUS_FIELD = "status";
+    private static final String VALUE_FIELD = "value";
+
+    private HttpPushBatchFlow() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a flow which aggregates requests into batches.
+     *
+     * @param batching the batching of the connection.
+     * @param maxResponseBytes the maximum size in bytes of the response body of one request.
+     * @param materializer materializer to read the bodies of batch responses.
+     * @param batchSizes the histogram of the number of requests of each batch.
+     * @return the flow.
+     */
+    static Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> of(
+            final HttpPushBatching batching, final long maxResponseBytes, final Materializer materializer,
+            final Histogram batchSizes) {
+
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .groupedWithin(batching.getMaxSize(), batching.getMaxDelay())
+                .mapConcat(requests -> toBatchRequests(requests, maxResponseBytes, materializer, batchSizes));
+    }
+
+    /**
+     * Converts the body of an HTTP message to JSON: JSON content is parsed, binary content becomes a base64 encoded
+     * JSON string and any other content becomes a JSON string.
+     *
+     * @param contentType the content type of the body.
+     * @param bytes the body.
+     * @return the JSON value.
+     */
+    static JsonValue toJsonValue(final ContentType contentType, final byte[] bytes) {
+        final Charset charset = contentType.getCharsetOption()
+                .map(HttpCharset::nioCharset)
+                .orElse(StandardCharsets.UTF_8);
+        final org.eclipse.ditto.model.base.headers.contenttype.ContentType dittoContentType =
+                org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(contentType.toString());
+        if (dittoContentType.isJson()) {
+            final String bodyString = new String(bytes, charset);
+            try {
+                return JsonFactory.readFrom(bodyString);
+            } catch (final Exception e) {
+                return JsonValue.of(bodyString);
+            }
+        } else if (dittoContentType.isBinary()) {
+            final String base64bytes = Base64.getEncoder().encodeToString(bytes);
+            return JsonFactory.newValue(base64bytes);
+        } else {
+            // add text payload as JSON string
+            return JsonFactory.newValue(new String(bytes, charset));
+        }
+    }
+
+    private static List<Pair<HttpRequest, HttpPushContext>> toBatchRequests(
+            final List<Pair<HttpRequest, HttpPushContext>> requests, final long maxResponseBytes,
+            final Materializer materializer, final Histogram batchSizes) {
+
+        final Map<String, List<Pair<HttpRequest, HttpPushContext>>> batches = new LinkedHashMap<>();
+        for (final Pair<HttpRequest, HttpPushContext> request : requests) {
+            final String target = request.first().method().value() + " " + request.first().getUri();
+            batches.computeIfAbsent(target, t -> new ArrayList<>()).add(request);
+        }
+        return batches.values()
+                .stream()
+                .map(batch -> {
+                    batchSizes.record((long) batch.size());
+                    return toBatchRequest(batch, maxResponseBytes, materializer);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static Pair<HttpRequest, HttpPushContext> toBatchRequest(
+            final List<Pair<HttpRequest, HttpPushContext>> batch, final long maxResponseBytes,
+            final Materializer materializer) {
+
+        final JsonArray body = batch.stream()
+                .map(request -> getBodyAsJson(request.first()))
+                .collect(JsonCollectors.valuesToArray());
+        final HttpRequest batchRequest = batch.get(0)
+                .first()
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, body.toString()));
+        final List<HttpPushContext> contexts = batch.stream().map(Pair::second).collect(Collectors.toList());
+        final long maxBatchResponseBytes = maxResponseBytes * batch.size();
+        return Pair.create(batchRequest,
+                response -> onBatchResponse(response, contexts, maxBatchResponseBytes, materializer));
+    }
+
+    private static JsonValue getBodyAsJson(final HttpRequest request) {
+        final HttpEntity entity = request.entity();
+        if (entity instanceof HttpEntity.Strict) {
+            return toJsonValue(entity.getContentType(), ((HttpEntity.Strict) entity).getData().toArray());
+        } else {
+            // requests of published messages always have strict entities
+            return JsonFactory.nullLiteral();
+        }
+    }
+
+    private static void onBatchResponse(final Try<HttpResponse> tryResponse, final List<HttpPushContext> contexts,
+            final long maxBytes, final Materializer materializer) {
+
+        if (tryResponse.isFailure()) {
+            contexts.forEach(context -> context.onResponse(tryResponse));
+        } else {
+            final HttpResponse response = tryResponse.get();
+            response.entity()
+                    .withSizeLimit(maxBytes)
+                    .toStrict(READ_BODY_TIMEOUT_MS, materializer)
+                    .whenComplete((strictEntity, error) -> {
+                        if (null != error) {
+                            // the request was sent: let every request fail to read the response body like an
+                            // unbatched request whose response is too large instead of failing to send it
+                            final HttpResponse failedResponse = response.withEntity(HttpEntities.create(
+                                    response.entity().getContentType(), Source.<ByteString>failed(error)));
+                            contexts.forEach(context -> context.onResponse(new Success<>(failedResponse)));
+                        } else {
+                            final List<HttpResponse> responses =
+                                    splitResponse(response.withEntity(strictEntity), strictEntity, contexts.size());
+                            for (int i = 0; i < contexts.size(); i++) {
+                                contexts.get(i).onResponse(new Success<>(responses.get(i)));
+                            }
+                        }
+                    });
+        }
+    }
+
+    private static List<HttpResponse> splitResponse(final HttpResponse response, final HttpEntity.Strict entity,
+            final int batchSize) {
+
+        final ContentType contentType = entity.getContentType();
+        final JsonValue body = toJsonValue(contentType, entity.getData().toArray());
+        if (!body.isArray() || body.asArray().getSize() != batchSize) {
+            return Collections.nCopies(batchSize, response);
+        }
+        final boolean isDittoProtocol =
+                org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(contentType.toString())
+                        .isDittoProtocol();
+        return body.asArray()
+                .stream()
+                .map(item -> toItemResponse(response, contentType, item, isDittoProtocol))
+                .collect(Collectors.toList());
+    }
+
+    private static HttpResponse toItemResponse(final HttpResponse batchResponse, final ContentType contentType,
+            final JsonValue item, final boolean isDittoProtocol) {
+
+        final Optional<Integer> itemStatus = item.isObject()
+                ? item.asObject()
+                .getValue(STATUS_FIELD)
+                .filter(JsonValue::isInt)
+                .map(JsonValue::asInt)
+                .filter(status -> HttpStatusCode.forInt(status).isPresent())
+                : Optional.empty();
+        final JsonValue itemBody = itemStatus.isPresent() && !isDittoProtocol
+                ? item.asObject().getValue(VALUE_FIELD).orElse(JsonFactory.nullLiteral())
+                : item;
+        final Charset charset = contentType.getCharsetOption()
+                .map(HttpCharset::nioCharset)
+                .orElse(StandardCharsets.UTF_8);
+        return batchResponse.withStatus(itemStatus.orElse(batchResponse.status().intValue()))
+                .withEntity(HttpEntities.create(contentType, itemBody.toString().getBytes(charset)));
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+/**
+ * Batching of the HTTP requests of an HTTP-push connection as configured in its specific config: up to
+ * {@code batchMaxSize} messages published within {@code batchMaxDelayMs} milliseconds are sent to their target in one
+ * request whose body is a JSON array. Batching is disabled if {@code batchMaxSize} is absent or 1.
+ */
+@Immutable
+final class HttpPushBatching {
+
+    /**
+     * Specific config name for the maximum number of messages sent in one HTTP request.
+     */
+    static final String BATCH_MAX_SIZE = "batchMaxSize";
+
+    /**
+     * Specific config name for how many milliseconds to wait for further messages of a batch.
+     */
+    static final String BATCH_MAX_DELAY_MS = "batchMaxDelayMs";
+
+    private static final long DEFAULT_MAX_DELAY_MS = 100L;
+
+    private final int maxSize;
+    private final Duration maxDelay;
+
+    private HttpPushBatching(final int maxSize, final Duration maxDelay) {
+        this.maxSize = maxSize;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Returns the batching configured in the specific config of a valid connection.
+     *
+     * @param specificConfig the specific config.
+     * @return the batching or an empty optional if batching is disabled.
+     */
+    static Optional<HttpPushBatching> fromSpecificConfig(final Map<String, String> specificConfig) {
+        final int maxSize = Optional.ofNullable(specificConfig.get(BATCH_MAX_SIZE))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .orElse(1);
+        if (maxSize <= 1) {
+            return Optional.empty();
+        }
+        final long maxDelayMs = Optional.ofNullable(specificConfig.get(BATCH_MAX_DELAY_MS))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .orElse(DEFAULT_MAX_DELAY_MS);
+        return Optional.of(new HttpPushBatching(maxSize, Duration.ofMillis(maxDelayMs)));
+    }
+
+    /**
+     * Validates the batching in the specific config of a connection.
+     *
+     * @param specificConfig the specific config.
+     * @param dittoHeaders headers of the command which triggered the validation.
+     * @throws ConnectionConfigurationInvalidException if the batch size is not a positive integer or the delay is not
+     * a positive number of milliseconds.
+     */
+    static void validate(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
+        if (!isPositiveNumberOrAbsent(specificConfig.get(BATCH_MAX_SIZE), Integer.MAX_VALUE) ||
+                !isPositiveNumberOrAbsent(specificConfig.get(BATCH_MAX_DELAY_MS), Long.MAX_VALUE)) {
+            final String message = MessageFormat.format(
+                    "The connection configuration contains invalid values for batching: <{0}={1}>, <{2}={3}>. " +
+                            "Both have to be positive integers.",
+                    BATCH_MAX_SIZE, specificConfig.get(BATCH_MAX_SIZE),
+                    BATCH_MAX_DELAY_MS, specificConfig.get(BATCH_MAX_DELAY_MS));
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    private static boolean isPositiveNumberOrAbsent(@Nullable final String value, final long maxValue) {
+        if (null == value) {
+            return true;
+        }
+        try {
+            final long number = Long.parseLong(value.trim());
+            return 0 < number && number <= maxValue;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the maximum number of messages in one request.
+     */
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return how long to wait for further messages of a batch.
+     */
+    Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpPushBatching that = (HttpPushBatching) o;
+        return maxSize == that.maxSize && Objects.equals(maxDelay, that.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxSize, maxDelay);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxSize=" + maxSize +
+                ", maxDelay=" + maxDelay +
+                "]";
+    }
+
+}
@@ -74,6 +74,7 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
         validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        HttpPushBatching.validate(connection.getSpecificConfig(), dittoHeaders);
     }
 
     @Override
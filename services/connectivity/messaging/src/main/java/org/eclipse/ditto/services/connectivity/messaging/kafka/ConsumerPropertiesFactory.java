@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import com.typesafe.config.Config;
+
+/**
+ * Creates Kafka consumer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * configuration.
+ */
+final class ConsumerPropertiesFactory {
+
+    private final Connection connection;
+    private final KafkaConfig kafkaConfig;
+
+    private ConsumerPropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig) {
+        this.connection = checkNotNull(connection, "connection");
+        this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
+    }
+
+    /**
+     * Returns an instance of the consumer properties factory.
+     *
+     * @param connection the Kafka connection.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ConsumerPropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+        return new ConsumerPropertiesFactory(connection, kafkaConfig);
+    }
+
+    /**
+     * Returns the properties of the consumers of the connection.
+     * All consumers of a connection are in the consumer group named after the connection ID, thus the partitions of
+     * the sources are distributed among all client actors of the connection.
+     * Offsets are never committed automatically, as they may only be committed after the consumed records were
+     * acknowledged.
+     *
+     * @return the consumer properties.
+     */
+    Map<String, Object> getConsumerProperties() {
+        final Config internalConsumerConfig = kafkaConfig.getInternalConsumerConfig();
+        final HashMap<String, Object> consumerProperties =
+                internalConsumerConfig.hasPath(ProducerPropertiesFactory.KAFKA_CLIENTS_KEY)
+                        ? ProducerPropertiesFactory.configToProperties(
+                        internalConsumerConfig.getConfig(ProducerPropertiesFactory.KAFKA_CLIENTS_KEY))
+                        : new HashMap<>();
+        addMetadata(consumerProperties);
+        ProducerPropertiesFactory.addConnectionProperties(consumerProperties, connection);
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return Collections.unmodifiableMap(consumerProperties);
+    }
+
+    private void addMetadata(final HashMap<String, Object> properties) {
+        final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+
+        properties.put(CommonClientConfigs.CLIENT_ID_CONFIG,
+                connection.getId() + "-" + instanceIdentifierSupplier.get());
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, connection.getId().toString());
+    }
+
+}
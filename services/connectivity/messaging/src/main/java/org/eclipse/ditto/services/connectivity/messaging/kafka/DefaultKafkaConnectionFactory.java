@@ -12,30 +12,45 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.ByteBufferSerializer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
-    private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    // passes heap buffers which span their whole array to the producer without copying
+    private static final Serializer<ByteBuffer> VALUE_SERIALIZER = new ByteBufferSerializer();
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
 
     private final Connection connection;
     private final Map<String, Object> properties;
+    private final Map<String, Object> consumerProperties;
 
-    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties) {
+    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties,
+            final Map<String, Object> consumerProperties) {
 
         this.connection = connection;
         properties = producerProperties;
+        this.consumerProperties = consumerProperties;
     }
 
     /**
@@ -49,7 +64,11 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         final ProducerPropertiesFactory settingsFactory =
                 ProducerPropertiesFactory.getInstance(connection, kafkaConfig);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties());
+        final ConsumerPropertiesFactory consumerPropertiesFactory =
+                ConsumerPropertiesFactory.getInstance(connection, kafkaConfig);
+
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties(),
+                consumerPropertiesFactory.getConsumerProperties());
     }
 
     @Override
@@ -58,8 +77,17 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
     }
 
     @Override
-    public org.apache.kafka.clients.producer.Producer<String, String> newProducer() {
+    public Producer<String, ByteBuffer> newProducer() {
         return new KafkaProducer<>(properties, KEY_SERIALIZER, VALUE_SERIALIZER);
     }
 
+    @Override
+    public Consumer<String, String> newConsumer(final String consumerId) {
+        // client IDs of the consumers of one client actor have to differ to register their metrics
+        final Map<String, Object> propertiesOfConsumer = new HashMap<>(consumerProperties);
+        propertiesOfConsumer.put(CommonClientConfigs.CLIENT_ID_CONFIG,
+                consumerProperties.get(CommonClientConfigs.CLIENT_ID_CONFIG) + "-" + consumerId);
+        return new KafkaConsumer<>(propertiesOfConsumer, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+    }
+
 }
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
@@ -41,9 +44,12 @@ import akka.japi.pf.FSMStateFunctionBuilder;
  */
 public final class KafkaClientActor extends BaseClientActor {
 
+    private static final Status.Success CONSUMERS_CREATED = new Status.Success("consumers created");
+
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -60,6 +66,7 @@ public final class KafkaClientActor extends BaseClientActor {
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -141,7 +148,7 @@ public final class KafkaClientActor extends BaseClientActor {
     private void connectClient(final boolean dryRun) {
         // start publisher
         startKafkaPublisher(dryRun);
-        // no command consumers as we don't support consuming from sources yet
+        // consumers are started as soon as the publisher is ready, see startConsumerActors
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
@@ -157,6 +164,7 @@ public final class KafkaClientActor extends BaseClientActor {
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
         stopPublisherActor();
+        stopConsumerActors();
     }
 
     @Override
@@ -164,6 +172,28 @@ public final class KafkaClientActor extends BaseClientActor {
         return CompletableFuture.completedFuture(DONE);
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(@Nullable final ClientConnected clientConnected) {
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        final List<Source> sources = getSourcesOrEmptyList();
+        for (int i = 0; i < sources.size(); i++) {
+            final Props consumerActorProps = KafkaConsumerActor.props(connectionId(), getMessageMappingProcessorActor(),
+                    sources.get(i), connectionFactory, String.valueOf(i));
+            kafkaConsumerActors.add(
+                    startChildActorConflictFree(KafkaConsumerActor.ACTOR_NAME_PREFIX + i, consumerActorProps));
+        }
+        return CompletableFuture.completedFuture(CONSUMERS_CREATED);
+    }
+
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(consumerActor -> {
+            log.debug("Stopping child actor <{}>.", consumerActor.path());
+            stopChildActor(consumerActor);
+        });
+        kafkaConsumerActors.clear();
+    }
+
     private void stopPublisherActor() {
         if (kafkaPublisherActor != null) {
             log.debug("Stopping child actor <{}>.", kafkaPublisherActor.path());
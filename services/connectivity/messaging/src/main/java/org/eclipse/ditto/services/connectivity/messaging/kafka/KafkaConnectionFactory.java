@@ -12,11 +12,14 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -29,8 +32,17 @@ interface KafkaConnectionFactory {
 
     /**
      * Create a producer of Kafka messages.
+     * Record values are the bytes of the mapped messages, thus payloads are passed to Kafka without conversion.
      *
      * @return the producer.
      */
-    Producer<String, String> newProducer();
+    Producer<String, ByteBuffer> newProducer();
+
+    /**
+     * Create a consumer of Kafka records.
+     *
+     * @param consumerId identifier of the consumer within the client actor, e. g. the index of its source.
+     * @return the consumer.
+     */
+    Consumer<String, String> newConsumer(String consumerId);
 }
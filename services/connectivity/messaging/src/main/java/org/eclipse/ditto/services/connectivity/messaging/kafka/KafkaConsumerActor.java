@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Enforcement;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+
+/**
+ * Actor which consumes the records of the topics of one source from Kafka.
+ * <p>
+ * The records of each partition are dispatched to the message mapping processor in order with a bounded number of
+ * records in flight, while the partitions are processed in parallel. Offsets are committed in batches and only up to
+ * the first record which was not acknowledged yet. Partitions with records waiting for dispatch are paused.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    /**
+     * The prefix of the name of consumer actors.
+     */
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+
+    // one thread per actor because the actor blocks when polling
+    private static final String DISPATCHER_NAME = "kafka-consumer-dispatcher";
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10L);
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final KafkaConnectionFactory connectionFactory;
+    private final String consumerId;
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final Duration pollTimeout;
+    private final int maxInFlightPerPartition;
+    private final Duration commitInterval;
+    private final int commitBatchSize;
+    private final Map<TopicPartition, PartitionState> partitions;
+    private final Map<TopicPartition, Gauge> lagGauges;
+
+    @Nullable private Consumer<String, String> consumer;
+    private int acknowledgedSinceCommit;
+    // never reused, so that records settled after their partition was revoked and reassigned are ignored
+    private long nextGeneration;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final Source source, final KafkaConnectionFactory connectionFactory, final String consumerId) {
+
+        super(connectionId, String.join(";", source.getAddresses()), messageMappingProcessor, source);
+        this.connectionFactory = connectionFactory;
+        this.consumerId = consumerId;
+        final Enforcement enforcement = source.getEnforcement().orElse(null);
+        headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
+                .newEnforcementFilterFactory(enforcement, PlaceholderFactory.newHeadersPlaceholder()) :
+                input -> null;
+        final KafkaConfig kafkaConfig = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getKafkaConfig();
+        pollTimeout = kafkaConfig.getConsumerPollTimeout();
+        maxInFlightPerPartition = Math.max(1, kafkaConfig.getConsumerMaxInFlightPerPartition());
+        commitInterval = kafkaConfig.getConsumerCommitInterval();
+        commitBatchSize = Math.max(1, kafkaConfig.getConsumerCommitBatchSize());
+        partitions = new HashMap<>();
+        lagGauges = new HashMap<>();
+        consumer = null;
+        acknowledgedSinceCommit = 0;
+        nextGeneration = 0L;
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId the connection ID.
+     * @param messageMappingProcessor the message mapping processor where received records are forwarded to.
+     * @param source the source of the consumed topics.
+     * @param connectionFactory the factory to create the Kafka consumer with.
+     * @param consumerId identifier of the consumer within its client actor.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final ActorRef messageMappingProcessor, final Source source,
+            final KafkaConnectionFactory connectionFactory, final String consumerId) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, messageMappingProcessor, source,
+                connectionFactory, consumerId)
+                .withDispatcher(DISPATCHER_NAME);
+    }
+
+    @Override
+    public void preStart() {
+        final Consumer<String, String> newConsumer = connectionFactory.newConsumer(consumerId);
+        consumer = newConsumer;
+        newConsumer.subscribe(source.getAddresses(), new RebalanceListener());
+        timers().startPeriodicTimer(Control.COMMIT, Control.COMMIT, commitInterval);
+        getSelf().tell(Control.POLL, ActorRef.noSender());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != consumer) {
+            try {
+                commitSync(committableOffsets(partitions.keySet()));
+                consumer.close(CLOSE_TIMEOUT);
+            } catch (final Exception e) {
+                log.info("Failed to close Kafka consumer, it was probably closed already: {}", e.getMessage());
+            }
+            consumer = null;
+        }
+        lagGauges.values().forEach(gauge -> gauge.set(0L));
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .matchEquals(Control.POLL, poll -> poll())
+                .matchEquals(Control.COMMIT, commit -> commit())
+                .match(RecordSettled.class, this::handleRecordSettled)
+                .match(RetrieveAddressStatus.class, ras -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(unhandled -> {
+                    log.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    @Override
+    protected DittoDiagnosticLoggingAdapter log() {
+        return log;
+    }
+
+    private void poll() {
+        if (null != consumer) {
+            final ConsumerRecords<String, String> records = consumer.poll(pollTimeout);
+            for (final ConsumerRecord<String, String> record : records) {
+                getPartitionState(new TopicPartition(record.topic(), record.partition())).pending.add(record);
+            }
+            records.partitions().forEach(this::dispatch);
+            getSelf().tell(Control.POLL, ActorRef.noSender());
+        }
+    }
+
+    private PartitionState getPartitionState(final TopicPartition topicPartition) {
+        return partitions.computeIfAbsent(topicPartition, tp -> new PartitionState(nextGeneration++));
+    }
+
+    private void dispatch(final TopicPartition topicPartition) {
+        final PartitionState state = partitions.get(topicPartition);
+        if (null == state) {
+            return;
+        }
+        while (state.inFlight.size() < maxInFlightPerPartition && !state.pending.isEmpty()) {
+            final ConsumerRecord<String, String> record = state.pending.poll();
+            state.inFlight.add(record.offset());
+            final ExternalMessage externalMessage = toExternalMessage(record);
+            if (null != externalMessage) {
+                forward(topicPartition, record.offset(), state.generation, externalMessage);
+            } else {
+                // records which cannot be converted are never redelivered, thus they are acknowledged right away
+                acknowledge(state, record.offset());
+            }
+        }
+        // fetch no further records of a partition as long as its fetched records cannot be dispatched
+        if (state.pending.isEmpty() == state.paused && isAssigned(topicPartition)) {
+            final Set<TopicPartition> toggled = Set.of(topicPartition);
+            if (state.paused) {
+                consumer.resume(toggled);
+            } else {
+                consumer.pause(toggled);
+            }
+            state.paused = !state.paused;
+        }
+    }
+
+    private boolean isAssigned(final TopicPartition topicPartition) {
+        return null != consumer && consumer.assignment().contains(topicPartition);
+    }
+
+    private void forward(final TopicPartition topicPartition, final long offset, final long generation,
+            final ExternalMessage externalMessage) {
+
+        final ActorRef self = getSelf();
+        forwardToMappingActor(externalMessage,
+                () -> self.tell(new RecordSettled(topicPartition, offset, generation, false), ActorRef.noSender()),
+                redeliver -> self.tell(new RecordSettled(topicPartition, offset, generation, redeliver),
+                        ActorRef.noSender()));
+    }
+
+    @Nullable
+    private ExternalMessage toExternalMessage(final ConsumerRecord<String, String> record) {
+        Map<String, String> headers = null;
+        try {
+            ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+            headers = extractHeaders(record);
+            final String value = record.value();
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withTextAndBytes(value, null != value ? value.getBytes(StandardCharsets.UTF_8) : null)
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(headerEnforcementFilterFactory.getFilter(headers))
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(sourceAddress)
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            return externalMessage;
+        } catch (final DittoRuntimeException e) {
+            log.info("Got DittoRuntimeException '{}' when record was parsed: {}", e.getErrorCode(), e.getMessage());
+            if (null != headers) {
+                inboundMonitor.failure(headers, e);
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+            } else {
+                inboundMonitor.failure(e);
+            }
+        } catch (final Exception e) {
+            log.info("Failed to handle Kafka record: {}", e.getMessage());
+            if (null != headers) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> extractHeaders(final ConsumerRecord<String, String> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (null != header.value()) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, record.topic());
+        if (null != record.key()) {
+            headers.put(KAFKA_KEY_HEADER, record.key());
+        }
+        return headers;
+    }
+
+    private void handleRecordSettled(final RecordSettled recordSettled) {
+        final PartitionState state = partitions.get(recordSettled.topicPartition);
+        if (null == state || state.generation != recordSettled.generation) {
+            // the partition was revoked or is redelivered from an earlier offset
+            return;
+        }
+        if (recordSettled.redeliver) {
+            redeliver(recordSettled.topicPartition, state);
+        } else {
+            acknowledge(state, recordSettled.offset);
+            dispatch(recordSettled.topicPartition);
+        }
+    }
+
+    private void acknowledge(final PartitionState state, final long offset) {
+        state.acknowledge(offset);
+        acknowledgedSinceCommit++;
+        if (acknowledgedSinceCommit >= commitBatchSize) {
+            commit();
+        }
+    }
+
+    private void redeliver(final TopicPartition topicPartition, final PartitionState state) {
+        final long redeliveryOffset = state.reset(nextGeneration++);
+        inboundAcknowledgedMonitor.exception("Consuming partition <{0}> again from offset <{1}> due to " +
+                "unfulfilled acknowledgements.", topicPartition, redeliveryOffset);
+        if (isAssigned(topicPartition)) {
+            consumer.seek(topicPartition, redeliveryOffset);
+            if (state.paused) {
+                consumer.resume(Set.of(topicPartition));
+                state.paused = false;
+            }
+        }
+    }
+
+    private void commit() {
+        acknowledgedSinceCommit = 0;
+        if (null == consumer) {
+            return;
+        }
+        final Map<TopicPartition, OffsetAndMetadata> offsets = committableOffsets(partitions.keySet());
+        if (!offsets.isEmpty()) {
+            offsets.forEach((topicPartition, offset) ->
+                    partitions.get(topicPartition).committedPosition = offset.offset());
+            consumer.commitAsync(offsets, (committedOffsets, error) -> {
+                if (null != error) {
+                    log.info("Failed to commit offsets <{}>: {}", offsets, error.getMessage());
+                    // commit again with the next batch
+                    offsets.keySet().stream()
+                            .map(partitions::get)
+                            .filter(state -> null != state)
+                            .forEach(state -> state.committedPosition = -1L);
+                }
+            });
+        }
+        updateLag();
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> committableOffsets(final Collection<TopicPartition> topicPartitions) {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (final TopicPartition topicPartition : topicPartitions) {
+            final PartitionState state = partitions.get(topicPartition);
+            if (null != state && state.committablePosition > state.committedPosition) {
+                offsets.put(topicPartition, new OffsetAndMetadata(state.committablePosition));
+            }
+        }
+        return offsets;
+    }
+
+    private void commitSync(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (null != consumer && !offsets.isEmpty()) {
+            try {
+                consumer.commitSync(offsets);
+            } catch (final Exception e) {
+                log.info("Failed to commit offsets <{}>: {}", offsets, e.getMessage());
+            }
+        }
+    }
+
+    private void updateLag() {
+        final Set<TopicPartition> consumedPartitions = partitions.entrySet()
+                .stream()
+                .filter(entry -> 0 <= entry.getValue().committablePosition || !entry.getValue().inFlight.isEmpty())
+                .map(Map.Entry::getKey)
+                .filter(this::isAssigned)
+                .collect(Collectors.toSet());
+        if (consumedPartitions.isEmpty()) {
+            return;
+        }
+        try {
+            consumer.endOffsets(consumedPartitions, pollTimeout).forEach((topicPartition, endOffset) -> {
+                final PartitionState state = partitions.get(topicPartition);
+                final long position = state.inFlight.isEmpty() ? state.committablePosition : state.inFlight.peek();
+                lagGauges.computeIfAbsent(topicPartition, this::createLagGauge)
+                        .set(Math.max(0L, endOffset - position));
+            });
+        } catch (final Exception e) {
+            log.debug("Failed to retrieve end offsets of <{}>: {}", consumedPartitions, e.getMessage());
+        }
+    }
+
+    private Gauge createLagGauge(final TopicPartition topicPartition) {
+        return DittoMetrics.gauge("kafka_consumer_lag")
+                .tag("id", connectionId.toString())
+                .tag("source", sourceAddress)
+                .tag("partition", topicPartition.toString());
+    }
+
+    /**
+     * Commits the offsets of revoked partitions and forgets about them, as their records are consumed by another
+     * consumer of the consumer group from now on.
+     * Called by the consumer during a poll, i. e. in the thread of this actor.
+     */
+    private final class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(final Collection<TopicPartition> revokedPartitions) {
+            commitSync(committableOffsets(revokedPartitions));
+            revokedPartitions.forEach(topicPartition -> {
+                partitions.remove(topicPartition);
+                final Gauge lagGauge = lagGauges.remove(topicPartition);
+                if (null != lagGauge) {
+                    lagGauge.set(0L);
+                }
+            });
+        }
+
+        @Override
+        public void onPartitionsAssigned(final Collection<TopicPartition> assignedPartitions) {
+            // partition states are created on the first record
+        }
+
+    }
+
+    /**
+     * The records of one partition between the last committable offset and the last fetched record.
+     */
+    private static final class PartitionState {
+
+        private final Deque<ConsumerRecord<String, String>> pending = new ArrayDeque<>();
+        private final Deque<Long> inFlight = new ArrayDeque<>();
+        private final Set<Long> acknowledged = new HashSet<>();
+        private long committablePosition = -1L;
+        private long committedPosition = -1L;
+        private long generation;
+        private boolean paused = false;
+
+        private PartitionState(final long generation) {
+            this.generation = generation;
+        }
+
+        private void acknowledge(final long offset) {
+            acknowledged.add(offset);
+            while (!inFlight.isEmpty() && acknowledged.remove(inFlight.peek())) {
+                committablePosition = inFlight.poll() + 1;
+            }
+        }
+
+        private long reset(final long newGeneration) {
+            final long redeliveryOffset = inFlight.isEmpty() ? committablePosition : inFlight.peek();
+            pending.clear();
+            inFlight.clear();
+            acknowledged.clear();
+            generation = newGeneration;
+            return redeliveryOffset;
+        }
+
+    }
+
+    private static final class RecordSettled {
+
+        private final TopicPartition topicPartition;
+        private final long offset;
+        private final long generation;
+        private final boolean redeliver;
+
+        private RecordSettled(final TopicPartition topicPartition, final long offset, final long generation,
+                final boolean redeliver) {
+            this.topicPartition = topicPartition;
+            this.offset = offset;
+            this.generation = generation;
+            this.redeliver = redeliver;
+        }
+
+    }
+
+    private enum Control {
+        POLL,
+        COMMIT
+    }
+
+}
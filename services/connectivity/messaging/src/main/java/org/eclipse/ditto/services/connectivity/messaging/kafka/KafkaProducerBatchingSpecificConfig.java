@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.record.CompressionType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+/**
+ * Configures how the producer of a connection batches records: how long it waits for further records of a batch
+ * ({@code lingerMs}), the maximum size of a batch in bytes ({@code batchSize}) and how batches are compressed
+ * ({@code compressionType}).
+ * Values missing in the specific config of the connection are taken from the internal producer config.
+ */
+final class KafkaProducerBatchingSpecificConfig implements KafkaSpecificConfig {
+
+    static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+    static final String SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY = "compressionType";
+
+    private static final List<String> COMPRESSION_TYPES = Arrays.stream(CompressionType.values())
+            .map(compressionType -> compressionType.name)
+            .collect(Collectors.toList());
+
+    @Nullable private static KafkaProducerBatchingSpecificConfig instance;
+
+    private KafkaProducerBatchingSpecificConfig() {
+        // no-op
+    }
+
+    public static KafkaProducerBatchingSpecificConfig getInstance() {
+        KafkaProducerBatchingSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerBatchingSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return specificConfig.containsKey(SPECIFIC_CONFIG_LINGER_MS_KEY) ||
+                specificConfig.containsKey(SPECIFIC_CONFIG_BATCH_SIZE_KEY) ||
+                specificConfig.containsKey(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        if (!isValid(connection)) {
+            final Map<String, String> specificConfig = connection.getSpecificConfig();
+            final String message = MessageFormat.format(
+                    "The connection configuration contains invalid values for producer batching: " +
+                            "<{0}={1}>, <{2}={3}>, <{4}={5}>. The linger time and the batch size have to be " +
+                            "non-negative numbers, allowed compression types are: <{6}>",
+                    SPECIFIC_CONFIG_LINGER_MS_KEY, specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY),
+                    SPECIFIC_CONFIG_BATCH_SIZE_KEY, specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY),
+                    SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY),
+                    COMPRESSION_TYPES);
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return isNonNegativeNumberOrAbsent(specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY), Long.MAX_VALUE) &&
+                isNonNegativeNumberOrAbsent(specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY), Integer.MAX_VALUE) &&
+                isCompressionTypeOrAbsent(specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY));
+    }
+
+    @Override
+    public void apply(final HashMap<String, Object> producerProperties, final Connection connection) {
+        if (isApplicable(connection) && isValid(connection)) {
+            final Map<String, String> specificConfig = connection.getSpecificConfig();
+            putIfPresent(producerProperties, ProducerConfig.LINGER_MS_CONFIG,
+                    specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY));
+            putIfPresent(producerProperties, ProducerConfig.BATCH_SIZE_CONFIG,
+                    specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY));
+            putIfPresent(producerProperties, ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                    specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY));
+        }
+    }
+
+    private static boolean isNonNegativeNumberOrAbsent(@Nullable final String value, final long maxValue) {
+        if (null == value) {
+            return true;
+        }
+        try {
+            final long number = Long.parseLong(value.trim());
+            return 0 <= number && number <= maxValue;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isCompressionTypeOrAbsent(@Nullable final String value) {
+        return null == value || COMPRESSION_TYPES.contains(value.trim());
+    }
+
+    private static void putIfPresent(final HashMap<String, Object> producerProperties, final String property,
+            @Nullable final String value) {
+
+        if (null != value) {
+            producerProperties.put(property, value.trim());
+        }
+    }
+
+}
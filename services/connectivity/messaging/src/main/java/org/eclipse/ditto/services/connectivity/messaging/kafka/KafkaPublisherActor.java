@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -44,6 +46,8 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
 
@@ -51,7 +55,6 @@ import akka.Done;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.pf.ReceiveBuilder;
-import akka.util.ByteString;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
@@ -67,8 +70,9 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
+    private final Map<String, TopicMetrics> topicMetrics;
 
-    private Producer<String, String> producer;
+    private Producer<String, ByteBuffer> producer;
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
@@ -77,6 +81,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         super(connection);
         this.dryRun = dryRun;
         connectionFactory = factory;
+        topicMetrics = new HashMap<>();
 
         startInternalKafkaProducer(connection);
         reportInitialConnectionState();
@@ -144,10 +149,11 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             escalate(error, "Requested to send Kafka message without producer; this is a bug.");
             return CompletableFuture.failedFuture(error);
         } else {
-            final ProducerRecord<String, String> record = producerRecord(publishTarget, message);
+            final ProducerRecord<String, ByteBuffer> record = producerRecord(publishTarget, message);
             final CompletableFuture<CommandResponseOrAcknowledgement> resultFuture = new CompletableFuture<>();
+            final TopicMetrics metrics = topicMetrics.computeIfAbsent(record.topic(), this::createTopicMetrics);
             final Callback callBack = new ProducerCallBack(signal, autoAckTarget, ackSizeQuota, resultFuture,
-                    this::escalateIfNotRetryable, connection);
+                    this::escalateIfNotRetryable, connection, metrics, record.value().remaining());
             producer.send(record, callBack);
             return resultFuture;
         }
@@ -170,10 +176,14 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return dryRun;
     }
 
-    private static ProducerRecord<String, String> producerRecord(final KafkaPublishTarget publishTarget,
+    private TopicMetrics createTopicMetrics(final String topic) {
+        return new TopicMetrics(connectionId.toString(), topic);
+    }
+
+    private static ProducerRecord<String, ByteBuffer> producerRecord(final KafkaPublishTarget publishTarget,
             final ExternalMessage externalMessage) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final ByteBuffer payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
         return new ProducerRecord<>(publishTarget.getTopic(),
@@ -190,16 +200,18 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 .collect(Collectors.toList());
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static ByteBuffer mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)))
+                    .orElseGet(() -> ByteBuffer.allocate(0));
         } else if (externalMessage.isBytesMessage()) {
+            // pass the mapped bytes as they are; the serializer rewinds the buffer, thus it must start at the payload
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
+                    .map(ByteBuffer::slice)
+                    .orElseGet(() -> ByteBuffer.allocate(0));
         } else {
-            return "";
+            return ByteBuffer.allocate(0);
         }
     }
 
@@ -264,13 +276,17 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         private final Consumer<Exception> checkException;
         private int currentQuota;
         private final Connection connection;
+        private final TopicMetrics topicMetrics;
+        private final int payloadSize;
 
         private ProducerCallBack(final Signal<?> signal,
                 @Nullable final Target autoAckTarget,
                 final int ackSizeQuota,
                 final CompletableFuture<CommandResponseOrAcknowledgement> resultFuture,
                 final Consumer<Exception> checkException,
-                final Connection connection) {
+                final Connection connection,
+                final TopicMetrics topicMetrics,
+                final int payloadSize) {
 
             this.signal = signal;
             this.autoAckTarget = autoAckTarget;
@@ -278,6 +294,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             this.resultFuture = resultFuture;
             this.checkException = checkException;
             this.connection = connection;
+            this.topicMetrics = topicMetrics;
+            this.payloadSize = payloadSize;
         }
 
         @Override
@@ -286,6 +304,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 resultFuture.completeExceptionally(exception);
                 checkException.accept(exception);
             } else {
+                topicMetrics.published(payloadSize);
                 resultFuture.complete(new CommandResponseOrAcknowledgement(null, ackFromMetadata(metadata)));
             }
         }
@@ -334,6 +353,31 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     }
 
+    /**
+     * Throughput of one topic: the number of published records and the number of published payload bytes.
+     * Counted by the producer thread when the broker acknowledged a record.
+     */
+    private static final class TopicMetrics {
+
+        private final Counter publishedMessages;
+        private final Counter publishedBytes;
+
+        private TopicMetrics(final String connectionId, final String topic) {
+            publishedMessages = DittoMetrics.counter("kafka_publisher_messages")
+                    .tag("id", connectionId)
+                    .tag("topic", topic);
+            publishedBytes = DittoMetrics.counter("kafka_publisher_bytes")
+                    .tag("id", connectionId)
+                    .tag("topic", topic);
+        }
+
+        private void published(final int payloadSize) {
+            publishedMessages.increment();
+            publishedBytes.increment(payloadSize);
+        }
+
+    }
+
     private static final class KafkaErrorConverter extends ErrorConverter {
 
         private static final ErrorConverter INSTANCE = new KafkaErrorConverter();
@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
@@ -45,7 +46,7 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     private static final String DUMMY_PARTITION = "3";
 
     private static final String INVALID_TOPIC_FORMAT = "The provided topic ''{0}'' is not valid: {1}";
-    private static final String NOT_EMPTY_FORMAT = "The provided {0} in your target address may not be empty.";
+    private static final String NOT_EMPTY_FORMAT = "The provided {0} in your address may not be empty.";
 
     private static final Collection<String> ACCEPTED_SCHEMES =
             Collections.unmodifiableList(Arrays.asList("tcp", "ssl"));
@@ -53,7 +54,8 @@ public final class KafkaValidator extends AbstractProtocolValidator {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS = Collections.unmodifiableList(
             Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaProducerBatchingSpecificConfig.getInstance()));
 
     private static final KafkaValidator INSTANCE = new KafkaValidator();
 
@@ -88,10 +90,31 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        source.getAddresses().forEach(address -> validateSourceAddress(address, dittoHeaders));
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, PlaceholderFactory.newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, PlaceholderFactory.newThingPlaceholder(),
+                            PlaceholderFactory.newPolicyPlaceholder(),
+                            PlaceholderFactory.newEntityPlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
+    }
+
+    private static void validateSourceAddress(final String address, final DittoHeaders dittoHeaders) {
+        // source addresses are the subscribed topics; they can neither contain placeholders, keys nor partitions
+        if (address.isEmpty()) {
+            throwEmptyException("topic", dittoHeaders);
+        }
+        try {
+            Topic.validate(address);
+        } catch (final InvalidTopicException e) {
+            final String message = MessageFormat.format(INVALID_TOPIC_FORMAT, address, e.getMessage());
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .cause(e)
+                    .build();
+        }
     }
 
     @Override
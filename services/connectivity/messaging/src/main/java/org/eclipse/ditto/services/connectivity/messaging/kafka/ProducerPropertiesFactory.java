@@ -37,11 +37,14 @@ final class ProducerPropertiesFactory {
      * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config.
      * Defined by a previously used Alpakka kafka client.
      */
-    private static final String KAFKA_CLIENTS_KEY = "kafka-clients";
+    static final String KAFKA_CLIENTS_KEY = "kafka-clients";
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
             List.of(KafkaAuthenticationSpecificConfig.getInstance(), KafkaBootstrapServerSpecificConfig.getInstance());
 
+    private static final Collection<KafkaSpecificConfig> PRODUCER_SPECIFIC_CONFIGS =
+            List.of(KafkaProducerBatchingSpecificConfig.getInstance());
+
     private final Connection connection;
     private final KafkaConfig kafkaConfig;
 
@@ -66,11 +69,23 @@ final class ProducerPropertiesFactory {
         final HashMap<String, Object> producerProperties =
                 configToProperties(kafkaConfig.getInternalProducerConfig().getConfig(KAFKA_CLIENTS_KEY));
         addMetadata(producerProperties);
-        addSecurityProtocol(producerProperties);
-        addSpecificConfig(producerProperties);
+        addConnectionProperties(producerProperties, connection);
+        PRODUCER_SPECIFIC_CONFIGS.forEach(specificConfig -> specificConfig.apply(producerProperties, connection));
         return Collections.unmodifiableMap(producerProperties);
     }
 
+    /**
+     * Add the properties defined by the connection which producers and consumers have in common, i. e. the security
+     * protocol and the specific config.
+     *
+     * @param properties the properties to add to.
+     * @param connection the Kafka connection.
+     */
+    static void addConnectionProperties(final HashMap<String, Object> properties, final Connection connection) {
+        addSecurityProtocol(properties, connection);
+        addSpecificConfig(properties, connection);
+    }
+
     private void addMetadata(final HashMap<String, Object> properties) {
         // identify the connected Kafka client by the connectionId followed by the instance index
         // (in order to be able to differentiate if a clientCount >1 was configured):
@@ -80,42 +95,44 @@ final class ProducerPropertiesFactory {
                 connection.getId() + "-" + instanceIdentifierSupplier.get());
     }
 
-    private void addSpecificConfig(final HashMap<String, Object> properties) {
+    private static void addSpecificConfig(final HashMap<String, Object> properties, final Connection connection) {
         for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
             specificConfig.apply(properties, connection);
         }
     }
 
-    private void addSecurityProtocol(final HashMap<String, Object> properties) {
-        if (isConnectionAuthenticated()) {
-            addAuthenticatedSecurityProtocol(properties);
+    private static void addSecurityProtocol(final HashMap<String, Object> properties, final Connection connection) {
+        if (isConnectionAuthenticated(connection)) {
+            addAuthenticatedSecurityProtocol(properties, connection);
         } else {
-            addUnauthenticatedSecurityProtocol(properties);
+            addUnauthenticatedSecurityProtocol(properties, connection);
         }
     }
 
-    private boolean isConnectionAuthenticated() {
+    private static boolean isConnectionAuthenticated(final Connection connection) {
         final KafkaSpecificConfig authenticationSpecificConfig = KafkaAuthenticationSpecificConfig.getInstance();
         return authenticationSpecificConfig.isApplicable(connection);
     }
 
-    private void addAuthenticatedSecurityProtocol(final HashMap<String, Object> properties) {
-        if (isConnectionSecure()) {
+    private static void addAuthenticatedSecurityProtocol(final HashMap<String, Object> properties,
+            final Connection connection) {
+        if (isConnectionSecure(connection)) {
             properties.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_SSL");
         } else {
             properties.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_PLAINTEXT");
         }
     }
 
-    private void addUnauthenticatedSecurityProtocol(final HashMap<String, Object> properties) {
-        if (isConnectionSecure()) {
+    private static void addUnauthenticatedSecurityProtocol(final HashMap<String, Object> properties,
+            final Connection connection) {
+        if (isConnectionSecure(connection)) {
             properties.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SSL");
         } else {
             properties.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "PLAINTEXT");
         }
     }
 
-    private boolean isConnectionSecure() {
+    private static boolean isConnectionSecure(final Connection connection) {
         return "ssl".equals(connection.getProtocol());
     }
 
@@ -126,7 +143,7 @@ final class ProducerPropertiesFactory {
      * @param config the Config object.
      * @return flat map from config paths to values.
      */
-    private static HashMap<String, Object> configToProperties(final Config config) {
+    static HashMap<String, Object> configToProperties(final Config config) {
         final HashMap<String, Object> flattened = new HashMap<>();
         final Map<String, Object> unwrapped = config.root().unwrapped();
         flattenUnwrappedConfig(unwrapped, "", flattened);
@@ -159,6 +159,11 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
             final String address) {
 
         final MapKey key = new MapKey(connectionId, metricType, metricDirection, address);
+        // counters are looked up for every message: try the non-blocking get before computeIfAbsent locks the bin
+        final DefaultConnectionMetricsCounter existingCounter = counters.get(key);
+        if (null != existingCounter) {
+            return existingCounter;
+        }
         return counters.computeIfAbsent(key, m -> {
             final SlidingWindowCounter counter = new SlidingWindowCounter(clock, DEFAULT_WINDOWS);
             return new DefaultConnectionMetricsCounter(metricDirection, address, metricType, counter);
@@ -15,28 +15,33 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * Sliding window counter which holds counters for time slots of the resolution of each given {@link MeasurementWindow}
+ * to fill the window.
+ * <p>
+ * Recording a measurement only increments the striped {@link LongAdder} of the current time slot of each window, so
+ * that concurrent increments do not contend on a shared counter. The slots are only summed up when the counts are
+ * requested and slots which left their window are removed whenever a new slot is started.
+ * </p>
  */
 public final class SlidingWindowCounter {
 
     private final Clock clock;
-    private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final SlotCounters[] successMeasurements;
+    private final SlotCounters[] failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -45,12 +50,8 @@ public final class SlidingWindowCounter {
      */
     SlidingWindowCounter(final Clock clock, final MeasurementWindow... windows) {
         this.clock = clock;
-        this.windows = windows;
-
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        successMeasurements = Stream.of(windows).map(SlotCounters::new).toArray(SlotCounters[]::new);
+        failureMeasurements = Stream.of(windows).map(SlotCounters::new).toArray(SlotCounters[]::new);
     }
 
     /**
@@ -82,7 +83,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -92,55 +93,26 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
+            updateTimestamp(lastSuccessTimestamp, ts);
             incrementMeasurements(ts, successMeasurements);
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
+            updateTimestamp(lastFailureTimestamp, ts);
             incrementMeasurements(ts, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        // most concurrent measurements share the same millisecond, only write if the timestamp advances
+        if (toUpdate.get() < ts) {
+            toUpdate.accumulateAndGet(ts, Math::max);
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
-            }
+    private void incrementMeasurements(final long ts, final SlotCounters[] measurements) {
+        for (final SlotCounters slotCounters : measurements) {
+            slotCounters.increment(ts);
         }
-        return true;
     }
 
     /**
@@ -159,27 +131,14 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurements to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final SlotCounters[] measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
-            long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
-            }
-            result.put(window.getWindow(), sum);
+        final long now = clock.millis();
+        for (final SlotCounters slotCounters : measurements) {
+            result.put(slotCounters.window.getWindow(), slotCounters.sum(now));
         }
         return result;
     }
@@ -192,22 +151,81 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
+    private static void reset(final SlotCounters[] measurements) {
+        for (final SlotCounters slotCounters : measurements) {
+            slotCounters.slots.clear();
+        }
     }
 
-    private long getSlot(long ts, final long resolutionInMs) {
+    private static long getSlot(final long ts, final long resolutionInMs) {
         return ts / resolutionInMs;
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "successMeasurements=" + Arrays.toString(successMeasurements) +
+                ", failureMeasurements=" + Arrays.toString(failureMeasurements) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
     }
 
+    /**
+     * Counters of the time slots of one measurement window.
+     */
+    private final class SlotCounters {
+
+        private final MeasurementWindow window;
+        private final long resolutionInMs;
+        private final long windowInMs;
+        private final ConcurrentMap<Long, LongAdder> slots = new ConcurrentHashMap<>();
+
+        private SlotCounters(final MeasurementWindow window) {
+            this.window = window;
+            resolutionInMs = window.getResolution().toMillis();
+            windowInMs = window.getWindow().toMillis();
+        }
+
+        private void increment(final long ts) {
+            final Long slot = getSlot(ts, resolutionInMs);
+            LongAdder counter = slots.get(slot);
+            if (null == counter) {
+                counter = slots.computeIfAbsent(slot, s -> new LongAdder());
+                // a new slot is started once per resolution: the right moment to drop slots which left the window
+                cleanUpOldSlots();
+            }
+            counter.increment();
+        }
+
+        private void cleanUpOldSlots() {
+            // min slot is current slot minus window size
+            final long min = getSlot(clock.millis() - windowInMs, resolutionInMs);
+            slots.keySet().removeIf(slot -> slot < min);
+        }
+
+        private long sum(final long now) {
+            // min is where we start to sum up the slots
+            final long min = getSlot(now - windowInMs, resolutionInMs);
+            // max is the current active time slot
+            final long max = getSlot(now, resolutionInMs);
+            long sum = 0;
+            for (final Map.Entry<Long, LongAdder> e : slots.entrySet()) {
+                final long slot = e.getKey();
+                if (slot > min && slot <= max) {
+                    sum += e.getValue().sum();
+                }
+            }
+            return sum;
+        }
+
+        @Override
+        public String toString() {
+            return window.getLabel() + "=" + slots.entrySet()
+                    .stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+        }
+
+    }
+
 }
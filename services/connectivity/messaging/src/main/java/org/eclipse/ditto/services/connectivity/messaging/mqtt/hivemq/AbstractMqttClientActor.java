@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.AbstractWithOrigin;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconnected;
@@ -61,6 +62,7 @@ abstract class AbstractMqttClientActor<S, P, Q, R> extends BaseClientActor {
     private final Connection connection;
     private final HiveMqttClientFactory<Q, ?> clientFactory;
     private final MqttSpecificConfig mqttSpecificConfig;
+    private final MqttConfig mqttConfig;
 
     @Nullable private Q publisherClient;
     @Nullable private Q client;
@@ -76,6 +78,7 @@ abstract class AbstractMqttClientActor<S, P, Q, R> extends BaseClientActor {
         this.connection = connection;
         this.clientFactory = clientFactory;
         mqttSpecificConfig = MqttSpecificConfig.fromConnection(connection);
+        mqttConfig = connectivityConfig.getConnectionConfig().getMqttConfig();
     }
 
     /**
@@ -83,11 +86,12 @@ abstract class AbstractMqttClientActor<S, P, Q, R> extends BaseClientActor {
      *
      * @param connection the connection.
      * @param client the client.
+     * @param mqttConfig the MQTT config of the connectivity service.
      * @param log the logger of the client actor.
      * @return the subscription handler.
      */
     abstract AbstractMqttSubscriptionHandler<S, P, R> createSubscriptionHandler(Connection connection, Q client,
-            DiagnosticLoggingAdapter log);
+            MqttConfig mqttConfig, DiagnosticLoggingAdapter log);
 
     /**
      * Send a CONN message.
@@ -250,7 +254,7 @@ abstract class AbstractMqttClientActor<S, P, Q, R> extends BaseClientActor {
     private void createSubscriberClientAndSubscriptionHandler() {
         final String mqttClientId = resolveMqttClientId(connection, mqttSpecificConfig);
         client = clientFactory.newClient(connection, mqttClientId, true);
-        this.subscriptionHandler = createSubscriptionHandler(connection, client, log);
+        this.subscriptionHandler = createSubscriptionHandler(connection, client, mqttConfig, log);
     }
 
     private void resetClientAndSubscriptionHandler() {
@@ -272,7 +276,7 @@ abstract class AbstractMqttClientActor<S, P, Q, R> extends BaseClientActor {
             return CompletableFuture.completedFuture(new Status.Failure(e.getCause()));
         }
         final AbstractMqttSubscriptionHandler<S, P, R> testSubscriptions =
-                createSubscriptionHandler(connection, testClient, log);
+                createSubscriptionHandler(connection, testClient, mqttConfig, log);
         // always use clean session for tests to not have broker persist anything
         final boolean cleanSession = true;
         return sendConn(testClient, cleanSession)
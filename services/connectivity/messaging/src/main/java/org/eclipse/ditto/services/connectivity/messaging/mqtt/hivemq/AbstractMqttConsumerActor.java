@@ -37,6 +37,9 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.reactivestreams.Subscription;
 
 import com.hivemq.client.mqtt.datatypes.MqttQos;
 
@@ -58,6 +61,10 @@ abstract class AbstractMqttConsumerActor<P> extends BaseConsumerActor {
     @Nullable protected final EnforcementFilterFactory<String, CharSequence> topicEnforcementFilterFactory;
     protected final PayloadMapping payloadMapping;
     protected final boolean reconnectForRedelivery;
+    private final Gauge inFlightMessages;
+
+    // only set when consuming with backpressure; replaced on each (re-)subscription
+    @Nullable private Subscription subscription;
 
     protected AbstractMqttConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
             final Source source, final boolean dryRun, final boolean reconnectForRedelivery) {
@@ -70,6 +77,11 @@ abstract class AbstractMqttConsumerActor<P> extends BaseConsumerActor {
                         .newEnforcementFilterFactory(enforcement,
                                 ConnectivityModelFactory.newSourceAddressPlaceholder()))
                 .orElse(null);
+        inFlightMessages = DittoMetrics.gauge("mqtt_consumer_in_flight_messages")
+                .tag("id", connectionId.toString())
+                .tag("source", sourceAddress);
+        inFlightMessages.set(0L);
+        subscription = null;
     }
 
     /**
@@ -140,8 +152,12 @@ abstract class AbstractMqttConsumerActor<P> extends BaseConsumerActor {
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(getPublishMessageClass(), this::isDryRun,
-                        message -> logger.info("Dropping message in dryRun mode: {}", message))
+                .match(Subscribed.class, this::handleSubscribed)
+                .match(MessageSettled.class, this::handleMessageSettled)
+                .match(getPublishMessageClass(), this::isDryRun, message -> {
+                    logger.info("Dropping message in dryRun mode: {}", message);
+                    requestNext(subscription);
+                })
                 .match(getPublishMessageClass(), this::handleMqttMessage)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .matchAny(unhandled -> {
@@ -151,20 +167,65 @@ abstract class AbstractMqttConsumerActor<P> extends BaseConsumerActor {
                 .build();
     }
 
+    @Override
+    public void postStop() throws Exception {
+        inFlightMessages.set(0L);
+        super.postStop();
+    }
+
     @Override
     protected DittoDiagnosticLoggingAdapter log() {
         return logger;
     }
 
+    private void handleSubscribed(final Subscribed subscribed) {
+        logger.debug("Consuming with backpressure via new subscription.");
+        subscription = subscribed.subscription;
+        // messages in flight of a replaced subscription are redelivered via the new one
+        inFlightMessages.set(0L);
+    }
+
+    private void handleMessageSettled(final MessageSettled messageSettled) {
+        if (isOfCurrentSubscription(messageSettled.subscription)) {
+            inFlightMessages.decrement();
+            messageSettled.subscription.request(1L);
+        }
+    }
+
+    private void requestNext(@Nullable final Subscription messageSubscription) {
+        if (isOfCurrentSubscription(messageSubscription)) {
+            messageSubscription.request(1L);
+        }
+    }
+
+    private boolean isOfCurrentSubscription(@Nullable final Subscription messageSubscription) {
+        // messages consumed via callback have no subscription; messages received via a replaced subscription do not
+        // free capacity of the current one
+        return null != messageSubscription && messageSubscription == subscription;
+    }
+
     private void handleMqttMessage(final P message) {
         logger.debug("Received message: {}", message);
+        if (null != subscription) {
+            inFlightMessages.increment();
+        }
+        final MessageSettled messageSettled = new MessageSettled(subscription);
         final Optional<ExternalMessage> externalMessageOptional = hiveToExternalMessage(message, connectionId);
-        final ActorRef parent = getContext().getParent();
-        externalMessageOptional.ifPresent(externalMessage ->
-                forwardToMappingActor(externalMessage,
-                        () -> acknowledge(message),
-                        redeliver -> reject(message, redeliver, parent))
-        );
+        if (externalMessageOptional.isPresent()) {
+            final ActorRef parent = getContext().getParent();
+            final ActorRef self = getSelf();
+            forwardToMappingActor(externalMessageOptional.get(),
+                    () -> {
+                        acknowledge(message);
+                        self.tell(messageSettled, ActorRef.noSender());
+                    },
+                    redeliver -> {
+                        reject(message, redeliver, parent);
+                        self.tell(messageSettled, ActorRef.noSender());
+                    });
+        } else {
+            handleMessageSettled(messageSettled);
+        }
     }
 
     private Optional<ExternalMessage> hiveToExternalMessage(final P message, final ConnectionId connectionId) {
@@ -259,4 +320,30 @@ abstract class AbstractMqttConsumerActor<P> extends BaseConsumerActor {
         return dryRun;
     }
 
+    /**
+     * Message from the {@link MqttPublishSubscriber} of this consumer actor when consuming with backpressure.
+     */
+    static final class Subscribed {
+
+        private final Subscription subscription;
+
+        Subscribed(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+    }
+
+    /**
+     * Self-message when an incoming message was acknowledged or rejected.
+     */
+    private static final class MessageSettled {
+
+        @Nullable private final Subscription subscription;
+
+        private MessageSettled(@Nullable final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+    }
+
 }
@@ -27,8 +27,10 @@ import java.util.stream.Stream;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 
 import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.rx.FlowableWithSingle;
 
 import akka.actor.ActorRef;
 import akka.event.DiagnosticLoggingAdapter;
@@ -45,15 +47,20 @@ abstract class AbstractMqttSubscriptionHandler<S, P, R> {
     private static final MqttQos DEFAULT_SOURCE_QOS = MqttQos.EXACTLY_ONCE;
     private final Connection connection;
     private final SubscribeAction<S, P, R> client;
+    private final SubscribePublishesAction<S, P, R> rxClient;
+    private final MqttConfig mqttConfig;
     private final DiagnosticLoggingAdapter log;
 
     private final Map<Source, ActorRef> consumerActors = new HashMap<>();
     private final Map<Source, S> mqtt3Subscribe;
 
     AbstractMqttSubscriptionHandler(final Connection connection, final SubscribeAction<S, P, R> client,
+            final SubscribePublishesAction<S, P, R> rxClient, final MqttConfig mqttConfig,
             final DiagnosticLoggingAdapter log) {
         this.connection = connection;
         this.client = client;
+        this.rxClient = rxClient;
+        this.mqttConfig = mqttConfig;
         this.log = log;
         mqtt3Subscribe = prepareSubscriptions();
     }
@@ -145,9 +152,16 @@ abstract class AbstractMqttSubscriptionHandler<S, P, R> {
 
     private CompletableFuture<R> subscribe(final Source source, final S mqtt3Subscribe,
             final ActorRef consumerActor) {
-        // enable manual acknowledgement:
-        // individual incoming message may carry requested-acks even if the source does not
-        return client.subscribe(mqtt3Subscribe, msg -> consumerActor.tell(msg, ActorRef.noSender()), true)
+        final CompletableFuture<R> subAckFuture;
+        if (mqttConfig.isReactiveConsumptionEnabled()) {
+            subAckFuture = subscribeWithBackpressure(mqtt3Subscribe, consumerActor);
+        } else {
+            // enable manual acknowledgement:
+            // individual incoming message may carry requested-acks even if the source does not
+            subAckFuture =
+                    client.subscribe(mqtt3Subscribe, msg -> consumerActor.tell(msg, ActorRef.noSender()), true);
+        }
+        return subAckFuture
                 .whenComplete((mqtt3SubAck, throwable) -> {
                     if (throwable != null) {
                         // Handle failure to subscribe
@@ -160,6 +174,16 @@ abstract class AbstractMqttSubscriptionHandler<S, P, R> {
                 });
     }
 
+    private CompletableFuture<R> subscribeWithBackpressure(final S mqttSubscribe, final ActorRef consumerActor) {
+        final CompletableFuture<R> subAckFuture = new CompletableFuture<>();
+        // manual acknowledgement is mandatory here: the consumer actor requests further messages on acknowledgement
+        rxClient.subscribePublishes(mqttSubscribe, true)
+                .doOnSingle(subAckFuture::complete)
+                .subscribe(new MqttPublishSubscriber<>(consumerActor, mqttConfig.getSourceBufferSize(),
+                        subAckFuture));
+        return subAckFuture;
+    }
+
     private Map<Source, S> prepareSubscriptions() {
         return connection.getSources()
                 .stream()
@@ -219,4 +243,24 @@ abstract class AbstractMqttSubscriptionHandler<S, P, R> {
          */
         CompletableFuture<R> subscribe(S subscribeMessage, Consumer<P> callback, boolean manualAcknowledgement);
     }
+
+    /**
+     * Encapsulate the reactive "subscribePublishes" method for MQTT3 and MQTT5 clients.
+     *
+     * @param <S> MqttXSubscribe
+     * @param <P> MqttXPublish
+     * @param <R> MqttXSubAck
+     */
+    @FunctionalInterface
+    public interface SubscribePublishesAction<S, P, R> {
+
+        /**
+         * Send a SUBSCRIBE message once the returned flowable is subscribed to.
+         *
+         * @param subscribeMessage the SUBSCRIBE message.
+         * @param manualAcknowledgement whether manual acknowledgement is on.
+         * @return flowable of the incoming PUBLISH messages emitting the SUBACK as single.
+         */
+        FlowableWithSingle<P, R> subscribePublishes(S subscribeMessage, boolean manualAcknowledgement);
+    }
 }
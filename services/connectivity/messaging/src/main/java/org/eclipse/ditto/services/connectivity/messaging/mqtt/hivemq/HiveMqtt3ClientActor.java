@@ -18,6 +18,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttSpecificConfig;
 
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
@@ -79,8 +80,9 @@ public final class HiveMqtt3ClientActor
 
     @Override
     AbstractMqttSubscriptionHandler<Mqtt3Subscribe, Mqtt3Publish, Mqtt3SubAck> createSubscriptionHandler(
-            final Connection connection, final Mqtt3AsyncClient client, final DiagnosticLoggingAdapter log) {
-        return new HiveMqtt3SubscriptionHandler(connection, client, log);
+            final Connection connection, final Mqtt3AsyncClient client, final MqttConfig mqttConfig,
+            final DiagnosticLoggingAdapter log) {
+        return new HiveMqtt3SubscriptionHandler(connection, client, mqttConfig, log);
     }
 
     @Override
@@ -16,6 +16,7 @@ import java.util.Optional;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
@@ -33,9 +34,9 @@ final class HiveMqtt3SubscriptionHandler
         extends AbstractMqttSubscriptionHandler<Mqtt3Subscribe, Mqtt3Publish, Mqtt3SubAck> {
 
     HiveMqtt3SubscriptionHandler(final Connection connection, final Mqtt3AsyncClient client,
-            final DiagnosticLoggingAdapter log) {
+            final MqttConfig mqttConfig, final DiagnosticLoggingAdapter log) {
 
-        super(connection, client::subscribe, log);
+        super(connection, client::subscribe, client.toRx()::subscribePublishes, mqttConfig, log);
     }
 
     Optional<Mqtt3Subscribe> toMqttSubscribe(final Source source) {
@@ -18,6 +18,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttSpecificConfig;
 
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
@@ -81,8 +82,9 @@ public final class HiveMqtt5ClientActor
 
     @Override
     AbstractMqttSubscriptionHandler<Mqtt5Subscribe, Mqtt5Publish, Mqtt5SubAck> createSubscriptionHandler(
-            final Connection connection, final Mqtt5AsyncClient client, final DiagnosticLoggingAdapter log) {
-        return new HiveMqtt5SubscriptionHandler(connection, client, log);
+            final Connection connection, final Mqtt5AsyncClient client, final MqttConfig mqttConfig,
+            final DiagnosticLoggingAdapter log) {
+        return new HiveMqtt5SubscriptionHandler(connection, client, mqttConfig, log);
     }
 
     @Override
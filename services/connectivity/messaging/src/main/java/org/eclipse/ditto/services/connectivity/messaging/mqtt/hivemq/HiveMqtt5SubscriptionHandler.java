@@ -16,6 +16,7 @@ import java.util.Optional;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
@@ -35,9 +36,9 @@ final class HiveMqtt5SubscriptionHandler
         extends AbstractMqttSubscriptionHandler<Mqtt5Subscribe, Mqtt5Publish, Mqtt5SubAck> {
 
     HiveMqtt5SubscriptionHandler(final Connection connection, final Mqtt5AsyncClient client,
-            final DiagnosticLoggingAdapter log) {
+            final MqttConfig mqttConfig, final DiagnosticLoggingAdapter log) {
 
-        super(connection, client::subscribe, log);
+        super(connection, client::subscribe, client.toRx()::subscribePublishes, mqttConfig, log);
     }
 
     @Override
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.mqtt.hivemq;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import akka.actor.ActorRef;
+
+/**
+ * Subscriber of the PUBLISH messages of one MQTT source which forwards them to the consumer actor of the source.
+ * It requests as many messages from the broker as may be in flight initially; the consumer actor requests further
+ * messages via the subscription as soon as messages in flight are settled.
+ *
+ * @param <P> type of PUBLISH messages.
+ */
+final class MqttPublishSubscriber<P> implements Subscriber<P> {
+
+    private final ActorRef consumerActor;
+    private final int maxInFlight;
+    private final CompletableFuture<?> subAckFuture;
+
+    /**
+     * Create a subscriber of PUBLISH messages.
+     *
+     * @param consumerActor the consumer actor to forward the PUBLISH messages to.
+     * @param maxInFlight the maximum number of unsettled messages.
+     * @param subAckFuture the future SUBACK to fail if the subscription fails.
+     */
+    MqttPublishSubscriber(final ActorRef consumerActor, final int maxInFlight,
+            final CompletableFuture<?> subAckFuture) {
+
+        this.consumerActor = consumerActor;
+        this.maxInFlight = maxInFlight;
+        this.subAckFuture = subAckFuture;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        // the consumer actor receives the subscription before the first message
+        consumerActor.tell(new AbstractMqttConsumerActor.Subscribed(subscription), ActorRef.noSender());
+        subscription.request(Math.max(1, maxInFlight));
+    }
+
+    @Override
+    public void onNext(final P publish) {
+        consumerActor.tell(publish, ActorRef.noSender());
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        // no effect if the SUBACK was received already; the client reconnects and subscribes again
+        subAckFuture.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        // the flowable of PUBLISH messages only completes when the client is disconnected
+    }
+
+}
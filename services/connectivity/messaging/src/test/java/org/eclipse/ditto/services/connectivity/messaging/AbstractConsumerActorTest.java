@@ -216,8 +216,8 @@ public abstract class AbstractConsumerActorTest<M> {
             final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(), concierge.ref());
             final ActorRef underTest = childActorOf(getConsumerActorProps(mappingActor, Collections.emptySet()));
 
-            underTest.tell(getInboundMessage(payload, header("device_id", TestConstants.Things.THING_ID)),
-                    sender.ref());
+            deliverInboundMessage(underTest,
+                    getInboundMessage(payload, header("device_id", TestConstants.Things.THING_ID)), sender.ref());
 
             final ModifyThing modifyThing = concierge.expectMsgClass(ModifyThing.class);
             assertThat((CharSequence) modifyThing.getThingEntityId()).isEqualTo(TestConstants.Things.THING_ID);
@@ -294,6 +294,19 @@ public abstract class AbstractConsumerActorTest<M> {
 
     protected abstract M getInboundMessage(final String payload, final Map.Entry<String, Object> header);
 
+    /**
+     * Delivers an inbound message to the consumer actor under test. Override if the consumer actor receives its
+     * messages from a client library rather than as actor messages.
+     *
+     * @param consumerActor the consumer actor under test.
+     * @param inboundMessage the inbound message.
+     * @param sender the sender of the inbound message.
+     */
+    protected void deliverInboundMessage(final ActorRef consumerActor, final M inboundMessage,
+            final ActorRef sender) {
+        consumerActor.tell(inboundMessage, sender);
+    }
+
     protected abstract void verifyMessageSettlement(final TestKit testKit,
             boolean isSuccessExpected, final boolean shouldRedeliver)
             throws Exception;
@@ -323,7 +336,7 @@ public abstract class AbstractConsumerActorTest<M> {
 
             final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(mappingActor, payloadMapping));
 
-            underTest.tell(getInboundMessage(TestConstants.modifyThing(), header), sender.ref());
+            deliverInboundMessage(underTest, getInboundMessage(TestConstants.modifyThing(), header), sender.ref());
 
             if (forwardedToConcierge >= 0) {
                 for (int i = 0; i < forwardedToConcierge; i++) {
@@ -347,7 +360,7 @@ public abstract class AbstractConsumerActorTest<M> {
         }};
     }
 
-    private ActorRef setupMessageMappingProcessorActor(final ActorRef clientActor,
+    protected ActorRef setupMessageMappingProcessorActor(final ActorRef clientActor,
             final ActorRef proxyActor) {
 
         final Map<String, MappingContext> mappings = new HashMap<>();
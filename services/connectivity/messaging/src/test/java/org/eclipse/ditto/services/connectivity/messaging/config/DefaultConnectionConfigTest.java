@@ -113,9 +113,14 @@ public final class DefaultConnectionConfigTest {
 
         softly.assertThat(underTest.getMqttConfig())
                 .as("mqttConfig")
-                .satisfies(mqttConfig -> softly.assertThat(mqttConfig.getSourceBufferSize())
-                        .as(MqttConfig.MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath())
-                        .isEqualTo(7));
+                .satisfies(mqttConfig -> {
+                    softly.assertThat(mqttConfig.getSourceBufferSize())
+                            .as(MqttConfig.MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath())
+                            .isEqualTo(7);
+                    softly.assertThat(mqttConfig.isReactiveConsumptionEnabled())
+                            .as(MqttConfig.MqttConfigValue.REACTIVE_CONSUMPTION_ENABLED.getConfigPath())
+                            .isTrue();
+                });
 
         softly.assertThat(underTest.getHttpPushConfig())
                 .as("httpPushConfig")
@@ -123,6 +128,26 @@ public final class DefaultConnectionConfigTest {
                         .as(HttpPushConfig.ConfigValue.MAX_QUEUE_SIZE.getConfigPath())
                         .isEqualTo(9));
 
+        softly.assertThat(underTest.getKafkaConfig())
+                .as("kafkaConfig")
+                .satisfies(kafkaConfig -> {
+                    softly.assertThat(kafkaConfig.getConsumerPollTimeout())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_POLL_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(20L));
+                    softly.assertThat(kafkaConfig.getConsumerMaxInFlightPerPartition())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_MAX_IN_FLIGHT_PER_PARTITION.getConfigPath())
+                            .isEqualTo(3);
+                    softly.assertThat(kafkaConfig.getConsumerCommitInterval())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_COMMIT_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(2L));
+                    softly.assertThat(kafkaConfig.getConsumerCommitBatchSize())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_COMMIT_BATCH_SIZE.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(kafkaConfig.getInternalConsumerConfig().getInt("kafka-clients.max.poll.records"))
+                            .as("consumer.internal.kafka-clients.max.poll.records")
+                            .isEqualTo(200);
+                });
+
         softly.assertThat(underTest.getAmqp091Config())
                 .as("amqp091Config")
                 .satisfies(amqp091Config -> softly.assertThat(amqp091Config.getPublisherPendingAckTTL())
@@ -33,6 +33,7 @@ import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
@@ -588,6 +589,98 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void batchRequestsAndSplitBatchResponseIntoAcknowledgements() throws Exception {
+        new TestKit(actorSystem) {{
+            final JsonArray batchResponse = JsonArray.of(
+                    JsonObject.newBuilder().set("status", 200).set("value", "first").build(),
+                    JsonObject.newBuilder().set("status", 418).set("value", "second").build());
+            httpPushFactory = mockHttpPushFactory("application/json", StatusCodes.OK, batchResponse.toString());
+
+            final TestProbe firstSender = TestProbe.apply(actorSystem);
+            final TestProbe secondSender = TestProbe.apply(actorSystem);
+            final ActorRef publisherActor = childActorOf(getBatchingPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            final Target target = decorateTarget(createTestTarget("please-verify"));
+            publisherActor.tell(newMultiMappedWithContentType(target, firstSender.ref()), getRef());
+            publisherActor.tell(newMultiMappedWithContentType(target, secondSender.ref()), getRef());
+
+            final HttpRequest request = received.take();
+            assertThat(received).isEmpty();
+            final HttpEntity.Strict entity = request.entity()
+                    .toStrict(60_000L, ActorMaterializer.create(actorSystem))
+                    .toCompletableFuture()
+                    .join();
+            assertThat(JsonFactory.readFrom(entity.getData().utf8String()))
+                    .isEqualTo(JsonArray.of(JsonValue.of("payload"), JsonValue.of("payload")));
+
+            final Acknowledgement firstAck =
+                    firstSender.expectMsgClass(Acknowledgements.class).stream().findAny().orElseThrow();
+            assertThat(firstAck.getStatusCode()).isEqualTo(HttpStatusCode.OK);
+            assertThat(firstAck.getEntity()).contains(JsonValue.of("first"));
+            final Acknowledgement secondAck =
+                    secondSender.expectMsgClass(Acknowledgements.class).stream().findAny().orElseThrow();
+            assertThat(secondAck.getStatusCode()).isEqualTo(HttpStatusCode.IM_A_TEAPOT);
+            assertThat(secondAck.getEntity()).contains(JsonValue.of("second"));
+        }};
+    }
+
+    @Test
+    public void sendWholeBatchResponseToEachRequestIfItIsNoArrayOfBatchSize() throws Exception {
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("text/plain", StatusCodes.ACCEPTED, "hello!");
+
+            final TestProbe firstSender = TestProbe.apply(actorSystem);
+            final TestProbe secondSender = TestProbe.apply(actorSystem);
+            final ActorRef publisherActor = childActorOf(getBatchingPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            final Target target = decorateTarget(createTestTarget("please-verify"));
+            publisherActor.tell(newMultiMappedWithContentType(target, firstSender.ref()), getRef());
+            publisherActor.tell(newMultiMappedWithContentType(target, secondSender.ref()), getRef());
+
+            received.take();
+            assertThat(received).isEmpty();
+            for (final TestProbe sender : List.of(firstSender, secondSender)) {
+                final Acknowledgement ack =
+                        sender.expectMsgClass(Acknowledgements.class).stream().findAny().orElseThrow();
+                assertThat(ack.getStatusCode()).isEqualTo(HttpStatusCode.ACCEPTED);
+                assertThat(ack.getEntity()).contains(JsonValue.of("hello!"));
+                assertThat(ack.getDittoHeaders()).containsAllEntriesOf(
+                        Map.of("content-type", "text/plain", CUSTOM_HEADER_NAME, CUSTOM_HEADER_VALUE));
+            }
+        }};
+    }
+
+    @Test
+    public void failAcknowledgementsOfBatchWhoseResponseIsTooLarge() throws Exception {
+        new TestKit(actorSystem) {{
+            // larger than the default issued-max-bytes of 100000 per request of the batch
+            final String tooLargeValue = "x".repeat(150_000);
+            final JsonArray batchResponse = JsonArray.of(JsonValue.of(tooLargeValue), JsonValue.of(tooLargeValue));
+            httpPushFactory = mockHttpPushFactory("application/json", StatusCodes.OK, batchResponse.toString());
+
+            final TestProbe firstSender = TestProbe.apply(actorSystem);
+            final TestProbe secondSender = TestProbe.apply(actorSystem);
+            final ActorRef publisherActor = childActorOf(getBatchingPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            final Target target = decorateTarget(createTestTarget("please-verify"));
+            publisherActor.tell(newMultiMappedWithContentType(target, firstSender.ref()), getRef());
+            publisherActor.tell(newMultiMappedWithContentType(target, secondSender.ref()), getRef());
+
+            received.take();
+            for (final TestProbe sender : List.of(firstSender, secondSender)) {
+                final Acknowledgement ack =
+                        sender.expectMsgClass(Acknowledgements.class).stream().findAny().orElseThrow();
+                assertThat(ack.getStatusCode().isSuccess()).isFalse();
+            }
+            // the batch was sent: a too large response body is no connection failure
+            expectNoMessage();
+        }};
+    }
+
     @Override
     protected void verifyPublishedMessageToReplyTarget() throws Exception {
         final HttpRequest request = received.take();
@@ -600,6 +693,15 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
                 .contains(HttpHeader.parse("mappedHeader2", "thing:id"));
     }
 
+    private Props getBatchingPublisherActorProps() {
+        final Connection connection = TestConstants.createConnection()
+                .toBuilder()
+                .specificConfig(Map.of(HttpPushBatching.BATCH_MAX_SIZE, "2",
+                        HttpPushBatching.BATCH_MAX_DELAY_MS, "60000"))
+                .build();
+        return HttpPublisherActor.props(connection, httpPushFactory);
+    }
+
     private OutboundSignal.MultiMapped newMultiMappedWithContentType(final Target target,
             final ActorRef sender) {
         return OutboundSignalFactory.newMultiMappedOutboundSignal(
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.junit.Test;
+
+import akka.http.javadsl.model.ContentTypes;
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link HttpPushBatching} and the JSON conversion of {@link HttpPushBatchFlow}.
+ */
+public final class HttpPushBatchingTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(HttpPushBatching.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(HttpPushBatching.class).usingGetClass().verify();
+    }
+
+    @Test
+    public void batchingIsDisabledWithoutBatchSize() {
+        assertThat(HttpPushBatching.fromSpecificConfig(Map.of("parallelism", "2"))).isEmpty();
+        assertThat(HttpPushBatching.fromSpecificConfig(Map.of(HttpPushBatching.BATCH_MAX_SIZE, "1"))).isEmpty();
+    }
+
+    @Test
+    public void batchingUsesDefaultDelay() {
+        assertThat(HttpPushBatching.fromSpecificConfig(Map.of(HttpPushBatching.BATCH_MAX_SIZE, "10")))
+                .hasValueSatisfying(batching -> {
+                    assertThat(batching.getMaxSize()).isEqualTo(10);
+                    assertThat(batching.getMaxDelay()).isEqualTo(Duration.ofMillis(100L));
+                });
+    }
+
+    @Test
+    public void batchingUsesConfiguredDelay() {
+        assertThat(HttpPushBatching.fromSpecificConfig(Map.of(HttpPushBatching.BATCH_MAX_SIZE, " 25 ",
+                HttpPushBatching.BATCH_MAX_DELAY_MS, "5")))
+                .hasValueSatisfying(batching -> {
+                    assertThat(batching.getMaxSize()).isEqualTo(25);
+                    assertThat(batching.getMaxDelay()).isEqualTo(Duration.ofMillis(5L));
+                });
+    }
+
+    @Test
+    public void validationRejectsNonPositiveValues() {
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> HttpPushBatching.validate(Map.of(HttpPushBatching.BATCH_MAX_SIZE, "0"),
+                        DittoHeaders.empty()));
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> HttpPushBatching.validate(Map.of(HttpPushBatching.BATCH_MAX_DELAY_MS, "soon"),
+                        DittoHeaders.empty()));
+        HttpPushBatching.validate(Map.of(), DittoHeaders.empty());
+    }
+
+    @Test
+    public void bodiesAreConvertedToJson() {
+        assertThat(HttpPushBatchFlow.toJsonValue(ContentTypes.APPLICATION_JSON, "[1,{\"a\":2}]".getBytes()))
+                .isEqualTo(JsonArray.of("[1,{\"a\":2}]"));
+        assertThat(HttpPushBatchFlow.toJsonValue(ContentTypes.APPLICATION_JSON, "not json".getBytes()))
+                .isEqualTo(JsonValue.of("not json"));
+        assertThat(HttpPushBatchFlow.toJsonValue(ContentTypes.TEXT_PLAIN_UTF8, "hello".getBytes()))
+                .isEqualTo(JsonValue.of("hello"));
+        assertThat(HttpPushBatchFlow.toJsonValue(ContentTypes.APPLICATION_OCTET_STREAM, "hello".getBytes()))
+                .isEqualTo(JsonValue.of("aGVsbG8="));
+    }
+
+}
@@ -105,6 +105,34 @@ public final class HttpPushValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("DELETE:/bar"));
     }
 
+    @Test
+    public void testValidBatching() {
+        final Map<String, String> specificConfig = new HashMap<>(defaultSpecificConfig);
+        specificConfig.put(HttpPushBatching.BATCH_MAX_SIZE, "100");
+        specificConfig.put(HttpPushBatching.BATCH_MAX_DELAY_MS, "50");
+
+        underTest.validate(getConnectionWithSpecificConfig(specificConfig), DittoHeaders.empty(), actorSystem);
+    }
+
+    @Test
+    public void testInvalidBatching() {
+        for (final String invalidValue : new String[]{"0", "-1", "a lot", "1.5"}) {
+            final Map<String, String> invalidSize = new HashMap<>(defaultSpecificConfig);
+            invalidSize.put(HttpPushBatching.BATCH_MAX_SIZE, invalidValue);
+            verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithSpecificConfig(invalidSize));
+
+            final Map<String, String> invalidDelay = new HashMap<>(defaultSpecificConfig);
+            invalidDelay.put(HttpPushBatching.BATCH_MAX_DELAY_MS, invalidValue);
+            verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithSpecificConfig(invalidDelay));
+        }
+    }
+
+    private static Connection getConnectionWithSpecificConfig(final Map<String, String> specificConfig) {
+        return getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(specificConfig)
+                .build();
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return getConnectionWithHostAndTarget("8.8.4.4", target);
     }
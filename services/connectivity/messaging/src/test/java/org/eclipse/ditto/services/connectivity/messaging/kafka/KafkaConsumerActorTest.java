@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.MODIFY_THING_WITH_ACK;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.FilteredAcknowledgementRequest;
+import org.eclipse.ditto.model.base.common.ResponseType;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.ReplyTarget;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.connectivity.SourceBuilder;
+import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link KafkaConsumerActor}.
+ */
+public final class KafkaConsumerActorTest extends AbstractConsumerActorTest<ConsumerRecord<String, String>> {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "ditto";
+    private static final TopicPartition TOPIC_PARTITION = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition OTHER_TOPIC_PARTITION = new TopicPartition(TOPIC, 1);
+    private static final long OFFSET = 5L;
+    private static final FiniteDuration SETTLING_TIME = FiniteDuration.apply(300L, TimeUnit.MILLISECONDS);
+
+    private RebalanceAwareMockConsumer mockConsumer;
+
+    @Test
+    public void recordsOfPartitionsAreDispatchedInOrderWithBoundedInFlightRecordsPerPartition() {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            createConsumerActor(this, concierge);
+            mockConsumer.schedulePollTask(() -> {
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 0L, "a0"));
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 1L, "a1"));
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 2L, "a2"));
+                mockConsumer.addRecord(record(OTHER_TOPIC_PARTITION, 0L, "b0"));
+            });
+
+            // the records of both partitions are in flight at the same time, at most 2 of each partition
+            final Map<String, Runnable> firstAcknowledgements = expectModifyThings(concierge, 3);
+            assertThat(firstAcknowledgements).containsOnlyKeys("a0", "a1", "b0");
+            concierge.expectNoMessage(SETTLING_TIME);
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> mockConsumer.paused().equals(Set.of(TOPIC_PARTITION)));
+
+            // acknowledging a record of another partition does not dispatch further records of the first partition
+            firstAcknowledgements.get("b0").run();
+            concierge.expectNoMessage(SETTLING_TIME);
+
+            firstAcknowledgements.get("a0").run();
+            assertThat(expectModifyThings(concierge, 1)).containsOnlyKeys("a2");
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> mockConsumer.paused().isEmpty());
+        }};
+    }
+
+    @Test
+    public void offsetsAreCommittedUpToTheFirstUnacknowledgedRecord() {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            createConsumerActor(this, concierge);
+            mockConsumer.schedulePollTask(() -> {
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 0L, "a0"));
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 1L, "a1"));
+            });
+            final Map<String, Runnable> acknowledgements = expectModifyThings(concierge, 2);
+
+            acknowledgements.get("a1").run();
+            concierge.expectNoMessage(SETTLING_TIME);
+            assertThat(committedOffset())
+                    .describedAs("Expect no commit as long as the first record is not acknowledged")
+                    .isNull();
+
+            acknowledgements.get("a0").run();
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> new OffsetAndMetadata(2L).equals(committedOffset()));
+        }};
+    }
+
+    @Test
+    public void acknowledgementsOfRecordsOfRevokedPartitionsAreIgnored() {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            createConsumerActor(this, concierge);
+            mockConsumer.schedulePollTask(() -> mockConsumer.addRecord(record(TOPIC_PARTITION, 0L, "a0")));
+            final Runnable staleAcknowledgement = expectModifyThings(concierge, 1).get("a0");
+
+            mockConsumer.schedulePollTask(() -> {
+                mockConsumer.revokeAndAssignAgain(List.of(TOPIC_PARTITION));
+                // no offset was committed, thus the record is consumed again
+                mockConsumer.seek(TOPIC_PARTITION, 0L);
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 0L, "a0-again"));
+            });
+            final Runnable acknowledgement = expectModifyThings(concierge, 1).get("a0-again");
+
+            staleAcknowledgement.run();
+            concierge.expectNoMessage(SETTLING_TIME);
+            assertThat(committedOffset())
+                    .describedAs("Expect no commit for the acknowledgement of a record of a revoked partition")
+                    .isNull();
+
+            acknowledgement.run();
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> new OffsetAndMetadata(1L).equals(committedOffset()));
+        }};
+    }
+
+    @Test
+    public void recordsWhichCannotBeConvertedAreCommittedWithoutBlockingThePartition() {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            createConsumerActor(this, concierge);
+            final int unconvertibleRecords = 1000;
+            mockConsumer.schedulePollTask(() -> {
+                for (int i = 0; i < unconvertibleRecords; i++) {
+                    // the missing header "device_id" cannot be resolved for the header enforcement
+                    mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, TOPIC_PARTITION.partition(), i, "key",
+                            MODIFY_THING_WITH_ACK));
+                }
+                mockConsumer.addRecord(record(TOPIC_PARTITION, unconvertibleRecords, "a1000"));
+            });
+
+            expectModifyThings(concierge, 1).get("a1000").run();
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> new OffsetAndMetadata(unconvertibleRecords + 1L).equals(committedOffset()));
+        }};
+    }
+
+    @Test
+    public void consumerLagIsReportedPerPartition() {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            createConsumerActor(this, concierge);
+            mockConsumer.schedulePollTask(() -> {
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 0L, "a0"));
+                mockConsumer.addRecord(record(TOPIC_PARTITION, 1L, "a1"));
+            });
+            final Map<String, Runnable> acknowledgements = expectModifyThings(concierge, 2);
+
+            // the lag is the distance of the end offset to the first unacknowledged record
+            acknowledgements.get("a0").run();
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> Long.valueOf(OFFSET).equals(getConsumerLag(TOPIC_PARTITION)));
+
+            acknowledgements.get("a1").run();
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> Long.valueOf(OFFSET - 1L).equals(getConsumerLag(TOPIC_PARTITION)));
+        }};
+    }
+
+    private ActorRef createConsumerActor(final TestKit testKit, final TestProbe concierge) {
+        final TestProbe clientActor = TestProbe.apply(actorSystem);
+        final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(), concierge.ref());
+        return testKit.childActorOf(getConsumerActorProps(mappingActor, Collections.emptySet()));
+    }
+
+    /**
+     * Expects the given number of ModifyThing commands in any order.
+     *
+     * @return the acknowledgements of the received commands by the names of their things.
+     */
+    private static Map<String, Runnable> expectModifyThings(final TestProbe concierge, final int count) {
+        final Map<String, Runnable> acknowledgements = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            final ModifyThing modifyThing = concierge.expectMsgClass(ModifyThing.class);
+            final ActorRef sender = concierge.lastSender();
+            acknowledgements.put(modifyThing.getThingEntityId().getName(), () -> sender.tell(
+                    ModifyThingResponse.modified(modifyThing.getThingEntityId(), modifyThing.getDittoHeaders()),
+                    concierge.ref()));
+        }
+        return acknowledgements;
+    }
+
+    /**
+     * Creates a record with a ModifyThing command requesting the acknowledgement "twin-persisted".
+     */
+    private static ConsumerRecord<String, String> record(final TopicPartition topicPartition, final long offset,
+            final String thingName) {
+
+        final String thingId = "ditto:" + thingName;
+        final String payload = MODIFY_THING_WITH_ACK
+                .replace("ditto/thing/", "ditto/" + thingName + "/")
+                .replace("\"ditto:thing\"", "\"" + thingId + "\"")
+                .replace("\"cid\"", "\"" + thingName + "\"");
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add("device_id", thingId.getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(TOPIC, topicPartition.partition(), offset, 0L, TimestampType.CREATE_TIME,
+                0L, ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, "key", payload, headers);
+    }
+
+    private static Long getConsumerLag(final TopicPartition topicPartition) {
+        return DittoMetrics.gauge("kafka_consumer_lag")
+                .tag("id", CONNECTION_ID.toString())
+                .tag("source", TOPIC)
+                .tag("partition", topicPartition.toString())
+                .get();
+    }
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
+        return getConsumerActorProps(mappingActor, ConnectivityModelFactory.newSourceBuilder()
+                .payloadMapping(payloadMapping));
+    }
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor,
+            final Set<AcknowledgementRequest> acknowledgementRequests) {
+        return getConsumerActorProps(mappingActor, ConnectivityModelFactory.newSourceBuilder()
+                .payloadMapping(ConnectivityModelFactory.emptyPayloadMapping())
+                .acknowledgementRequests(FilteredAcknowledgementRequest.of(acknowledgementRequests, null)));
+    }
+
+    private Props getConsumerActorProps(final ActorRef mappingActor,
+            final SourceBuilder<?> sourceBuilder) {
+
+        final Source source = sourceBuilder
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .enforcement(ENFORCEMENT)
+                .headerMapping(TestConstants.HEADER_MAPPING)
+                .replyTarget(ReplyTarget.newBuilder()
+                        .address("foo")
+                        .expectedResponseTypes(ResponseType.ERROR, ResponseType.RESPONSE, ResponseType.NACK)
+                        .build())
+                .build();
+        return KafkaConsumerActor.props(CONNECTION_ID, mappingActor, source, mockConnectionFactory(), "0");
+    }
+
+    private KafkaConnectionFactory mockConnectionFactory() {
+        mockConsumer = new RebalanceAwareMockConsumer();
+        mockConsumer.updateBeginningOffsets(Map.of(TOPIC_PARTITION, 0L, OTHER_TOPIC_PARTITION, 0L));
+        mockConsumer.updateEndOffsets(Map.of(TOPIC_PARTITION, OFFSET + 1, OTHER_TOPIC_PARTITION, OFFSET + 1));
+        // assign the partitions during the first poll after the consumer actor subscribed to the topic
+        mockConsumer.schedulePollTask(() -> mockConsumer.rebalance(List.of(TOPIC_PARTITION, OTHER_TOPIC_PARTITION)));
+        final KafkaConnectionFactory connectionFactory = mock(KafkaConnectionFactory.class);
+        when(connectionFactory.newConsumer(anyString())).thenReturn(mockConsumer);
+        return connectionFactory;
+    }
+
+    @Override
+    protected ConsumerRecord<String, String> getInboundMessage(final String payload,
+            final Map.Entry<String, Object> header) {
+
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add(header.getKey(), header.getValue().toString().getBytes(StandardCharsets.UTF_8));
+        headers.add(REPLY_TO_HEADER.getKey(), REPLY_TO_HEADER.getValue().getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(TOPIC, TOPIC_PARTITION.partition(), OFFSET, 0L, TimestampType.CREATE_TIME,
+                0L, ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, "key", payload, headers);
+    }
+
+    @Override
+    protected void deliverInboundMessage(final ActorRef consumerActor,
+            final ConsumerRecord<String, String> inboundMessage, final ActorRef sender) {
+
+        // the consumer actor polls the record after the partition was assigned during its first poll
+        final RebalanceAwareMockConsumer consumer = mockConsumer;
+        consumer.schedulePollTask(() -> consumer.addRecord(inboundMessage));
+    }
+
+    @Override
+    protected void verifyMessageSettlement(final TestKit testKit, final boolean isSuccessExpected,
+            final boolean shouldRedeliver) {
+
+        if (isSuccessExpected || !shouldRedeliver) {
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> new OffsetAndMetadata(OFFSET + 1).equals(committedOffset()));
+        } else {
+            // the consumer fetches the record again
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .until(() -> OFFSET == mockConsumer.position(TOPIC_PARTITION));
+            assertThat(committedOffset())
+                    .describedAs("Expect no commit to get a redelivery of the record")
+                    .isNull();
+        }
+    }
+
+    private OffsetAndMetadata committedOffset() {
+        return mockConsumer.committed(Collections.singleton(TOPIC_PARTITION)).get(TOPIC_PARTITION);
+    }
+
+    @Override
+    protected void testHeaderMapping() {
+        testInboundMessage(TestConstants.header("device_id", TestConstants.Things.THING_ID), true, msg -> {
+            assertThat(msg.getDittoHeaders()).containsEntry("eclipse", "ditto");
+            assertThat(msg.getDittoHeaders()).containsEntry("thing_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("device_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("prefixed_thing_id",
+                    "some.prefix." + TestConstants.Things.THING_ID);
+            assertThat(msg.getDittoHeaders()).containsEntry("suffixed_thing_id",
+                    TestConstants.Things.THING_ID + ".some.suffix");
+        }, response -> fail("not expected"));
+    }
+
+    /**
+     * Mock consumer which lets tests call the rebalance listener of the consumer actor, as the mock consumer of the
+     * Kafka client does not call it.
+     */
+    private static final class RebalanceAwareMockConsumer extends MockConsumer<String, String> {
+
+        @Nullable private ConsumerRebalanceListener rebalanceListener;
+
+        private RebalanceAwareMockConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+            rebalanceListener = null;
+        }
+
+        @Override
+        public synchronized void subscribe(final Collection<String> topics, final ConsumerRebalanceListener listener) {
+            super.subscribe(topics, listener);
+            rebalanceListener = listener;
+        }
+
+        private synchronized void revokeAndAssignAgain(final Collection<TopicPartition> topicPartitions) {
+            if (null != rebalanceListener) {
+                rebalanceListener.onPartitionsRevoked(topicPartitions);
+                rebalanceListener.onPartitionsAssigned(topicPartitions);
+            }
+        }
+
+    }
+
+}
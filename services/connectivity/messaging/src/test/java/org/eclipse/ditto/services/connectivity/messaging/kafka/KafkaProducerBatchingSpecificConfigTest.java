@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KafkaProducerBatchingSpecificConfig}.
+ */
+public final class KafkaProducerBatchingSpecificConfigTest {
+
+    private final KafkaProducerBatchingSpecificConfig underTest = KafkaProducerBatchingSpecificConfig.getInstance();
+
+    @Test
+    public void shouldNotBeApplicableWithoutBatchingConfig() {
+        final Connection connection = connectionWithSpecificConfig(Map.of("bootstrapServers", "localhost:9092"));
+
+        assertThat(underTest.isApplicable(connection)).isFalse();
+
+        final HashMap<String, Object> properties = new HashMap<>();
+        underTest.apply(properties, connection);
+        assertThat(properties).isEmpty();
+    }
+
+    @Test
+    public void shouldApplyValidBatchingConfig() {
+        final Connection connection = connectionWithSpecificConfig(Map.of(
+                KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_LINGER_MS_KEY, "5",
+                KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_BATCH_SIZE_KEY, "65536",
+                KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, "lz4"));
+
+        assertThat(underTest.isApplicable(connection)).isTrue();
+        assertThat(underTest.isValid(connection)).isTrue();
+
+        final HashMap<String, Object> properties = new HashMap<>();
+        underTest.apply(properties, connection);
+        assertThat(properties)
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, "5")
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, "65536")
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+    }
+
+    @Test
+    public void shouldApplyPartialBatchingConfig() {
+        final Connection connection = connectionWithSpecificConfig(
+                Map.of(KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_LINGER_MS_KEY, "20"));
+
+        final HashMap<String, Object> properties = new HashMap<>();
+        underTest.apply(properties, connection);
+        assertThat(properties).containsOnlyKeys(ProducerConfig.LINGER_MS_CONFIG);
+    }
+
+    @Test
+    public void shouldRejectInvalidBatchingConfig() {
+        shouldNotBeValid(KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_LINGER_MS_KEY, "-1");
+        shouldNotBeValid(KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_LINGER_MS_KEY, "5ms");
+        shouldNotBeValid(KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_BATCH_SIZE_KEY, "4294967296");
+        shouldNotBeValid(KafkaProducerBatchingSpecificConfig.SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, "brotli");
+    }
+
+    private void shouldNotBeValid(final String key, final String value) {
+        final Connection connection = connectionWithSpecificConfig(Map.of(key, value));
+
+        assertThat(underTest.isValid(connection)).withFailMessage("%s: %s", key, value).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, DittoHeaders.empty()));
+
+        final HashMap<String, Object> properties = new HashMap<>();
+        underTest.apply(properties, connection);
+        assertThat(properties).isEmpty();
+    }
+
+    private static Connection connectionWithSpecificConfig(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(TestConstants.createRandomConnectionId(),
+                ConnectionType.KAFKA, ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("target")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .qos(1)
+                        .topics(Topic.LIVE_EVENTS)
+                        .build()))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -73,9 +74,9 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
 
     private static final String OUTBOUND_ADDRESS = "anyTopic/keyA";
 
-    private final Queue<ProducerRecord<String, String>> received = new ConcurrentLinkedQueue<>();
+    private final Queue<ProducerRecord<String, ByteBuffer>> received = new ConcurrentLinkedQueue<>();
     private KafkaConnectionFactory connectionFactory;
-    private Producer<String, String> mockProducer;
+    private Producer<String, ByteBuffer> mockProducer;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -85,7 +86,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         when(connectionFactory.newProducer()).thenReturn(mockProducer);
         when(mockProducer.send(any(), any()))
                 .thenAnswer(invocationOnMock -> {
-                    final ProducerRecord<String, String> record = invocationOnMock.getArgument(0);
+                    final ProducerRecord<String, ByteBuffer> record = invocationOnMock.getArgument(0);
                     final RecordMetadata dummyMetadata =
                             new RecordMetadata(new TopicPartition("topic", 5), 0L, 0L, 0L, 0L, 0, 0);
                     invocationOnMock.getArgument(1, Callback.class).onCompletion(dummyMetadata, null);
@@ -117,12 +118,12 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     @Override
     protected void verifyPublishedMessage() {
         Awaitility.await().until(() -> !received.isEmpty());
-        final ProducerRecord<String, String> record = checkNotNull(received.poll());
+        final ProducerRecord<String, ByteBuffer> record = checkNotNull(received.poll());
         assertThat(received).isEmpty();
         assertThat(record).isNotNull();
         assertThat(record.topic()).isEqualTo("anyTopic");
         assertThat(record.key()).isEqualTo("keyA");
-        assertThat(record.value()).isEqualTo("payload");
+        assertThat(StandardCharsets.UTF_8.decode(record.value()).toString()).isEqualTo("payload");
         final List<Header> headers = Arrays.asList(record.headers().toArray());
         shouldContainHeader(headers, "thing_id", TestConstants.Things.THING_ID.toString());
         shouldContainHeader(headers, "suffixed_thing_id", TestConstants.Things.THING_ID + ".some.suffix");
@@ -134,7 +135,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     @Override
     protected void verifyPublishedMessageToReplyTarget() {
         Awaitility.await().until(() -> !received.isEmpty());
-        final ProducerRecord<String, String> record = checkNotNull(received.poll());
+        final ProducerRecord<String, ByteBuffer> record = checkNotNull(received.poll());
         assertThat(received).isEmpty();
         assertThat(record.topic()).isEqualTo("replyTarget");
         assertThat(record.key()).isEqualTo("thing:id");
@@ -212,6 +213,42 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         };
     }
 
+    @Test
+    public void bytePayloadIsPublishedUnchanged() {
+        new TestKit(actorSystem) {{
+            final TestProbe probe = new TestProbe(actorSystem);
+            setupMocks(probe);
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+
+            // not valid UTF-8
+            final byte[] payload = {(byte) 0xC3, (byte) 0x28, 0x00, (byte) 0xFF};
+            final Target target = ConnectivityModelFactory.newTargetBuilder()
+                    .address(getOutboundAddress())
+                    .originalAddress(getOutboundAddress())
+                    .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                    .topics(Topic.TWIN_EVENTS)
+                    .build();
+            final ThingEvent source = ThingDeleted.of(TestConstants.Things.THING_ID, 99L, DittoHeaders.empty());
+            final OutboundSignal outboundSignal = OutboundSignalFactory.newOutboundSignal(source, List.of(target));
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(Map.of())
+                    .withBytes(payload)
+                    .build();
+            final Adaptable adaptable = DittoProtocolAdapter.newInstance().toAdaptable(source);
+            final OutboundSignal.Mapped mappedSignal =
+                    OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable, externalMessage);
+
+            publisherActor.tell(OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(mappedSignal), getRef()),
+                    getRef());
+
+            Awaitility.await().until(() -> !received.isEmpty());
+            final ByteBuffer value = checkNotNull(received.poll()).value();
+            final byte[] publishedBytes = new byte[value.remaining()];
+            value.get(publishedBytes);
+            assertThat(publishedBytes).containsExactly(payload);
+        }};
+    }
+
     @Test
     public void retriableExceptionBecomesInternalErrorAcknowledgement() {
         testSendFailure(new DisconnectException(), (sender, parent) ->
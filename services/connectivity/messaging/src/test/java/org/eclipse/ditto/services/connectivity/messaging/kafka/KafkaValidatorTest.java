@@ -77,11 +77,19 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        underTest.validateSource(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events"),
+                DittoHeaders.empty(), () -> "");
+        underTest.validateSource(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto.events-1"),
+                DittoHeaders.empty(), () -> "");
+    }
 
-        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+    @Test
+    public void testInvalidSourceAddress() {
+        verifySourceIsInvalid("");
+        verifySourceIsInvalid("ditto/{{thing:id}}");
+        verifySourceIsInvalid("events#1");
+        verifySourceIsInvalid("ditto*a");
     }
 
     @Test
@@ -151,6 +159,13 @@ public final class KafkaValidatorTest {
                 .build();
     }
 
+    private void verifySourceIsInvalid(final String address) {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, address);
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+    }
+
     private void verifyConnectionConfigurationInvalidExceptionIsThrown(final Connection connection) {
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
                 .isThrownBy(() -> underTest.validate(connection, DittoHeaders.empty(), actorSystem));
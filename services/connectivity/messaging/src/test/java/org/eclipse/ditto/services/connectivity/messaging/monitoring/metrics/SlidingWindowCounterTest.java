@@ -17,6 +17,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import org.junit.Test;
 
@@ -63,4 +67,34 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void testConcurrentIncrements() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.values());
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, threads)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        for (int j = 0; j < incrementsPerThread; j++) {
+                            counter.increment();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        final Map<Duration, Long> success = counter.getCounts(true);
+        final long expected = (long) threads * incrementsPerThread;
+        assertThat(success).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), expected);
+        assertThat(success).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected);
+        assertThat(success).containsEntry(MeasurementWindow.ONE_DAY.getWindow(), expected);
+        assertThat(counter.getCounts(false)).containsOnly(
+                Map.entry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L),
+                Map.entry(MeasurementWindow.ONE_HOUR.getWindow(), 0L),
+                Map.entry(MeasurementWindow.ONE_DAY.getWindow(), 0L));
+    }
+
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.MetricDirection;
+import org.eclipse.ditto.model.connectivity.MetricType;
+import org.eclipse.ditto.model.connectivity.SourceMetrics;
+import org.eclipse.ditto.services.connectivity.messaging.config.DefaultMonitoringCounterConfig;
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.ConnectionMetricsCounter;
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.ConnectivityCounterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * JMH Benchmark of concurrent increments of the connection metrics counters: the same counters of one connection are
+ * incremented by all threads, as by the consumer, mapping and publisher actors of a busy connection. The sliding window
+ * counters are reached through the counters of a {@link ConnectivityCounterRegistry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = SlidingWindowCounterBenchmark.WARMUP_ITERATIONS,
+        time = SlidingWindowCounterBenchmark.WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = SlidingWindowCounterBenchmark.MEASUREMENT_ITERATIONS,
+        time = SlidingWindowCounterBenchmark.MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+public class SlidingWindowCounterBenchmark {
+
+    static final int WARMUP_ITERATIONS = 5;
+    static final int MEASUREMENT_ITERATIONS = 10;
+    static final int WARMUP_TIME = 1000;
+    static final int MEASUREMENT_TIME = 1000;
+
+    private static final ConnectionId CONNECTION_ID = ConnectionId.of("benchmark");
+    private static final String ADDRESS = "source";
+
+    private ConnectivityCounterRegistry registry;
+    private ConnectionMetricsCounter counter;
+
+    @Setup
+    public void setup() {
+        registry = ConnectivityCounterRegistry.fromConfig(DefaultMonitoringCounterConfig.of(ConfigFactory.empty()));
+        counter = registry.forInboundConsumed(CONNECTION_ID, ADDRESS);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void incrementSingleThreaded() {
+        counter.recordSuccess();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void incrementConcurrently() {
+        counter.recordSuccess();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordConsumedAndMappedConcurrently() {
+        registry.forInboundConsumed(CONNECTION_ID, ADDRESS).recordSuccess();
+        registry.getCounter(CONNECTION_ID, MetricType.MAPPED, MetricDirection.INBOUND, ADDRESS).recordSuccess();
+    }
+
+    @Benchmark
+    @Group("incrementWhileRetrievingMetrics")
+    @GroupThreads(7)
+    public void increment() {
+        counter.recordSuccess();
+    }
+
+    @Benchmark
+    @Group("incrementWhileRetrievingMetrics")
+    @GroupThreads(1)
+    public SourceMetrics retrieveMetrics() {
+        return registry.aggregateSourceMetrics(CONNECTION_ID);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.mqtt.hivemq;
+
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.MODIFY_THING_WITH_ACK;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Tests common to the consumer actors of the HiveMQ MQTT 3 and MQTT 5 clients. The protocol specific publishes are
+ * created by {@link #getInboundMessage(String, java.util.Map.Entry)}.
+ *
+ * @param <P> type of the MQTT publish of the protocol version.
+ */
+public abstract class AbstractHiveMqttConsumerActorTest<P> extends AbstractConsumerActorTest<P> {
+
+    private static final int BUFFER_SIZE = 2;
+
+    @Test
+    public void inFlightMessagesStopAtBufferSizeAndResumeAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            final TestProbe clientActor = TestProbe.apply(actorSystem);
+            final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(), concierge.ref());
+            final ActorRef underTest = childActorOf(getConsumerActorProps(mappingActor, Collections.emptySet()));
+            final List<P> publishes = IntStream.range(0, BUFFER_SIZE + 1)
+                    .mapToObj(i -> getInboundMessage(MODIFY_THING_WITH_ACK,
+                            header("device_id", TestConstants.Things.THING_ID)))
+                    .collect(Collectors.toList());
+
+            Source.from(publishes)
+                    .runWith(Sink.fromSubscriber(
+                            new MqttPublishSubscriber<>(underTest, BUFFER_SIZE, new CompletableFuture<>())),
+                            ActorMaterializer.create(actorSystem));
+
+            final ModifyThing firstModifyThing = concierge.expectMsgClass(ModifyThing.class);
+            final ActorRef firstAcknowledgementSender = concierge.lastSender();
+            concierge.expectMsgClass(ModifyThing.class);
+            concierge.expectNoMessage(FiniteDuration.apply(1L, TimeUnit.SECONDS));
+
+            firstAcknowledgementSender.tell(ModifyThingResponse.modified(firstModifyThing.getThingEntityId(),
+                    firstModifyThing.getDittoHeaders()), concierge.ref());
+            concierge.expectMsgClass(ModifyThing.class);
+        }};
+    }
+
+}
@@ -29,7 +29,6 @@ import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
 import org.eclipse.ditto.model.connectivity.ReplyTarget;
-import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttSpecificConfig;
 import org.junit.Ignore;
@@ -46,7 +45,7 @@ import akka.testkit.javadsl.TestKit;
 /**
  * Unit test for {@link HiveMqtt3ConsumerActor}.
  */
-public final class HiveMqtt3ConsumerActorTest extends AbstractConsumerActorTest<Mqtt3Publish> {
+public final class HiveMqtt3ConsumerActorTest extends AbstractHiveMqttConsumerActorTest<Mqtt3Publish> {
 
     final CountDownLatch confirmLatch = new CountDownLatch(1);
 
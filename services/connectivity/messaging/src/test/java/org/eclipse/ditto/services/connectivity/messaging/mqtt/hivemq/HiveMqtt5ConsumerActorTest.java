@@ -32,7 +32,6 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.HeaderMapping;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
 import org.eclipse.ditto.model.connectivity.ReplyTarget;
-import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttSpecificConfig;
 
@@ -48,7 +47,7 @@ import akka.testkit.javadsl.TestKit;
 /**
  * Unit test for {@link HiveMqtt5ConsumerActor}.
  */
-public final class HiveMqtt5ConsumerActorTest extends AbstractConsumerActorTest<Mqtt5Publish> {
+public final class HiveMqtt5ConsumerActorTest extends AbstractHiveMqttConsumerActorTest<Mqtt5Publish> {
 
     private static final HeaderMapping MQTT5_HEADER_MAPPING;
 
@@ -49,10 +49,12 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.routes.things.ThingsParameter;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalSerializationCache;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.actors.EventAndResponsePublisher;
 import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
+import org.eclipse.ditto.services.gateway.streaming.actors.StreamingSession;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
@@ -103,6 +105,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
     private static final Counter THINGS_SSE_COUNTER = getCounterFor(PATH_THINGS);
     private static final Counter SEARCH_SSE_COUNTER = getCounterFor(PATH_SEARCH);
+    private static final SignalSerializationCache SERIALIZATION_CACHE = SignalSerializationCache.newInstance("sse");
 
     /**
      * Timeout asking the local streaming actor.
@@ -288,10 +291,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                             })
                             .mapAsync(streamingConfig.getParallelism(), jsonifiable ->
                                     postprocess(jsonifiable, facade, targetThingIds, namespaces, fields))
-                            .mapConcat(jsonObjects -> jsonObjects)
-                            .map(jsonValue -> {
+                            .mapConcat(jsonStrings -> jsonStrings)
+                            .map(jsonString -> {
                                 THINGS_SSE_COUNTER.increment();
-                                return ServerSentEvent.create(jsonValue.toString());
+                                return ServerSentEvent.create(jsonString);
                             })
                             .log("SSE " + PATH_THINGS)
                             // sniffer shouldn't sniff heartbeats
@@ -350,13 +353,13 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
     }
 
-    private CompletionStage<Collection<JsonObject>> postprocess(final SessionedJsonifiable jsonifiable,
+    private CompletionStage<Collection<String>> postprocess(final SessionedJsonifiable jsonifiable,
             @Nullable final SignalEnrichmentFacade facade,
             final Collection<ThingId> targetThingIds,
             final Collection<String> namespaces,
             @Nullable final JsonFieldSelector fields) {
 
-        final Supplier<CompletableFuture<Collection<JsonObject>>> emptySupplier =
+        final Supplier<CompletableFuture<Collection<String>>> emptySupplier =
                 () -> CompletableFuture.completedFuture(Collections.emptyList());
 
         if (jsonifiable.getJsonifiable() instanceof ThingEvent) {
@@ -365,17 +368,18 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
             if (!isLiveEvent && namespaceMatches(event, namespaces) && targetThingIdMatches(event, targetThingIds)) {
                 return jsonifiable.getSession()
                         .map(session -> jsonifiable.retrieveExtraFields(facade)
-                                .thenApply(extra ->
-                                        Optional.of(session.mergeThingWithExtra(event, extra))
-                                                .filter(session::matchesFilter)
-                                                .map(thing -> toNonemptyThingJson(thing, event, fields))
-                                                .orElseGet(Collections::emptyList)
-                                )
+                                .thenApply(extra -> {
+                                    // the thing is merged at most once for both the filter and the serialization
+                                    final MergedThing mergedThing = new MergedThing(session, event, extra);
+                                    return session.matchesFilter(event, extra, mergedThing)
+                                            ? toNonemptyThingJsonString(session, event, extra, fields, mergedThing)
+                                            : Collections.<String>emptyList();
+                                })
                                 .exceptionally(error -> {
                                     final DittoRuntimeException errorToReport = error instanceof DittoRuntimeException
                                             ? ((DittoRuntimeException) error)
                                             : SignalEnrichmentFailedException.newBuilder().build();
-                                    return Collections.singletonList(errorToReport.toJson());
+                                    return Collections.singletonList(errorToReport.toJsonString());
                                 })
                         )
                         .orElseGet(emptySupplier);
@@ -392,7 +396,23 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return targetThingIds.isEmpty() || targetThingIds.contains(event.getEntityId());
     }
 
-    private static Collection<JsonObject> toNonemptyThingJson(final Thing thing, final ThingEvent<?> event,
+    /**
+     * Serializes the thing of an event merged with extra fields. The serialization is shared by all sessions with
+     * the same extra fields selector, extra fields and field selector.
+     */
+    private static Collection<String> toNonemptyThingJsonString(final StreamingSession session,
+            final ThingEvent<?> event,
+            final JsonObject extra,
+            @Nullable final JsonFieldSelector fields,
+            final Supplier<Thing> mergedThing) {
+
+        final String thingJsonString = SERIALIZATION_CACHE.serialize(event,
+                Arrays.asList(session.getExtraFields().orElse(null), extra, fields),
+                () -> toThingJsonString(mergedThing.get(), event, fields));
+        return thingJsonString.isEmpty() ? Collections.emptyList() : Collections.singletonList(thingJsonString);
+    }
+
+    private static String toThingJsonString(final Thing thing, final ThingEvent<?> event,
             @Nullable final JsonFieldSelector fields) {
         final JsonSchemaVersion jsonSchemaVersion = event.getDittoHeaders()
                 .getSchemaVersion()
@@ -400,7 +420,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final JsonObject thingJson = null != fields
                 ? thing.toJson(jsonSchemaVersion, fields)
                 : thing.toJson(jsonSchemaVersion);
-        return thingJson.isEmpty() ? Collections.emptyList() : Collections.singletonList(thingJson);
+        // an empty string stands for an empty thing, which is not sent
+        return thingJson.isEmpty() ? "" : thingJson.toString();
     }
 
     private static List<String> getNamespaces(@Nullable final String namespacesParameter) {
@@ -474,4 +495,32 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
             // Does nothing.
         }
     }
+
+    /**
+     * The thing of an event merged with extra fields, merged on first access only.
+     */
+    private static final class MergedThing implements Supplier<Thing> {
+
+        private final StreamingSession session;
+        private final ThingEvent<?> event;
+        private final JsonObject extra;
+        @Nullable private Thing thing;
+
+        private MergedThing(final StreamingSession session, final ThingEvent<?> event, final JsonObject extra) {
+            this.session = session;
+            this.event = event;
+            this.extra = extra;
+            thing = null;
+        }
+
+        @Override
+        public Thing get() {
+            if (null == thing) {
+                thing = session.mergeThingWithExtra(event, extra);
+            }
+            return thing;
+        }
+
+    }
+
 }
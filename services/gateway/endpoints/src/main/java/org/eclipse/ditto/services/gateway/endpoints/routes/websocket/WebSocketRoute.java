@@ -24,6 +24,7 @@ import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.Prot
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessageType.STOP_SEND_MESSAGES;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -62,6 +63,7 @@ import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalSerializationCache;
 import org.eclipse.ditto.services.gateway.security.HttpHeader;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.IncomingSignal;
@@ -155,6 +157,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private static final Counter DROPPED_COUNTER = DittoMetrics.counter(STREAMING_MESSAGES)
             .tag(TYPE, WS)
             .tag(DIRECTION, "dropped");
+    private static final SignalSerializationCache SERIALIZATION_CACHE = SignalSerializationCache.newInstance(WS);
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
@@ -609,16 +612,33 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 );
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
             return extraFuture.<Collection<String>>thenApply(extra ->
                     matchesFilter(sessionedJsonifiable, extra)
-                            ? Collections.singletonList(toJsonStringWithExtra(adaptable, extra))
+                            ? Collections.singletonList(toJsonStringWithExtra(sessionedJsonifiable, adapter, extra))
                             : Collections.emptyList())
-                    .exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter, adaptable));
+                    .exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter,
+                            jsonifiableToAdaptable(jsonifiable, adapter)));
         };
     }
 
+    /**
+     * Serializes a Jsonifiable with extra fields. Signals published to sessions are serialized once for all sessions
+     * with the same protocol adapter and extra fields.
+     */
+    private static String toJsonStringWithExtra(final SessionedJsonifiable sessionedJsonifiable,
+            final ProtocolAdapter adapter,
+            final JsonObject extra) {
+
+        final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
+        if (jsonifiable instanceof Signal && sessionedJsonifiable.getSession().isPresent()) {
+            return SERIALIZATION_CACHE.serialize((Signal<?>) jsonifiable, Arrays.asList(adapter, extra),
+                    () -> toJsonStringWithExtra(jsonifiableToAdaptable(jsonifiable, adapter), extra));
+        } else {
+            return toJsonStringWithExtra(jsonifiableToAdaptable(jsonifiable, adapter), extra);
+        }
+    }
+
     private static Collection<String> reportEnrichmentError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable) {
@@ -665,7 +685,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .filter(session -> jsonifiable instanceof Signal)
                 .map(session ->
                         // evaluate to false if filter is present but does not match or has insufficient info to match
-                        session.matchesFilter(session.mergeThingWithExtra((Signal<?>) jsonifiable, extra))
+                        session.matchesFilter((Signal<?>) jsonifiable, extra)
                 )
                 .orElse(true);
     }
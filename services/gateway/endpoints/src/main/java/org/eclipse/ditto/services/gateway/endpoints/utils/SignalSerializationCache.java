@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.base.Signal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the serializations of signals which are published to many streaming sessions, e.g. a thing event which is
+ * delivered to thousands of WebSockets. All sessions receive the same signal instance, so that sessions which render
+ * it identically, i.e. with the same protocol adapter and extra fields, can reuse the string serialized once.
+ * <p>
+ * Signals are held weakly and compared by identity: the serializations of a signal are discarded as soon as no
+ * session holds the signal any more. The numbers of reused and of new serializations are counted in the metric
+ * {@code streaming_signal_serializations} with the tag {@code result} being {@code reused} or {@code serialized}.
+ * </p>
+ *
+ * @since 1.3.0
+ */
+@ThreadSafe
+public final class SignalSerializationCache {
+
+    private static final String METRIC_NAME = "streaming_signal_serializations";
+
+    private final Cache<Signal<?>, Map<Object, String>> serializations;
+    private final Counter reusedCounter;
+    private final Counter serializedCounter;
+
+    private SignalSerializationCache(final String type) {
+        serializations = Caffeine.newBuilder().weakKeys().build();
+        reusedCounter = DittoMetrics.counter(METRIC_NAME).tag("type", type).tag("result", "reused");
+        serializedCounter = DittoMetrics.counter(METRIC_NAME).tag("type", type).tag("result", "serialized");
+    }
+
+    /**
+     * Create a cache of signal serializations.
+     *
+     * @param type the type of streaming sessions using the cache, e.g. {@code websocket} or {@code sse}.
+     * @return the cache.
+     */
+    public static SignalSerializationCache newInstance(final String type) {
+        return new SignalSerializationCache(type);
+    }
+
+    /**
+     * Get the serialization of a signal from the cache, serializing it if no session serialized it in the same way
+     * before.
+     *
+     * @param signal the signal.
+     * @param serializationKey the aspects of the serialization other than the signal itself, e.g. a list of the
+     * protocol adapter and extra fields. Keys are compared by {@code equals} and must not refer to the signal.
+     * @param serializer the serialization of the signal for the key.
+     * @return the serialized signal.
+     */
+    public String serialize(final Signal<?> signal, final Object serializationKey, final Supplier<String> serializer) {
+        final Map<Object, String> serializationsOfSignal =
+                serializations.get(signal, s -> new ConcurrentHashMap<>());
+        final String cachedSerialization = serializationsOfSignal.get(serializationKey);
+        if (null != cachedSerialization) {
+            reusedCounter.increment();
+            return cachedSerialization;
+        }
+        // serialize outside of any lock; concurrent sessions may serialize the signal more than once
+        final String serialization = serializer.get();
+        serializedCounter.increment();
+        final String previousSerialization = serializationsOfSignal.putIfAbsent(serializationKey, serialization);
+        return null != previousSerialization ? previousSerialization : serialization;
+    }
+
+}
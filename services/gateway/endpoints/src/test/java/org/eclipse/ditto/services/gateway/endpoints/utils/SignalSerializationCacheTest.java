@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SignalSerializationCache}.
+ */
+public final class SignalSerializationCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+
+    private SignalSerializationCache underTest;
+    private AtomicInteger serializations;
+
+    @Before
+    public void setUp() {
+        underTest = SignalSerializationCache.newInstance("test");
+        serializations = new AtomicInteger();
+    }
+
+    @Test
+    public void serializeSignalOncePerKey() {
+        final ThingDeleted signal = ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+
+        assertThat(underTest.serialize(signal, "key1", serializer("json1"))).isEqualTo("json1");
+        assertThat(underTest.serialize(signal, "key1", serializer("other"))).isEqualTo("json1");
+        assertThat(serializations).hasValue(1);
+
+        assertThat(underTest.serialize(signal, "key2", serializer("json2"))).isEqualTo("json2");
+        assertThat(underTest.serialize(signal, "key2", serializer("other"))).isEqualTo("json2");
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    public void equalSignalInstancesAreSerializedSeparately() {
+        final ThingDeleted signal1 = ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+        final ThingDeleted signal2 = ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+
+        assertThat(signal1).isEqualTo(signal2);
+        assertThat(underTest.serialize(signal1, "key", serializer("json1"))).isEqualTo("json1");
+        assertThat(underTest.serialize(signal2, "key", serializer("json2"))).isEqualTo("json2");
+        assertThat(serializations).hasValue(2);
+    }
+
+    private Supplier<String> serializer(final String result) {
+        return () -> {
+            serializations.incrementAndGet();
+            return result;
+        };
+    }
+
+}
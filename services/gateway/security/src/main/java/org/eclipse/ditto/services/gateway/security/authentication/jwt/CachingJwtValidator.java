@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.common.BinaryValidationResult;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * A {@link JwtValidator} remembering the tokens it validated successfully until they expire, so that the signature of
+ * a token which is sent repeatedly is verified only once.
+ * Tokens are identified by the SHA-256 hash of their encoded form; invalid tokens are not remembered.
+ */
+@ThreadSafe
+public final class CachingJwtValidator implements JwtValidator {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final JwtValidator delegate;
+    private final Cache<String, Instant> validatedTokens;
+
+    private CachingJwtValidator(final JwtValidator delegate, final Cache<String, Instant> validatedTokens) {
+        this.delegate = delegate;
+        this.validatedTokens = validatedTokens;
+    }
+
+    /**
+     * Creates a new {@code CachingJwtValidator} instance.
+     *
+     * @param delegate the validator performing the actual validation of tokens not in the cache.
+     * @param cacheConfig the config of the cache; its expire-after-write setting limits how long a token is
+     * remembered if it expires later.
+     * @param cacheName the name of the cache, used for metrics.
+     * @param executor the executor of the cache.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JwtValidator of(final JwtValidator delegate,
+            final CacheConfig cacheConfig,
+            final String cacheName,
+            final Executor executor) {
+
+        checkNotNull(delegate, "delegate");
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(cacheName, "cacheName");
+        final Cache<String, Instant> validatedTokens =
+                CacheFactory.createCache(cacheConfig, new ExpireAtTokenExpiration(cacheConfig.getExpireAfterWrite()),
+                        cacheName, executor);
+        return new CachingJwtValidator(delegate, validatedTokens);
+    }
+
+    @Override
+    public CompletableFuture<BinaryValidationResult> validate(final JsonWebToken jsonWebToken) {
+        final String tokenHash = hash(jsonWebToken.getToken());
+        return validatedTokens.getIfPresent(tokenHash).thenCompose(expirationTime -> {
+            if (expirationTime.isPresent() && Instant.now().isBefore(expirationTime.get())) {
+                return CompletableFuture.completedFuture(BinaryValidationResult.valid());
+            } else {
+                return delegate.validate(jsonWebToken).thenApply(result -> {
+                    if (result.isValid()) {
+                        // tokens without expiration time are validated on each use
+                        jsonWebToken.getBody()
+                                .getValue(JsonWebToken.JsonFields.EXP)
+                                .map(Instant::ofEpochSecond)
+                                .ifPresent(expiration -> validatedTokens.put(tokenHash, expiration));
+                    }
+                    return result;
+                });
+            }
+        });
+    }
+
+    private static String hash(final String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            final byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Lets each cached token expire at its expiration time, but not later than the configured maximum duration.
+     */
+    private static final class ExpireAtTokenExpiration implements Expiry<String, Instant> {
+
+        private final Duration maxDuration;
+
+        private ExpireAtTokenExpiration(final Duration maxDuration) {
+            this.maxDuration = maxDuration;
+        }
+
+        @Override
+        public long expireAfterCreate(final String tokenHash, final Instant expirationTime, final long currentTime) {
+            final Duration untilExpiration = Duration.between(Instant.now(), expirationTime);
+            if (untilExpiration.isNegative()) {
+                return 0L;
+            } else if (untilExpiration.compareTo(maxDuration) <= 0) {
+                return untilExpiration.toNanos();
+            } else {
+                return maxDuration.toNanos();
+            }
+        }
+
+        @Override
+        public long expireAfterUpdate(final String tokenHash, final Instant expirationTime, final long currentTime,
+                final long currentDuration) {
+            return expireAfterCreate(tokenHash, expirationTime, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String tokenHash, final Instant expirationTime, final long currentTime,
+                final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.concurrent.ForkJoinPool;
+
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.gateway.security.utils.HttpClientFacade;
@@ -26,9 +28,11 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 public final class JwtAuthenticationFactory {
 
     private static final String PUBLIC_KEY_CACHE_NAME = "ditto_authorization_jwt_publicKeys_cache";
+    private static final String VALIDATED_JWT_CACHE_NAME = "ditto_authorization_jwt_validated_cache";
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    @Nullable private final CacheConfig jwtCacheConfig;
     private final HttpClientFacade httpClientFacade;
 
     @Nullable private JwtValidator jwtValidator;
@@ -37,9 +41,11 @@ public final class JwtAuthenticationFactory {
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            @Nullable final CacheConfig jwtCacheConfig,
             final HttpClientFacade httpClientFacade) {
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.jwtCacheConfig = jwtCacheConfig;
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
     }
 
@@ -54,12 +60,35 @@ public final class JwtAuthenticationFactory {
     public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
             final HttpClientFacade httpClientFacade) {
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade);
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, null, httpClientFacade);
+    }
+
+    /**
+     * Creates a new {@code JwtAuthenticationFactory} instance whose validator remembers validated tokens.
+     *
+     * @param oAuthConfig the OAuth configuration.
+     * @param publicKeyCacheConfig  the public key cache configuration.
+     * @param jwtCacheConfig the configuration of the cache of validated tokens. A maximum size of 0 disables it.
+     * @param httpClientFacade the client facade of the HTTP client.
+     * @return the new created instance.
+     */
+    public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
+            final CacheConfig publicKeyCacheConfig,
+            final CacheConfig jwtCacheConfig,
+            final HttpClientFacade httpClientFacade) {
+        checkNotNull(jwtCacheConfig, "jwtCacheConfig");
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, jwtCacheConfig, httpClientFacade);
     }
 
     public JwtValidator getJwtValidator() {
         if (null == jwtValidator) {
-            jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            final JwtValidator defaultJwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            if (null != jwtCacheConfig && jwtCacheConfig.getMaximumSize() > 0) {
+                jwtValidator = CachingJwtValidator.of(defaultJwtValidator, jwtCacheConfig, VALIDATED_JWT_CACHE_NAME,
+                        ForkJoinPool.commonPool());
+            } else {
+                jwtValidator = defaultJwtValidator;
+            }
         }
         return jwtValidator;
     }
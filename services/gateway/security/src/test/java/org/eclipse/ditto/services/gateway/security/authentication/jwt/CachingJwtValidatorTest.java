@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.ditto.model.base.common.BinaryValidationResult;
+import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.typesafe.config.ConfigFactory;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Unit test for {@link CachingJwtValidator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class CachingJwtValidatorTest {
+
+    private static final CacheConfig CACHE_CONFIG = DefaultCacheConfig.of(
+            ConfigFactory.parseString("jwt { maximum-size = 100, expire-after-write = 15m }"), "jwt");
+
+    private static final JsonWebToken EXPIRING_JSON_WEB_TOKEN =
+            ImmutableJsonWebToken.fromAuthorization("Bearer " + Jwts.builder()
+                    .setHeaderParam("kid", JwtTestConstants.KEY_ID)
+                    .setIssuer(JwtTestConstants.ISSUER)
+                    .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                    .signWith(JwtTestConstants.PRIVATE_KEY, SignatureAlgorithm.RS256)
+                    .compact());
+
+    private static final JsonWebToken NON_EXPIRING_JSON_WEB_TOKEN =
+            ImmutableJsonWebToken.fromAuthorization("Bearer " + JwtTestConstants.VALID_JWT_TOKEN);
+
+    @Mock
+    private JwtValidator delegate;
+
+    @Test
+    public void validTokenIsValidatedOnlyOnce() throws ExecutionException, InterruptedException {
+        when(delegate.validate(EXPIRING_JSON_WEB_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(BinaryValidationResult.valid()));
+        final JwtValidator underTest = createCachingJwtValidator();
+
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+
+        verify(delegate, times(1)).validate(EXPIRING_JSON_WEB_TOKEN);
+    }
+
+    @Test
+    public void invalidTokenIsNotCached() throws ExecutionException, InterruptedException {
+        when(delegate.validate(EXPIRING_JSON_WEB_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(
+                        BinaryValidationResult.invalid(new IllegalStateException("invalid"))));
+        final JwtValidator underTest = createCachingJwtValidator();
+
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isFalse();
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isFalse();
+
+        verify(delegate, times(2)).validate(EXPIRING_JSON_WEB_TOKEN);
+    }
+
+    @Test
+    public void tokenWithoutExpirationIsNotCached() throws ExecutionException, InterruptedException {
+        when(delegate.validate(NON_EXPIRING_JSON_WEB_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(BinaryValidationResult.valid()));
+        final JwtValidator underTest = createCachingJwtValidator();
+
+        assertThat(underTest.validate(NON_EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+        assertThat(underTest.validate(NON_EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+
+        verify(delegate, times(2)).validate(NON_EXPIRING_JSON_WEB_TOKEN);
+    }
+
+    private JwtValidator createCachingJwtValidator() {
+        return CachingJwtValidator.of(delegate, CACHE_CONFIG, "test_jwt_cache", Runnable::run);
+    }
+
+}
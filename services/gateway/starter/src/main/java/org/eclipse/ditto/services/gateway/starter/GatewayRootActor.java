@@ -140,7 +140,8 @@ final class GatewayRootActor extends DittoRootActor {
 
         final JwtAuthenticationFactory jwtAuthenticationFactory =
                 JwtAuthenticationFactory.newInstance(authenticationConfig.getOAuthConfig(),
-                        gatewayConfig.getCachesConfig().getPublicKeysConfig(), httpClient);
+                        gatewayConfig.getCachesConfig().getPublicKeysConfig(),
+                        gatewayConfig.getCachesConfig().getJwtConfig(), httpClient);
 
         final ProtocolAdapterProvider protocolAdapterProvider =
                 ProtocolAdapterProvider.load(gatewayConfig.getProtocolConfig(), actorSystem);
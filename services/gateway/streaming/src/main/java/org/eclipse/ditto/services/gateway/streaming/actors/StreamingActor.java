@@ -58,6 +58,9 @@ public final class StreamingActor extends AbstractActorWithTimers
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef commandRouter;
     private final Gauge streamingSessionsCounter;
+    private final Gauge distinctStreamingFiltersCounter;
+    private final Gauge totalStreamingFiltersCounter;
+    private final StreamingFilters streamingFilters;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final Props subscriptionManagerProps;
@@ -90,6 +93,9 @@ public final class StreamingActor extends AbstractActorWithTimers
         this.streamingConfig = streamingConfig;
         this.headerTranslator = headerTranslator;
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
+        distinctStreamingFiltersCounter = DittoMetrics.gauge("streaming_filters_count").tag("type", "distinct");
+        totalStreamingFiltersCounter = DittoMetrics.gauge("streaming_filters_count").tag("type", "total");
+        streamingFilters = new StreamingFilters();
         jwtValidator = jwtAuthenticationFactory.getJwtValidator();
         jwtAuthenticationResultProvider = jwtAuthenticationFactory.newJwtAuthenticationResultProvider();
         subscriptionManagerProps =
@@ -143,7 +149,8 @@ public final class StreamingActor extends AbstractActorWithTimers
                     final ActorRef streamingSessionActor = getContext().actorOf(
                             StreamingSessionActor.props(connect, dittoProtocolSub,
                                     commandRouter, streamingConfig.getAcknowledgementConfig(), headerTranslator,
-                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider),
+                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider,
+                                    streamingFilters),
                             sessionActorName);
                     getSender().tell(streamingSessionActor, ActorRef.noSender());
                 })
@@ -185,6 +192,8 @@ public final class StreamingActor extends AbstractActorWithTimers
             streamingSessionsCounter.set(
                     StreamSupport.stream(getContext().getChildren().spliterator(), false).count());
         }
+        distinctStreamingFiltersCounter.set(streamingFilters.getDistinctFiltersCount());
+        totalStreamingFiltersCounter.set(streamingFilters.getTotalFiltersCount());
     }
 
     /**
@@ -193,7 +202,8 @@ public final class StreamingActor extends AbstractActorWithTimers
     public enum Control {
 
         /**
-         * Tell streaming actor to set the stream counter to its current number of child actors.
+         * Tell streaming actor to set the stream counter to its current number of child actors and to update the
+         * counters of the streaming filters.
          */
         SCRAPE_STREAM_COUNTER,
 
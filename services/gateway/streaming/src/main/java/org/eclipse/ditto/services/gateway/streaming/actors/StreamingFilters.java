@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.base.Signal;
+
+/**
+ * Interns the filters of all streaming sessions of a gateway instance.
+ * Sessions with the same filter, namespaces and extra fields share one compiled filter, which is parsed only once
+ * and evaluates a signal only once for all sessions receiving it.
+ */
+@ThreadSafe
+final class StreamingFilters {
+
+    private final Map<Key, InternedFilter> filters;
+    private final AtomicLong totalFilters;
+
+    StreamingFilters() {
+        filters = new ConcurrentHashMap<>();
+        totalFilters = new AtomicLong();
+    }
+
+    /**
+     * Returns the interned filter for the given parameters, parsing the filter if no session uses it yet.
+     * Each acquired filter has to be released by {@link #release(InternedFilter)} when the session ends.
+     *
+     * @param filter the RQL filter string.
+     * @param namespaces the namespaces of the session.
+     * @param extraFields the extra fields of the session.
+     * @param dittoHeaders the headers to report parse errors with.
+     * @return the interned filter.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the filter is invalid.
+     */
+    InternedFilter acquire(final String filter, final List<String> namespaces,
+            @Nullable final JsonFieldSelector extraFields, final DittoHeaders dittoHeaders) {
+
+        final Key key = new Key(filter, namespaces, extraFields);
+        final InternedFilter internedFilter = filters.compute(key, (k, existing) -> {
+            final InternedFilter result = null != existing
+                    ? existing
+                    : new InternedFilter(k, CompiledThingPredicate.of(parseCriteria(filter, dittoHeaders)));
+            result.references++;
+            return result;
+        });
+        totalFilters.incrementAndGet();
+        return internedFilter;
+    }
+
+    /**
+     * Releases a filter acquired by {@link #acquire(String, List, JsonFieldSelector, DittoHeaders)}.
+     *
+     * @param internedFilter the filter to release.
+     */
+    void release(final InternedFilter internedFilter) {
+        filters.computeIfPresent(internedFilter.key, (k, existing) -> {
+            if (existing != internedFilter) {
+                return existing;
+            }
+            existing.references--;
+            return 0 < existing.references ? existing : null;
+        });
+        totalFilters.decrementAndGet();
+    }
+
+    /**
+     * @return the number of distinct filters of all sessions.
+     */
+    long getDistinctFiltersCount() {
+        return filters.size();
+    }
+
+    /**
+     * @return the number of filters of all sessions including duplicates.
+     */
+    long getTotalFiltersCount() {
+        return totalFilters.get();
+    }
+
+    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
+                new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    }
+
+    /**
+     * A compiled filter shared by all sessions with the same filter, namespaces and extra fields.
+     */
+    @ThreadSafe
+    static final class InternedFilter {
+
+        private final Key key;
+        private final CompiledThingPredicate predicate;
+        @Nullable private volatile Evaluation lastEvaluation;
+
+        // guarded by the compute methods of the filters map
+        private int references;
+
+        private InternedFilter(final Key key, final CompiledThingPredicate predicate) {
+            this.key = key;
+            this.predicate = predicate;
+            lastEvaluation = null;
+            references = 0;
+        }
+
+        /**
+         * Test whether a thing matches this filter.
+         *
+         * @param thing the thing.
+         * @return whether the thing passes the filter.
+         */
+        boolean test(final Thing thing) {
+            return predicate.test(thing);
+        }
+
+        /**
+         * Test whether the thing of a signal merged with extra fields matches this filter.
+         * All sessions sharing this filter receive the same signal instance, thus the result of the last evaluation
+         * is reused for the same signal and extra fields.
+         *
+         * @param signal the signal.
+         * @param extra the extra fields retrieved for the signal.
+         * @param mergedThing supplier of the thing of the signal merged with the extra fields.
+         * @return whether the merged thing passes the filter.
+         */
+        boolean test(final Signal<?> signal, final JsonObject extra, final Supplier<Thing> mergedThing) {
+            final Evaluation evaluation = lastEvaluation;
+            if (null != evaluation && evaluation.signal == signal && evaluation.extra.equals(extra)) {
+                return evaluation.result;
+            }
+            final boolean result = predicate.test(mergedThing.get());
+            lastEvaluation = new Evaluation(signal, extra, result);
+            return result;
+        }
+
+    }
+
+    @Immutable
+    private static final class Evaluation {
+
+        private final Signal<?> signal;
+        private final JsonObject extra;
+        private final boolean result;
+
+        private Evaluation(final Signal<?> signal, final JsonObject extra, final boolean result) {
+            this.signal = signal;
+            this.extra = extra;
+            this.result = result;
+        }
+
+    }
+
+    @Immutable
+    private static final class Key {
+
+        private final String filter;
+        private final List<String> namespaces;
+        @Nullable private final JsonFieldSelector extraFields;
+
+        private Key(final String filter, final List<String> namespaces,
+                @Nullable final JsonFieldSelector extraFields) {
+            this.filter = filter;
+            this.namespaces = namespaces;
+            this.extraFields = extraFields;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return Objects.equals(filter, that.filter) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    Objects.equals(extraFields, that.extraFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, namespaces, extraFields);
+        }
+
+    }
+
+}
@@ -14,14 +14,12 @@ package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
@@ -32,22 +30,20 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 public final class StreamingSession {
 
     private final List<String> namespaces;
-    private final Predicate<Thing> thingPredicate;
+    @Nullable private final StreamingFilters.InternedFilter filter;
     @Nullable private final JsonFieldSelector extraFields;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+    private StreamingSession(final List<String> namespaces, @Nullable final StreamingFilters.InternedFilter filter,
             @Nullable final JsonFieldSelector extraFields) {
         this.namespaces = namespaces;
-        thingPredicate = eventFilterCriteria == null
-                ? thing -> true
-                : ThingPredicateVisitor.apply(eventFilterCriteria);
+        this.filter = filter;
         this.extraFields = extraFields;
     }
 
-    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+    static StreamingSession of(final List<String> namespaces, @Nullable final StreamingFilters.InternedFilter filter,
             @Nullable final JsonFieldSelector extraFields) {
 
-        return new StreamingSession(namespaces, eventFilterCriteria, extraFields);
+        return new StreamingSession(namespaces, filter, extraFields);
     }
 
     /**
@@ -84,6 +80,37 @@ public final class StreamingSession {
      * @return whether the thing passes the filter.
      */
     public boolean matchesFilter(final Thing thing) {
-        return thingPredicate.test(thing);
+        return null == filter || filter.test(thing);
     }
+
+    /**
+     * Test whether the thing of a signal merged with extra fields matches the filter defined in this session.
+     * The filter is evaluated only once per signal for all sessions sharing it.
+     *
+     * @param signal the signal.
+     * @param extra extra fields from signal enrichment.
+     * @return whether the merged thing passes the filter.
+     */
+    public boolean matchesFilter(final Signal<?> signal, final JsonObject extra) {
+        return matchesFilter(signal, extra, () -> mergeThingWithExtra(signal, extra));
+    }
+
+    /**
+     * Test whether the thing of a signal merged with extra fields matches the filter defined in this session.
+     * The filter is evaluated only once per signal for all sessions sharing it.
+     *
+     * @param signal the signal.
+     * @param extra extra fields from signal enrichment.
+     * @param mergedThing supplier of the thing of the signal merged with the extra fields, as returned by
+     * {@link #mergeThingWithExtra(Signal, JsonObject)}, so that callers may reuse a thing they merged anyway.
+     * @return whether the merged thing passes the filter.
+     */
+    public boolean matchesFilter(final Signal<?> signal, final JsonObject extra, final Supplier<Thing> mergedThing) {
+        return null == filter || filter.test(signal, extra, mergedThing);
+    }
+
+    Optional<StreamingFilters.InternedFilter> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.entity.id.EntityIdWithType;
@@ -36,12 +37,6 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -107,6 +102,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final Map<StreamingType, StreamingSession> streamingSessions;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
+    private final StreamingFilters streamingFilters;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
     private final DittoDiagnosticLoggingAdapter logger;
 
@@ -121,7 +117,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingFilters streamingFilters) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -132,6 +129,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         this.acknowledgementConfig = acknowledgementConfig;
         this.jwtValidator = jwtValidator;
         this.jwtAuthenticationResultProvider = jwtAuthenticationResultProvider;
+        this.streamingFilters = streamingFilters;
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
@@ -163,6 +161,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      * @param subscriptionManagerProps Props of the subscription manager for search protocol.
      * @param jwtValidator validator of JWT tokens.
      * @param jwtAuthenticationResultProvider provider of JWT authentication results.
+     * @param streamingFilters the filters shared with all other streaming sessions.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
@@ -172,16 +171,19 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingFilters streamingFilters) {
 
         return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub,
                 commandRouter, acknowledgementConfig, headerTranslator, subscriptionManagerProps, jwtValidator,
-                jwtAuthenticationResultProvider);
+                jwtAuthenticationResultProvider, streamingFilters);
     }
 
     @Override
     public void postStop() {
         cancelSessionTimeout();
+        streamingSessions.values().forEach(this::releaseFilter);
+        streamingSessions.clear();
         logger.info("Closing <{}> streaming session.", type);
     }
 
@@ -262,12 +264,14 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 .match(StartStreaming.class, startStreaming -> {
                     authorizationContext = startStreaming.getAuthorizationContext();
                     logger.setCorrelationId(connectionCorrelationId);
-                    Criteria criteria;
+                    @Nullable final JsonFieldSelector extraFields = startStreaming.getExtraFields().orElse(null);
+                    final StreamingFilters.InternedFilter filter;
                     try {
-                        criteria = startStreaming.getFilter()
-                                .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
-                                        .correlationId(startStreaming.getConnectionCorrelationId())
-                                        .build()))
+                        filter = startStreaming.getFilter()
+                                .map(f -> streamingFilters.acquire(f, startStreaming.getNamespaces(), extraFields,
+                                        DittoHeaders.newBuilder()
+                                                .correlationId(startStreaming.getConnectionCorrelationId())
+                                                .build()))
                                 .orElse(null);
                     } catch (final DittoRuntimeException e) {
                         logger.info("Got 'DittoRuntimeException' <{}> session during 'StartStreaming' processing:" +
@@ -275,9 +279,13 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.tell(SessionedJsonifiable.error(e), getSelf());
                         return;
                     }
-                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
-                            startStreaming.getExtraFields().orElse(null));
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    final StreamingSession session =
+                            StreamingSession.of(startStreaming.getNamespaces(), filter, extraFields);
+                    @Nullable final StreamingSession previousSession =
+                            streamingSessions.put(startStreaming.getStreamingType(), session);
+                    if (null != previousSession) {
+                        releaseFilter(previousSession);
+                    }
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -294,7 +302,11 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    @Nullable final StreamingSession removedSession =
+                            streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (null != removedSession) {
+                        releaseFilter(removedSession);
+                    }
 
                     // In Cluster: Unsubscribe
                     final ConfirmUnsubscription unsubscribeConfirmation =
@@ -557,14 +569,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    private void releaseFilter(final StreamingSession session) {
+        session.getFilter().ifPresent(streamingFilters::release);
     }
 
     private void confirmSubscription(final StreamingType streamingType, final ActorRef self) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamingFilters}.
+ */
+public final class StreamingFiltersTest {
+
+    private static final String FILTER = "eq(attributes/location,\"kitchen\")";
+    private static final List<String> NAMESPACES = Collections.singletonList("org.eclipse.ditto");
+
+    @Test
+    public void identicalFiltersAreParsedOnce() {
+        final StreamingFilters underTest = new StreamingFilters();
+
+        final StreamingFilters.InternedFilter first = underTest.acquire(FILTER, NAMESPACES, null, DittoHeaders.empty());
+        final StreamingFilters.InternedFilter second = underTest.acquire(FILTER, NAMESPACES, null, DittoHeaders.empty());
+        final StreamingFilters.InternedFilter otherNamespaces =
+                underTest.acquire(FILTER, Collections.emptyList(), null, DittoHeaders.empty());
+
+        assertThat(second).isSameAs(first);
+        assertThat(otherNamespaces).isNotSameAs(first);
+        assertThat(underTest.getDistinctFiltersCount()).isEqualTo(2L);
+        assertThat(underTest.getTotalFiltersCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void filterIsRemovedWhenReleasedByAllSessions() {
+        final StreamingFilters underTest = new StreamingFilters();
+        final StreamingFilters.InternedFilter first = underTest.acquire(FILTER, NAMESPACES, null, DittoHeaders.empty());
+        final StreamingFilters.InternedFilter second = underTest.acquire(FILTER, NAMESPACES, null, DittoHeaders.empty());
+
+        underTest.release(first);
+        assertThat(underTest.getDistinctFiltersCount()).isEqualTo(1L);
+        assertThat(underTest.getTotalFiltersCount()).isEqualTo(1L);
+
+        underTest.release(second);
+        assertThat(underTest.getDistinctFiltersCount()).isZero();
+        assertThat(underTest.getTotalFiltersCount()).isZero();
+        assertThat(underTest.acquire(FILTER, NAMESPACES, null, DittoHeaders.empty())).isNotSameAs(first);
+    }
+
+    @Test
+    public void invalidFilterIsNotInterned() {
+        final StreamingFilters underTest = new StreamingFilters();
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.acquire("eq(attributes/location", NAMESPACES, null,
+                        DittoHeaders.empty()));
+        assertThat(underTest.getDistinctFiltersCount()).isZero();
+        assertThat(underTest.getTotalFiltersCount()).isZero();
+    }
+
+    @Test
+    public void filterIsEvaluatedOncePerSignal() {
+        final StreamingFilters.InternedFilter underTest =
+                new StreamingFilters().acquire(FILTER, NAMESPACES, null, DittoHeaders.empty());
+        final Thing thing = Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto:thing"))
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+                .build();
+        final ThingModified signal = ThingModified.of(thing, 1L, DittoHeaders.empty());
+        final ThingModified otherSignal = ThingModified.of(thing, 2L, DittoHeaders.empty());
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        assertThat(underTest.test(signal, JsonObject.empty(), () -> countEvaluation(evaluations, thing))).isTrue();
+        assertThat(underTest.test(signal, JsonObject.empty(), () -> countEvaluation(evaluations, thing))).isTrue();
+        assertThat(evaluations).hasValue(1);
+
+        assertThat(underTest.test(otherSignal, JsonObject.empty(), () -> countEvaluation(evaluations, thing)))
+                .isTrue();
+        assertThat(evaluations).hasValue(2);
+    }
+
+    private static Thing countEvaluation(final AtomicInteger evaluations, final Thing thing) {
+        evaluations.incrementAndGet();
+        return thing;
+    }
+
+}
@@ -156,7 +156,7 @@ public final class StreamingSessionActorHeaderInteractionTest {
         final Props props = StreamingSessionActor.props(connect, dittoProtocolSub, commandRouterProbe.ref(),
                 DefaultAcknowledgementConfig.of(ConfigFactory.empty()), HeaderTranslator.empty(),
                 Props.create(TestProbeForwarder.class, subscriptionManagerProbe), Mockito.mock(JwtValidator.class),
-                Mockito.mock(JwtAuthenticationResultProvider.class));
+                Mockito.mock(JwtAuthenticationResultProvider.class), new StreamingFilters());
         final ActorRef createdActor = actorSystem.actorOf(props);
         createdActors.add(createdActor);
         return createdActor;
@@ -29,4 +29,12 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of validated JSON Web Tokens. Entries expire at the expiration
+     * time of their token at the latest.
+     *
+     * @return the config.
+     */
+    CacheConfig getJwtConfig();
+
 }
@@ -15,9 +15,12 @@ package org.eclipse.ditto.services.models.signalenrichment;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
@@ -44,12 +47,20 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
  * Retrieve additional parts of things by asking an asynchronous cache.
  * Instantiated once per cluster node so that it builds up a cache across all signal enrichments on a local cluster
  * node.
+ * <p>
+ * The cache holds one partial thing per thing and lookup headers containing the union of all fields requested for
+ * it so far. Any selector whose fields are contained in that union is served from the cached partial thing; other
+ * selectors extend the union by a single round-trip. Thing events are applied to the cached partial thing as
+ * patches if they are the next expected revision.
+ * </p>
  */
 public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFacade {
 
     private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(CachingSignalEnrichmentFacade.class);
 
-    private final Cache<EntityIdWithResourceType, JsonObject> extraFieldsCache;
+    private final SignalEnrichmentFacade cacheLoaderFacade;
+    private final Cache<EntityIdWithResourceType, PartialThing> partialThingCache;
+    private final ConcurrentMap<EntityIdWithResourceType, PartialThingLoad> loadsInFlight;
 
     private CachingSignalEnrichmentFacade(
             final SignalEnrichmentFacade cacheLoaderFacade,
@@ -57,11 +68,12 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix) {
 
-        extraFieldsCache = CacheFactory.createCache(
-                SignalEnrichmentCacheLoader.of(cacheLoaderFacade),
+        this.cacheLoaderFacade = cacheLoaderFacade;
+        partialThingCache = CacheFactory.createCache(
                 cacheConfig,
                 cacheNamePrefix + "_signal_enrichment_cache",
                 cacheLoaderExecutor);
+        loadsInFlight = new ConcurrentHashMap<>();
     }
 
     /**
@@ -94,90 +106,198 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
 
         // as second step only return what was originally requested as fields:
         return doRetrievePartialThing(thingId, jsonFieldSelector, dittoHeaders, concernedSignal)
-                .thenApply(jsonObject -> jsonObject.get(jsonFieldSelector));
+                .thenApply(partialThing -> partialThing.getJsonObject().get(jsonFieldSelector));
     }
 
-    private CompletionStage<JsonObject> doRetrievePartialThing(final ThingId thingId,
+    private CompletionStage<PartialThing> doRetrievePartialThing(final ThingId thingId,
             final JsonFieldSelector jsonFieldSelector,
             final DittoHeaders dittoHeaders,
             @Nullable final Signal<?> concernedSignal) {
 
-        final JsonFieldSelector enhancedFieldSelector = JsonFactory.newFieldSelectorBuilder()
-                .addPointers(jsonFieldSelector)
-                .addFieldDefinition(Thing.JsonFields.REVISION) // additionally always select the revision
-                .build();
-
+        // one cache entry per thing and lookup headers, shared by all selectors
         final EntityIdWithResourceType idWithResourceType =
                 EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId,
-                        CacheFactory.newCacheLookupContext(dittoHeaders, enhancedFieldSelector));
+                        CacheFactory.newCacheLookupContext(dittoHeaders, null));
 
         if (concernedSignal instanceof ThingEvent && !(ProtocolAdapter.isLiveSignal(concernedSignal))) {
             final ThingEvent<?> thingEvent = (ThingEvent<?>) concernedSignal;
-            return smartUpdateCachedObject(enhancedFieldSelector, idWithResourceType, thingEvent);
+            return smartUpdateCachedObject(jsonFieldSelector, idWithResourceType, thingEvent);
         }
-        return doCacheLookup(idWithResourceType, dittoHeaders);
+        return doCacheLookup(jsonFieldSelector, idWithResourceType, dittoHeaders);
     }
 
-    private CompletableFuture<JsonObject> doCacheLookup(final EntityIdWithResourceType idWithResourceType,
+    private CompletableFuture<PartialThing> doCacheLookup(final JsonFieldSelector jsonFieldSelector,
+            final EntityIdWithResourceType idWithResourceType,
             final DittoHeaders dittoHeaders) {
 
         LOGGER.withCorrelationId(dittoHeaders)
                 .debug("Looking up cache entry for <{}>", idWithResourceType);
-        return extraFieldsCache.get(idWithResourceType)
-                .thenApply(optionalJsonObject -> optionalJsonObject.orElseGet(JsonObject::empty));
+        return partialThingCache.getIfPresent(idWithResourceType).thenCompose(cachedPartialThing -> {
+            if (cachedPartialThing.filter(partialThing -> partialThing.contains(jsonFieldSelector)).isPresent()) {
+                return CompletableFuture.completedFuture(cachedPartialThing.get());
+            }
+            final JsonFieldSelector union = cachedPartialThing
+                    .map(partialThing -> partialThing.union(jsonFieldSelector))
+                    .orElse(jsonFieldSelector);
+            return load(idWithResourceType, union, dittoHeaders);
+        });
     }
 
-    private CompletableFuture<JsonObject> smartUpdateCachedObject(
-            final JsonFieldSelector enhancedFieldSelector,
+    private CompletableFuture<PartialThing> load(final EntityIdWithResourceType idWithResourceType,
+            final JsonFieldSelector jsonFieldSelector,
+            final DittoHeaders dittoHeaders) {
+
+        final PartialThingLoad newLoad = new PartialThingLoad(jsonFieldSelector);
+        final PartialThingLoad load = loadsInFlight.compute(idWithResourceType, (key, loadInFlight) ->
+                null != loadInFlight && loadInFlight.contains(jsonFieldSelector) ? loadInFlight : newLoad);
+        if (load == newLoad) {
+            final JsonFieldSelector enhancedFieldSelector = JsonFactory.newFieldSelectorBuilder()
+                    .addPointers(jsonFieldSelector)
+                    .addFieldDefinition(Thing.JsonFields.REVISION) // additionally always select the revision
+                    .build();
+            cacheLoaderFacade.retrievePartialThing(ThingId.of(idWithResourceType.getId()), enhancedFieldSelector,
+                    dittoHeaders, null)
+                    .whenComplete((jsonObject, error) -> {
+                        loadsInFlight.remove(idWithResourceType, newLoad);
+                        if (null != error) {
+                            newLoad.future.completeExceptionally(error);
+                        } else {
+                            final PartialThing partialThing = new PartialThing(jsonFieldSelector, jsonObject);
+                            partialThingCache.put(idWithResourceType, partialThing);
+                            newLoad.future.complete(partialThing);
+                        }
+                    });
+        }
+        return load.future;
+    }
+
+    private CompletableFuture<PartialThing> smartUpdateCachedObject(
+            final JsonFieldSelector jsonFieldSelector,
             final EntityIdWithResourceType idWithResourceType,
             final ThingEvent<?> thingEvent) {
 
         final DittoHeaders dittoHeaders = thingEvent.getDittoHeaders();
-        return doCacheLookup(idWithResourceType, dittoHeaders).thenCompose(cachedJsonObject -> {
-            final JsonObjectBuilder jsonObjectBuilder = cachedJsonObject.toBuilder();
-            final long cachedRevision = cachedJsonObject.getValue(Thing.JsonFields.REVISION).orElse(0L);
-            if (cachedRevision == thingEvent.getRevision()) {
-                // the cache entry was not present before and just loaded
-                return CompletableFuture.completedFuture(cachedJsonObject);
+        return doCacheLookup(jsonFieldSelector, idWithResourceType, dittoHeaders).thenCompose(cachedPartialThing -> {
+            final long cachedRevision = cachedPartialThing.getRevision();
+            if (cachedRevision >= thingEvent.getRevision()) {
+                // the cache entry was just loaded or the event was already applied for another selector
+                return CompletableFuture.completedFuture(cachedPartialThing);
             } else if (cachedRevision + 1 == thingEvent.getRevision()) {
                 // the cache entry was already present and the thingEvent was the next expected revision no
                 // -> we have all information necessary to calculate it without making another roundtrip
-                return handleNextExpectedThingEvent(enhancedFieldSelector, idWithResourceType, thingEvent,
-                        jsonObjectBuilder);
+                return handleNextExpectedThingEvent(idWithResourceType, thingEvent, cachedPartialThing);
             } else {
                 // the cache entry was already present, but we missed sth and need to invalidate the cache
                 // and to another cache lookup (via roundtrip)
-                extraFieldsCache.invalidate(idWithResourceType);
-                return doCacheLookup(idWithResourceType, dittoHeaders);
+                partialThingCache.invalidate(idWithResourceType);
+                return load(idWithResourceType, cachedPartialThing.getSelector(), dittoHeaders);
             }
         });
     }
 
-    private CompletionStage<JsonObject> handleNextExpectedThingEvent(final JsonFieldSelector enhancedFieldSelector,
-            final EntityIdWithResourceType idWithResourceType, final ThingEvent<?> thingEvent,
-            final JsonObjectBuilder jsonObjectBuilder) {
+    private CompletableFuture<PartialThing> handleNextExpectedThingEvent(
+            final EntityIdWithResourceType idWithResourceType,
+            final ThingEvent<?> thingEvent,
+            final PartialThing cachedPartialThing) {
 
         final JsonPointer resourcePath = thingEvent.getResourcePath();
         if (Thing.JsonFields.POLICY_ID.getPointer().equals(resourcePath) ||
                 resourcePath.toString().startsWith(Thing.JsonFields.ACL.getPointer().toString())) {
             // invalidate the cache
-            extraFieldsCache.invalidate(idWithResourceType);
+            partialThingCache.invalidate(idWithResourceType);
             // and to another cache lookup (via roundtrip):
-            return doCacheLookup(idWithResourceType, thingEvent.getDittoHeaders());
+            return load(idWithResourceType, cachedPartialThing.getSelector(), thingEvent.getDittoHeaders());
         }
+        final JsonObjectBuilder jsonObjectBuilder = cachedPartialThing.getJsonObject().toBuilder();
         final Optional<JsonValue> optEntity = thingEvent.getEntity();
         if (resourcePath.isEmpty() && optEntity.filter(JsonValue::isObject).isPresent()) {
             optEntity.map(JsonValue::asObject).ifPresent(jsonObjectBuilder::setAll);
+        } else if (optEntity.isPresent()) {
+            jsonObjectBuilder.set(resourcePath, optEntity.get());
         } else {
-            optEntity.ifPresent(entity -> jsonObjectBuilder
-                    .set(resourcePath.toString(), entity)
-            );
+            // events without entity delete their resource
+            jsonObjectBuilder.remove(resourcePath);
         }
         jsonObjectBuilder.set(Thing.JsonFields.REVISION, thingEvent.getRevision());
-        final JsonObject enhancedJsonObject = jsonObjectBuilder.build().get(enhancedFieldSelector);
-        // update local cache with enhanced object:
-        extraFieldsCache.put(idWithResourceType, enhancedJsonObject);
-        return CompletableFuture.completedFuture(enhancedJsonObject);
+        final PartialThing patchedPartialThing =
+                new PartialThing(cachedPartialThing.getSelector(), jsonObjectBuilder.build());
+        // update local cache with patched partial thing:
+        partialThingCache.put(idWithResourceType, patchedPartialThing);
+        return CompletableFuture.completedFuture(patchedPartialThing);
+    }
+
+    private static boolean contains(final JsonFieldSelector union, final JsonFieldSelector jsonFieldSelector) {
+        return jsonFieldSelector.getPointers().stream().allMatch(pointer -> contains(union, pointer));
+    }
+
+    private static boolean contains(final JsonFieldSelector union, final JsonPointer pointer) {
+        return union.getPointers().stream().anyMatch(unionPointer ->
+                unionPointer.getLevelCount() <= pointer.getLevelCount() &&
+                        pointer.getPrefixPointer(unionPointer.getLevelCount())
+                                .filter(unionPointer::equals)
+                                .isPresent());
+    }
+
+    /**
+     * The union of all fields requested for a thing together with their values, always including the revision.
+     */
+    @Immutable
+    private static final class PartialThing {
+
+        private final JsonFieldSelector selector;
+        private final JsonObject jsonObject;
+
+        private PartialThing(final JsonFieldSelector selector, final JsonObject jsonObject) {
+            // only keep the selected fields of the patched thing
+            this.selector = selector;
+            this.jsonObject = jsonObject.get(JsonFactory.newFieldSelectorBuilder()
+                    .addPointers(selector)
+                    .addFieldDefinition(Thing.JsonFields.REVISION)
+                    .build());
+        }
+
+        private JsonFieldSelector getSelector() {
+            return selector;
+        }
+
+        private JsonObject getJsonObject() {
+            return jsonObject;
+        }
+
+        private long getRevision() {
+            return jsonObject.getValue(Thing.JsonFields.REVISION).orElse(0L);
+        }
+
+        private boolean contains(final JsonFieldSelector jsonFieldSelector) {
+            return CachingSignalEnrichmentFacade.contains(selector, jsonFieldSelector);
+        }
+
+        private JsonFieldSelector union(final JsonFieldSelector jsonFieldSelector) {
+            return JsonFactory.newFieldSelectorBuilder()
+                    .addPointers(selector)
+                    .addPointers(jsonFieldSelector)
+                    .build();
+        }
+
+    }
+
+    /**
+     * A retrieval of a partial thing which is in flight, shared by all lookups whose fields it contains.
+     */
+    private static final class PartialThingLoad {
+
+        private final JsonFieldSelector selector;
+        private final CompletableFuture<PartialThing> future;
+
+        private PartialThingLoad(final JsonFieldSelector selector) {
+            this.selector = selector;
+            future = new CompletableFuture<>();
+        }
+
+        private boolean contains(final JsonFieldSelector jsonFieldSelector) {
+            return CachingSignalEnrichmentFacade.contains(selector, jsonFieldSelector);
+        }
+
     }
 
 }
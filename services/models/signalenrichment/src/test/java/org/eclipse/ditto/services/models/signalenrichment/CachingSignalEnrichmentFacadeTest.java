@@ -246,11 +246,48 @@ public final class CachingSignalEnrichmentFacadeTest extends AbstractSignalEnric
             underTest.retrievePartialThing(thingId, selector2, headers,
                     THING_EVENT.setRevision(THING_EVENT.getRevision() + 1));
 
-            // THEN: a cache lookup should be done using the other selector
+            // THEN: a cache lookup should be done using the union of both selectors
             final RetrieveThing retrieveThing2 = kit.expectMsgClass(RetrieveThing.class);
             softly.assertThat(retrieveThing2.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds())
                     .contains(userId);
-            softly.assertThat(retrieveThing2.getSelectedFields()).contains(actualSelectedFields(selector2));
+            softly.assertThat(retrieveThing2.getSelectedFields()).contains(actualSelectedFields(
+                    JsonFactory.newFieldSelectorBuilder()
+                            .addPointers(SELECTOR)
+                            .addPointers(selector2)
+                            .build()));
+        });
+    }
+
+    @Test
+    public void containedFieldSelectorIsServedFromCache() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: SignalEnrichmentFacade.retrievePartialThing()
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.dummy();
+            final DittoHeaders headers = DittoHeaders.newBuilder()
+                    .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance(ISSUER_PREFIX + "user")))
+                    .build();
+            final JsonFieldSelector wideSelector = JsonFieldSelector.newInstance("policyId", "attributes", "features");
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, wideSelector, headers, THING_EVENT);
+
+            // WHEN: Command handler receives expected RetrieveThing and responds with RetrieveThingResponse
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing.getSelectedFields()).contains(actualSelectedFields(wideSelector));
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers));
+            askResult.toCompletableFuture().join();
+
+            // WHEN: the thing is asked again with a selector contained in the first one and the next event
+            final CompletionStage<JsonObject> askResultCached =
+                    underTest.retrievePartialThing(thingId, JsonFieldSelector.newInstance("attributes/x"), headers,
+                            THING_EVENT.setRevision(THING_EVENT.getRevision() + 1));
+
+            // THEN: no cache lookup should be done and only the requested field is returned
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            askResultCached.toCompletableFuture().join();
+            softly.assertThat(askResultCached).isCompletedWithValue(JsonObject.of("{\"attributes\":{\"x\":5}}"));
         });
     }
 
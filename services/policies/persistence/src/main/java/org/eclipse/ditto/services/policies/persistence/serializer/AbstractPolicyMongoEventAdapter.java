@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -29,6 +30,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.StreamingDittoBsonJson;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
@@ -82,8 +84,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return StreamingDittoBsonJson.getInstance().toRawBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException(
                     "Unable to toJournal a non-'PolicyEvent' object! Was: " + event.getClass());
@@ -92,7 +93,10 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
 
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
-        if (event instanceof BsonValue) {
+        if (event instanceof BsonDocument) {
+            final JsonObject jsonObject = StreamingDittoBsonJson.getInstance().toJsonObject((BsonDocument) event);
+            return EventSeq.single(tryToCreateEventFrom(jsonObject));
+        } else if (event instanceof BsonValue) {
             return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
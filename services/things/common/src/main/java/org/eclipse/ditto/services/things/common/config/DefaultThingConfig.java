@@ -12,17 +12,20 @@
  */
 package org.eclipse.ditto.services.things.common.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.DefaultSupervisorConfig;
 import org.eclipse.ditto.services.base.config.supervision.SupervisorConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventBatchingConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchingConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 
 import com.typesafe.config.Config;
@@ -38,11 +41,15 @@ public final class DefaultThingConfig implements ThingConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final EventBatchingConfig eventBatchingConfig;
+    private final Duration shardRetrievalTimeout;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        eventBatchingConfig = DefaultEventBatchingConfig.of(scopedConfig);
+        shardRetrievalTimeout = scopedConfig.getDuration(ThingConfigValue.SHARD_RETRIEVAL_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -53,7 +60,7 @@ public final class DefaultThingConfig implements ThingConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultThingConfig of(final Config config) {
-        return new DefaultThingConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultThingConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, ThingConfigValue.values()));
     }
 
     @Override
@@ -71,6 +78,16 @@ public final class DefaultThingConfig implements ThingConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public EventBatchingConfig getEventBatchingConfig() {
+        return eventBatchingConfig;
+    }
+
+    @Override
+    public Duration getShardRetrievalTimeout() {
+        return shardRetrievalTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +99,15 @@ public final class DefaultThingConfig implements ThingConfig {
         final DefaultThingConfig that = (DefaultThingConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(eventBatchingConfig, that.eventBatchingConfig) &&
+                Objects.equals(shardRetrievalTimeout, that.shardRetrievalTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventBatchingConfig,
+                shardRetrievalTimeout);
     }
 
     @Override
@@ -96,6 +116,8 @@ public final class DefaultThingConfig implements ThingConfig {
                 "supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", eventBatchingConfig=" + eventBatchingConfig +
+                ", shardRetrievalTimeout=" + shardRetrievalTimeout +
                 "]";
     }
 
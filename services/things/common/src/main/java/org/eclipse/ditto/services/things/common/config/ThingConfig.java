@@ -12,15 +12,60 @@
  */
 package org.eclipse.ditto.services.things.common.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithEventBatchingConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
-public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
+        WithEventBatchingConfig {
+
+    /**
+     * Returns how long a thing supervisor waits for the things of its shard when answering a batched retrieval.
+     * Things not retrieved within this time are left out of the response.
+     *
+     * @return the timeout of batched retrievals of the things of a shard.
+     */
+    Duration getShardRetrievalTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingConfig}.
+     */
+    enum ThingConfigValue implements KnownConfigValue {
+
+        /**
+         * The timeout of batched retrievals of the things of a shard.
+         */
+        SHARD_RETRIEVAL_TIMEOUT("shard-retrieval-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -14,17 +14,31 @@ package org.eclipse.ditto.services.things.persistence.actors;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
@@ -33,6 +47,8 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 
 /**
  * Supervisor for {@link ThingPersistenceActor} which means it will create, start and watch it as child actor.
@@ -41,12 +57,23 @@ import akka.actor.Props;
  * Between the termination of the child and the restart, this actor answers to all requests with a
  * {@link ThingUnavailableException} as fail fast strategy.
  * </p>
+ * <p>
+ * A {@link SudoRetrieveThings} command sent to this actor is answered with the things of all given IDs, each retrieved
+ * with its original schema version. Senders group the IDs by shard so that the retrievals stay within this node, and
+ * route the command to the supervisor of one of the things, which retrieves its own thing from its child. Things that
+ * do not exist or are not retrieved within the configured shard retrieval timeout are left out of the response; they
+ * are logged and counted by the metric {@value #MISSING_THINGS_COUNTER_NAME}.
+ * </p>
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
+    private static final String MISSING_THINGS_COUNTER_NAME = "things_shard_retrieval_missing";
+
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    private final Duration shardRetrievalTimeout;
+    private final Counter missingThingsCounter;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
@@ -56,6 +83,8 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
+        shardRetrievalTimeout = getThingsConfig().getThingConfig().getShardRetrievalTimeout();
+        missingThingsCounter = DittoMetrics.counter(MISSING_THINGS_COUNTER_NAME);
     }
 
     /**
@@ -78,6 +107,13 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
     }
 
+    @Override
+    protected Receive activeBehaviour() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrieveThings.class, this::retrieveThingsOfShard)
+                .build();
+    }
+
     @Override
     protected ThingId getEntityId() throws Exception {
         return ThingId.of(URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8.name()));
@@ -108,10 +144,83 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
-        return DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getThingConfig()
+        return getThingsConfig().getThingConfig()
                 .getSupervisorConfig()
                 .getExponentialBackOffConfig();
     }
 
+    private DittoThingsConfig getThingsConfig() {
+        return DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+    }
+
+    private void retrieveThingsOfShard(final SudoRetrieveThings command) {
+        // the shard region is the grandparent of each entity; it delivers to local shards without remoting
+        final ActorRef shardRegion = getContext().getParent().getParent();
+        final ThingId ownThingId = getOwnThingId();
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final List<ThingId> thingIds = command.getThingIds();
+        final List<CompletableFuture<Optional<String>>> retrievals = thingIds.stream()
+                .map(thingId -> {
+                    final SudoRetrieveThing sudoRetrieveThing = SudoRetrieveThing.withOriginalSchemaVersion(thingId,
+                            command.getSelectedFields().orElse(null), dittoHeaders);
+                    // the command is routed to the supervisor of one of the things; retrieve that one from the child
+                    final ActorRef recipient = thingId.equals(ownThingId) ? getSelf() : shardRegion;
+                    return retrieveThingJson(recipient, sudoRetrieveThing);
+                })
+                .collect(Collectors.toList());
+
+        final CompletionStage<SudoRetrieveThingsResponse> response =
+                CompletableFuture.allOf(retrievals.toArray(new CompletableFuture[0]))
+                        .thenApply(allRetrieved -> {
+                            final List<String> thingJsons = new ArrayList<>(retrievals.size());
+                            final List<ThingId> missingThingIds = new ArrayList<>();
+                            for (int i = 0; i < retrievals.size(); ++i) {
+                                final Optional<String> thingJson = retrievals.get(i).join();
+                                if (thingJson.isPresent()) {
+                                    thingJsons.add(thingJson.get());
+                                } else {
+                                    missingThingIds.add(thingIds.get(i));
+                                }
+                            }
+                            reportMissingThings(missingThingIds, thingIds.size());
+                            return SudoRetrieveThingsResponse.of(thingJsons, dittoHeaders);
+                        });
+
+        Patterns.pipe(response, getContext().dispatcher()).to(getSender());
+    }
+
+    private CompletableFuture<Optional<String>> retrieveThingJson(final ActorRef recipient,
+            final SudoRetrieveThing sudoRetrieveThing) {
+
+        return Patterns.ask(recipient, sudoRetrieveThing, shardRetrievalTimeout)
+                .handle((response, error) -> {
+                    if (response instanceof SudoRetrieveThingResponse) {
+                        final SudoRetrieveThingResponse thingResponse = (SudoRetrieveThingResponse) response;
+                        return Optional.of(thingResponse.getEntity().toString());
+                    } else {
+                        // nonexistent, unavailable or timed-out things are left out of the response
+                        return Optional.<String>empty();
+                    }
+                })
+                .toCompletableFuture();
+    }
+
+    private void reportMissingThings(final List<ThingId> missingThingIds, final int requestedThings) {
+        if (!missingThingIds.isEmpty()) {
+            log.info("Left <{}> of <{}> things out of batched retrieval because they are nonexistent, " +
+                    "unavailable or did not answer within <{}>: <{}>", missingThingIds.size(), requestedThings,
+                    shardRetrievalTimeout, missingThingIds);
+            missingThingsCounter.increment(missingThingIds.size());
+        }
+    }
+
+    @Nullable
+    private ThingId getOwnThingId() {
+        try {
+            return getEntityId();
+        } catch (final Exception e) {
+            return null;
+        }
+    }
+
 }
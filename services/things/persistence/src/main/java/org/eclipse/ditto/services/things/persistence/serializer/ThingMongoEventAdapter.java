@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -36,6 +37,7 @@ import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.StreamingDittoBsonJson;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
@@ -144,8 +146,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return StreamingDittoBsonJson.getInstance().toRawBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -153,7 +154,10 @@ public final class ThingMongoEventAdapter implements EventAdapter {
 
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
-        if (event instanceof BsonValue) {
+        if (event instanceof BsonDocument) {
+            final JsonObject jsonObject = StreamingDittoBsonJson.getInstance().toJsonObject((BsonDocument) event);
+            return EventSeq.single(tryToCreateEventFrom(jsonObject));
+        } else if (event instanceof BsonValue) {
             return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.collection.JavaConverters;
+import scala.concurrent.Future;
+
+/**
+ * In-memory implementation of {@link AsyncWriteJournal} which persists only the first event of entities whose
+ * persistence ID contains {@link #REJECTING} or {@link #FAILING}. Their subsequent events are rejected or the
+ * journal write fails.
+ */
+final class FaultyJournalPlugin extends AsyncWriteJournal {
+
+    static final String REJECTING = "rejecting";
+    static final String FAILING = "failing";
+
+    private final Map<String, List<PersistentRepr>> journal = new HashMap<>();
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<Optional<Exception>> results = new ArrayList<>();
+        for (final AtomicWrite atomicWrite : messages) {
+            final String persistenceId = atomicWrite.persistenceId();
+            final boolean isFirstEvent = 1L == atomicWrite.lowestSequenceNr();
+            if (!isFirstEvent && persistenceId.contains(FAILING)) {
+                return Future.failed(new IllegalStateException("Journal failure of " + persistenceId));
+            } else if (!isFirstEvent && persistenceId.contains(REJECTING)) {
+                results.add(Optional.of(new IllegalArgumentException("Rejected events of " + persistenceId)));
+            } else {
+                journal.computeIfAbsent(persistenceId, id -> new ArrayList<>())
+                        .addAll(JavaConverters.seqAsJavaList(atomicWrite.payload()));
+                results.add(Optional.empty());
+            }
+        }
+        return Future.successful(results);
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        journal.getOrDefault(persistenceId, List.of())
+                .stream()
+                .filter(event -> fromSequenceNr <= event.sequenceNr() && event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        final List<PersistentRepr> events = journal.getOrDefault(persistenceId, List.of());
+        return Future.successful(events.isEmpty() ? 0L : events.get(events.size() - 1).sequenceNr());
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        journal.getOrDefault(persistenceId, new ArrayList<>()).removeIf(event -> event.sequenceNr() <= toSequenceNr);
+        return Future.successful(null);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.UUID;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.AttributeNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ThingPersistenceActor} whose batches of events are rejected by the journal or fail to be
+ * written.
+ */
+public final class ThingPersistenceActorEventBatchingFailureTest extends PersistenceActorTestBase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingPersistenceActorEventBatchingFailureTest.class);
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final JsonPointer COUNTER = JsonPointer.of("counter");
+
+    @Rule
+    public final TestWatcher watchman = new TestedMethodLoggingWatcher(LOGGER);
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.event-batching {\n" +
+                "  enabled = true\n" +
+                "  max-batch-size = " + MAX_BATCH_SIZE + "\n" +
+                "}\n" +
+                ThingPersistenceActor.JOURNAL_PLUGIN_ID + ".class = \"" + FaultyJournalPlugin.class.getName() +
+                "\""));
+    }
+
+    @Test
+    public void rejectedBatchIsAnsweredWithErrorsAndNotApplied() {
+        final Thing thing = createThingV2WithId(ThingId.of(THING_ID.getNamespace(),
+                FaultyJournalPlugin.REJECTING + UUID.randomUUID()));
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                pubSubTestProbe.expectMsgClass(ThingEvent.class);
+
+                for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+                }
+                for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                    expectMsgClass(ThingUnavailableException.class);
+                }
+
+                // the thing is still the last persisted one and no events of the batch are published
+                underTest.tell(RetrieveAttribute.of(thingId, COUNTER, dittoHeadersV2), getRef());
+                expectMsgClass(AttributeNotAccessibleException.class);
+                pubSubTestProbe.expectNoMessage();
+            }
+        };
+    }
+
+    @Test
+    public void failedBatchIsAnsweredWithErrorsAndRecoveredWithoutIt() {
+        final Thing thing = createThingV2WithId(ThingId.of(THING_ID.getNamespace(),
+                FaultyJournalPlugin.FAILING + UUID.randomUUID()));
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                watch(underTest);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+                }
+                for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                    expectMsgClass(ThingUnavailableException.class);
+                }
+                // the persistence actor stops after a journal failure
+                expectTerminated(underTest);
+
+                final ActorRef recovered = createPersistenceActorFor(thingId);
+                recovered.tell(RetrieveAttribute.of(thingId, COUNTER, dittoHeadersV2), getRef());
+                expectMsgClass(AttributeNotAccessibleException.class);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyAttributeResponse;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ThingPersistenceActor} persisting the events of several commands with one journal write.
+ */
+public final class ThingPersistenceActorEventBatchingTest extends PersistenceActorTestBase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingPersistenceActorEventBatchingTest.class);
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final int NUMBER_OF_MODIFICATIONS = 10;
+    private static final JsonPointer COUNTER = JsonPointer.of("counter");
+
+    @Rule
+    public final TestWatcher watchman = new TestedMethodLoggingWatcher(LOGGER);
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.event-batching {\n" +
+                "  enabled = true\n" +
+                "  max-batch-size = " + MAX_BATCH_SIZE + "\n" +
+                "}"));
+    }
+
+    @Test
+    public void modificationsArrivingDuringJournalWriteAreRepliedToInOrder() {
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                final ThingEvent<?> thingCreated = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+
+                for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+                }
+                // a query after the modifications sees all of them
+                underTest.tell(RetrieveAttribute.of(thingId, COUNTER, dittoHeadersV2), getRef());
+
+                for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                    expectMsgEquals(
+                            modifyAttributeResponse(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2, i == 0));
+                }
+                final RetrieveAttributeResponse retrieveAttributeResponse =
+                        expectMsgClass(RetrieveAttributeResponse.class);
+                assertThat(retrieveAttributeResponse.getAttributeValue())
+                        .isEqualTo(JsonValue.of(NUMBER_OF_MODIFICATIONS - 1));
+
+                // events are published in order on behalf of the senders of the commands
+                for (int i = 1; i <= NUMBER_OF_MODIFICATIONS; i++) {
+                    final ThingEvent<?> event = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+                    assertThat(event.getRevision()).isEqualTo(thingCreated.getRevision() + i);
+                    assertThat(pubSubTestProbe.sender()).isEqualTo(getRef());
+                }
+            }
+        };
+    }
+
+    @Test
+    public void commandsAfterDeletionInSameBatchAreNotAccessible() {
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(1), dittoHeadersV2), getRef());
+                underTest.tell(DeleteThing.of(thingId, dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(2), dittoHeadersV2), getRef());
+
+                expectMsgEquals(modifyAttributeResponse(thingId, COUNTER, JsonValue.of(1), dittoHeadersV2, true));
+                expectMsgClass(DeleteThingResponse.class);
+                expectMsgClass(ThingNotAccessibleException.class);
+            }
+        };
+    }
+
+    @Test
+    public void thingIsRecoveredWithAllBatchedModifications() {
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                watch(underTest);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+                }
+                receiveN(NUMBER_OF_MODIFICATIONS);
+
+                // stop the actor and recover the thing from the journal
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+
+                final ActorRef recovered = createPersistenceActorFor(thingId);
+                recovered.tell(RetrieveAttribute.of(thingId, COUNTER, dittoHeadersV2), getRef());
+                final RetrieveAttributeResponse retrieveAttributeResponse =
+                        expectMsgClass(RetrieveAttributeResponse.class);
+                assertThat(retrieveAttributeResponse.getAttributeValue())
+                        .isEqualTo(JsonValue.of(NUMBER_OF_MODIFICATIONS - 1));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for the batched retrieval of the things of a shard by {@link ThingSupervisorActor}.
+ */
+public final class ThingSupervisorActorTest extends PersistenceActorTestBase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingSupervisorActorTest.class);
+
+    private static final Duration SHARD_RETRIEVAL_TIMEOUT = Duration.ofSeconds(1L);
+    private static final ThingId OWN_THING_ID = ThingId.of("org.eclipse.ditto", "own");
+    private static final ThingId THING_ID_1 = ThingId.of("org.eclipse.ditto", "thing1");
+    private static final ThingId THING_ID_2 = ThingId.of("org.eclipse.ditto", "thing2");
+
+    @Rule
+    public final TestWatcher watchman = new TestedMethodLoggingWatcher(LOGGER);
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.shard-retrieval-timeout = " +
+                SHARD_RETRIEVAL_TIMEOUT.toMillis() + "ms"));
+    }
+
+    @Test
+    public void retrieveOwnThingFromChildAndOtherThingsFromShardRegion() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegionProbe = new TestKit(actorSystem);
+            final ActorRef shardRegion = createShardRegion(shardRegionProbe.getRef());
+
+            shardRegion.tell(sudoRetrieveThings(OWN_THING_ID, THING_ID_1, THING_ID_2), getRef());
+
+            answerRetrievals(shardRegionProbe, Map.of(THING_ID_1, retrieveThingResponse(THING_ID_1),
+                    THING_ID_2, retrieveThingResponse(THING_ID_2)));
+            shardRegionProbe.expectNoMessage(Duration.ofMillis(200L));
+
+            final SudoRetrieveThingsResponse response = expectMsgClass(SudoRetrieveThingsResponse.class);
+            assertThat(getThingIds(response)).containsExactly(OWN_THING_ID, THING_ID_1, THING_ID_2);
+        }};
+    }
+
+    @Test
+    public void leaveNonexistentThingsOut() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegionProbe = new TestKit(actorSystem);
+            final ActorRef shardRegion = createShardRegion(shardRegionProbe.getRef());
+
+            shardRegion.tell(sudoRetrieveThings(OWN_THING_ID, THING_ID_1, THING_ID_2), getRef());
+
+            answerRetrievals(shardRegionProbe, Map.of(
+                    THING_ID_1, ThingNotAccessibleException.newBuilder(THING_ID_1).build(),
+                    THING_ID_2, retrieveThingResponse(THING_ID_2)));
+
+            final SudoRetrieveThingsResponse response = expectMsgClass(SudoRetrieveThingsResponse.class);
+            assertThat(getThingIds(response)).containsExactly(OWN_THING_ID, THING_ID_2);
+        }};
+    }
+
+    @Test
+    public void leaveThingsOutWhichDoNotAnswerInTime() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegionProbe = new TestKit(actorSystem);
+            final ActorRef shardRegion = createShardRegion(shardRegionProbe.getRef());
+
+            shardRegion.tell(sudoRetrieveThings(OWN_THING_ID, THING_ID_1, THING_ID_2), getRef());
+
+            answerRetrievals(shardRegionProbe, Map.of(THING_ID_2, retrieveThingResponse(THING_ID_2)));
+            expectNoMessage(SHARD_RETRIEVAL_TIMEOUT.dividedBy(2L));
+
+            final SudoRetrieveThingsResponse response =
+                    expectMsgClass(SHARD_RETRIEVAL_TIMEOUT.multipliedBy(3L), SudoRetrieveThingsResponse.class);
+            assertThat(getThingIds(response)).containsExactly(OWN_THING_ID, THING_ID_2);
+        }};
+    }
+
+    private ActorRef createShardRegion(final ActorRef retrievalsRecipient) {
+        final Props supervisorProps = ThingSupervisorActor.props(pubSubMediator, getDistributedPub(),
+                (thingId, distributedPub) -> Props.create(ThingPersistenceActorMock.class, thingId));
+        return actorSystem.actorOf(Props.create(ShardRegionMock.class, retrievalsRecipient, supervisorProps));
+    }
+
+    private static void answerRetrievals(final TestKit shardRegionProbe, final Map<ThingId, Object> answers) {
+        for (int i = 0; i < 2; ++i) {
+            final SudoRetrieveThing retrieval = shardRegionProbe.expectMsgClass(SudoRetrieveThing.class);
+            final Object answer = answers.get(ThingId.of(retrieval.getEntityId()));
+            if (answer != null) {
+                shardRegionProbe.reply(answer);
+            }
+        }
+    }
+
+    private static SudoRetrieveThings sudoRetrieveThings(final ThingId... thingIds) {
+        return SudoRetrieveThings.of(List.of(thingIds), DittoHeaders.empty());
+    }
+
+    private static SudoRetrieveThingResponse retrieveThingResponse(final ThingId thingId) {
+        return SudoRetrieveThingResponse.of(createThingV2WithId(thingId).toJson(JsonSchemaVersion.V_2,
+                FieldType.regularOrSpecial()), DittoHeaders.empty());
+    }
+
+    private static List<ThingId> getThingIds(final SudoRetrieveThingsResponse response) {
+        return response.getThings()
+                .stream()
+                .map(thing -> thing.getEntityId().orElseThrow())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Mocks the Things shard region: the supervisor of {@link #OWN_THING_ID} is its grandchild; retrievals of single
+     * things are forwarded to a test probe.
+     */
+    private static final class ShardRegionMock extends AbstractActor {
+
+        private final ActorRef retrievalsRecipient;
+        private final ActorRef shard;
+
+        private ShardRegionMock(final ActorRef retrievalsRecipient, final Props supervisorProps) {
+            this.retrievalsRecipient = retrievalsRecipient;
+            shard = getContext().actorOf(Props.create(ShardMock.class, supervisorProps), "shard");
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(SudoRetrieveThing.class, retrieval -> retrievalsRecipient.forward(retrieval, getContext()))
+                    .matchAny(message -> shard.forward(message, getContext()))
+                    .build();
+        }
+
+    }
+
+    private static final class ShardMock extends AbstractActor {
+
+        private final ActorRef supervisor;
+
+        private ShardMock(final Props supervisorProps) {
+            supervisor = getContext().actorOf(supervisorProps, OWN_THING_ID.toString());
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(message -> supervisor.forward(message, getContext()))
+                    .build();
+        }
+
+    }
+
+    private static final class ThingPersistenceActorMock extends AbstractActor {
+
+        private final ThingId thingId;
+
+        private ThingPersistenceActorMock(final ThingId thingId) {
+            this.thingId = thingId;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(SudoRetrieveThing.class, retrieval -> getSender().tell(retrieveThingResponse(thingId),
+                            getSelf()))
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the cached and estimated counts of the Search service.
+ *
+ * @since 1.3.0
+ */
+@Immutable
+public interface CountConfig {
+
+    /**
+     * Returns the configuration settings of the cache of count results.
+     *
+     * @return the config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * Returns the number of search index documents to sample when estimating a count.
+     *
+     * @return the sample size.
+     */
+    int getEstimateSampleSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for CountConfig.
+     */
+    enum CountConfigValue implements KnownConfigValue {
+
+        /**
+         * The number of search index documents to sample when estimating a count.
+         */
+        ESTIMATE_SAMPLE_SIZE("estimate-sample-size", 1000);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -31,12 +31,18 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private static final String CONFIG_PATH = "persistence";
 
     private final int maxBulkSize;
+    private final int patchCacheSize;
+    private final double maxPatchRatio;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
             final DefaultStreamStageConfig defaultStreamStageConfig) {
 
         maxBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        patchCacheSize =
+                persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.PATCH_CACHE_SIZE.getConfigPath());
+        maxPatchRatio =
+                persistenceStreamScopedConfig.getDouble(PersistenceStreamConfigValue.MAX_PATCH_RATIO.getConfigPath());
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -58,6 +64,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return maxBulkSize;
     }
 
+    @Override
+    public int getPatchCacheSize() {
+        return patchCacheSize;
+    }
+
+    @Override
+    public double getMaxPatchRatio() {
+        return maxPatchRatio;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -78,18 +94,22 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         }
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
+                patchCacheSize == that.patchCacheSize &&
+                Double.compare(that.maxPatchRatio, maxPatchRatio) == 0 &&
                 defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, patchCacheSize, maxPatchRatio, defaultStreamStageConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxBulkSize=" + maxBulkSize +
+                ", patchCacheSize=" + patchCacheSize +
+                ", maxPatchRatio=" + maxPatchRatio +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
@@ -17,6 +17,8 @@ import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 
 import com.typesafe.config.Config;
@@ -33,12 +35,14 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     static final String CONFIG_PATH = "updater";
     static final String THINGS_SYNC_CONFIG_PATH = "sync.things";
     static final String POLICIES_SYNC_CONFIG_PATH = "sync.policies";
+    static final String WRITTEN_GRANT_SETS_CACHE_CONFIG_PATH = "written-grant-sets-cache";
 
     private final Duration maxIdleTime;
     private final int maxBulkSize;
     private final Duration shardingStatePollInterval;
     private final boolean eventProcessingActive;
     private final BackgroundSyncConfig backgroundSyncConfig;
+    private final DefaultCacheConfig writtenGrantSetsCacheConfig;
 
     private DefaultUpdaterConfig(final ConfigWithFallback updaterScopedConfig) {
         maxIdleTime = updaterScopedConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath());
@@ -48,6 +52,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         eventProcessingActive =
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
+        writtenGrantSetsCacheConfig =
+                DefaultCacheConfig.of(updaterScopedConfig, WRITTEN_GRANT_SETS_CACHE_CONFIG_PATH);
     }
 
     /**
@@ -87,6 +93,11 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return backgroundSyncConfig;
     }
 
+    @Override
+    public CacheConfig getWrittenGrantSetsCacheConfig() {
+        return writtenGrantSetsCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -100,13 +111,14 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 eventProcessingActive == that.eventProcessingActive &&
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
-                Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig);
+                Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
+                Objects.equals(writtenGrantSetsCacheConfig, that.writtenGrantSetsCacheConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
-                backgroundSyncConfig);
+                backgroundSyncConfig, writtenGrantSetsCacheConfig);
     }
 
     @Override
@@ -117,6 +129,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", shardingStatePollInterval=" + shardingStatePollInterval +
                 ", eventProcessingActive=" + eventProcessingActive +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
+                ", writtenGrantSetsCacheConfig=" + writtenGrantSetsCacheConfig +
                 "]";
     }
 
@@ -21,6 +21,8 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.services.base.config.DittoServiceConfig;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
@@ -41,9 +43,13 @@ import org.eclipse.ditto.services.utils.persistence.operations.PersistenceOperat
 public final class DittoSearchConfig implements SearchConfig {
 
     private static final String CONFIG_PATH = "things-search";
+    private static final String GRANT_SETS_CACHE_CONFIG_PATH = "grant-sets-cache";
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    private final boolean grantTableEnabled;
+    private final boolean grantTableMigrationEnabled;
+    private final DefaultCacheConfig grantSetsCacheConfig;
     private final DeleteConfig deleteConfig;
     private final DeletionConfig deletionConfig;
     private final UpdaterConfig updaterConfig;
@@ -52,6 +58,7 @@ public final class DittoSearchConfig implements SearchConfig {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final StreamConfig streamConfig;
+    private final CountConfig countConfig;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -62,11 +69,16 @@ public final class DittoSearchConfig implements SearchConfig {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        grantTableEnabled = configWithFallback.getBoolean(SearchConfigValue.GRANT_TABLE.getConfigPath());
+        grantTableMigrationEnabled =
+                configWithFallback.getBoolean(SearchConfigValue.GRANT_TABLE_MIGRATION.getConfigPath());
+        grantSetsCacheConfig = DefaultCacheConfig.of(configWithFallback, GRANT_SETS_CACHE_CONFIG_PATH);
         deleteConfig = DefaultDeleteConfig.of(configWithFallback);
         deletionConfig = DefaultDeletionConfig.of(configWithFallback);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
         streamConfig = DefaultStreamConfig.of(configWithFallback);
+        countConfig = DefaultCountConfig.of(configWithFallback);
     }
 
     /**
@@ -86,6 +98,21 @@ public final class DittoSearchConfig implements SearchConfig {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public boolean isGrantTableEnabled() {
+        return grantTableEnabled;
+    }
+
+    @Override
+    public boolean isGrantTableMigrationEnabled() {
+        return grantTableMigrationEnabled;
+    }
+
+    @Override
+    public CacheConfig getGrantSetsCacheConfig() {
+        return grantSetsCacheConfig;
+    }
+
     @Override
     public DeleteConfig getDeleteConfig() {
         return deleteConfig;
@@ -106,6 +133,11 @@ public final class DittoSearchConfig implements SearchConfig {
         return streamConfig;
     }
 
+    @Override
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -156,7 +188,10 @@ public final class DittoSearchConfig implements SearchConfig {
             return false;
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
-        return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+        return grantTableEnabled == that.grantTableEnabled &&
+                grantTableMigrationEnabled == that.grantTableMigrationEnabled &&
+                Objects.equals(grantSetsCacheConfig, that.grantSetsCacheConfig) &&
+                Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
                 Objects.equals(deleteConfig, that.deleteConfig) &&
                 Objects.equals(deletionConfig, that.deletionConfig) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
@@ -165,19 +200,24 @@ public final class DittoSearchConfig implements SearchConfig {
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
-                Objects.equals(streamConfig, that.streamConfig);
+                Objects.equals(streamConfig, that.streamConfig) &&
+                Objects.equals(countConfig, that.countConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+        return Objects.hash(mongoHintsByNamespace, grantTableEnabled, grantTableMigrationEnabled, grantSetsCacheConfig,
+                deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig, healthCheckConfig,
+                indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig, countConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", grantTableEnabled=" + grantTableEnabled +
+                ", grantTableMigrationEnabled=" + grantTableMigrationEnabled +
+                ", grantSetsCacheConfig=" + grantSetsCacheConfig +
                 ", deleteConfig=" + deleteConfig +
                 ", deletionConfig=" + deletionConfig +
                 ", updaterConfig=" + updaterConfig +
@@ -187,6 +227,7 @@ public final class DittoSearchConfig implements SearchConfig {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", streamConfig=" + streamConfig +
+                ", countConfig=" + countConfig +
                 "]";
     }
 
@@ -29,6 +29,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns how many last written search index documents to keep in memory in order to write changes as
+     * incremental updates instead of replacing whole documents. A value of 0 disables incremental updates.
+     *
+     * @return the maximum number of cached search index documents.
+     */
+    int getPatchCacheSize();
+
+    /**
+     * Returns the maximum size of an incremental update relative to the size of the whole search index document.
+     * Changes with larger incremental updates are written by replacing the whole document.
+     *
+     * @return the maximum ratio of incremental update size to document size.
+     */
+    double getMaxPatchRatio();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +55,17 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * How many last written search index documents to keep for incremental updates.
+         */
+        PATCH_CACHE_SIZE("patch-cache-size", 0),
+
+        /**
+         * Maximum size of an incremental update relative to the size of the whole search index document.
+         */
+        MAX_PATCH_RATIO("max-patch-ratio", 0.5);
 
         private final String configPath;
         private final Object defaultValue;
@@ -17,6 +17,7 @@ import java.util.Optional;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.ServiceSpecificConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.health.config.WithHealthCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithIndexInitializationConfig;
@@ -32,6 +33,34 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Indicates whether flattened attributes and feature properties in the search index reference shared grant sets
+     * instead of carrying their own arrays of granted and revoked subjects.
+     *
+     * @return {@code true} if the search index is written with shared grant sets.
+     * @since 1.3.0
+     */
+    boolean isGrantTableEnabled();
+
+    /**
+     * Indicates whether queries match flattened attributes and feature properties with shared grant sets as well as
+     * with their own grants, so that the search index stays usable while the background sync rewrites it after
+     * {@link #isGrantTableEnabled()} was switched.
+     *
+     * @return {@code true} if queries match both layouts of the search index.
+     * @since 1.3.0
+     */
+    boolean isGrantTableMigrationEnabled();
+
+    /**
+     * Returns the configuration of the cache of grant set IDs readable by sets of authorization subjects. Grant sets
+     * written after an entry was cached are matched by queries of its subjects once the entry expired.
+     *
+     * @return the config.
+     * @since 1.3.0
+     */
+    CacheConfig getGrantSetsCacheConfig();
+
     /**
      * Returns the configuration settings of the "delete" section.
      *
@@ -61,6 +90,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings of cached and estimated counts.
+     *
+     * @return the config.
+     * @since 1.3.0
+     */
+    CountConfig getCountConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -69,7 +106,17 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Whether flattened attributes and feature properties reference shared grant sets.
+         */
+        GRANT_TABLE("grant-table", false),
+
+        /**
+         * Whether queries match flattened attributes and feature properties in both layouts.
+         */
+        GRANT_TABLE_MIGRATION("grant-table-migration", false);
 
         private final String path;
         private final Object defaultValue;
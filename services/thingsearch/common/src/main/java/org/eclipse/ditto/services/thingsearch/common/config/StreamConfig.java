@@ -45,6 +45,14 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the maximum number of things to retrieve with one command per Things shard.
+     * A value of 0 means that each thing is retrieved by its own command.
+     *
+     * @return the maximum number of things per retrieval command.
+     */
+    int getShardBatchSize();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +92,12 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum number of things to retrieve with one command per Things shard.
+         */
+        SHARD_BATCH_SIZE("shard-batch-size", 0);
 
         private final String configPath;
         private final Object defaultValue;
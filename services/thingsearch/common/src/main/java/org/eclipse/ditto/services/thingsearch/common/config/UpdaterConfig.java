@@ -16,6 +16,7 @@ import java.time.Duration;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 
 /**
@@ -60,6 +61,15 @@ public interface UpdaterConfig {
      */
     BackgroundSyncConfig getBackgroundSyncConfig();
 
+    /**
+     * Returns the configuration of the cache of grant set IDs known to be written to the grants collection, whose
+     * grant sets are not upserted again.
+     *
+     * @return the config.
+     * @since 1.3.0
+     */
+    CacheConfig getWrittenGrantSetsCacheConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * UpdaterConfig.
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig.CountConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig.CacheConfigValue;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultCountConfig}.
+ */
+public final class DefaultCountConfigTest {
+
+    private static Config countTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        countTestConfig = ConfigFactory.load("count-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getEstimateSampleSize())
+                .as(CountConfigValue.ESTIMATE_SAMPLE_SIZE.getConfigPath())
+                .isEqualTo(CountConfigValue.ESTIMATE_SAMPLE_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(countTestConfig);
+        final Config countScopedRawConfig = countTestConfig.getConfig(DefaultCountConfig.CONFIG_PATH);
+        final Config cacheScopedRawConfig = countScopedRawConfig.getConfig(DefaultCountConfig.CACHE_CONFIG_PATH);
+
+        softly.assertThat(underTest.getEstimateSampleSize())
+                .as(CountConfigValue.ESTIMATE_SAMPLE_SIZE.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getInt(CountConfigValue.ESTIMATE_SAMPLE_SIZE.getConfigPath()));
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(cacheScopedRawConfig.getLong(CacheConfigValue.MAXIMUM_SIZE.getConfigPath()));
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(cacheScopedRawConfig.getDuration(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath()));
+    }
+
+    @Test(expected = DittoConfigError.class)
+    public void rejectNonPositiveSampleSize() {
+        DefaultCountConfig.of(countTestConfig.withValue(
+                DefaultCountConfig.CONFIG_PATH + "." + CountConfigValue.ESTIMATE_SAMPLE_SIZE.getConfigPath(),
+                ConfigValueFactory.fromAnyRef(0)));
+    }
+
+}
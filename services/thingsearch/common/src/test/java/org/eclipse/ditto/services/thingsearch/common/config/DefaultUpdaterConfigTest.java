@@ -18,6 +18,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig.UpdaterConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig.CacheConfigValue;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -68,6 +69,9 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.MAX_IDLE_TIME.getDefaultValue());
+        softly.assertThat(underTest.getWrittenGrantSetsCacheConfig().getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
     }
 
     @Test
@@ -85,6 +89,15 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(updaterScopedRawConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath()));
+
+        final Config cacheScopedRawConfig =
+                updaterScopedRawConfig.getConfig(DefaultUpdaterConfig.WRITTEN_GRANT_SETS_CACHE_CONFIG_PATH);
+        softly.assertThat(underTest.getWrittenGrantSetsCacheConfig().getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(cacheScopedRawConfig.getLong(CacheConfigValue.MAXIMUM_SIZE.getConfigPath()));
+        softly.assertThat(underTest.getWrittenGrantSetsCacheConfig().getExpireAfterWrite())
+                .as(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(cacheScopedRawConfig.getDuration(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath()));
     }
 
 }
@@ -14,7 +14,9 @@ package org.eclipse.ditto.services.thingsearch.persistence;
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANT_SET_PATH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
@@ -22,6 +24,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +47,18 @@ public final class Indices {
     private static final Index KEY_VALUE = IndexFactory.newInstance("key-value",
             Arrays.asList(FIELD_GRANTED_PATH, FIELD_PATH_KEY, FIELD_PATH_VALUE, FIELD_ID), false);
 
+    /**
+     * Index for queries with effective filters on documents whose attributes reference shared grant sets.
+     */
+    private static final Index KEY_VALUE_GRANT_SET = IndexFactory.newInstance("key-value-grant-set",
+            Arrays.asList(FIELD_GRANT_SET_PATH, FIELD_PATH_KEY, FIELD_PATH_VALUE, FIELD_ID), false);
+
+    /**
+     * Index of the grants collection for finding the grant sets readable by authorization subjects.
+     */
+    private static final Index GRANTED = IndexFactory.newInstance("granted",
+            Collections.singletonList(FIELD_GRANTED), false);
+
     /**
      * Index for queries without effective filters to be executed as scans over all visible things.
      */
@@ -70,8 +85,37 @@ public final class Indices {
      * @return the indices
      */
     public static List<Index> all() {
-        return Collections.unmodifiableList(
-                Arrays.asList(KEY_VALUE, GLOBAL_READ, POLICY, NAMESPACE, DELETE_AT));
+        return all(true, false);
+    }
+
+    /**
+     * Gets all indices of the things collection for the given layouts of grants.
+     *
+     * @param perLeafGrants whether attributes carrying their own granted subjects are queried.
+     * @param grantSets whether attributes referencing shared grant sets are queried.
+     * @return the indices
+     * @since 1.3.0
+     */
+    public static List<Index> all(final boolean perLeafGrants, final boolean grantSets) {
+        final List<Index> indices = new ArrayList<>();
+        if (perLeafGrants) {
+            indices.add(KEY_VALUE);
+        }
+        if (grantSets) {
+            indices.add(KEY_VALUE_GRANT_SET);
+        }
+        indices.addAll(Arrays.asList(GLOBAL_READ, POLICY, NAMESPACE, DELETE_AT));
+        return Collections.unmodifiableList(indices);
+    }
+
+    /**
+     * Gets all indices of the grants collection.
+     *
+     * @return the indices
+     * @since 1.3.0
+     */
+    public static List<Index> grants() {
+        return Collections.singletonList(GRANTED);
     }
 
 }
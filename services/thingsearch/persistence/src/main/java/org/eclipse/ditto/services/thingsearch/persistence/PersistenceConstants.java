@@ -35,6 +35,13 @@ public final class PersistenceConstants {
      */
     public static final String THINGS_COLLECTION_NAME = "searchThings";
 
+    /**
+     * The collection name for the shared grant sets referenced by the search index.
+     *
+     * @since 1.3.0
+     */
+    public static final String GRANTS_COLLECTION_NAME = "searchGrants";
+
     /**
      * The collection name for the collection storing state about things sync.
      */
@@ -161,6 +168,27 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Field name for the ID of the shared grant set of an attribute.
+     *
+     * @since 1.3.0
+     */
+    public static final String FIELD_GRANT_SET = "gs";
+
+    /**
+     * Full path of the grant set field.
+     *
+     * @since 1.3.0
+     */
+    public static final String FIELD_GRANT_SET_PATH = FIELD_INTERNAL + DOT + FIELD_GRANT_SET;
+
+    /**
+     * Field name for the IDs of all grant sets referenced by a document.
+     *
+     * @since 1.3.0
+     */
+    public static final String FIELD_GRANT_SETS = "__grantSets";
+
     /**
      * Mark a document for deletion.
      */
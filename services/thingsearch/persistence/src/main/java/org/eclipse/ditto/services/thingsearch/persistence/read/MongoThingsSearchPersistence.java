@@ -14,22 +14,27 @@ package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANT_SETS;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -52,17 +57,25 @@ import org.eclipse.ditto.services.thingsearch.persistence.Indices;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.LeafGrants;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
+import org.eclipse.ditto.signals.commands.thingsearch.exceptions.TooManyGrantSetsException;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
@@ -85,12 +98,34 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String GRANT_SETS_CACHE_NAME = "things_search_grant_sets";
+
+    /**
+     * Share of the sampled documents which have to match for an estimated count.
+     */
+    private static final double MIN_MATCHING_SAMPLE_SHARE = 0.1;
+
+    /**
+     * Maximum number of grant sets readable by the authorization subjects of a query, which bounds the size of the
+     * query as every criterion on flattened attributes lists the IDs of the readable grant sets.
+     */
+    private static final int MAX_GRANT_SETS = 10_000;
+
+    /**
+     * Maximum number of grant set IDs of a cached entry, which bounds the memory of the cache.
+     */
+    private static final int MAX_CACHED_GRANT_SETS = 1000;
+
     private final MongoCollection<Document> collection;
+    private final MongoCollection<Document> grantsCollection;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final boolean grantTable;
+    private final boolean grantTableMigration;
+    @Nullable private final Cache<List<String>, CachedGrantSetIds> grantSetIdsCache;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -105,26 +140,40 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         collection = database
                 .getCollection(PersistenceConstants.THINGS_COLLECTION_NAME)
                 .withReadPreference(ReadPreference.secondaryPreferred());
+        grantsCollection = database
+                .getCollection(PersistenceConstants.GRANTS_COLLECTION_NAME)
+                .withReadPreference(ReadPreference.secondaryPreferred());
 
         log = Logging.getLogger(actorSystem, getClass());
         final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
         indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        grantTable = false;
+        grantTableMigration = false;
+        grantSetIdsCache = null;
     }
 
     private MongoThingsSearchPersistence(
             final MongoCollection<Document> collection,
+            final MongoCollection<Document> grantsCollection,
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final boolean grantTable,
+            final boolean grantTableMigration,
+            @Nullable final Cache<List<String>, CachedGrantSetIds> grantSetIdsCache) {
 
         this.collection = collection;
+        this.grantsCollection = grantsCollection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.grantTable = grantTable;
+        this.grantTableMigration = grantTableMigration;
+        this.grantSetIdsCache = grantSetIdsCache;
     }
 
     /**
@@ -135,16 +184,53 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, grantsCollection, log, indexInitializer, maxQueryTime,
+                hints, grantTable, grantTableMigration, grantSetIdsCache);
+    }
+
+    /**
+     * Create a copy of this object for a search index whose flattened attributes reference shared grant sets.
+     *
+     * @param grantTable whether the search index is written with shared grant sets.
+     * @param grantTableMigration whether queries should match flattened attributes with shared grant sets as well as
+     * with their own grants, because the search index is being rewritten in the layout given by {@code grantTable}.
+     * @return copy of this object with the grant layout configured.
+     * @since 1.3.0
+     */
+    public MongoThingsSearchPersistence withGrantTable(final boolean grantTable, final boolean grantTableMigration) {
+        return new MongoThingsSearchPersistence(collection, grantsCollection, log, indexInitializer, maxQueryTime,
+                hints, grantTable, grantTableMigration, grantSetIdsCache);
+    }
+
+    /**
+     * Create a copy of this object which caches the IDs of the shared grant sets readable by each set of authorization
+     * subjects, so that not every query has to look them up.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param executor the executor of the cache.
+     * @return copy of this object with the cache.
+     * @since 1.3.0
+     */
+    public MongoThingsSearchPersistence withGrantSetsCache(final CacheConfig cacheConfig, final Executor executor) {
+        final Cache<List<String>, CachedGrantSetIds> cache =
+                CacheFactory.createCache(cacheConfig, GRANT_SETS_CACHE_NAME, executor);
+        return new MongoThingsSearchPersistence(collection, grantsCollection, log, indexInitializer, maxQueryTime,
+                hints, grantTable, grantTableMigration, cache);
     }
 
     @Override
     public CompletionStage<Void> initializeIndices() {
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.all())
-                .exceptionally(t -> {
-                    log.error(t, "Index-Initialization failed: {}", t.getMessage());
-                    return null;
-                });
+        final List<Index> thingsIndices = Indices.all(isQueryingPerLeafGrants(), isQueryingGrantSets());
+        CompletionStage<Void> indices =
+                indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, thingsIndices);
+        if (isQueryingGrantSets()) {
+            indices = indices.thenCompose(unused ->
+                    indexInitializer.initialize(PersistenceConstants.GRANTS_COLLECTION_NAME, Indices.grants()));
+        }
+        return indices.exceptionally(t -> {
+            log.error(t, "Index-Initialization failed: {}", t.getMessage());
+            return null;
+        });
     }
 
     @Override
@@ -179,15 +265,16 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
-        log.debug("count with query filter <{}>.", queryFilter);
-
         final CountOptions countOptions = new CountOptions()
                 .skip(query.getSkip())
                 .limit(query.getLimit())
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.count(queryFilter, countOptions))
+        return getMongoFilter(query, authorizationSubjectIds)
+                .flatMapConcat(queryFilter -> {
+                    log.debug("count with query filter <{}>.", queryFilter);
+                    return Source.fromPublisher(collection.count(queryFilter, countOptions));
+                })
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -197,6 +284,40 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return count(query, null);
     }
 
+    @Override
+    public Source<Optional<Long>, NotUsed> estimateCount(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            final int sampleSize) {
+
+        checkNotNull(query, "query");
+
+        final CountOptions countOptions = new CountOptions()
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        // without visibility, a query restricted by namespaces only is counted from the namespace index and an
+        // unrestricted query from the collection metadata
+        final BsonDocument populationFilter = BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
+
+        return Source.fromPublisher(collection.count(populationFilter, countOptions))
+                .flatMapConcat(populationCount -> {
+                    if (authorizationSubjectIds == null) {
+                        return Source.single(Optional.of(populationCount));
+                    } else if (populationCount <= sampleSize) {
+                        // sampling would read all documents anyway
+                        return count(query, authorizationSubjectIds).map(Optional::of);
+                    }
+                    return getMongoFilter(query, authorizationSubjectIds)
+                            .flatMapConcat(queryFilter -> countSample(populationFilter, queryFilter, sampleSize))
+                            .map(sampleCount -> estimateFromSample(sampleCount, sampleSize, populationCount));
+                })
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("estimateCount");
+    }
+
+    @Override
+    public Source<Optional<Long>, NotUsed> sudoEstimateCount(final Query query, final int sampleSize) {
+        return estimateCount(query, null, sampleSize);
+    }
+
     @Override
     public Source<ResultList<ThingId>, NotUsed> findAll(final Query query,
             @Nullable final List<String> authorizationSubjectIds,
@@ -231,7 +352,16 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        return getMongoFilter(query, authorizationSubjectIds)
+                .flatMapConcat(queryFilter -> find(query, queryFilter, namespaces, limit, maxQueryTime));
+    }
+
+    private Source<Document, NotUsed> find(final Query query,
+            final BsonDocument queryFilter,
+            @Nullable final Set<String> namespaces,
+            @Nullable final Integer limit,
+            @Nullable final Duration maxQueryTime) {
+
         if (log.isDebugEnabled()) {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
@@ -262,6 +392,13 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson filter = lowerBound.isDummy()
                 ? notDeletedFilter
                 : Filters.and(notDeletedFilter, Filters.gt(FIELD_ID, lowerBound.toString()));
+        // tell the layouts of grants apart by filter, so that the arrays of grant set IDs are not read
+        return streamMetadata(Filters.and(filter, Filters.exists(FIELD_GRANT_SETS, grantTable)), true)
+                .mergeSorted(streamMetadata(Filters.and(filter, Filters.exists(FIELD_GRANT_SETS, !grantTable)), false),
+                        Comparator.comparing(metadata -> metadata.getThingId().toString()));
+    }
+
+    private Source<Metadata, NotUsed> streamMetadata(final Bson filter, final boolean isGrantLayoutUpToDate) {
         final Bson relevantFieldsProjection =
                 Projections.include(FIELD_ID, FIELD_REVISION, FIELD_POLICY_ID, FIELD_POLICY_REVISION,
                         FIELD_PATH_MODIFIED);
@@ -269,7 +406,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Publisher<Document> publisher = collection.find(filter)
                 .projection(relevantFieldsProjection)
                 .sort(sortById);
-        return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
+        return Source.fromPublisher(publisher).map(document -> readAsMetadata(document, isGrantLayoutUpToDate));
     }
 
     private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
@@ -304,16 +441,118 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
     }
 
-    private static BsonDocument getMongoFilter(final Query query,
+    private Source<Long, NotUsed> countSample(final BsonDocument populationFilter, final BsonDocument queryFilter,
+            final int sampleSize) {
+
+        log.debug("estimateCount with population filter <{}> and query filter <{}>.", populationFilter, queryFilter);
+        // draw the sample from the documents of the queried namespaces, so that small namespaces are sampled at all
+        final List<Bson> pipeline = new ArrayList<>();
+        if (!populationFilter.isEmpty()) {
+            pipeline.add(Aggregates.match(populationFilter));
+        }
+        pipeline.add(Aggregates.sample(sampleSize));
+        pipeline.add(Aggregates.match(queryFilter));
+        pipeline.add(Aggregates.count(PersistenceConstants.FIELD_COUNT));
+        return Source.fromPublisher(collection.aggregate(pipeline)
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .map(document -> document.get(PersistenceConstants.FIELD_COUNT, Number.class).longValue())
+                // $count emits no document if no sampled document matches
+                .orElse(Source.single(0L));
+    }
+
+    private static Optional<Long> estimateFromSample(final long sampleCount, final int sampleSize,
+            final long populationCount) {
+
+        if (sampleCount < sampleSize * MIN_MATCHING_SAMPLE_SHARE) {
+            // too few sampled documents are visible to extrapolate reliably
+            return Optional.empty();
+        }
+        return Optional.of(Math.round((double) sampleCount * populationCount / sampleSize));
+    }
+
+    private Source<BsonDocument, NotUsed> getMongoFilter(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
-        if (authorizationSubjectIds != null) {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds));
+        if (authorizationSubjectIds == null) {
+            return Source.single(BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria())));
+        } else if (!isQueryingGrantSets()) {
+            return Source.single(
+                    BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds)));
         } else {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
+            return findGrantSetIds(authorizationSubjectIds).map(grantSetIds -> {
+                final LeafGrants leafGrants =
+                        LeafGrants.grantSets(authorizationSubjectIds, grantSetIds, isQueryingPerLeafGrants());
+                return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), leafGrants));
+            });
         }
     }
 
+    /**
+     * Expand the authorization subjects into the IDs of the shared grant sets readable by them, from the cache if
+     * there is one. Grant sets are never deleted, thus a cached entry is complete as long as the number of grant sets
+     * did not change since it was queried; otherwise the updater wrote new grant sets and the entry is queried again.
+     *
+     * @param authorizationSubjectIds the authorization subject IDs.
+     * @return source of the grant set IDs.
+     */
+    private Source<List<String>, NotUsed> findGrantSetIds(final List<String> authorizationSubjectIds) {
+        if (grantSetIdsCache == null) {
+            return queryGrantSetIds(authorizationSubjectIds);
+        }
+        final List<String> sortedSubjectIds = new ArrayList<>(authorizationSubjectIds);
+        Collections.sort(sortedSubjectIds);
+        final List<String> key = Collections.unmodifiableList(sortedSubjectIds);
+        // count before querying, so that grant sets written in between are not missed by the next query
+        return Source.fromPublisher(grantsCollection.estimatedDocumentCount(new EstimatedDocumentCountOptions()
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)))
+                .flatMapConcat(grantSetsCount -> Source.fromCompletionStage(grantSetIdsCache.getIfPresent(key))
+                        .flatMapConcat(cachedGrantSetIds -> {
+                            if (cachedGrantSetIds.isPresent() &&
+                                    cachedGrantSetIds.get().grantSetsCount == grantSetsCount) {
+                                return Source.single(cachedGrantSetIds.get().grantSetIds);
+                            }
+                            return queryGrantSetIds(key).map(grantSetIds -> {
+                                if (grantSetIds.size() <= MAX_CACHED_GRANT_SETS) {
+                                    grantSetIdsCache.put(key, new CachedGrantSetIds(grantSetsCount, grantSetIds));
+                                }
+                                return grantSetIds;
+                            });
+                        })
+                );
+    }
+
+    private Source<List<String>, NotUsed> queryGrantSetIds(final List<String> authorizationSubjectIds) {
+        final Bson filter = Filters.and(
+                Filters.in(FIELD_GRANTED, authorizationSubjectIds),
+                Filters.nin(FIELD_REVOKED, authorizationSubjectIds)
+        );
+        final Publisher<Document> publisher = grantsCollection.find(filter)
+                .projection(Projections.include(FIELD_ID))
+                // one more than the maximum to detect that the maximum is exceeded
+                .limit(MAX_GRANT_SETS + 1)
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        return Source.fromPublisher(publisher)
+                .map(document -> document.getString(FIELD_ID))
+                .<List<String>>fold(new ArrayList<>(), (grantSetIds, grantSetId) -> {
+                    grantSetIds.add(grantSetId);
+                    return grantSetIds;
+                })
+                .map(grantSetIds -> {
+                    if (grantSetIds.size() > MAX_GRANT_SETS) {
+                        throw TooManyGrantSetsException.newBuilder(MAX_GRANT_SETS).build();
+                    }
+                    return Collections.unmodifiableList(grantSetIds);
+                });
+    }
+
+    private boolean isQueryingPerLeafGrants() {
+        return !grantTable || grantTableMigration;
+    }
+
+    private boolean isQueryingGrantSets() {
+        return grantTable || grantTableMigration;
+    }
+
     private static Bson getMongoSort(final Query query) {
         final MongoQuery mongoQuery = (MongoQuery) query;
         return mongoQuery.getSortOptionsAsBson();
@@ -329,9 +568,13 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .build();
     }
 
-    private static Metadata readAsMetadata(final Document document) {
+    private static Metadata readAsMetadata(final Document document, final boolean isGrantLayoutUpToDate) {
         final ThingId thingId = ThingId.of(document.getString(FIELD_ID));
-        final long thingRevision = Optional.ofNullable(document.getLong(FIELD_REVISION)).orElse(0L);
+        // a document in the other layout of grants does not count as any revision, so that background sync
+        // rewrites it
+        final long thingRevision = Optional.ofNullable(document.getLong(FIELD_REVISION))
+                .filter(revision -> isGrantLayoutUpToDate)
+                .orElse(0L);
         final String policyIdInPersistence = document.getString(FIELD_POLICY_ID);
         final PolicyId policyId = policyIdInPersistence.isEmpty() ? null : PolicyId.of(policyIdInPersistence);
         final long policyRevision = Optional.ofNullable(document.getLong(FIELD_POLICY_REVISION)).orElse(0L);
@@ -340,4 +583,20 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Metadata.of(thingId, thingRevision, policyId, policyRevision, modified);
     }
 
+    /**
+     * IDs of the grant sets readable by a set of authorization subjects together with the number of all grant sets
+     * when they were queried.
+     */
+    private static final class CachedGrantSetIds {
+
+        private final long grantSetsCount;
+        private final List<String> grantSetIds;
+
+        private CachedGrantSetIds(final long grantSetsCount, final List<String> grantSetIds) {
+            this.grantSetsCount = grantSetsCount;
+            this.grantSetIds = grantSetIds;
+        }
+
+    }
+
 }
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
@@ -67,6 +68,33 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> sudoCount(Query query);
 
+    /**
+     * Estimates the count of documents found by the given {@code query}. The documents matching the criteria of the
+     * query regardless of visibility are counted, which is cheap for criteria restricting namespaces only; the share
+     * of them visible to the authorization subjects is estimated from a random sample of them.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param sampleSize how many documents to sample. Documents are counted exactly if there are not more of them.
+     * @return an {@link Source} which emits the estimated count, or an empty optional if too few sampled documents are
+     * visible to the authorization subjects to extrapolate from them.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 1.3.0
+     */
+    Source<Optional<Long>, NotUsed> estimateCount(Query query, List<String> authorizationSubjectIds, int sampleSize);
+
+    /**
+     * Estimates the count of documents found by the given {@code query} regardless of visibility. Criteria
+     * restricting namespaces only are counted from the namespace index.
+     *
+     * @param query the query for matching.
+     * @param sampleSize how many documents to sample. Documents are counted exactly if there are not more of them.
+     * @return an {@link Source} which emits the estimated count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 1.3.0
+     */
+    Source<Optional<Long>, NotUsed> sudoEstimateCount(Query query, int sampleSize);
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.AbstractFieldBsonCreator;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetExistsBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetFilterBsonVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.LeafGrants;
 
 import com.mongodb.client.model.Filters;
 
@@ -39,10 +40,10 @@ import com.mongodb.client.model.Filters;
 public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Nullable
-    private final List<String> authorizationSubjectIds;
+    private final LeafGrants leafGrants;
 
-    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
-        this.authorizationSubjectIds = authorizationSubjectIds;
+    private CreateBsonVisitor(@Nullable final LeafGrants leafGrants) {
+        this.leafGrants = leafGrants;
     }
 
     /**
@@ -64,10 +65,24 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson apply(final Criteria criteria, List<String> authorizationSubjectIds) {
-        checkNotNull(criteria, "criteria");
         checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
-        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds));
-        final Bson globalReadableFilter = AbstractFieldBsonCreator.getGlobalReadBson(authorizationSubjectIds);
+        return apply(criteria, LeafGrants.perLeaf(authorizationSubjectIds));
+    }
+
+    /**
+     * Creates the Bson object used for querying.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param leafGrants grants of the authorization subjects with which to restrict visibility.
+     * @return the Bson object
+     * @since 1.3.0
+     */
+    public static Bson apply(final Criteria criteria, final LeafGrants leafGrants) {
+        checkNotNull(criteria, "criteria");
+        checkNotNull(leafGrants, "leafGrants");
+        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(leafGrants));
+        final Bson globalReadableFilter =
+                AbstractFieldBsonCreator.getGlobalReadBson(leafGrants.getAuthorizationSubjectIds());
         final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
 
         // Put both per-attribute-filter and global-read filter in the query so that:
@@ -78,13 +93,13 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Override
     public Bson visitExists(final ExistsFieldExpression fieldExpression) {
-        return GetExistsBsonVisitor.apply(fieldExpression, authorizationSubjectIds);
+        return GetExistsBsonVisitor.apply(fieldExpression, leafGrants);
     }
 
     @Override
     public Bson visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
         final Function<String, Bson> predicateCreator = predicate.accept(CreateBsonPredicateVisitor.getInstance());
-        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds);
+        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, leafGrants);
     }
 
     @Override
@@ -13,11 +13,8 @@
 package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors;
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
-import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
-import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
 
-import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -33,10 +30,10 @@ import com.mongodb.client.model.Filters;
 public abstract class AbstractFieldBsonCreator {
 
     @Nullable
-    private final List<String> authorizationSubjectIds;
+    private final LeafGrants leafGrants;
 
-    AbstractFieldBsonCreator(@Nullable final List<String> authorizationSubjectIds) {
-        this.authorizationSubjectIds = authorizationSubjectIds;
+    AbstractFieldBsonCreator(@Nullable final LeafGrants leafGrants) {
+        this.leafGrants = leafGrants;
     }
 
     /**
@@ -54,11 +51,7 @@ public abstract class AbstractFieldBsonCreator {
     abstract Bson visitRootLevelField(final String fieldName);
 
     Optional<Bson> getAuthorizationBson() {
-        return Optional.ofNullable(authorizationSubjectIds)
-                .map(subjectIds -> Filters.and(
-                        Filters.in(FIELD_GRANTED, authorizationSubjectIds),
-                        Filters.nin(FIELD_REVOKED, authorizationSubjectIds)
-                ));
+        return Optional.ofNullable(leafGrants).map(LeafGrants::toBson);
     }
 
     /**
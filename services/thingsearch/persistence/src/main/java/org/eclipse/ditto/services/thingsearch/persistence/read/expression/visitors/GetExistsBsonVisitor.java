@@ -41,8 +41,8 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
     private static final List<Integer> JAVASCRIPT_REGEX_SPECIAL_CHARACTERS =
             "\\^$*+?.()|{}[]".chars().boxed().collect(Collectors.toList());
 
-    private GetExistsBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
-        super(authorizationSubjectIds);
+    private GetExistsBsonVisitor(@Nullable final LeafGrants leafGrants) {
+        super(leafGrants);
     }
 
     /**
@@ -52,7 +52,21 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
      * @return the complete Bson for the field-based exists criteria
      */
     public static Bson apply(final ExistsFieldExpression expression, final List<String> authorizationSubjectIds) {
-        return expression.acceptExistsVisitor(new GetExistsBsonVisitor(authorizationSubjectIds));
+        final LeafGrants leafGrants =
+                authorizationSubjectIds == null ? null : LeafGrants.perLeaf(authorizationSubjectIds);
+        return apply(expression, leafGrants);
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based exists criteria.
+     *
+     * @param expression the expression of the resource whose existence is under scrutiny.
+     * @param leafGrants grants to check for authorization, or null to not restrict visibility at all.
+     * @return the complete Bson for the field-based exists criteria
+     * @since 1.3.0
+     */
+    public static Bson apply(final ExistsFieldExpression expression, @Nullable final LeafGrants leafGrants) {
+        return expression.acceptExistsVisitor(new GetExistsBsonVisitor(leafGrants));
     }
 
     /**
@@ -62,7 +76,7 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
      * @return the complete Bson for the field-based exists criteria
      */
     public static Bson apply(final ExistsFieldExpression expression) {
-        return apply(expression, null);
+        return apply(expression, (LeafGrants) null);
     }
 
     @Override
@@ -44,9 +44,9 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
      */
     private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction,
-            @Nullable List<String> authorizationSubjectIds) {
+            @Nullable final LeafGrants leafGrants) {
 
-        super(authorizationSubjectIds);
+        super(leafGrants);
         this.predicateFunction = predicateFunction;
         this.valueFilter = predicateFunction.apply(FIELD_INTERNAL_VALUE);
     }
@@ -63,7 +63,25 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
             final Function<String, Bson> predicateFunction,
             @Nullable final List<String> authorizationSubjectIds) {
 
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds));
+        final LeafGrants leafGrants =
+                authorizationSubjectIds == null ? null : LeafGrants.perLeaf(authorizationSubjectIds);
+        return apply(expression, predicateFunction, leafGrants);
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria.
+     *
+     * @param expression the expression to create a filter for.
+     * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param leafGrants grants to check for authorization, or null to not restrict visibility at all
+     * @return the complete Bson for the field-based search criteria
+     * @since 1.3.0
+     */
+    public static Bson apply(final FilterFieldExpression expression,
+            final Function<String, Bson> predicateFunction,
+            @Nullable final LeafGrants leafGrants) {
+
+        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, leafGrants));
     }
 
     /**
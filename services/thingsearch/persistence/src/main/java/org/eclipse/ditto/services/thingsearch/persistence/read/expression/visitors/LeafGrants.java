@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANT_SET;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Restricts the flattened attributes of search index documents to those readable by authorization subjects.
+ * Attributes either carry their own granted and revoked subjects or reference a shared grant set; in the latter case
+ * the IDs of the grant sets readable by the authorization subjects have to be resolved before querying.
+ *
+ * @since 1.3.0
+ */
+@Immutable
+public final class LeafGrants {
+
+    private final List<String> authorizationSubjectIds;
+    private final boolean perLeafGrants;
+    @Nullable private final List<String> grantSetIds;
+
+    private LeafGrants(final List<String> authorizationSubjectIds, final boolean perLeafGrants,
+            @Nullable final List<String> grantSetIds) {
+
+        this.authorizationSubjectIds = Collections.unmodifiableList(new ArrayList<>(authorizationSubjectIds));
+        this.perLeafGrants = perLeafGrants;
+        this.grantSetIds = grantSetIds == null ? null : Collections.unmodifiableList(new ArrayList<>(grantSetIds));
+    }
+
+    /**
+     * Match attributes carrying their own granted and revoked subjects.
+     *
+     * @param authorizationSubjectIds the authorization subject IDs.
+     * @return the leaf grants.
+     */
+    public static LeafGrants perLeaf(final List<String> authorizationSubjectIds) {
+        checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
+        return new LeafGrants(authorizationSubjectIds, true, null);
+    }
+
+    /**
+     * Match attributes referencing shared grant sets.
+     *
+     * @param authorizationSubjectIds the authorization subject IDs.
+     * @param grantSetIds IDs of the grant sets readable by the authorization subjects.
+     * @param perLeafGrants whether to match attributes carrying their own granted and revoked subjects as well.
+     * @return the leaf grants.
+     */
+    public static LeafGrants grantSets(final List<String> authorizationSubjectIds,
+            final Collection<String> grantSetIds,
+            final boolean perLeafGrants) {
+
+        checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
+        checkNotNull(grantSetIds, "grantSetIds");
+        return new LeafGrants(authorizationSubjectIds, perLeafGrants, new ArrayList<>(grantSetIds));
+    }
+
+    /**
+     * @return the authorization subject IDs.
+     */
+    public List<String> getAuthorizationSubjectIds() {
+        return authorizationSubjectIds;
+    }
+
+    /**
+     * Create the filter of readable attributes relative to the array of flattened attributes.
+     *
+     * @return the BSON filter.
+     */
+    public Bson toBson() {
+        final Bson perLeafFilter = Filters.and(
+                Filters.in(FIELD_GRANTED, authorizationSubjectIds),
+                Filters.nin(FIELD_REVOKED, authorizationSubjectIds)
+        );
+        if (grantSetIds == null) {
+            return perLeafFilter;
+        }
+        final Bson grantSetFilter = Filters.in(FIELD_GRANT_SET, grantSetIds);
+        return perLeafGrants ? Filters.or(grantSetFilter, perLeafFilter) : grantSetFilter;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LeafGrants that = (LeafGrants) o;
+        return perLeafGrants == that.perLeafGrants &&
+                authorizationSubjectIds.equals(that.authorizationSubjectIds) &&
+                Objects.equals(grantSetIds, that.grantSetIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(authorizationSubjectIds, perLeafGrants, grantSetIds);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "authorizationSubjectIds=" + authorizationSubjectIds +
+                ", perLeafGrants=" + perLeafGrants +
+                ", grantSetIds=" + grantSetIds +
+                "]";
+    }
+
+}
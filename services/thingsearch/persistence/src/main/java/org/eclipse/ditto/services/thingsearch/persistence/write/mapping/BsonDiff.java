@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel.PULL;
+import static org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel.SET;
+import static org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel.UNSET;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Difference between two BSON documents expressed as {@code $set}, {@code $unset} and {@code $pull} operations.
+ * <p>
+ * Nested documents are compared field by field. Arrays which did not shrink are compared element by element and
+ * changed elements are set by their index. Arrays from which elements were only removed are updated by pulling the
+ * removed elements, provided that no remaining element equals a removed one. Other arrays which shrank and arrays in
+ * which most elements changed are set as a whole. Keys must not contain dots or start with a dollar sign, which holds for search index documents because
+ * their keys are escaped by {@link JsonToBson}.
+ * </p>
+ */
+@NotThreadSafe
+public final class BsonDiff {
+
+    private static final BsonString UNSET_VALUE = new BsonString("");
+
+    private final BsonDocument set;
+    private final BsonDocument unset;
+    private final BsonDocument pull;
+
+    private BsonDiff() {
+        set = new BsonDocument();
+        unset = new BsonDocument();
+        pull = new BsonDocument();
+    }
+
+    /**
+     * Compute the difference between 2 documents.
+     *
+     * @param minuend the new document.
+     * @param subtrahend the old document.
+     * @return the difference turning the old document into the new document.
+     */
+    public static BsonDiff minus(final BsonDocument minuend, final BsonDocument subtrahend) {
+        final BsonDiff diff = new BsonDiff();
+        diff.diffDocuments("", minuend, subtrahend);
+        return diff;
+    }
+
+    /**
+     * @return whether both documents were equal.
+     */
+    public boolean isEmpty() {
+        return set.isEmpty() && unset.isEmpty() && pull.isEmpty();
+    }
+
+    /**
+     * Create the update document applying this difference.
+     *
+     * @return the update document. It is empty if both documents were equal.
+     */
+    public BsonDocument toUpdate() {
+        final BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.append(SET, set);
+        }
+        if (!unset.isEmpty()) {
+            update.append(UNSET, unset);
+        }
+        if (!pull.isEmpty()) {
+            update.append(PULL, pull);
+        }
+        return update;
+    }
+
+    private void diffDocuments(final String prefix, final BsonDocument minuend, final BsonDocument subtrahend) {
+        for (final Map.Entry<String, BsonValue> entry : minuend.entrySet()) {
+            final String path = prefix + entry.getKey();
+            final BsonValue newValue = entry.getValue();
+            final BsonValue oldValue = subtrahend.get(entry.getKey());
+            if (oldValue == null) {
+                set.append(path, newValue);
+            } else if (!oldValue.equals(newValue)) {
+                diffValues(path, newValue, oldValue);
+            }
+        }
+        for (final String key : subtrahend.keySet()) {
+            if (!minuend.containsKey(key)) {
+                unset.append(prefix + key, UNSET_VALUE);
+            }
+        }
+    }
+
+    private void diffValues(final String path, final BsonValue newValue, final BsonValue oldValue) {
+        if (newValue.isDocument() && oldValue.isDocument()) {
+            diffDocuments(path + ".", newValue.asDocument(), oldValue.asDocument());
+        } else if (newValue.isArray() && oldValue.isArray()) {
+            diffArrays(path, newValue.asArray(), oldValue.asArray());
+        } else {
+            set.append(path, newValue);
+        }
+    }
+
+    private void diffArrays(final String path, final BsonArray minuend, final BsonArray subtrahend) {
+        final int newSize = minuend.size();
+        final int oldSize = subtrahend.size();
+        if (newSize < oldSize) {
+            // $set cannot truncate arrays
+            final BsonArray removedElements = getRemovedElements(minuend, subtrahend);
+            if (removedElements != null) {
+                pull.append(path, new BsonDocument().append("$in", removedElements));
+            } else {
+                set.append(path, minuend);
+            }
+        } else {
+            final BsonDocument changedElements = new BsonDocument();
+            for (int i = 0; i < newSize; ++i) {
+                final BsonValue newElement = minuend.get(i);
+                if (i >= oldSize || !newElement.equals(subtrahend.get(i))) {
+                    changedElements.append(path + "." + i, newElement);
+                }
+            }
+            if (2 * changedElements.size() > newSize) {
+                set.append(path, minuend);
+            } else {
+                set.putAll(changedElements);
+            }
+        }
+    }
+
+    /**
+     * Compute the elements to pull from an array to get a shorter array.
+     *
+     * @param minuend the new array.
+     * @param subtrahend the old array.
+     * @return the removed elements, or null if the new array is not the old array with some elements removed or if
+     * pulling the removed elements would also remove elements of the new array.
+     */
+    @Nullable
+    private static BsonArray getRemovedElements(final BsonArray minuend, final BsonArray subtrahend) {
+        final BsonArray removedElements = new BsonArray();
+        int j = 0;
+        for (final BsonValue oldElement : subtrahend) {
+            if (j < minuend.size() && oldElement.equals(minuend.get(j))) {
+                ++j;
+            } else if (minuend.contains(oldElement)) {
+                return null;
+            } else if (!removedElements.contains(oldElement)) {
+                removedElements.add(oldElement);
+            }
+        }
+        return j == minuend.size() ? removedElements : null;
+    }
+
+}
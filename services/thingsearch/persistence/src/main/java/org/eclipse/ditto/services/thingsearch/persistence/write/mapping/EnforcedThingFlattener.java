@@ -15,12 +15,16 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 import static org.eclipse.ditto.services.models.policies.Permission.READ;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANT_SET;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
 
 import org.bson.BsonArray;
 import org.bson.BsonString;
@@ -54,17 +58,40 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
     private final Enforcer enforcer;
     private final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer;
     private final int maxArraySize;
+    @Nullable private final GrantSets grantSets;
 
     EnforcedThingFlattener(final String thingId, final Enforcer enforcer, final int maxArraySize) {
+        this(thingId, enforcer, maxArraySize, null);
+    }
+
+    EnforcedThingFlattener(final String thingId, final Enforcer enforcer, final int maxArraySize,
+            @Nullable final GrantSets grantSets) {
         this.enforcer = enforcer;
         indexLengthRestrictionEnforcer = IndexLengthRestrictionEnforcer.newInstance(thingId);
         this.maxArraySize = maxArraySize;
+        this.grantSets = grantSets;
     }
 
     static BsonArray flattenJson(final JsonObject thingJson, final Enforcer enforcer, final int maxArraySize) {
+        return flattenJson(thingJson, enforcer, maxArraySize, null);
+    }
+
+    /**
+     * Flatten a Thing JSON.
+     *
+     * @param thingJson the Thing JSON.
+     * @param enforcer the enforcer of the Thing.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param grantSets collector of the grant sets referenced by the flattened values, or null to write the granted
+     * and revoked subjects into each flattened value.
+     * @return the flattened values.
+     */
+    static BsonArray flattenJson(final JsonObject thingJson, final Enforcer enforcer, final int maxArraySize,
+            @Nullable final GrantSets grantSets) {
+
         final BsonArray bsonArray = new BsonArray();
         final String thingId = thingJson.getValueOrThrow(Thing.JsonFields.ID);
-        new EnforcedThingFlattener(thingId, enforcer, maxArraySize).eval(thingJson)
+        new EnforcedThingFlattener(thingId, enforcer, maxArraySize, grantSets).eval(thingJson)
                 .forEach(doc -> bsonArray.add(BsonUtil.toBsonDocument(doc)));
         return bsonArray;
     }
@@ -112,11 +139,22 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
         if (fixedJsonValue.isPresent()) {
             final BsonValue bsonValue = JsonToBson.convert(fixedJsonValue.get());
             final EffectedSubjects subjects = computeEffectedSubjectIds(key);
-            final BsonArray grants = toBsonArray(subjects.getGranted());
-            final BsonArray revokes = toBsonArray(subjects.getRevoked());
-            final Document document = assembleDocument(key, bsonValue, grants, revokes);
-            return replaceFeatureIdByWildcard(key)
-                    .map(replacedKey -> Stream.of(document, assembleDocument(replacedKey, bsonValue, grants, revokes)))
+            final Document document;
+            final Optional<Document> wildcardDocument;
+            if (grantSets == null) {
+                final BsonArray grants = toBsonArray(subjects.getGranted());
+                final BsonArray revokes = toBsonArray(subjects.getRevoked());
+                document = assembleDocument(key, bsonValue, grants, revokes);
+                wildcardDocument = replaceFeatureIdByWildcard(key)
+                        .map(replacedKey -> assembleDocument(replacedKey, bsonValue, grants, revokes));
+            } else {
+                final String grantSetId = grantSets.getId(toSortedBsonArray(subjects.getGranted()),
+                        toSortedBsonArray(subjects.getRevoked()));
+                document = assembleDocument(key, bsonValue, grantSetId);
+                wildcardDocument = replaceFeatureIdByWildcard(key)
+                        .map(replacedKey -> assembleDocument(replacedKey, bsonValue, grantSetId));
+            }
+            return wildcardDocument.map(wildcard -> Stream.of(document, wildcard))
                     .orElse(Stream.of(document));
         } else {
             // Impossible to restrict length of this key-value pair; do not index it.
@@ -135,6 +173,22 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
         return bsonArray;
     }
 
+    private static BsonArray toSortedBsonArray(final Iterable<AuthorizationSubject> authorizationSubjects) {
+        final BsonArray bsonArray = new BsonArray();
+        StreamSupport.stream(authorizationSubjects.spliterator(), false)
+                .map(AuthorizationSubject::getId)
+                .sorted()
+                .distinct()
+                .forEach(subjectId -> bsonArray.add(new BsonString(subjectId)));
+        return bsonArray;
+    }
+
+    private static Document assembleDocument(final CharSequence key, final BsonValue value, final String grantSetId) {
+        return new Document().append(FIELD_INTERNAL_KEY, key.toString())
+                .append(FIELD_INTERNAL_VALUE, value)
+                .append(FIELD_GRANT_SET, grantSetId);
+    }
+
     private static Document assembleDocument(final CharSequence key, final BsonValue value, final BsonArray grants,
             final BsonArray revokes) {
 
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANT_SETS;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
@@ -95,6 +96,28 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             final int maxArraySize) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, false);
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param grantTable whether flattened values should reference shared grant sets instead of carrying their own
+     * granted and revoked subjects.
+     * @return BSON document to write into the search index together with the grant sets it references.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     * @since 1.3.0
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            final boolean grantTable) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -105,7 +128,9 @@ public final class EnforcedThingMapper {
         final BsonValue thingCopyForSorting = JsonToBson.convert(pruneArrays(thing, maxArraySize));
 
         // flattened values for querying with special handling for thingId and namespace
-        final BsonArray flattenedValues = EnforcedThingFlattener.flattenJson(thing, enforcer, maxArraySize);
+        final GrantSets grantSets = grantTable ? GrantSets.newInstance() : null;
+        final BsonArray flattenedValues =
+                EnforcedThingFlattener.flattenJson(thing, enforcer, maxArraySize, grantSets);
 
         final Document thingDocument =
                 new Document().append(FIELD_ID, thingId.toString())
@@ -117,7 +142,13 @@ public final class EnforcedThingMapper {
                         .append(FIELD_SORTING, thingCopyForSorting)
                         .append(FIELD_INTERNAL, flattenedValues);
 
-        return ThingWriteModel.of(metadata, thingDocument);
+        if (grantSets == null) {
+            return ThingWriteModel.of(metadata, thingDocument);
+        } else {
+            // mark the layout of the document for the background sync
+            thingDocument.append(FIELD_GRANT_SETS, grantSets.getIds());
+            return ThingWriteModel.of(metadata, thingDocument, grantSets.toDocuments());
+        }
     }
 
     private static BsonArray getGlobalRead(final Enforcer enforcer) {
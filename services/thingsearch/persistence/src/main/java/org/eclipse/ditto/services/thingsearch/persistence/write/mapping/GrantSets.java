@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+/**
+ * The distinct grant sets of the flattened attributes of one Thing. A grant set consists of the subjects granted and
+ * the subjects revoked READ permission on an attribute. Its ID is derived from its content, so that the same grant
+ * set has the same ID in all search index documents and is stored once in the grants collection.
+ */
+@NotThreadSafe
+final class GrantSets {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int ID_BYTES = 16;
+    private static final byte SUBJECTS_SEPARATOR = 0;
+
+    private final Map<List<BsonArray>, String> ids;
+    private final Map<String, Document> documents;
+
+    private GrantSets() {
+        ids = new LinkedHashMap<>();
+        documents = new LinkedHashMap<>();
+    }
+
+    /**
+     * Create an empty collection of grant sets.
+     *
+     * @return the grant sets.
+     */
+    static GrantSets newInstance() {
+        return new GrantSets();
+    }
+
+    /**
+     * Get the ID of a grant set and remember it for {@link #toDocuments()}.
+     *
+     * @param grants the granted subject IDs in a deterministic order.
+     * @param revokes the revoked subject IDs in a deterministic order.
+     * @return the ID of the grant set.
+     */
+    String getId(final BsonArray grants, final BsonArray revokes) {
+        final List<BsonArray> key = Arrays.asList(grants, revokes);
+        final String knownId = ids.get(key);
+        if (knownId != null) {
+            return knownId;
+        }
+        final String id = computeId(grants, revokes);
+        ids.put(key, id);
+        documents.put(id, new Document().append(FIELD_ID, id)
+                .append(FIELD_GRANTED, grants)
+                .append(FIELD_REVOKED, revokes));
+        return id;
+    }
+
+    /**
+     * @return the IDs of the remembered grant sets.
+     */
+    List<String> getIds() {
+        return new ArrayList<>(documents.keySet());
+    }
+
+    /**
+     * @return documents of the remembered grant sets to write into the grants collection.
+     */
+    List<Document> toDocuments() {
+        return new ArrayList<>(documents.values());
+    }
+
+    /**
+     * Compute the ID of a grant set as the truncated SHA-256 digest of its subject IDs.
+     *
+     * @param grants the granted subject IDs.
+     * @param revokes the revoked subject IDs.
+     * @return the URL-safe base64 encoded digest.
+     */
+    static String computeId(final BsonArray grants, final BsonArray revokes) {
+        final MessageDigest digest = getDigest();
+        update(digest, grants);
+        digest.update(SUBJECTS_SEPARATOR);
+        update(digest, revokes);
+        final byte[] id = Arrays.copyOf(digest.digest(), ID_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+    }
+
+    private static void update(final MessageDigest digest, final BsonArray subjectIds) {
+        for (final BsonValue subjectId : subjectIds) {
+            final byte[] bytes = subjectId.asString().getValue().getBytes(StandardCharsets.UTF_8);
+            // length prefix to keep the encoding of the subject IDs unambiguous
+            digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ':');
+            digest.update(bytes);
+        }
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -35,6 +35,16 @@ public abstract class AbstractWriteModel {
      */
     public static final String SET = "$set";
 
+    /**
+     * MongoDB operator for removing a field.
+     */
+    public static final String UNSET = "$unset";
+
+    /**
+     * MongoDB operator for removing array elements.
+     */
+    public static final String PULL = "$pull";
+
     private final Metadata metadata;
 
     /**
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Write model for the changes of a Thing relative to the search index document written last.
+ * The update applies only if the search index document still has the revisions of the last written document.
+ */
+@NotThreadSafe
+public final class ThingPatchModel extends AbstractWriteModel {
+
+    private final BsonDocument thingDocument;
+    private final BsonDocument update;
+    private final BsonValue previousThingRevision;
+    private final BsonValue previousPolicyRevision;
+
+    private ThingPatchModel(final Metadata metadata,
+            final BsonDocument thingDocument,
+            final BsonDocument update,
+            final BsonValue previousThingRevision,
+            final BsonValue previousPolicyRevision) {
+
+        super(metadata);
+        this.thingDocument = thingDocument;
+        this.update = update;
+        this.previousThingRevision = previousThingRevision;
+        this.previousPolicyRevision = previousPolicyRevision;
+    }
+
+    /**
+     * Create a Thing patch model.
+     *
+     * @param metadata the metadata.
+     * @param thingDocument the complete document in the search index after the update.
+     * @param update the update turning the previous document into {@code thingDocument}.
+     * @param previousDocument the last written document the update is relative to.
+     * @return a Thing patch model.
+     */
+    public static ThingPatchModel of(final Metadata metadata,
+            final BsonDocument thingDocument,
+            final BsonDocument update,
+            final BsonDocument previousDocument) {
+
+        return new ThingPatchModel(metadata, thingDocument, update,
+                previousDocument.get(FIELD_REVISION, BsonNull.VALUE),
+                previousDocument.get(FIELD_POLICY_REVISION, BsonNull.VALUE));
+    }
+
+    @Override
+    public Bson getFilter() {
+        return Filters.and(super.getFilter(),
+                Filters.eq(FIELD_REVISION, previousThingRevision),
+                Filters.eq(FIELD_POLICY_REVISION, previousPolicyRevision));
+    }
+
+    @Override
+    public WriteModel<Document> toMongo() {
+        // no upsert: if the document changed in the meantime, the update does not match anything
+        return new UpdateOneModel<>(getFilter(), update);
+    }
+
+    /**
+     * @return the complete Thing document in the persistence after the update.
+     */
+    public BsonDocument getThingDocument() {
+        return thingDocument;
+    }
+
+    /**
+     * @return the update document.
+     */
+    public BsonDocument getUpdate() {
+        return update;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final ThingPatchModel that = (ThingPatchModel) o;
+        return thingDocument.equals(that.thingDocument) &&
+                update.equals(that.update) &&
+                previousThingRevision.equals(that.previousThingRevision) &&
+                previousPolicyRevision.equals(that.previousPolicyRevision);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), thingDocument, update, previousThingRevision, previousPolicyRevision);
+    }
+
+}
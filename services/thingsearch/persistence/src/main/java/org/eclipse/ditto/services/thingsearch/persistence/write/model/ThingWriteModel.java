@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -30,10 +32,12 @@ import com.mongodb.client.model.WriteModel;
 public final class ThingWriteModel extends AbstractWriteModel {
 
     private final Document thingDocument;
+    private final List<Document> grantSets;
 
-    private ThingWriteModel(final Metadata metadata, final Document thingDocument) {
+    private ThingWriteModel(final Metadata metadata, final Document thingDocument, final List<Document> grantSets) {
         super(metadata);
         this.thingDocument = thingDocument;
+        this.grantSets = Collections.unmodifiableList(grantSets);
     }
 
     /**
@@ -44,7 +48,23 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel of(final Metadata metadata, final Document thingDocument) {
-        return new ThingWriteModel(metadata, thingDocument);
+        return new ThingWriteModel(metadata, thingDocument, Collections.emptyList());
+    }
+
+    /**
+     * Create a Thing write model for a document referencing shared grant sets.
+     *
+     * @param metadata the metadata.
+     * @param thingDocument the document to write into the search index.
+     * @param grantSets the grant sets referenced by the document, which must exist in the grants collection before
+     * the document is written.
+     * @return a Thing write model.
+     * @since 1.3.0
+     */
+    public static ThingWriteModel of(final Metadata metadata, final Document thingDocument,
+            final List<Document> grantSets) {
+
+        return new ThingWriteModel(metadata, thingDocument, grantSets);
     }
 
     @Override
@@ -59,6 +79,14 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return thingDocument;
     }
 
+    /**
+     * @return the grant sets referenced by the Thing document.
+     * @since 1.3.0
+     */
+    public List<Document> getGrantSets() {
+        return grantSets;
+    }
+
     private static ReplaceOptions upsert() {
         return new ReplaceOptions().upsert(true);
     }
@@ -75,12 +103,12 @@ public final class ThingWriteModel extends AbstractWriteModel {
             return false;
         }
         final ThingWriteModel that = (ThingWriteModel) o;
-        return thingDocument.equals(that.thingDocument);
+        return thingDocument.equals(that.thingDocument) && grantSets.equals(that.grantSets);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), thingDocument);
+        return Objects.hash(super.hashCode(), thingDocument, grantSets);
     }
 
 }
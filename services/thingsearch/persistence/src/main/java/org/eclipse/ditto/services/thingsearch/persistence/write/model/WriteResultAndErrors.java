@@ -16,6 +16,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -121,6 +123,44 @@ public final class WriteResultAndErrors {
         return Optional.ofNullable(unexpectedError);
     }
 
+    /**
+     * Check whether some {@link ThingPatchModel} may not have been applied because the search index document changed
+     * since the patch was computed. The bulk write result does not report which updates matched a document; this
+     * check is conservative and may report unapplied patches where there are none.
+     *
+     * @return whether some requested patch may not have been applied.
+     */
+    public boolean mayHaveUnappliedPatches() {
+        int patches = 0;
+        int replacements = 0;
+        int deletions = 0;
+        final Set<Integer> failedIndexes = bulkWriteErrors.stream()
+                .map(BulkWriteError::getIndex)
+                .collect(Collectors.toSet());
+        for (int i = 0; i < writeModels.size(); ++i) {
+            if (!failedIndexes.contains(i)) {
+                final AbstractWriteModel writeModel = writeModels.get(i);
+                if (writeModel instanceof ThingPatchModel) {
+                    ++patches;
+                } else if (writeModel instanceof ThingWriteModel) {
+                    ++replacements;
+                } else {
+                    ++deletions;
+                }
+            }
+        }
+        if (patches == 0) {
+            return false;
+        } else if (unexpectedError != null || !bulkWriteResult.wasAcknowledged()) {
+            return true;
+        } else {
+            // replacements always match or upsert a document; deletions may or may not match a document
+            final int minimumMatchesOfReplacementsAndPatches =
+                    bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() - deletions;
+            return minimumMatchesOfReplacementsAndPatches < replacements + patches;
+        }
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof WriteResultAndErrors) {
@@ -18,14 +18,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingPatchModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
@@ -83,6 +86,12 @@ final class BulkWriteResultAckFlow {
                     logEntries.add(String.format("UpdateFailed for %s due to %s", metadata, error));
                     failedThings.add(metadata);
                 }
+                if (writeResultAndErrors.mayHaveUnappliedPatches()) {
+                    // patches are applied only to unchanged documents; request a complete update instead
+                    final List<Metadata> patchedThings = getPatchedThings(writeResultAndErrors);
+                    logEntries.add(String.format("PatchesPossiblyNotApplied for %s", patchedThings));
+                    failedThings.addAll(patchedThings);
+                }
                 acknowledgeFailures(failedThings);
                 return logEntries;
             }
@@ -152,6 +161,18 @@ final class BulkWriteResultAckFlow {
                 .collect(Collectors.toList());
     }
 
+    private static List<Metadata> getPatchedThings(final WriteResultAndErrors writeResultAndErrors) {
+        final Set<Integer> failedIndexes = writeResultAndErrors.getBulkWriteErrors()
+                .stream()
+                .map(BulkWriteError::getIndex)
+                .collect(Collectors.toSet());
+        final List<AbstractWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+        return IntStream.range(0, writeModels.size())
+                .filter(i -> !failedIndexes.contains(i) && writeModels.get(i) instanceof ThingPatchModel)
+                .mapToObj(i -> writeModels.get(i).getMetadata())
+                .collect(Collectors.toList());
+    }
+
     private static String logResult(final String status, final WriteResultAndErrors writeResultAndErrors,
             final boolean isCompleteSuccess) {
         final Optional<Throwable> unexpectedError = writeResultAndErrors.getUnexpectedError();
@@ -13,17 +13,21 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -34,6 +38,8 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
@@ -45,6 +51,8 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -74,13 +82,19 @@ final class EnforcementFlow {
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
     private final boolean deleteEvent;
+    @Nullable private final ShardRegionExtractor thingsShardRegionExtractor;
+    private final int shardBatchSize;
+    private final boolean grantTable;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
-            final boolean deleteEvent) {
+            final boolean deleteEvent,
+            @Nullable final ShardRegionExtractor thingsShardRegionExtractor,
+            final int shardBatchSize,
+            final boolean grantTable) {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
@@ -88,6 +102,9 @@ final class EnforcementFlow {
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
         this.deleteEvent = deleteEvent;
+        this.thingsShardRegionExtractor = thingsShardRegionExtractor;
+        this.shardBatchSize = shardBatchSize;
+        this.grantTable = grantTable;
     }
 
     /**
@@ -105,6 +122,31 @@ final class EnforcementFlow {
             final MessageDispatcher cacheDispatcher,
             final boolean deleteEvent) {
 
+        return of(updaterStreamConfig, thingsShardRegion, null, policiesShardRegion, cacheDispatcher, deleteEvent,
+                false);
+    }
+
+    /**
+     * Create an EnforcementFlow object which retrieves things in batches grouped by their shard if batched retrieval
+     * is enabled by the stream config.
+     *
+     * @param updaterStreamConfig configuration of the updater stream.
+     * @param thingsShardRegion the shard region to retrieve things from.
+     * @param thingsShardRegionExtractor extractor of the shard IDs of the things shard region, or null to retrieve
+     * each thing by its own command.
+     * @param policiesShardRegion the shard region to retrieve policies from.
+     * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param grantTable whether to write search index documents referencing shared grant sets.
+     * @return an EnforcementFlow object.
+     */
+    public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
+            final ActorRef thingsShardRegion,
+            @Nullable final ShardRegionExtractor thingsShardRegionExtractor,
+            final ActorRef policiesShardRegion,
+            final MessageDispatcher cacheDispatcher,
+            final boolean deleteEvent,
+            final boolean grantTable) {
+
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
 
@@ -115,7 +157,8 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
         return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent,
+                thingsShardRegionExtractor, updaterStreamConfig.getShardBatchSize(), grantTable);
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -176,8 +219,15 @@ final class EnforcementFlow {
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Collection<ThingId> thingIds) {
 
-        return Source.fromIterator(thingIds::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
+        final Source<SudoRetrieveThingResponse, NotUsed> responses;
+        if (thingsShardRegionExtractor != null && shardBatchSize > 0) {
+            final List<List<ThingId>> batches = groupByShard(thingsShardRegionExtractor, thingIds, shardBatchSize);
+            log.info("Retrieving <{}> things in <{}> batches", thingIds.size(), batches.size());
+            responses = Source.from(batches).flatMapMerge(parallelism, this::sudoRetrieveThingsOfShard);
+        } else {
+            responses = Source.fromIterator(thingIds::iterator).flatMapMerge(parallelism, this::sudoRetrieveThing);
+        }
+        return responses
                 .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
                     map.put(getThingId(response), response);
                     return map;
@@ -188,6 +238,66 @@ final class EnforcementFlow {
                 });
     }
 
+    /**
+     * Group Thing IDs by the shard of the Things shard region they belong to.
+     *
+     * @param shardRegionExtractor extractor of the shard IDs of the Things shard region.
+     * @param thingIds the Thing IDs.
+     * @param batchSize maximum number of Thing IDs in a group.
+     * @return groups of Thing IDs of the same shard with at most {@code batchSize} elements each.
+     */
+    static List<List<ThingId>> groupByShard(final ShardRegionExtractor shardRegionExtractor,
+            final Collection<ThingId> thingIds, final int batchSize) {
+
+        final Map<String, List<ThingId>> thingIdsByShard = thingIds.stream()
+                .collect(Collectors.groupingBy(thingId -> shardRegionExtractor.shardId(
+                        SudoRetrieveThing.of(thingId, DittoHeaders.empty()))));
+        final List<List<ThingId>> batches = new ArrayList<>();
+        for (final List<ThingId> thingIdsOfShard : thingIdsByShard.values()) {
+            for (int i = 0; i < thingIdsOfShard.size(); i += batchSize) {
+                batches.add(thingIdsOfShard.subList(i, Math.min(i + batchSize, thingIdsOfShard.size())));
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Retrieve things of one shard by a single SudoRetrieveThings command. The command is delivered to the shard
+     * of the first thing, where the retrievals are performed locally. Falls back to retrieving each thing by its own
+     * command if the batch is not answered.
+     *
+     * @param thingIds IDs of things belonging to the same shard.
+     * @return source of responses for the things that exist.
+     */
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThingsOfShard(final List<ThingId> thingIds) {
+        final SudoRetrieveThings command = SudoRetrieveThings.of(thingIds, DittoHeaders.empty());
+        final ShardedMessageEnvelope envelope = ShardedMessageEnvelope.of(thingIds.get(0), command.getType(),
+                command.toJson(), command.getDittoHeaders());
+        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+                // using default thread-pool for asking Things shard region
+                Patterns.ask(thingsShardRegion, envelope, thingsTimeout)
+                        .handle((response, error) -> {
+                            if (response instanceof SudoRetrieveThingsResponse) {
+                                final JsonValue things = ((SudoRetrieveThingsResponse) response).getEntity();
+                                return Source.from(things.asArray())
+                                        .filter(JsonValue::isObject)
+                                        .map(thing -> SudoRetrieveThingResponse.of(thing.asObject(),
+                                                DittoHeaders.empty()));
+                            } else {
+                                if (error != null) {
+                                    log.warn("Failed <{}>, retrieving things one by one: {}", command, error);
+                                } else {
+                                    log.warn("Unexpected response for <{}>, retrieving things one by one: <{}>",
+                                            command, response);
+                                }
+                                return Source.from(thingIds).flatMapConcat(this::sudoRetrieveThing);
+                            }
+                        });
+
+        return Source.fromSourceCompletionStage(responseFuture)
+                .viaMat(Flow.create(), Keep.none());
+    }
+
     private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final ThingId thingId) {
         final SudoRetrieveThing command =
                 SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
@@ -227,7 +337,8 @@ final class EnforcementFlow {
                             try {
                                 return EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(),
                                         entry.getRevision(),
-                                        maxArraySize);
+                                        maxArraySize,
+                                        grantTable);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 return ThingDeleteModel.of(metadata);
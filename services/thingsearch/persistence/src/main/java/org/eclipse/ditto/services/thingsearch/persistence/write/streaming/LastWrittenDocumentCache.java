@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.BsonDiff;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingPatchModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.bulk.BulkWriteError;
+
+/**
+ * Bounded cache of the search index documents written last. Converts write models of whole Thing documents into
+ * incremental updates relative to the cached documents.
+ */
+final class LastWrittenDocumentCache {
+
+    private static final String UPDATES_COUNTER_NAME = "search-index-updates";
+    private static final String BYTES_SAVED_COUNTER_NAME = "search-index-update-bytes-saved";
+    private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private final Cache<ThingId, BsonDocument> lastWrittenDocuments;
+    private final double maxPatchRatio;
+    private final Counter patchCounter;
+    private final Counter replacementCounter;
+    private final Counter bytesSavedCounter;
+
+    private LastWrittenDocumentCache(final int maximumSize, final double maxPatchRatio) {
+        lastWrittenDocuments = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.maxPatchRatio = maxPatchRatio;
+        patchCounter = DittoMetrics.counter(UPDATES_COUNTER_NAME).tag(UPDATE_TYPE_TAG, "patch");
+        replacementCounter = DittoMetrics.counter(UPDATES_COUNTER_NAME).tag(UPDATE_TYPE_TAG, "replace");
+        bytesSavedCounter = DittoMetrics.counter(BYTES_SAVED_COUNTER_NAME);
+    }
+
+    /**
+     * Create a cache of last written search index documents.
+     *
+     * @param maximumSize how many documents to cache.
+     * @param maxPatchRatio maximum size of an incremental update relative to the size of the whole document.
+     * @return the cache.
+     */
+    static LastWrittenDocumentCache of(final int maximumSize, final double maxPatchRatio) {
+        return new LastWrittenDocumentCache(maximumSize, maxPatchRatio);
+    }
+
+    /**
+     * Convert a write model into an incremental update if the last written document of the Thing is known and the
+     * incremental update is small enough.
+     *
+     * @param writeModel the write model.
+     * @return the incremental update, or the write model itself.
+     */
+    AbstractWriteModel toIncrementalUpdate(final AbstractWriteModel writeModel) {
+        if (writeModel instanceof ThingWriteModel) {
+            final ThingId thingId = writeModel.getMetadata().getThingId();
+            @Nullable final BsonDocument previousDocument = lastWrittenDocuments.getIfPresent(thingId);
+            if (previousDocument != null) {
+                final BsonDocument newDocument =
+                        BsonUtil.toBsonDocument(((ThingWriteModel) writeModel).getThingDocument());
+                final BsonDocument update = computeUpdate(newDocument, previousDocument);
+                final int documentSize = sizeOf(newDocument);
+                final int updateSize = sizeOf(update);
+                if (updateSize <= maxPatchRatio * documentSize) {
+                    patchCounter.increment();
+                    bytesSavedCounter.increment(documentSize - updateSize);
+                    return ThingPatchModel.of(writeModel.getMetadata(), newDocument, update, previousDocument);
+                }
+            }
+            replacementCounter.increment();
+        }
+        return writeModel;
+    }
+
+    /**
+     * Remember the documents written by a bulk write and forget the documents of failed writes.
+     *
+     * @param writeResultAndErrors the result of the bulk write.
+     */
+    void onWriteResult(final WriteResultAndErrors writeResultAndErrors) {
+        final List<AbstractWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+        if (writeResultAndErrors.getUnexpectedError().isPresent() ||
+                !writeResultAndErrors.getBulkWriteResult().wasAcknowledged()) {
+            writeModels.forEach(this::invalidate);
+        } else {
+            final Set<Integer> failedIndexes = writeResultAndErrors.getBulkWriteErrors()
+                    .stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            final boolean mayHaveUnappliedPatches = writeResultAndErrors.mayHaveUnappliedPatches();
+            for (int i = 0; i < writeModels.size(); ++i) {
+                final AbstractWriteModel writeModel = writeModels.get(i);
+                final ThingId thingId = writeModel.getMetadata().getThingId();
+                if (failedIndexes.contains(i)) {
+                    invalidate(writeModel);
+                } else if (writeModel instanceof ThingPatchModel) {
+                    if (mayHaveUnappliedPatches) {
+                        invalidate(writeModel);
+                    } else {
+                        lastWrittenDocuments.put(thingId, ((ThingPatchModel) writeModel).getThingDocument());
+                    }
+                } else if (writeModel instanceof ThingWriteModel) {
+                    lastWrittenDocuments.put(thingId,
+                            BsonUtil.toBsonDocument(((ThingWriteModel) writeModel).getThingDocument()));
+                } else {
+                    invalidate(writeModel);
+                }
+            }
+        }
+    }
+
+    private void invalidate(final AbstractWriteModel writeModel) {
+        lastWrittenDocuments.invalidate(writeModel.getMetadata().getThingId());
+    }
+
+    private static BsonDocument computeUpdate(final BsonDocument newDocument, final BsonDocument previousDocument) {
+        final BsonDiff diff = BsonDiff.minus(newDocument, previousDocument);
+        if (diff.isEmpty()) {
+            // MongoDB rejects empty updates; set the unchanged revision instead
+            return new BsonDocument().append(AbstractWriteModel.SET,
+                    new BsonDocument().append(FIELD_REVISION, newDocument.get(FIELD_REVISION)));
+        } else {
+            return diff.toUpdate();
+        }
+    }
+
+    private static int sizeOf(final BsonDocument document) {
+        return new RawBsonDocument(document, BSON_DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+
+}
@@ -12,26 +12,47 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.GRANTS_COLLECTION_NAME;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultUpdaterConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.typesafe.config.ConfigFactory;
 
+import akka.Done;
 import akka.NotUsed;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
@@ -56,23 +77,61 @@ final class MongoSearchUpdaterFlow {
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String WRITTEN_GRANT_SETS_CACHE_NAME = "things_search_written_grant_sets";
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    private final MongoCollection<Document> grantsCollection;
+    @Nullable private final LastWrittenDocumentCache lastWrittenDocumentCache;
+    private final Cache<String, Boolean> writtenGrantSets;
+
+    private MongoSearchUpdaterFlow(final MongoDatabase database,
+            @Nullable final LastWrittenDocumentCache lastWrittenDocumentCache,
+            final CacheConfig writtenGrantSetsCacheConfig,
+            final Executor cacheExecutor) {
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
-        this.collection = collection;
+        collection = database.getCollection(THINGS_COLLECTION_NAME);
+        grantsCollection = database.getCollection(GRANTS_COLLECTION_NAME);
+        this.lastWrittenDocumentCache = lastWrittenDocumentCache;
+        writtenGrantSets =
+                CacheFactory.createCache(writtenGrantSetsCacheConfig, WRITTEN_GRANT_SETS_CACHE_NAME, cacheExecutor);
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which always replaces whole search index documents and remembers written
+     * grant sets with the default cache config.
      *
      * @param database the MongoDB database.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        final CacheConfig defaultWrittenGrantSetsCacheConfig =
+                DefaultUpdaterConfig.of(ConfigFactory.empty()).getWrittenGrantSetsCacheConfig();
+        return new MongoSearchUpdaterFlow(database, null, defaultWrittenGrantSetsCacheConfig,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which writes incremental updates if configured.
+     *
+     * @param database the MongoDB database.
+     * @param persistenceConfig the configuration of the persistence stream.
+     * @param writtenGrantSetsCacheConfig the configuration of the cache of IDs of written grant sets.
+     * @param cacheExecutor the executor of the cache of IDs of written grant sets.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            final CacheConfig writtenGrantSetsCacheConfig,
+            final Executor cacheExecutor) {
+
+        final int patchCacheSize = persistenceConfig.getPatchCacheSize();
+        final LastWrittenDocumentCache lastWrittenDocumentCache = patchCacheSize > 0
+                ? LastWrittenDocumentCache.of(patchCacheSize, persistenceConfig.getMaxPatchRatio())
+                : null;
+        return new MongoSearchUpdaterFlow(database, lastWrittenDocumentCache, writtenGrantSetsCacheConfig,
+                cacheExecutor);
     }
 
 
@@ -113,11 +172,73 @@ final class MongoSearchUpdaterFlow {
     }
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(
-            final List<AbstractWriteModel> abstractWriteModels) {
+            final List<AbstractWriteModel> requestedWriteModels) {
+
+        final List<Document> grantSets = getUnwrittenGrantSets(requestedWriteModels);
+        if (grantSets.isEmpty()) {
+            return executeThingsBulkWrite(requestedWriteModels);
+        }
+        // write the referenced grant sets first so that queries never see documents with unknown grant sets
+        final List<WriteModel<Document>> grantSetUpserts = grantSets.stream()
+                .map(grantSet -> new ReplaceOneModel<>(Filters.eq(FIELD_ID, grantSet.getString(FIELD_ID)), grantSet,
+                        new ReplaceOptions().upsert(true)))
+                .collect(Collectors.toList());
+        return Source.fromPublisher(grantsCollection.bulkWrite(grantSetUpserts, new BulkWriteOptions().ordered(false)))
+                .map(bulkWriteResult -> Done.getInstance())
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Done, NotUsed>>()
+                        // concurrent upserts of the same grant set: it exists regardless of which one failed
+                        .match(MongoBulkWriteException.class, MongoSearchUpdaterFlow::isDuplicateKeyErrorOnly,
+                                bulkWriteException -> Source.single(Done.getInstance()))
+                        .build()
+                )
+                .flatMapConcat(grantSetsWritten -> {
+                    grantSets.forEach(grantSet -> writtenGrantSets.put(grantSet.getString(FIELD_ID), Boolean.TRUE));
+                    return executeThingsBulkWrite(requestedWriteModels);
+                })
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<WriteResultAndErrors, NotUsed>>()
+                        // errors of the things bulk write are recovered already; this is a grants bulk write error
+                        .matchAny(error ->
+                                Source.single(WriteResultAndErrors.unexpectedError(requestedWriteModels, error))
+                        )
+                        .build()
+                );
+    }
+
+    private List<Document> getUnwrittenGrantSets(final List<AbstractWriteModel> writeModels) {
+        final Map<String, Document> grantSets = new LinkedHashMap<>();
+        for (final AbstractWriteModel writeModel : writeModels) {
+            if (writeModel instanceof ThingWriteModel) {
+                for (final Document grantSet : ((ThingWriteModel) writeModel).getGrantSets()) {
+                    final String grantSetId = grantSet.getString(FIELD_ID);
+                    if (!writtenGrantSets.asMap().containsKey(grantSetId)) {
+                        grantSets.putIfAbsent(grantSetId, grantSet);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(grantSets.values());
+    }
+
+    private static boolean isDuplicateKeyErrorOnly(final MongoBulkWriteException bulkWriteException) {
+        return bulkWriteException.getWriteConcernError() == null &&
+                bulkWriteException.getWriteErrors()
+                        .stream()
+                        .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY);
+    }
+
+    private Source<WriteResultAndErrors, NotUsed> executeThingsBulkWrite(
+            final List<AbstractWriteModel> requestedWriteModels) {
+
+        final List<AbstractWriteModel> abstractWriteModels = lastWrittenDocumentCache == null
+                ? requestedWriteModels
+                : requestedWriteModels.stream()
+                        .map(lastWrittenDocumentCache::toIncrementalUpdate)
+                        .collect(Collectors.toList());
         final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
                 .map(AbstractWriteModel::toMongo)
                 .collect(Collectors.toList());
-        return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
+        final Source<WriteResultAndErrors, NotUsed> writeResultSource = Source.fromPublisher(
+                collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
                 .map(bulkWriteResult -> WriteResultAndErrors.success(abstractWriteModels, bulkWriteResult))
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<WriteResultAndErrors, NotUsed>>()
                         .match(MongoBulkWriteException.class, bulkWriteException ->
@@ -128,6 +249,14 @@ final class MongoSearchUpdaterFlow {
                         )
                         .build()
                 );
+        if (lastWrittenDocumentCache == null) {
+            return writeResultSource;
+        } else {
+            return writeResultSource.map(writeResultAndErrors -> {
+                lastWrittenDocumentCache.onWriteResult(writeResultAndErrors);
+                return writeResultAndErrors;
+            });
+        }
     }
 
     private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -104,11 +105,17 @@ public final class SearchUpdaterStream {
         final DeleteConfig deleteConfig = searchConfig.getDeleteConfig();
         final boolean deleteEvent = deleteConfig.isDeleteEvent();
 
+        final int numberOfShards = searchConfig.getClusterConfig().getNumberOfShards();
+        final ShardRegionExtractor thingsShardRegionExtractor = ShardRegionExtractor.of(numberOfShards, actorSystem);
+
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
-                        deleteEvent);
+                EnforcementFlow.of(streamConfig, thingsShard, thingsShardRegionExtractor, policiesShard,
+                        messageDispatcher, deleteEvent, searchConfig.isGrantTableEnabled());
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
+                streamConfig.getPersistenceConfig(),
+                searchConfig.getUpdaterConfig().getWrittenGrantSetsCacheConfig(),
+                messageDispatcher);
 
         final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
 
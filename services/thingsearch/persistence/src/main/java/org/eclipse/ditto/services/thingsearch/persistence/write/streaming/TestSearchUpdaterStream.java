@@ -42,9 +42,11 @@ import akka.stream.javadsl.Source;
 public final class TestSearchUpdaterStream {
 
     private final MongoSearchUpdaterFlow mongoSearchUpdaterFlow;
+    private final boolean grantTable;
 
-    private TestSearchUpdaterStream(final MongoSearchUpdaterFlow mongoSearchUpdaterFlow) {
+    private TestSearchUpdaterStream(final MongoSearchUpdaterFlow mongoSearchUpdaterFlow, final boolean grantTable) {
         this.mongoSearchUpdaterFlow = mongoSearchUpdaterFlow;
+        this.grantTable = grantTable;
     }
 
     /**
@@ -54,8 +56,19 @@ public final class TestSearchUpdaterStream {
      * @return the test stream.
      */
     public static TestSearchUpdaterStream of(final MongoDatabase database) {
+        return of(database, false);
+    }
+
+    /**
+     * Create a test stream.
+     *
+     * @param database the MongoDB database.
+     * @param grantTable whether to write search index documents referencing shared grant sets.
+     * @return the test stream.
+     */
+    public static TestSearchUpdaterStream of(final MongoDatabase database, final boolean grantTable) {
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
-        return new TestSearchUpdaterStream(mongoSearchUpdaterFlow);
+        return new TestSearchUpdaterStream(mongoSearchUpdaterFlow, grantTable);
     }
 
     /**
@@ -71,7 +84,8 @@ public final class TestSearchUpdaterStream {
             final long policyRevision) {
 
         final JsonObject thingJson = thing.toJson(FieldType.all());
-        final AbstractWriteModel writeModel = EnforcedThingMapper.toWriteModel(thingJson, enforcer, policyRevision, -1);
+        final AbstractWriteModel writeModel =
+                EnforcedThingMapper.toWriteModel(thingJson, enforcer, policyRevision, -1, grantTable);
 
         return Source.single(Source.single(writeModel))
                 .via(mongoSearchUpdaterFlow.start(1, 1, Duration.ZERO));
@@ -71,6 +71,7 @@ public abstract class AbstractThingSearchPersistenceITBase {
     private static DittoMongoClient mongoClient;
 
     private MongoCollection<Document> thingsCollection;
+    private MongoCollection<Document> grantsCollection;
     protected MongoThingsSearchPersistence readPersistence;
     protected TestSearchUpdaterStream writePersistence;
 
@@ -98,17 +99,29 @@ public abstract class AbstractThingSearchPersistenceITBase {
         readPersistence = provideReadPersistence();
         writePersistence = provideWritePersistence();
         thingsCollection = mongoClient.getDefaultDatabase().getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
+        grantsCollection = mongoClient.getDefaultDatabase().getCollection(PersistenceConstants.GRANTS_COLLECTION_NAME);
+    }
+
+    /**
+     * Whether the search index is written and queried with shared grant sets. If not overridden by subclass, it will
+     * return {@code false}.
+     *
+     * @return whether the search index is written and queried with shared grant sets.
+     */
+    protected boolean isGrantTableEnabled() {
+        return false;
     }
 
     private MongoThingsSearchPersistence provideReadPersistence() {
-        final MongoThingsSearchPersistence result = new MongoThingsSearchPersistence(mongoClient, actorSystem);
+        final MongoThingsSearchPersistence result = new MongoThingsSearchPersistence(mongoClient, actorSystem)
+                .withGrantTable(isGrantTableEnabled(), false);
         // explicitly trigger CompletableFuture to make sure that indices are created before test runs
         result.initializeIndices().toCompletableFuture().join();
         return result;
     }
 
     private TestSearchUpdaterStream provideWritePersistence() {
-        return TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase());
+        return TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase(), isGrantTableEnabled());
     }
 
     private static DittoMongoClient provideClientWrapper() {
@@ -125,7 +138,7 @@ public abstract class AbstractThingSearchPersistenceITBase {
     @After
     public void after() {
         if (mongoClient != null) {
-            dropCollections(List.of(thingsCollection));
+            dropCollections(List.of(thingsCollection, grantsCollection));
         }
         if (actorSystem != null) {
             TestKit.shutdownActorSystem(actorSystem);
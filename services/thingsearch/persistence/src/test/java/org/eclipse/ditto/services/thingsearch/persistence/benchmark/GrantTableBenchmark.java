@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.benchmark;
+
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.QueryBuilderFactory;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.TestSearchUpdaterStream;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * JMH Benchmark comparing the search index with grants per leaf against the search index whose leaves reference
+ * shared grant sets: the latency of queries by attribute and the size of the collections, reported as the auxiliary
+ * counters {@code thingsCollectionBytes} and {@code grantsCollectionBytes}.
+ * Requires a local MongoDB binary like the integration tests of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GrantTableBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String NAMESPACE = "benchmark";
+    private static final PolicyId POLICY_ID = PolicyId.of(NAMESPACE, "policy");
+    private static final int DISTINCT_VALUES = 10;
+
+    private static final CriteriaFactory cf = new CriteriaFactoryImpl();
+    private static final ThingsFieldExpressionFactory fef = new ThingsFieldExpressionFactoryImpl();
+
+    @Param({"false", "true"})
+    public boolean grantTable;
+
+    @Param({"1000"})
+    public int thingCount;
+
+    @Param({"10", "100"})
+    public int attributeCount;
+
+    @Param({"1", "20"})
+    public int subjectCount;
+
+    private MongoDbResource mongoResource;
+    private DittoMongoClient mongoClient;
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private MongoThingsSearchPersistence readPersistence;
+    private List<String> subjectIds;
+    private Query query;
+    private Query unlimitedQuery;
+
+    @Setup
+    public void setup() {
+        mongoResource = new MongoDbResource("localhost");
+        mongoResource.start();
+        mongoClient = MongoClientWrapper.getBuilder()
+                .connectionString("mongodb://" + mongoResource.getBindIp() + ":" + mongoResource.getPort() +
+                        "/benchmarkSearchDB")
+                .build();
+        actorSystem = ActorSystem.create("GrantTableBenchmark", ConfigFactory.load("test"));
+        materializer = ActorMaterializer.create(actorSystem);
+
+        subjectIds = IntStream.range(0, subjectCount)
+                .mapToObj(i -> "benchmark:subject-" + i)
+                .collect(Collectors.toList());
+        final Enforcer enforcer = createEnforcer(subjectIds);
+        final TestSearchUpdaterStream writePersistence =
+                TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase(), grantTable);
+        for (int i = 0; i < thingCount; i++) {
+            runBlocking(writePersistence.write(createThing(i), enforcer, 0L));
+        }
+
+        readPersistence = new MongoThingsSearchPersistence(mongoClient, actorSystem).withGrantTable(grantTable, false);
+        readPersistence.initializeIndices().toCompletableFuture().join();
+
+        final QueryBuilderFactory qbf =
+                new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.load("test").getConfig("ditto")));
+        final Criteria criteria = cf.fieldCriteria(fef.filterByAttribute("attribute0"), cf.eq(1));
+        query = qbf.newBuilder(criteria).build();
+        unlimitedQuery = qbf.newUnlimitedBuilder(criteria).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+        mongoClient.close();
+        mongoResource.stop();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ResultList<ThingId> benchmark_findByAttribute(final CollectionSizes collectionSizes) {
+        return runBlocking(readPersistence.findAll(query, subjectIds));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Long benchmark_countByAttribute(final CollectionSizes collectionSizes) {
+        return runBlocking(readPersistence.count(unlimitedQuery, subjectIds));
+    }
+
+    private <T> T runBlocking(final Source<T, ?> source) {
+        return source.runWith(Sink.last(), materializer).toCompletableFuture().join();
+    }
+
+    private long getCollectionSize(final String collectionName) {
+        final MongoDatabase database = mongoClient.getDefaultDatabase();
+        final Document collStats = runBlocking(
+                Source.fromPublisher(database.runCommand(new Document("collStats", collectionName))));
+        return ((Number) collStats.get("size")).longValue();
+    }
+
+    private Thing createThing(final int index) {
+        final ThingBuilder.FromScratch thingBuilder = Thing.newBuilder()
+                .setId(ThingId.of(NAMESPACE, "thing" + index))
+                .setPolicyId(POLICY_ID)
+                .setRevision(1L);
+        for (int i = 0; i < attributeCount; i++) {
+            thingBuilder.setAttribute(JsonPointer.of("attribute" + i), JsonValue.of((index + i) % DISTINCT_VALUES));
+        }
+        return thingBuilder.build();
+    }
+
+    private static Enforcer createEnforcer(final List<String> subjectIds) {
+        PolicyBuilder.LabelScoped policyBuilder = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("viewer")
+                .setGrantedPermissions(THING, "/", Permission.READ);
+        for (final String subjectId : subjectIds) {
+            policyBuilder = policyBuilder.setSubject(subjectId, SubjectType.GENERATED);
+        }
+        return PolicyEnforcers.defaultEvaluator(policyBuilder.build());
+    }
+
+    /**
+     * Sizes of the search index collections in bytes, reported next to the query latencies.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CollectionSizes {
+
+        public long thingsCollectionBytes;
+        public long grantsCollectionBytes;
+
+        @Setup(Level.Iteration)
+        public void measure(final GrantTableBenchmark benchmark) {
+            thingsCollectionBytes = benchmark.getCollectionSize(PersistenceConstants.THINGS_COLLECTION_NAME);
+            grantsCollectionBytes = benchmark.grantTable
+                    ? benchmark.getCollectionSize(PersistenceConstants.GRANTS_COLLECTION_NAME)
+                    : 0L;
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -121,6 +122,67 @@ public final class CountIT extends AbstractReadPersistenceITBase {
         assertThat(actualCount).isEqualTo(expectedCount);
     }
 
+    @Test
+    public void estimateCountOfSmallSearchIndexExactly() {
+        final int count = 20;
+        for (int i = 0; i < count; i++) {
+            final ThingId individualThingId = ThingId.of(THING_BASE_ID.getNamespace(), THING_BASE_ID.getName() + i);
+            insertThingWithAttribute(individualThingId, i % 2 == 0 ? KNOWN_STRING_VALUE : "other value");
+        }
+        final Criteria criteria = cf.fieldCriteria(fef.filterByAttribute(KNOWN_ATTRIBUTE_KEY_1),
+                cf.eq(KNOWN_STRING_VALUE));
+
+        final Optional<Long> actualCount = runBlockingWithReturn(
+                readPersistence.estimateCount(qbf.newUnlimitedBuilder(criteria).build(), KNOWN_SUBJECTS, count));
+
+        assertThat(actualCount).contains((long) count / 2);
+    }
+
+    @Test
+    public void estimateCountFromSample() {
+        final int count = 50;
+        insertThingsWithAttribute(THING_BASE_ID.getNamespace(), count);
+        final int sampleSize = 10;
+
+        // every sampled thing is visible
+        assertThat(runBlockingWithReturn(
+                readPersistence.estimateCount(qbf.newUnlimitedBuilder(cf.any()).build(), KNOWN_SUBJECTS, sampleSize)))
+                .contains((long) count);
+        assertThat(runBlockingWithReturn(
+                readPersistence.sudoEstimateCount(qbf.newUnlimitedBuilder(cf.any()).build(), sampleSize)))
+                .contains((long) count);
+        // no sampled thing is visible
+        assertThat(runBlockingWithReturn(readPersistence.estimateCount(qbf.newUnlimitedBuilder(cf.any()).build(),
+                Collections.emptyList(), sampleSize)))
+                .isEmpty();
+    }
+
+    @Test
+    public void estimateCountOfSmallNamespaceFromSampleOfThatNamespace() {
+        final String smallNamespace = "smallNamespace";
+        final int count = 50;
+        final int smallNamespaceCount = 5;
+        insertThingsWithAttribute(THING_BASE_ID.getNamespace(), count);
+        insertThingsWithAttribute(smallNamespace, smallNamespaceCount);
+        final Criteria smallNamespaceCriteria = cf.fieldCriteria(fef.filterByNamespace(),
+                cf.in(Collections.singletonList(smallNamespace)));
+        final int sampleSize = 2;
+
+        assertThat(runBlockingWithReturn(readPersistence.estimateCount(
+                qbf.newUnlimitedBuilder(smallNamespaceCriteria).build(), KNOWN_SUBJECTS, sampleSize)))
+                .contains((long) smallNamespaceCount);
+        assertThat(runBlockingWithReturn(readPersistence.sudoEstimateCount(
+                qbf.newUnlimitedBuilder(smallNamespaceCriteria).build(), sampleSize)))
+                .contains((long) smallNamespaceCount);
+    }
+
+    private void insertThingsWithAttribute(final String namespace, final int count) {
+        for (int i = 0; i < count; i++) {
+            final ThingId individualThingId = ThingId.of(namespace, THING_BASE_ID.getName() + i);
+            insertThingWithAttribute(individualThingId, KNOWN_STRING_VALUE);
+        }
+    }
+
     private void insertThingWithAttribute(final ThingId thingId, final String attributeValue) {
         final Thing thing = createThingV1(thingId, KNOWN_SUBJECTS);
 
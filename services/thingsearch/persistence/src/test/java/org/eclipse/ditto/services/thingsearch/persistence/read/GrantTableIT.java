@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.TestSearchUpdaterStream;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Test;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.ConfigFactory;
+
+import akka.stream.javadsl.Source;
+
+/**
+ * Tests the search index layout whose flattened attributes reference shared grant sets.
+ */
+public final class GrantTableIT extends AbstractReadPersistenceITBase {
+
+    private static final String NAMESPACE = "grantTable";
+    private static final String OTHER_SUBJECT = "abc:otherSid";
+    private static final String SECRET_ATTRIBUTE = "secret";
+    private static final String KNOWN_ATTRIBUTE = "attributeKey";
+    private static final String KNOWN_VALUE = "value";
+
+    private final Enforcer enforcer = createEnforcer();
+
+    @Override
+    protected boolean isGrantTableEnabled() {
+        return true;
+    }
+
+    @Override
+    Enforcer getPolicyEnforcer(final ThingId thingId) {
+        return enforcer;
+    }
+
+    @Test
+    public void findThingsByAttributesReferencingGrantSets() {
+        final ThingId thingId = persistThingWithAttributes("thing1");
+
+        assertThat(findForCriteria(attributeEquals(KNOWN_ATTRIBUTE, KNOWN_VALUE))).containsExactly(thingId);
+        assertThat(count(qbf.newUnlimitedBuilder(attributeEquals(KNOWN_ATTRIBUTE, KNOWN_VALUE)).build()))
+                .isEqualTo(1L);
+        assertThat(findForCriteria(cf.existsCriteria(fef.existsByAttribute(KNOWN_ATTRIBUTE))))
+                .containsExactly(thingId);
+        assertThat(findForCriteria(attributeEquals(KNOWN_ATTRIBUTE, "other value"))).isEmpty();
+    }
+
+    @Test
+    public void doNotFindThingsByAttributesOfOtherGrantSets() {
+        persistThingWithAttributes("thing1");
+
+        assertThat(findForCriteria(attributeEquals(SECRET_ATTRIBUTE, KNOWN_VALUE))).isEmpty();
+        assertThat(findForCriteria(cf.existsCriteria(fef.existsByAttribute(SECRET_ATTRIBUTE)))).isEmpty();
+        assertThat(findAll(qbf.newBuilder(attributeEquals(SECRET_ATTRIBUTE, KNOWN_VALUE)).build(),
+                Collections.singletonList(OTHER_SUBJECT)))
+                .containsExactly(ThingId.of(NAMESPACE, "thing1"));
+    }
+
+    @Test
+    public void shareGrantSetsBetweenThings() {
+        persistThingWithAttributes("thing1");
+        persistThingWithAttributes("thing2");
+
+        // one grant set for attributes readable by KNOWN_SUBJECTS only, one for the secret attribute
+        assertThat(countGrantSets()).isEqualTo(2L);
+    }
+
+    @Test
+    public void findThingsInBothLayoutsDuringMigration() {
+        final ThingId grantTableThingId = persistThingWithAttributes("thing1");
+        final ThingId perLeafThingId = ThingId.of(NAMESPACE, "thing2");
+        final TestSearchUpdaterStream perLeafWritePersistence =
+                TestSearchUpdaterStream.of(getClient().getDefaultDatabase(), false);
+        runBlockingWithReturn(perLeafWritePersistence.write(createThingWithAttributes(perLeafThingId), enforcer, 0L));
+
+        final Criteria criteria = attributeEquals(KNOWN_ATTRIBUTE, KNOWN_VALUE);
+        assertThat(findForCriteria(criteria)).containsExactly(grantTableThingId);
+
+        readPersistence = readPersistence.withGrantTable(true, true);
+        assertThat(findForCriteria(criteria)).containsExactlyInAnyOrder(grantTableThingId, perLeafThingId);
+
+        readPersistence = readPersistence.withGrantTable(false, false);
+        assertThat(findForCriteria(criteria)).containsExactly(perLeafThingId);
+    }
+
+    @Test
+    public void findThingsReferencingNewGrantSetsDespiteCachedGrantSets() {
+        readPersistence = readPersistence.withGrantSetsCache(
+                DefaultCacheConfig.of(ConfigFactory.parseString("grant-sets-cache.maximum-size = 10"),
+                        "grant-sets-cache"),
+                Runnable::run);
+        final ThingId thingId = persistThingWithAttributes("thing1");
+        final Criteria criteria = attributeEquals(KNOWN_ATTRIBUTE, KNOWN_VALUE);
+        assertThat(findForCriteria(criteria)).containsExactly(thingId);
+
+        // the thing is readable by the known subjects through a grant set which is new to them
+        final ThingId sharedThingId = ThingId.of(NAMESPACE, "thing2");
+        runBlockingWithReturn(
+                writePersistence.write(createThingWithAttributes(sharedThingId), createSharedEnforcer(), 0L));
+
+        assertThat(findForCriteria(criteria)).containsExactlyInAnyOrder(thingId, sharedThingId);
+    }
+
+    @Test
+    public void streamMetadataOfOtherLayoutAsOutdated() {
+        final ThingId grantTableThingId = persistThingWithAttributes("thing1");
+        final ThingId perLeafThingId = ThingId.of(NAMESPACE, "thing2");
+        final TestSearchUpdaterStream perLeafWritePersistence =
+                TestSearchUpdaterStream.of(getClient().getDefaultDatabase(), false);
+        runBlockingWithReturn(perLeafWritePersistence.write(createThingWithAttributes(perLeafThingId), enforcer, 0L));
+
+        final List<Metadata> metadata = waitFor(readPersistence.sudoStreamMetadata(ThingId.dummy()));
+
+        assertThat(metadata).extracting(Metadata::getThingId).containsExactly(grantTableThingId, perLeafThingId);
+        assertThat(metadata).extracting(Metadata::getThingRevision).containsExactly(1L, 0L);
+    }
+
+    @Test
+    public void grantSetsShrinkSearchIndexDocuments() {
+        final int numberOfAttributes = 500;
+        final ThingId perLeafThingId = ThingId.of(NAMESPACE, "perLeaf");
+        final ThingId grantTableThingId = ThingId.of(NAMESPACE, "grantTable");
+        final Thing perLeafThing = createThingWithManyAttributes(perLeafThingId, numberOfAttributes);
+        final Thing grantTableThing = createThingWithManyAttributes(grantTableThingId, numberOfAttributes);
+        final Enforcer manySubjectsEnforcer = createEnforcerWithManySubjects(20);
+        final TestSearchUpdaterStream perLeafWritePersistence =
+                TestSearchUpdaterStream.of(getClient().getDefaultDatabase(), false);
+        runBlockingWithReturn(perLeafWritePersistence.write(perLeafThing, manySubjectsEnforcer, 0L));
+        runBlockingWithReturn(writePersistence.write(grantTableThing, manySubjectsEnforcer, 0L));
+
+        final int perLeafSize = getDocumentSize(perLeafThingId);
+        final int grantTableSize = getDocumentSize(grantTableThingId);
+        log.info("Search index document size with {} attributes: per-leaf grants <{}> bytes, grant sets <{}> bytes",
+                numberOfAttributes, perLeafSize, grantTableSize);
+
+        assertThat(grantTableSize).isLessThan(perLeafSize / 2);
+    }
+
+    private ThingId persistThingWithAttributes(final String name) {
+        final ThingId thingId = ThingId.of(NAMESPACE, name);
+        persistThing(createThingWithAttributes(thingId));
+        return thingId;
+    }
+
+    private Thing createThingWithAttributes(final ThingId thingId) {
+        return createThing(thingId)
+                .toBuilder()
+                .setRevision(1L)
+                .setAttribute(JsonPointer.of(KNOWN_ATTRIBUTE), JsonValue.of(KNOWN_VALUE))
+                .setAttribute(JsonPointer.of(SECRET_ATTRIBUTE), JsonValue.of(KNOWN_VALUE))
+                .build();
+    }
+
+    private Thing createThingWithManyAttributes(final ThingId thingId, final int numberOfAttributes) {
+        Thing thing = createThing(thingId);
+        for (int i = 0; i < numberOfAttributes; i++) {
+            thing = thing.setAttribute(JsonPointer.of("attribute" + i), JsonValue.of(i));
+        }
+        return thing;
+    }
+
+    private Criteria attributeEquals(final String attribute, final String value) {
+        return cf.fieldCriteria(fef.filterByAttribute(attribute), cf.eq(value));
+    }
+
+    private long countGrantSets() {
+        final MongoCollection<Document> grants =
+                getClient().getDefaultDatabase().getCollection(PersistenceConstants.GRANTS_COLLECTION_NAME);
+        return runBlockingWithReturn(Source.fromPublisher(grants.countDocuments()));
+    }
+
+    private int getDocumentSize(final ThingId thingId) {
+        final MongoCollection<Document> things =
+                getClient().getDefaultDatabase().getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
+        final Document document = runBlockingWithReturn(
+                Source.fromPublisher(things.find(Filters.eq(PersistenceConstants.FIELD_ID, thingId.toString()))));
+        return new RawBsonDocument(document, new DocumentCodec()).getByteBuffer().remaining();
+    }
+
+    private static Enforcer createEnforcer() {
+        return PolicyEnforcers.defaultEvaluator(PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("viewer")
+                .setSubject(KNOWN_SUBJECTS.get(0), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .setRevokedPermissions(THING, "/attributes/" + SECRET_ATTRIBUTE, Permission.READ)
+                .forLabel("secret-viewer")
+                .setSubject(OTHER_SUBJECT, SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/attributes/" + SECRET_ATTRIBUTE, Permission.READ)
+                .build());
+    }
+
+    private static Enforcer createSharedEnforcer() {
+        return PolicyEnforcers.defaultEvaluator(PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("viewer")
+                .setSubject(KNOWN_SUBJECTS.get(0), SubjectType.GENERATED)
+                .setSubject(OTHER_SUBJECT, SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .build());
+    }
+
+    private static Enforcer createEnforcerWithManySubjects(final int numberOfSubjects) {
+        final List<String> subjectIds = IntStream.range(0, numberOfSubjects)
+                .mapToObj(i -> "integration:subject-" + i)
+                .collect(Collectors.toList());
+        PolicyBuilder.LabelScoped policyBuilder = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("viewer")
+                .setGrantedPermissions(THING, "/", Permission.READ);
+        for (final String subjectId : subjectIds) {
+            policyBuilder = policyBuilder.setSubject(subjectId, SubjectType.GENERATED);
+        }
+        return PolicyEnforcers.defaultEvaluator(policyBuilder.build());
+    }
+
+}
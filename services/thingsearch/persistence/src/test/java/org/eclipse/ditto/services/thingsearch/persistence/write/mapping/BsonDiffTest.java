@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+/**
+ * Tests {@link BsonDiff}.
+ */
+public final class BsonDiffTest {
+
+    @Test
+    public void equalDocumentsHaveEmptyDiff() {
+        final BsonDocument document = BsonDocument.parse("{\"_id\":\"x:y\",\"s\":{\"a\":1},\"d\":[{\"k\":\"/a\"}]}");
+
+        final BsonDiff underTest = BsonDiff.minus(document, document.clone());
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.toUpdate()).isEqualTo(new BsonDocument());
+    }
+
+    @Test
+    public void nestedDocumentsAreDiffedFieldByField() {
+        final BsonDocument oldDocument =
+                BsonDocument.parse("{\"_revision\":1,\"s\":{\"attributes\":{\"a\":1,\"b\":2,\"c\":3}}}");
+        final BsonDocument newDocument =
+                BsonDocument.parse("{\"_revision\":2,\"s\":{\"attributes\":{\"a\":1,\"b\":4,\"d\":5}}}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{" +
+                "\"$set\":{\"_revision\":2,\"s.attributes.b\":4,\"s.attributes.d\":5}," +
+                "\"$unset\":{\"s.attributes.c\":\"\"}" +
+                "}"));
+    }
+
+    @Test
+    public void changedAndAppendedArrayElementsAreSetByIndex() {
+        final BsonDocument oldDocument = BsonDocument.parse("{\"d\":[1,2,3,4,5]}");
+        final BsonDocument newDocument = BsonDocument.parse("{\"d\":[1,2,7,4,5,6]}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"d.2\":7,\"d.5\":6}}"));
+    }
+
+    @Test
+    public void removedArrayElementsArePulled() {
+        final BsonDocument oldDocument =
+                BsonDocument.parse("{\"d\":[{\"k\":\"/a\",\"v\":1},{\"k\":\"/b\",\"v\":2},{\"k\":\"/c\",\"v\":3}]}");
+        final BsonDocument newDocument = BsonDocument.parse("{\"d\":[{\"k\":\"/a\",\"v\":1},{\"k\":\"/c\",\"v\":3}]}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(
+                BsonDocument.parse("{\"$pull\":{\"d\":{\"$in\":[{\"k\":\"/b\",\"v\":2}]}}}"));
+    }
+
+    @Test
+    public void shrunkArraysWithChangedElementsAreSetAsAWhole() {
+        final BsonDocument oldDocument = BsonDocument.parse("{\"d\":[1,2,3,4,5]}");
+        final BsonDocument newDocument = BsonDocument.parse("{\"d\":[1,2,3,6]}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"d\":[1,2,3,6]}}"));
+    }
+
+    @Test
+    public void shrunkArraysWithDuplicatesOfRemovedElementsAreSetAsAWhole() {
+        final BsonDocument oldDocument = BsonDocument.parse("{\"d\":[1,2,1,3]}");
+        final BsonDocument newDocument = BsonDocument.parse("{\"d\":[2,1,3]}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"d\":[2,1,3]}}"));
+    }
+
+    @Test
+    public void mostlyChangedArraysAreSetAsAWhole() {
+        final BsonDocument oldDocument = BsonDocument.parse("{\"d\":[1,2,3]}");
+        final BsonDocument newDocument = BsonDocument.parse("{\"d\":[4,5,3]}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"d\":[4,5,3]}}"));
+    }
+
+    @Test
+    public void changedValueTypeIsSet() {
+        final BsonDocument oldDocument = BsonDocument.parse("{\"s\":{\"a\":{\"b\":1}}}");
+        final BsonDocument newDocument = BsonDocument.parse("{\"s\":{\"a\":[1]}}");
+
+        final BsonDocument update = BsonDiff.minus(newDocument, oldDocument).toUpdate();
+
+        assertThat(update).isEqualTo(BsonDocument.parse("{\"$set\":{\"s.a\":[1]}}"));
+    }
+
+}
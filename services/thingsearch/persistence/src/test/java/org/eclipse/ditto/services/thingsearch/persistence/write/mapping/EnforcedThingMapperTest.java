@@ -15,6 +15,14 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
@@ -24,6 +32,8 @@ import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -104,4 +114,81 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void testV2ThingWithGrantTable() {
+        final JsonObject thing = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"policyId\": \"hello:world\",\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } },\n" +
+                "  \"attributes\": { \"hello\": \"world\" }\n" +
+                "}");
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .forLabel("grant-d")
+                        .setSubject("g:1", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/features/hi/properties/there", Permission.READ)
+                        .build());
+
+        final ThingWriteModel perLeafWriteModel = EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1, false);
+        final ThingWriteModel underTest = EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1, true);
+
+        final BsonArray g0 = toBsonArray("g:0");
+        final BsonArray g0g1 = toBsonArray("g:0", "g:1");
+        final String rootGrantSet = GrantSets.computeId(g0, new BsonArray());
+        final String featureGrantSet = GrantSets.computeId(g0g1, new BsonArray());
+
+        assertThat(underTest.getGrantSets()).containsExactly(
+                new Document().append("_id", rootGrantSet).append("g", g0).append("r", new BsonArray()),
+                new Document().append("_id", featureGrantSet).append("g", g0g1).append("r", new BsonArray()));
+        assertThat(perLeafWriteModel.getGrantSets()).isEmpty();
+
+        final BsonDocument document = BsonUtil.toBsonDocument(underTest.getThingDocument());
+        assertThat(document.getArray("__grantSets"))
+                .containsExactly(new BsonString(rootGrantSet), new BsonString(featureGrantSet));
+        assertThat(getKeysAndGrantSets(document)).containsExactly(
+                "/thingId=" + rootGrantSet,
+                "/_revision=" + rootGrantSet,
+                "/policyId=" + rootGrantSet,
+                "/features/hi/properties/there=" + featureGrantSet,
+                "/features/*/properties/there=" + featureGrantSet,
+                "/attributes/hello=" + rootGrantSet);
+
+        // everything except the grants is identical to the per-leaf layout
+        final BsonDocument perLeafDocument = BsonUtil.toBsonDocument(perLeafWriteModel.getThingDocument());
+        assertThat(withoutGrants(document)).isEqualTo(withoutGrants(perLeafDocument));
+    }
+
+    private static BsonArray toBsonArray(final String... subjectIds) {
+        return new BsonArray(Arrays.stream(subjectIds).map(BsonString::new).collect(Collectors.toList()));
+    }
+
+    private static List<String> getKeysAndGrantSets(final BsonDocument document) {
+        return document.getArray("d")
+                .stream()
+                .map(BsonValue::asDocument)
+                .map(leaf -> leaf.getString("k").getValue() + "=" + leaf.getString("gs").getValue())
+                .collect(Collectors.toList());
+    }
+
+    private static BsonDocument withoutGrants(final BsonDocument document) {
+        final BsonDocument result = document.clone();
+        result.remove("__grantSets");
+        final BsonArray leaves = new BsonArray();
+        for (final BsonValue leaf : result.getArray("d")) {
+            final BsonDocument leafWithoutGrants = leaf.asDocument().clone();
+            leafWithoutGrants.remove("g");
+            leafWithoutGrants.remove("r");
+            leafWithoutGrants.remove("gs");
+            leaves.add(leafWithoutGrants);
+        }
+        result.put("d", leaves);
+        return result;
+    }
+
 }
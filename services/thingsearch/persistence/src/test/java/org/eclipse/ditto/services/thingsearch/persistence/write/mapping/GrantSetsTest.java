@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.bson.BsonArray;
+import org.bson.BsonString;
+import org.junit.Test;
+
+/**
+ * Tests {@link GrantSets}.
+ */
+public final class GrantSetsTest {
+
+    @Test
+    public void idsDependOnContentOnly() {
+        final String id = GrantSets.computeId(toBsonArray("a:1", "b:2"), toBsonArray("c:3"));
+
+        assertThat(GrantSets.computeId(toBsonArray("a:1", "b:2"), toBsonArray("c:3"))).isEqualTo(id);
+        assertThat(GrantSets.newInstance().getId(toBsonArray("a:1", "b:2"), toBsonArray("c:3"))).isEqualTo(id);
+        assertThat(id).hasSize(22).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    public void idsDistinguishGrantsAndRevokes() {
+        assertThat(GrantSets.computeId(toBsonArray("a:1"), toBsonArray()))
+                .isNotEqualTo(GrantSets.computeId(toBsonArray(), toBsonArray("a:1")));
+        assertThat(GrantSets.computeId(toBsonArray("a:1", "b:2"), toBsonArray()))
+                .isNotEqualTo(GrantSets.computeId(toBsonArray("a:1b:2"), toBsonArray()));
+        assertThat(GrantSets.computeId(toBsonArray("a:1"), toBsonArray("b:2")))
+                .isNotEqualTo(GrantSets.computeId(toBsonArray("a:1", "b:2"), toBsonArray()));
+    }
+
+    @Test
+    public void rememberEachGrantSetOnce() {
+        final GrantSets underTest = GrantSets.newInstance();
+        final String id1 = underTest.getId(toBsonArray("a:1"), toBsonArray());
+        final String id2 = underTest.getId(toBsonArray("a:1", "b:2"), toBsonArray());
+        underTest.getId(toBsonArray("a:1"), toBsonArray());
+
+        assertThat(underTest.getIds()).containsExactly(id1, id2);
+        assertThat(underTest.toDocuments()).hasSize(2);
+        assertThat(underTest.toDocuments().get(1).get("g")).isEqualTo(toBsonArray("a:1", "b:2"));
+    }
+
+    private static BsonArray toBsonArray(final String... subjectIds) {
+        return new BsonArray(Arrays.stream(subjectIds).map(BsonString::new).collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ThingPatchModel}.
+ */
+public final class ThingPatchModelTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ThingPatchModel.class)
+                .usingGetClass()
+                .withPrefabValues(BsonValue.class, new BsonInt64(1L), new BsonInt64(2L))
+                .withPrefabValues(BsonDocument.class, new BsonDocument("a", new BsonInt64(1L)),
+                        new BsonDocument("b", new BsonInt64(2L)))
+                .verify();
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+/**
+ * Tests {@link WriteResultAndErrors#mayHaveUnappliedPatches()}.
+ */
+public final class WriteResultAndErrorsTest {
+
+    @Test
+    public void writesWithoutPatchesHaveNoUnappliedPatches() {
+        final List<AbstractWriteModel> writeModels = List.of(replacement("thing1"), deletion("thing2"));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of());
+
+        assertThat(WriteResultAndErrors.success(writeModels, result).mayHaveUnappliedPatches()).isFalse();
+    }
+
+    @Test
+    public void allPatchesMatched() {
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"), replacement("thing2"));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 2, 0, 2, List.of());
+
+        assertThat(WriteResultAndErrors.success(writeModels, result).mayHaveUnappliedPatches()).isFalse();
+    }
+
+    @Test
+    public void upsertedReplacementsCountAsMatched() {
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"), replacement("thing2"));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1,
+                List.of(new BulkWriteUpsert(1, new BsonString("thing2"))));
+
+        assertThat(WriteResultAndErrors.success(writeModels, result).mayHaveUnappliedPatches()).isFalse();
+    }
+
+    @Test
+    public void patchDidNotMatch() {
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"), replacement("thing2"));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1, List.of());
+
+        assertThat(WriteResultAndErrors.success(writeModels, result).mayHaveUnappliedPatches()).isTrue();
+    }
+
+    @Test
+    public void deletionsMayAccountForMatches() {
+        // the match may belong to the deletion, in which case the patch did not apply
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"), deletion("thing2"));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1, List.of());
+
+        assertThat(WriteResultAndErrors.success(writeModels, result).mayHaveUnappliedPatches()).isTrue();
+    }
+
+    @Test
+    public void failedWritesAreIgnored() {
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"), patch("thing2"));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1, List.of());
+        final List<BulkWriteError> errors =
+                List.of(new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 1));
+        final MongoBulkWriteException exception =
+                new MongoBulkWriteException(result, errors, null, new ServerAddress());
+
+        assertThat(WriteResultAndErrors.failure(writeModels, exception).mayHaveUnappliedPatches()).isFalse();
+    }
+
+    @Test
+    public void patchesMayBeUnappliedOnUnexpectedError() {
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"));
+        final Throwable error = new MongoSocketReadException("Gee, the network is down", new ServerAddress());
+
+        assertThat(WriteResultAndErrors.unexpectedError(writeModels, error).mayHaveUnappliedPatches()).isTrue();
+    }
+
+    @Test
+    public void patchesMayBeUnappliedIfResultIsUnacknowledged() {
+        final List<AbstractWriteModel> writeModels = List.of(patch("thing1"));
+
+        assertThat(WriteResultAndErrors.success(writeModels, BulkWriteResult.unacknowledged())
+                .mayHaveUnappliedPatches()).isTrue();
+    }
+
+    private static ThingPatchModel patch(final String name) {
+        final BsonDocument previousDocument = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":1}}");
+        final BsonDocument thingDocument = BsonDocument.parse("{\"_revision\":2,\"s\":{\"a\":2}}");
+        final BsonDocument update = BsonDocument.parse("{\"$set\":{\"_revision\":2,\"s.a\":2}}");
+        return ThingPatchModel.of(metadata(name, 2L), thingDocument, update, previousDocument);
+    }
+
+    private static ThingWriteModel replacement(final String name) {
+        return ThingWriteModel.of(metadata(name, 1L), new Document());
+    }
+
+    private static ThingDeleteModel deletion(final String name) {
+        return ThingDeleteModel.of(metadata(name, 1L));
+    }
+
+    private static Metadata metadata(final String name, final long revision) {
+        return Metadata.of(ThingId.of("thing", name), revision, null, null);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.utils.cluster.GlobalMappingStrategies;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.junit.Test;
+
+/**
+ * Tests {@link EnforcementFlow}.
+ */
+public final class EnforcementFlowTest {
+
+    private static final int NUMBER_OF_SHARDS = 7;
+
+    private static final ShardRegionExtractor SHARD_REGION_EXTRACTOR =
+            ShardRegionExtractor.of(NUMBER_OF_SHARDS, GlobalMappingStrategies.getInstance());
+
+    @Test
+    public void groupByShardKeepsEachThingInOneBatchOfItsShard() {
+        final List<ThingId> thingIds = IntStream.range(0, 100)
+                .mapToObj(i -> ThingId.of("test", "thing" + i))
+                .collect(Collectors.toList());
+
+        final List<List<ThingId>> batches = EnforcementFlow.groupByShard(SHARD_REGION_EXTRACTOR, thingIds, 5);
+
+        assertThat(batches.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(thingIds);
+        assertThat(batches).allSatisfy(batch -> {
+            assertThat(batch).isNotEmpty().hasSizeLessThanOrEqualTo(5);
+            assertThat(batch.stream().map(EnforcementFlowTest::shardId).distinct()).hasSize(1);
+        });
+    }
+
+    @Test
+    public void groupByShardCreatesOneBatchPerShardForLargeBatchSize() {
+        final List<ThingId> thingIds = IntStream.range(0, 100)
+                .mapToObj(i -> ThingId.of("test", "thing" + i))
+                .collect(Collectors.toList());
+        final long shards = thingIds.stream().map(EnforcementFlowTest::shardId).distinct().count();
+
+        final List<List<ThingId>> batches = EnforcementFlow.groupByShard(SHARD_REGION_EXTRACTOR, thingIds, 1000);
+
+        assertThat(batches).hasSize((int) shards);
+    }
+
+    private static String shardId(final ThingId thingId) {
+        return SHARD_REGION_EXTRACTOR.shardId(SudoRetrieveThing.of(thingId, DittoHeaders.empty()));
+    }
+
+}
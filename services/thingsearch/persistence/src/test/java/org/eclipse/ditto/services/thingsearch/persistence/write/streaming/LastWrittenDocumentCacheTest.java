@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingPatchModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.junit.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Tests {@link LastWrittenDocumentCache}.
+ */
+public final class LastWrittenDocumentCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing", "id");
+
+    private final LastWrittenDocumentCache underTest = LastWrittenDocumentCache.of(10, 0.5);
+
+    @Test
+    public void replaceDocumentsNotWrittenBefore() {
+        final AbstractWriteModel writeModel = writeModel(1L, 1);
+
+        assertThat(underTest.toIncrementalUpdate(writeModel)).isSameAs(writeModel);
+    }
+
+    @Test
+    public void patchWrittenDocuments() {
+        writeSuccessfully(underTest.toIncrementalUpdate(writeModel(1L, 1)));
+
+        final AbstractWriteModel result = underTest.toIncrementalUpdate(writeModel(2L, 2));
+
+        assertThat(result).isInstanceOf(ThingPatchModel.class);
+        assertThat(((ThingPatchModel) result).getUpdate()).isEqualTo(
+                BsonDocument.parse("{\"$set\":{\"_revision\":{\"$numberLong\":\"2\"},\"s.attributes.a0\":2}}"));
+        assertThat(((ThingPatchModel) result).getThingDocument())
+                .isEqualTo(BsonUtil.toBsonDocument(writeModel(2L, 2).getThingDocument()));
+    }
+
+    @Test
+    public void patchWrittenPatches() {
+        writeSuccessfully(underTest.toIncrementalUpdate(writeModel(1L, 1)));
+        writeSuccessfully(underTest.toIncrementalUpdate(writeModel(2L, 2)));
+
+        final AbstractWriteModel result = underTest.toIncrementalUpdate(writeModel(3L, 3));
+
+        assertThat(result).isInstanceOf(ThingPatchModel.class);
+        assertThat(((ThingPatchModel) result).getUpdate()).isEqualTo(
+                BsonDocument.parse("{\"$set\":{\"_revision\":{\"$numberLong\":\"3\"},\"s.attributes.a0\":3}}"));
+    }
+
+    @Test
+    public void replaceDocumentsIfPatchIsTooLarge() {
+        final LastWrittenDocumentCache underTest = LastWrittenDocumentCache.of(10, 0.0);
+        writeSuccessfully(underTest, underTest.toIncrementalUpdate(writeModel(1L, 1)));
+
+        final AbstractWriteModel writeModel = writeModel(2L, 2);
+
+        assertThat(underTest.toIncrementalUpdate(writeModel)).isSameAs(writeModel);
+    }
+
+    @Test
+    public void forgetDocumentsOfFailedWrites() {
+        final AbstractWriteModel firstWrite = underTest.toIncrementalUpdate(writeModel(1L, 1));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of());
+        final List<BulkWriteError> errors =
+                List.of(new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 0));
+        underTest.onWriteResult(WriteResultAndErrors.failure(List.of(firstWrite),
+                new MongoBulkWriteException(result, errors, null, new ServerAddress())));
+
+        final AbstractWriteModel writeModel = writeModel(2L, 2);
+
+        assertThat(underTest.toIncrementalUpdate(writeModel)).isSameAs(writeModel);
+    }
+
+    @Test
+    public void forgetDocumentsOfUnappliedPatches() {
+        writeSuccessfully(underTest.toIncrementalUpdate(writeModel(1L, 1)));
+        final AbstractWriteModel patch = underTest.toIncrementalUpdate(writeModel(2L, 2));
+        assertThat(patch).isInstanceOf(ThingPatchModel.class);
+        underTest.onWriteResult(WriteResultAndErrors.success(List.of(patch),
+                BulkWriteResult.acknowledged(0, 0, 0, 0, List.of())));
+
+        final AbstractWriteModel writeModel = writeModel(3L, 3);
+
+        assertThat(underTest.toIncrementalUpdate(writeModel)).isSameAs(writeModel);
+    }
+
+    @Test
+    public void forgetDocumentsOfDeletedThings() {
+        writeSuccessfully(underTest.toIncrementalUpdate(writeModel(1L, 1)));
+        writeSuccessfully(ThingDeleteModel.of(Metadata.of(THING_ID, 2L, null, null)));
+
+        final AbstractWriteModel writeModel = writeModel(3L, 3);
+
+        assertThat(underTest.toIncrementalUpdate(writeModel)).isSameAs(writeModel);
+    }
+
+    private void writeSuccessfully(final AbstractWriteModel writeModel) {
+        writeSuccessfully(underTest, writeModel);
+    }
+
+    private static void writeSuccessfully(final LastWrittenDocumentCache cache, final AbstractWriteModel writeModel) {
+        cache.onWriteResult(WriteResultAndErrors.success(List.of(writeModel),
+                BulkWriteResult.acknowledged(0, 1, 0, 1, List.of())));
+    }
+
+    private static ThingWriteModel writeModel(final long revision, final int value) {
+        final Document attributes = new Document();
+        attributes.append("a0", value);
+        for (int i = 1; i < 20; ++i) {
+            attributes.append("a" + i, "unchanged value " + i);
+        }
+        final Document thingDocument = new Document()
+                .append("_id", THING_ID.toString())
+                .append("_revision", revision)
+                .append("s", new Document().append("attributes", attributes));
+        return ThingWriteModel.of(Metadata.of(THING_ID, revision, null, null), thingDocument);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * How to count search results, selected by the header {@value #HEADER_KEY}.
+ */
+enum CountMode {
+
+    /**
+     * Count the matching documents in the search index. This is the default.
+     */
+    EXACT("exact"),
+
+    /**
+     * Count the matching documents in the search index, but reuse the result of a recent count with the same filter,
+     * namespaces and authorization subjects.
+     */
+    CACHED("cached"),
+
+    /**
+     * Extrapolate the count from a random sample of the search index. Only counts without filter, which may be
+     * restricted to namespaces, are estimated; other counts are {@link #CACHED}.
+     */
+    ESTIMATED("estimated");
+
+    /**
+     * Key of the header selecting the count mode.
+     */
+    static final String HEADER_KEY = "count-mode";
+
+    private final String name;
+
+    CountMode(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the count mode selected by the headers of a count command.
+     *
+     * @param dittoHeaders the headers.
+     * @return the selected count mode, or {@link #EXACT} if the header is absent or has an unknown value.
+     */
+    static CountMode of(final Map<String, String> dittoHeaders) {
+        final String headerValue = dittoHeaders.get(HEADER_KEY);
+        return Arrays.stream(values())
+                .filter(countMode -> countMode.name.equalsIgnoreCase(headerValue))
+                .findAny()
+                .orElse(EXACT);
+    }
+
+    /**
+     * @return the header value of this count mode.
+     */
+    String getName() {
+        return name;
+    }
+
+}
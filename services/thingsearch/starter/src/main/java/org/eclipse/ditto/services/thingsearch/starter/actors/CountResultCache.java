@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Caches results of counts for a short time, so that the same count requested repeatedly, e. g. by dashboards, does
+ * not reach the database each time.
+ * Hits and misses are reported by the cache metrics with the cache name {@value #CACHE_NAME}; the database time saved
+ * by hits is reported by the counter {@value #DATABASE_TIME_SAVED}.
+ */
+final class CountResultCache {
+
+    private static final String CACHE_NAME = "things_search_count";
+    private static final String DATABASE_TIME_SAVED = "things_search_count_database_time_saved_ms";
+    private static final String SUDO_TAG = "sudo";
+
+    private final Cache<Key, CachedCount> cache;
+    private final Counter databaseTimeSaved;
+    private final Counter sudoDatabaseTimeSaved;
+
+    private CountResultCache(final Cache<Key, CachedCount> cache) {
+        this.cache = cache;
+        databaseTimeSaved = DittoMetrics.counter(DATABASE_TIME_SAVED).tag(SUDO_TAG, false);
+        sudoDatabaseTimeSaved = DittoMetrics.counter(DATABASE_TIME_SAVED).tag(SUDO_TAG, true);
+    }
+
+    /**
+     * Create a cache of count results.
+     *
+     * @param cacheConfig the cache config.
+     * @param executor the executor of the cache.
+     * @return the cache.
+     */
+    static CountResultCache of(final CacheConfig cacheConfig, final Executor executor) {
+        return new CountResultCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor));
+    }
+
+    /**
+     * Get the cached count of a query or count it.
+     *
+     * @param query the query.
+     * @param authorizationSubjectIds the authorization subjects of the count, or null for a count regardless of
+     * visibility.
+     * @param counter the count of the query in the database.
+     * @return source of the count.
+     */
+    Source<Long, NotUsed> getOrCount(final Query query, @Nullable final List<String> authorizationSubjectIds,
+            final Supplier<Source<Long, NotUsed>> counter) {
+
+        final Key key = Key.of(query, authorizationSubjectIds);
+        return Source.fromCompletionStage(cache.getIfPresent(key))
+                .flatMapConcat(cachedCount -> {
+                    if (cachedCount.isPresent()) {
+                        final long databaseTimeMillis = cachedCount.get().databaseTime.toMillis();
+                        (authorizationSubjectIds == null ? sudoDatabaseTimeSaved : databaseTimeSaved)
+                                .increment(databaseTimeMillis);
+                        return Source.single(cachedCount.get().count);
+                    }
+                    final long startNanos = System.nanoTime();
+                    return counter.get().map(count -> {
+                        cache.put(key, new CachedCount(count, Duration.ofNanos(System.nanoTime() - startNanos)));
+                        return count;
+                    });
+                });
+    }
+
+    /**
+     * Count queries are identified by their filter in the search index, which includes the namespaces of the query,
+     * and by the authorization subjects.
+     */
+    @Immutable
+    private static final class Key {
+
+        private final BsonDocument filter;
+        @Nullable private final List<String> authorizationSubjectIds;
+
+        private Key(final BsonDocument filter, @Nullable final List<String> authorizationSubjectIds) {
+            this.filter = filter;
+            this.authorizationSubjectIds = authorizationSubjectIds;
+        }
+
+        private static Key of(final Query query, @Nullable final List<String> authorizationSubjectIds) {
+            final BsonDocument filter = BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
+            if (authorizationSubjectIds == null) {
+                return new Key(filter, null);
+            }
+            final List<String> sortedSubjectIds = new ArrayList<>(authorizationSubjectIds);
+            Collections.sort(sortedSubjectIds);
+            return new Key(filter, Collections.unmodifiableList(sortedSubjectIds));
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return filter.equals(that.filter) &&
+                    Objects.equals(authorizationSubjectIds, that.authorizationSubjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, authorizationSubjectIds);
+        }
+
+    }
+
+    @Immutable
+    private static final class CachedCount {
+
+        private final long count;
+        private final Duration databaseTime;
+
+        private CachedCount(final long count, final Duration databaseTime) {
+            this.count = count;
+            this.databaseTime = databaseTime;
+        }
+
+    }
+
+}
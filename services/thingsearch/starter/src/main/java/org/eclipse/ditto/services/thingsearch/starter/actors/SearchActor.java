@@ -35,6 +35,8 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -52,6 +54,8 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -96,21 +100,27 @@ public final class SearchActor extends AbstractActor {
     private static final String DATABASE_ACCESS_SEGMENT_NAME = "database_access";
     private static final String QUERY_TYPE_TAG = "query_type";
     private static final String API_VERSION_TAG = "api_version";
+    private static final String COUNT_MODE_TAG = "count_mode";
 
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
     private final ActorMaterializer materializer;
+    private final CountResultCache countResultCache;
+    private final int estimateSampleSize;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final CountConfig countConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         materializer = ActorMaterializer.create(getContext());
+        countResultCache = CountResultCache.of(countConfig.getCacheConfig(), getContext().dispatcher());
+        estimateSampleSize = countConfig.getEstimateSampleSize();
     }
 
     /**
@@ -124,7 +134,23 @@ public final class SearchActor extends AbstractActor {
             final QueryParser queryFactory,
             final ThingsSearchPersistence searchPersistence) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return props(queryFactory, searchPersistence, DefaultCountConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchActor.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param countConfig the config of cached and estimated counts.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(
+            final QueryParser queryFactory,
+            final ThingsSearchPersistence searchPersistence,
+            final CountConfig countConfig) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, countConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -151,16 +177,18 @@ public final class SearchActor extends AbstractActor {
     }
 
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        executeCount(countThings, queryParser::parse, false, countThings.getFilter().isPresent());
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true,
+                sudoCountThings.getFilter().isPresent());
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
-            final boolean isSudo) {
+            final boolean isSudo,
+            final boolean isFiltered) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
         LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
@@ -168,8 +196,9 @@ public final class SearchActor extends AbstractActor {
         final JsonSchemaVersion version = countCommand.getImplementedSchemaVersion();
 
         final String queryType = "count";
+        final CountMode countMode = getCountMode(dittoHeaders, isFiltered);
 
-        final StartedTimer countTimer = startNewTimer(version, queryType);
+        final StartedTimer countTimer = startNewTimer(version, queryType).tag(COUNT_MODE_TAG, countMode.getName());
 
         final StartedTimer queryParsingTimer = countTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
 
@@ -182,10 +211,10 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                    final List<String> subjectIds = isSudo
+                            ? null
+                            : dittoHeaders.getAuthorizationContext().getAuthorizationSubjectIds();
+                    final Source<Long, NotUsed> countResultSource = countInPersistence(query, subjectIds, countMode);
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
@@ -199,6 +228,39 @@ public final class SearchActor extends AbstractActor {
         Patterns.pipe(replySource.runWith(Sink.head(), materializer), getContext().dispatcher()).to(sender);
     }
 
+    private Source<Long, NotUsed> countInPersistence(final Query query, @Nullable final List<String> subjectIds,
+            final CountMode countMode) {
+
+        switch (countMode) {
+            case ESTIMATED:
+                final Source<Optional<Long>, NotUsed> estimatedCount = subjectIds == null
+                        ? searchPersistence.sudoEstimateCount(query, estimateSampleSize)
+                        : searchPersistence.estimateCount(query, subjectIds, estimateSampleSize);
+                // the authorization subjects see too few of the sampled things; fall back to the next cheapest mode
+                return estimatedCount.flatMapConcat(count -> count.isPresent()
+                        ? Source.single(count.get())
+                        : countInPersistence(query, subjectIds, CountMode.CACHED));
+            case CACHED:
+                return countResultCache.getOrCount(query, subjectIds,
+                        () -> countInPersistence(query, subjectIds, CountMode.EXACT));
+            case EXACT:
+            default:
+                return subjectIds == null
+                        ? searchPersistence.sudoCount(query)
+                        : searchPersistence.count(query, subjectIds);
+        }
+    }
+
+    private CountMode getCountMode(final DittoHeaders dittoHeaders, final boolean isFiltered) {
+        final CountMode requestedCountMode = CountMode.of(dittoHeaders);
+        if (requestedCountMode == CountMode.ESTIMATED && isFiltered) {
+            // samples are too small to estimate selective filters; fall back to the next cheapest mode
+            log.debug("Not estimating a count with filter; counting with mode <{}> instead.", CountMode.CACHED);
+            return CountMode.CACHED;
+        }
+        return requestedCountMode;
+    }
+
     private void stream(final StreamThings streamThings) {
         log.withCorrelationId(streamThings)
                 .info("Processing StreamThings command: {}", streamThings);
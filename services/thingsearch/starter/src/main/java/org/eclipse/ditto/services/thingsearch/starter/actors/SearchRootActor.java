@@ -36,6 +36,7 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
@@ -101,7 +102,8 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(),
+                searchConfig.getCountConfig(), thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence backgroundSyncPersistence =
@@ -135,7 +137,10 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorContext context = getContext();
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withGrantTable(searchConfig.isGrantTableEnabled(),
+                                searchConfig.isGrantTableMigrationEnabled())
+                        .withGrantSetsCache(searchConfig.getGrantSetsCacheConfig(), context.dispatcher());
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -153,11 +158,13 @@ public final class SearchRootActor extends DittoRootActor {
     }
 
     private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+            final CountConfig countConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
         final QueryParser queryParser = getQueryParser(limitsConfig);
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME,
+                SearchActor.props(queryParser, thingsSearchPersistence, countConfig));
     }
 
     static QueryParser getQueryParser(final LimitsConfig limitsConfig) {
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+/**
+ * Tests {@link CountMode}.
+ */
+public final class CountModeTest {
+
+    @Test
+    public void countExactlyWithoutHeader() {
+        assertThat(CountMode.of(DittoHeaders.empty())).isEqualTo(CountMode.EXACT);
+    }
+
+    @Test
+    public void countExactlyWithUnknownHeaderValue() {
+        assertThat(CountMode.of(headers("approximately"))).isEqualTo(CountMode.EXACT);
+    }
+
+    @Test
+    public void selectCountModeByHeaderValue() {
+        assertThat(CountMode.of(headers("exact"))).isEqualTo(CountMode.EXACT);
+        assertThat(CountMode.of(headers("cached"))).isEqualTo(CountMode.CACHED);
+        assertThat(CountMode.of(headers("Estimated"))).isEqualTo(CountMode.ESTIMATED);
+    }
+
+    private static DittoHeaders headers(final String countMode) {
+        return DittoHeaders.newBuilder().putHeader(CountMode.HEADER_KEY, countMode).build();
+    }
+
+}
@@ -16,7 +16,9 @@ import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -36,6 +38,8 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
@@ -43,6 +47,8 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.TestSe
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
@@ -72,6 +78,10 @@ public final class SearchActorIT {
             AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
                     AuthorizationSubject.newInstance("ditto:ditto"));
 
+    private static final AuthorizationContext OTHER_AUTH_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("ditto:other"));
+
     private static QueryParser queryParser;
     private static MongoDbResource mongoResource;
     private static DittoMongoClient mongoClient;
@@ -218,6 +228,81 @@ public final class SearchActorIT {
         }};
     }
 
+    @Test
+    public void testCachedCount() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+
+            insertTestThings();
+
+            underTest.tell(countThings("eq(attributes/x,5)", CountMode.CACHED), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(5L);
+
+            insertAnotherTestThing();
+
+            underTest.tell(countThings("eq(attributes/x,5)", CountMode.CACHED), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(5L);
+
+            underTest.tell(countThings("eq(attributes/x,5)", CountMode.EXACT), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(6L);
+        }};
+    }
+
+    @Test
+    public void testEstimatedCount() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+
+            insertTestThings();
+
+            // the search index is smaller than the sample and counted exactly
+            underTest.tell(countThings(null, CountMode.ESTIMATED), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(6L);
+
+            // counts with filter are not estimated
+            underTest.tell(countThings("eq(attributes/x,5)", CountMode.ESTIMATED), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(5L);
+        }};
+    }
+
+    @Test
+    public void testEstimatedCountFromSample() {
+        new TestKit(actorSystem) {{
+            final CountConfig countConfig =
+                    DefaultCountConfig.of(ConfigFactory.parseString("count.estimate-sample-size = 2"));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, countConfig));
+
+            insertTestThings();
+
+            // every sampled thing of the namespace is visible
+            underTest.tell(countThings(Collections.singleton("thing"), AUTH_CONTEXT), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(6L);
+
+            // no sampled thing is visible; the count falls back to a cached exact count
+            underTest.tell(countThings(Collections.singleton("thing"), OTHER_AUTH_CONTEXT), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(0L);
+        }};
+    }
+
+    private static CountThings countThings(@Nullable final String filter, final CountMode countMode) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT)
+                .putHeader(CountMode.HEADER_KEY, countMode.getName())
+                .build();
+        return CountThings.of(filter, null, dittoHeaders);
+    }
+
+    private static CountThings countThings(final Set<String> namespaces,
+            final AuthorizationContext authorizationContext) {
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(authorizationContext)
+                .putHeader(CountMode.HEADER_KEY, CountMode.ESTIMATED.getName())
+                .build();
+        return CountThings.of(null, namespaces, dittoHeaders);
+    }
+
     private static ThingSearchQueryCommand<?> queryThings(@Nullable final Integer size, final @Nullable String cursor) {
         final List<String> options = new ArrayList<>();
         final String sort = "sort(-attributes/c,+attributes/b,-attributes/a,+attributes/null/1,-attributes/null/2)";
@@ -263,6 +348,21 @@ public final class SearchActorIT {
                 .join();
     }
 
+    private void insertAnotherTestThing() {
+        final Thing anotherThing = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("thing", "6"))
+                .setRevision(1234L)
+                .setPermissions(AUTH_CONTEXT.getFirstAuthorizationSubject().orElseThrow(AssertionError::new),
+                        Permission.READ)
+                .setAttribute(JsonPointer.of("x"), JsonValue.of(5))
+                .build();
+
+        writePersistence.writeThingWithAcl(anotherThing)
+                .runWith(Sink.ignore(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
     private static JsonArray expectedIds(final int... thingOrdinals) {
         return Arrays.stream(thingOrdinals)
                 .mapToObj(i -> "thing:" + i)
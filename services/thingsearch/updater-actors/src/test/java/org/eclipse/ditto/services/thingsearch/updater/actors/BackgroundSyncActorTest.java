@@ -366,6 +366,18 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<Optional<Long>, NotUsed> estimateCount(final Query query,
+                final List<String> authorizationSubjectIds,
+                final int sampleSize) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Source<Optional<Long>, NotUsed> sudoEstimateCount(final Query query, final int sampleSize) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<ResultList<ThingId>, NotUsed> findAll(final Query query,
                 final List<String> authorizationSubjectIds,
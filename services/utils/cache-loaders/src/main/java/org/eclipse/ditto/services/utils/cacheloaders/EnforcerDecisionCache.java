@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.JsonViewMask;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+/**
+ * Bounded caches of the decisions and compiled JSON view masks of policy enforcers, shared by the enforcers of all
+ * policies. Entries are keyed by policy ID, policy revision, authorization subject IDs, resource key and
+ * permissions; thus a modified policy never uses the decisions of its previous revision.
+ * <p>
+ * The hits and misses of both caches are reported as cache metrics named {@value #DECISION_CACHE_NAME} and
+ * {@value #JSON_VIEW_MASK_CACHE_NAME}.
+ * </p>
+ */
+@ThreadSafe
+public final class EnforcerDecisionCache {
+
+    /**
+     * Name of the cache of permission checks.
+     */
+    public static final String DECISION_CACHE_NAME = "enforcer_decisions";
+
+    /**
+     * Name of the cache of JSON view masks.
+     */
+    public static final String JSON_VIEW_MASK_CACHE_NAME = "enforcer_json_view_masks";
+
+    private final Cache<Key, Boolean> decisions;
+    private final Cache<Key, JsonViewMask> jsonViewMasks;
+
+    private EnforcerDecisionCache(final Cache<Key, Boolean> decisions, final Cache<Key, JsonViewMask> jsonViewMasks) {
+        this.decisions = decisions;
+        this.jsonViewMasks = jsonViewMasks;
+    }
+
+    /**
+     * Returns a new instance of {@code EnforcerDecisionCache}.
+     *
+     * @param cacheConfig the config of each of the two caches.
+     * @param executor the executor of the caches.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static EnforcerDecisionCache of(final CacheConfig cacheConfig, final Executor executor) {
+        return new EnforcerDecisionCache(CacheFactory.createCache(cacheConfig, DECISION_CACHE_NAME, executor),
+                CacheFactory.createCache(cacheConfig, JSON_VIEW_MASK_CACHE_NAME, executor));
+    }
+
+    /**
+     * Wraps the enforcer of a policy revision so that its permission checks and JSON views use this cache.
+     *
+     * @param policyId the ID of the policy.
+     * @param policyRevision the revision of the policy.
+     * @param enforcer the enforcer of the policy revision.
+     * @return the memoizing enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public Enforcer memoize(final EntityId policyId, final long policyRevision, final Enforcer enforcer) {
+        return new MemoizingEnforcer(this, checkNotNull(policyId, "policyId"), policyRevision,
+                checkNotNull(enforcer, "enforcer"));
+    }
+
+    boolean getDecision(final Key key, final Supplier<Boolean> decisionSupplier) {
+        return getOrCompute(decisions, key, decisionSupplier);
+    }
+
+    JsonViewMask getJsonViewMask(final Key key, final Supplier<JsonViewMask> jsonViewMaskSupplier) {
+        return getOrCompute(jsonViewMasks, key, jsonViewMaskSupplier);
+    }
+
+    private static <V> V getOrCompute(final Cache<Key, V> cache, final Key key, final Supplier<V> supplier) {
+        final Optional<V> cachedValue = cache.getBlocking(key);
+        if (cachedValue.isPresent()) {
+            return cachedValue.get();
+        }
+        final V value = supplier.get();
+        cache.put(key, value);
+        return value;
+    }
+
+    /**
+     * The kinds of cached results.
+     */
+    enum Kind {
+        UNRESTRICTED_PERMISSIONS,
+        PARTIAL_PERMISSIONS,
+        JSON_VIEW
+    }
+
+    /**
+     * Key of the cached results.
+     */
+    @Immutable
+    static final class Key {
+
+        private final EntityId policyId;
+        private final long policyRevision;
+        private final Kind kind;
+        private final ResourceKey resourceKey;
+        private final List<String> subjectIds;
+        private final Permissions permissions;
+        private final int hashCode;
+
+        Key(final EntityId policyId, final long policyRevision, final Kind kind, final ResourceKey resourceKey,
+                final List<String> subjectIds, final Permissions permissions) {
+
+            this.policyId = policyId;
+            this.policyRevision = policyRevision;
+            this.kind = kind;
+            this.resourceKey = resourceKey;
+            this.subjectIds = subjectIds;
+            this.permissions = permissions;
+            hashCode = Objects.hash(policyId, policyRevision, kind, resourceKey, subjectIds, permissions);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return hashCode == that.hashCode &&
+                    policyRevision == that.policyRevision &&
+                    kind == that.kind &&
+                    policyId.equals(that.policyId) &&
+                    resourceKey.equals(that.resourceKey) &&
+                    subjectIds.equals(that.subjectIds) &&
+                    permissions.equals(that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "policyId=" + policyId +
+                    ", policyRevision=" + policyRevision +
+                    ", kind=" + kind +
+                    ", resourceKey=" + resourceKey +
+                    ", subjectIds=" + subjectIds +
+                    ", permissions=" + permissions +
+                    "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.JsonViewMask;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Enforcer of one policy revision which looks up its permission checks and JSON view masks in an
+ * {@link EnforcerDecisionCache} before asking the enforcer it wraps. Queries for the subjects with permissions are
+ * delegated without caching.
+ */
+@ThreadSafe
+final class MemoizingEnforcer implements Enforcer {
+
+    private final EnforcerDecisionCache cache;
+    private final EntityId policyId;
+    private final long policyRevision;
+    private final Enforcer delegate;
+
+    MemoizingEnforcer(final EnforcerDecisionCache cache, final EntityId policyId, final long policyRevision,
+            final Enforcer delegate) {
+
+        this.cache = cache;
+        this.policyId = policyId;
+        this.policyRevision = policyRevision;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final EnforcerDecisionCache.Key key = key(EnforcerDecisionCache.Kind.UNRESTRICTED_PERMISSIONS, resourceKey,
+                authorizationContext, permissions);
+        return cache.getDecision(key,
+                () -> delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final EnforcerDecisionCache.Key key = key(EnforcerDecisionCache.Kind.PARTIAL_PERMISSIONS, resourceKey,
+                authorizationContext, permissions);
+        return cache.getDecision(key,
+                () -> delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkNotNull(jsonFields, "JSON fields");
+        return compileJsonViewMask(resourceKey, authorizationContext, permissions).apply(jsonFields);
+    }
+
+    @Override
+    public JsonViewMask compileJsonViewMask(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final EnforcerDecisionCache.Key key =
+                key(EnforcerDecisionCache.Kind.JSON_VIEW, resourceKey, authorizationContext, permissions);
+        return cache.getJsonViewMask(key,
+                () -> delegate.compileJsonViewMask(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return delegate.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    private EnforcerDecisionCache.Key key(final EnforcerDecisionCache.Kind kind, final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkNotNull(resourceKey, "resource key");
+        checkNotNull(authorizationContext, "authorization context");
+        checkNotNull(permissions, "permissions to check");
+        return new EnforcerDecisionCache.Key(policyId, policyRevision, kind, resourceKey,
+                authorizationContext.getAuthorizationSubjectIds(), permissions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyId=" + policyId +
+                ", policyRevision=" + policyRevision +
+                ", delegate=" + delegate +
+                "]";
+    }
+
+}
@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -27,6 +28,7 @@ import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
@@ -56,12 +58,41 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param decisionCache the cache of the decisions of the loaded enforcers or {@code null} if the decisions should
+     * not be cached.
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            @Nullable final EnforcerDecisionCache decisionCache) {
+        this(askTimeout, policiesShardRegionProxy, decisionCache, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param decisionCache the cache of the decisions of the loaded enforcers or {@code null} if the decisions should
+     * not be cached.
+     * @param enforcerFactory creates the enforcer of a loaded policy, e. g. one of {@link PolicyEnforcers}.
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            @Nullable final EnforcerDecisionCache decisionCache, final Function<Policy, Enforcer> enforcerFactory) {
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
+        requireNonNull(enforcerFactory);
 
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = PolicyCommandFactory::sudoRetrievePolicy;
         final BiFunction<Object, CacheLookupContext, Entry<Enforcer>> responseTransformer =
-                PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
+                (response, cacheLookupContext) ->
+                        handleSudoRetrievePolicyResponse(response, decisionCache, enforcerFactory);
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
@@ -74,13 +105,18 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
     }
 
     private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
-            @Nullable final CacheLookupContext cacheLookupContext) {
+            @Nullable final EnforcerDecisionCache decisionCache, final Function<Policy, Enforcer> enforcerFactory) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            final Enforcer enforcer = enforcerFactory.apply(policy);
+            if (null != decisionCache) {
+                final PolicyId policyId = policy.getEntityId().orElseThrow(badPolicyResponse("no policy ID"));
+                return Entry.of(revision, decisionCache.memoize(policyId, revision, enforcer));
+            }
+            return Entry.of(revision, enforcer);
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.JsonViewMask;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link EnforcerDecisionCache}.
+ */
+public final class EnforcerDecisionCacheTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "policy");
+    private static final ResourceKey RESOURCE_KEY = ResourceKey.newInstance("thing", "/attributes");
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("test:subject"));
+
+    private EnforcerDecisionCache underTest;
+    private Enforcer delegate;
+
+    @Before
+    public void setUp() {
+        underTest = EnforcerDecisionCache.of(DefaultCacheConfig.of(ConfigFactory.empty(), "enforcer-decision"),
+                Runnable::run);
+        delegate = mock(Enforcer.class);
+    }
+
+    @Test
+    public void permissionChecksOfSamePolicyRevisionAreMemoized() {
+        when(delegate.hasUnrestrictedPermissions(any(), any(), any(Permissions.class))).thenReturn(true);
+        final Enforcer enforcer = underTest.memoize(POLICY_ID, 1L, delegate);
+        final Enforcer enforcerOfSameRevision = underTest.memoize(POLICY_ID, 1L, delegate);
+
+        assertThat(enforcer.hasUnrestrictedPermissions(RESOURCE_KEY, AUTHORIZATION_CONTEXT, READ)).isTrue();
+        assertThat(enforcerOfSameRevision.hasUnrestrictedPermissions(RESOURCE_KEY, AUTHORIZATION_CONTEXT, READ))
+                .isTrue();
+
+        verify(delegate, times(1)).hasUnrestrictedPermissions(RESOURCE_KEY, AUTHORIZATION_CONTEXT, READ);
+    }
+
+    @Test
+    public void permissionChecksOfOtherPolicyRevisionAreNotShared() {
+        when(delegate.hasPartialPermissions(any(), any(), any(Permissions.class))).thenReturn(true);
+        final Enforcer otherDelegate = mock(Enforcer.class);
+        when(otherDelegate.hasPartialPermissions(any(), any(), any(Permissions.class))).thenReturn(false);
+
+        assertThat(underTest.memoize(POLICY_ID, 1L, delegate)
+                .hasPartialPermissions(RESOURCE_KEY, AUTHORIZATION_CONTEXT, READ)).isTrue();
+        assertThat(underTest.memoize(POLICY_ID, 2L, otherDelegate)
+                .hasPartialPermissions(RESOURCE_KEY, AUTHORIZATION_CONTEXT, READ)).isFalse();
+    }
+
+    @Test
+    public void jsonViewMaskIsCompiledOnce() {
+        final JsonObject jsonObject = JsonFactory.newObject("{\"a\":1}");
+        final JsonViewMask jsonViewMask = jsonFields -> JsonFactory.newObject(jsonFields);
+        when(delegate.compileJsonViewMask(any(), any(), any())).thenReturn(jsonViewMask);
+        final Enforcer enforcer = underTest.memoize(POLICY_ID, 1L, delegate);
+
+        assertThat(enforcer.buildJsonView(RESOURCE_KEY, jsonObject, AUTHORIZATION_CONTEXT, READ))
+                .isEqualTo(jsonObject);
+        assertThat(enforcer.buildJsonView(RESOURCE_KEY, jsonObject, AUTHORIZATION_CONTEXT, READ))
+                .isEqualTo(jsonObject);
+
+        verify(delegate, times(1)).compileJsonViewMask(RESOURCE_KEY, AUTHORIZATION_CONTEXT, READ);
+    }
+
+}
@@ -124,6 +124,36 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache whose entries expire individually. Only the maximum size is taken from the cache config; the
+     * expiry settings of the config are replaced by {@code expiry}.
+     *
+     * @param cacheConfig the {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig} which defines the cache's
+     * maximum size.
+     * @param expiry computes the expiration of each entry.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument but {@code cacheName} is {@code null}.
+     */
+    public static <K, V> Cache<K, V> createCache(final CacheConfig cacheConfig,
+            final Expiry<K, V> expiry,
+            @Nullable final String cacheName,
+            final Executor executor) {
+
+        checkNotNull(cacheConfig, "CacheConfig");
+        checkNotNull(expiry, "Expiry");
+        checkNotNull(executor, "Executor");
+
+        final Caffeine<K, V> caffeine = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .executor(executor)
+                .expireAfter(expiry);
+        return CaffeineCache.of(caffeine, cacheName);
+    }
+
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
         checkNotNull(cacheConfig, "CacheConfig");
         checkNotNull(executor, "Executor");
@@ -28,8 +28,8 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
@@ -70,11 +70,21 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     protected static final Charset CHARSET = StandardCharsets.UTF_8;
 
+    /**
+     * Key of the headers in the serialized JSON object.
+     */
+    protected static final JsonKey DITTO_HEADERS_KEY = JsonKey.of("dittoHeaders");
+
+    /**
+     * Key of the message in the serialized JSON object.
+     */
+    protected static final JsonKey PAYLOAD_KEY = JsonKey.of("payload");
+
     private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
-            JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
+            JsonFactory.newJsonObjectFieldDefinition(DITTO_HEADERS_KEY);
 
     private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
-            JsonFactory.newJsonValueFieldDefinition("payload");
+            JsonFactory.newJsonValueFieldDefinition(PAYLOAD_KEY);
 
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
@@ -139,9 +149,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
 
             final JsonValue jsonValue;
 
@@ -154,21 +162,19 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 jsonValue = ((Jsonifiable<?>) object).toJson();
             }
 
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                serializeIntoByteBuffer(dittoHeaders.toJson(), jsonValue, buf);
+                LOG.trace("toBinary payload about to send 'out': {}", jsonValue);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
+                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonValue);
                 LOG.error(errorMessage, e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
                 final String errorMessage = MessageFormat.format(
                         "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
+                        e.getClass().getName(), jsonValue);
                 LOG.warn(errorMessage, e);
                 throw new RuntimeException(errorMessage, e);
             }
@@ -180,6 +186,26 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    /**
+     * Serializes the passed {@code dittoHeaders} and {@code payload} into the passed {@code byteBuffer}.
+     * The default implementation wraps both into one JSON object and delegates to
+     * {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}; subclasses may write them without creating that object.
+     *
+     * @param dittoHeaders the JSON representation of the headers to serialize.
+     * @param payload the JSON representation of the message to serialize.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing to the ByteBuffer fails.
+     */
+    protected void serializeIntoByteBuffer(final JsonObject dittoHeaders, final JsonValue payload,
+            final ByteBuffer byteBuffer) throws IOException {
+
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(JSON_DITTO_HEADERS, dittoHeaders)
+                .set(JSON_PAYLOAD, payload)
+                .build();
+        serializeIntoByteBuffer(jsonObject, byteBuffer);
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
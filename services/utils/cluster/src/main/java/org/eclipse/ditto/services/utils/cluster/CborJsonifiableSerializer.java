@@ -14,10 +14,12 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.ServiceLoader;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
@@ -53,6 +55,16 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "CBOR");
     }
 
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject dittoHeaders, final JsonValue payload,
+            final ByteBuffer byteBuffer) throws IOException {
+
+        // write the envelope directly into the pooled buffer; headers and payload are copied from their cached CBOR
+        CBOR_FACTORY.writeFieldsToByteBuffer(Arrays.asList(
+                JsonField.newInstance(DITTO_HEADERS_KEY, dittoHeaders),
+                JsonField.newInstance(PAYLOAD_KEY, payload)), byteBuffer);
+    }
+
     @Override
     protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) throws IOException {
         CBOR_FACTORY.writeToByteBuffer(jsonObject, byteBuffer);
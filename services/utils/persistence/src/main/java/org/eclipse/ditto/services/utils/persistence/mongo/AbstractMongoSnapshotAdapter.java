@@ -19,6 +19,7 @@ import java.text.MessageFormat;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
@@ -54,8 +55,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return StreamingDittoBsonJson.getInstance().toRawBsonDocument(json);
     }
 
     /**
@@ -124,6 +124,11 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
+        if (bsonValue instanceof BsonDocument) {
+            final StreamingDittoBsonJson streamingDittoBsonJson = StreamingDittoBsonJson.getInstance();
+            return DittoJsonException.wrapJsonRuntimeException(
+                    () -> streamingDittoBsonJson.toJsonObject((BsonDocument) bsonValue));
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
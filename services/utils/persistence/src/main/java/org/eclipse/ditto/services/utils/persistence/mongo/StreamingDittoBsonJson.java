@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.Map;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Converts between {@link JsonObject}s and BSON documents without building an intermediate tree of BSON values or
+ * JSON values.
+ * <p>
+ * JSON objects are written directly to a {@link BsonWriter}, e. g. into the bytes of a {@link RawBsonDocument}.
+ * BSON documents are read directly into JSON object builders, a {@link RawBsonDocument} is read from its bytes.
+ * Like {@link DittoBsonJson}, dots {@code "."} and dollar signs {@code "$"} in JSON keys are replaced with their
+ * unicode representations while writing and vice versa while reading.
+ * </p>
+ */
+@Immutable
+public final class StreamingDittoBsonJson {
+
+    private static final StreamingDittoBsonJson INSTANCE = new StreamingDittoBsonJson();
+
+    private StreamingDittoBsonJson() {
+        super();
+    }
+
+    /**
+     * Returns an instance of {@code StreamingDittoBsonJson}.
+     *
+     * @return the instance.
+     */
+    public static StreamingDittoBsonJson getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Writes the specified {@link JsonObject} to a {@link RawBsonDocument}.
+     *
+     * @param jsonObject the JSON object to be written.
+     * @return the document containing the BSON bytes of {@code jsonObject}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public RawBsonDocument toRawBsonDocument(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object to be written");
+        final BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        try (final BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer)) {
+            write(jsonObject, writer);
+        }
+        return new RawBsonDocument(outputBuffer.getInternalBuffer(), 0, outputBuffer.getPosition());
+    }
+
+    /**
+     * Writes the specified {@link JsonObject} as document to the specified {@link BsonWriter}.
+     *
+     * @param jsonObject the JSON object to be written.
+     * @param writer the writer to write the document to.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public void write(final JsonObject jsonObject, final BsonWriter writer) {
+        checkNotNull(jsonObject, "JSON object to be written");
+        checkNotNull(writer, "BSON writer");
+        writeObject(jsonObject, writer);
+    }
+
+    /**
+     * Reads the specified {@link BsonDocument} into a {@link JsonObject}. The bytes of a {@link RawBsonDocument} are
+     * read without decoding the document first.
+     *
+     * @param bsonDocument the document to be read.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject toJsonObject(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BsonDocument to be read");
+        if (bsonDocument instanceof RawBsonDocument) {
+            try (final BsonBinaryReader reader =
+                    new BsonBinaryReader(((RawBsonDocument) bsonDocument).getByteBuffer().asNIO())) {
+                return read(reader);
+            }
+        }
+        return mapDocument(bsonDocument);
+    }
+
+    /**
+     * Reads the next document of the specified {@link BsonReader} into a {@link JsonObject}.
+     *
+     * @param reader the reader positioned before a document.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     */
+    public JsonObject read(final BsonReader reader) {
+        checkNotNull(reader, "BSON reader");
+        return readObject(reader);
+    }
+
+    private static void writeObject(final JsonObject jsonObject, final BsonWriter writer) {
+        writer.writeStartDocument();
+        for (final JsonField jsonField : jsonObject) {
+            writer.writeName(escapeKey(jsonField.getKeyName()));
+            writeValue(jsonField.getValue(), writer);
+        }
+        writer.writeEndDocument();
+    }
+
+    private static void writeArray(final JsonArray jsonArray, final BsonWriter writer) {
+        writer.writeStartArray();
+        for (final JsonValue jsonValue : jsonArray) {
+            writeValue(jsonValue, writer);
+        }
+        writer.writeEndArray();
+    }
+
+    private static void writeValue(final JsonValue jsonValue, final BsonWriter writer) {
+        if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject(), writer);
+        } else if (jsonValue.isInt()) {
+            writer.writeInt32(jsonValue.asInt());
+        } else if (jsonValue.isLong()) {
+            writer.writeInt64(jsonValue.asLong());
+        } else if (jsonValue.isNumber()) {
+            writer.writeDouble(jsonValue.asDouble());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray(), writer);
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static JsonObject readObject(final BsonReader reader) {
+        final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        BsonType bsonType;
+        while ((bsonType = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+            final String key = unescapeKey(reader.readName());
+            objectBuilder.set(key, readValue(bsonType, reader));
+        }
+        reader.readEndDocument();
+        return objectBuilder.build();
+    }
+
+    private static JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        BsonType bsonType;
+        while ((bsonType = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+            arrayBuilder.add(readValue(bsonType, reader));
+        }
+        reader.readEndArray();
+        return arrayBuilder.build();
+    }
+
+    private static JsonValue readValue(final BsonType bsonType, final BsonReader reader) {
+        switch (bsonType) {
+            case STRING:
+                return JsonFactory.newValue(reader.readString());
+            case DOCUMENT:
+                return readObject(reader);
+            case INT32:
+                return JsonFactory.newValue(reader.readInt32());
+            case INT64:
+                return JsonFactory.newValue(reader.readInt64());
+            case DOUBLE:
+                return JsonFactory.newValue(reader.readDouble());
+            case BOOLEAN:
+                return JsonFactory.newValue(reader.readBoolean());
+            case ARRAY:
+                return readArray(reader);
+            case TIMESTAMP:
+                return JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+            default:
+                // like DittoBsonJson, unknown types are read as null
+                reader.skipValue();
+                return JsonFactory.nullLiteral();
+        }
+    }
+
+    private static JsonObject mapDocument(final BsonDocument bsonDocument) {
+        final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+        for (final Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
+            objectBuilder.set(unescapeKey(entry.getKey()), mapValue(entry.getValue()));
+        }
+        return objectBuilder.build();
+    }
+
+    private static JsonArray mapArray(final BsonArray bsonArray) {
+        final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+        for (final BsonValue bsonValue : bsonArray) {
+            arrayBuilder.add(mapValue(bsonValue));
+        }
+        return arrayBuilder.build();
+    }
+
+    private static JsonValue mapValue(final BsonValue bsonValue) {
+        switch (bsonValue.getBsonType()) {
+            case STRING:
+                return JsonFactory.newValue(bsonValue.asString().getValue());
+            case DOCUMENT:
+                return bsonValue instanceof RawBsonDocument
+                        ? getInstance().toJsonObject(bsonValue.asDocument())
+                        : mapDocument(bsonValue.asDocument());
+            case INT32:
+                return JsonFactory.newValue(bsonValue.asInt32().getValue());
+            case INT64:
+                return JsonFactory.newValue(bsonValue.asInt64().getValue());
+            case DOUBLE:
+                return JsonFactory.newValue(bsonValue.asDouble().getValue());
+            case BOOLEAN:
+                return JsonFactory.newValue(bsonValue.asBoolean().getValue());
+            case ARRAY:
+                return mapArray(bsonValue.asArray());
+            case TIMESTAMP:
+                return JsonFactory.newValue(Instant.ofEpochSecond(bsonValue.asTimestamp().getTime()).toString());
+            default:
+                // like DittoBsonJson, unknown types are mapped to null
+                return JsonFactory.nullLiteral();
+        }
+    }
+
+    private static String escapeKey(final String key) {
+        return replace(key, KeyNameReviser.DOT_CHAR, KeyNameReviser.DOT_UNICODE_CHAR,
+                KeyNameReviser.DOLLAR_CHAR, KeyNameReviser.DOLLAR_UNICODE_CHAR);
+    }
+
+    private static String unescapeKey(final String key) {
+        return replace(key, KeyNameReviser.DOT_UNICODE_CHAR, KeyNameReviser.DOT_CHAR,
+                KeyNameReviser.DOLLAR_UNICODE_CHAR, KeyNameReviser.DOLLAR_CHAR);
+    }
+
+    /**
+     * Replaces two characters in one pass. Keys without those characters, i. e. almost all keys, are not copied.
+     */
+    private static String replace(final String key, final char oldChar1, final char newChar1, final char oldChar2,
+            final char newChar2) {
+
+        final int length = key.length();
+        for (int i = 0; i < length; i++) {
+            final char c = key.charAt(i);
+            if (c == oldChar1 || c == oldChar2) {
+                final char[] chars = key.toCharArray();
+                for (int j = i; j < length; j++) {
+                    if (chars[j] == oldChar1) {
+                        chars[j] = newChar1;
+                    } else if (chars[j] == oldChar2) {
+                        chars[j] = newChar2;
+                    }
+                }
+                return new String(chars);
+            }
+        }
+        return key;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for batching the events of an entity.
+ */
+@Immutable
+public final class DefaultEventBatchingConfig implements EventBatchingConfig {
+
+    private static final String CONFIG_PATH = "event-batching";
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    private DefaultEventBatchingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(EventBatchingConfigValue.ENABLED.getConfigPath());
+        maxBatchSize = config.getPositiveIntOrThrow(EventBatchingConfigValue.MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Returns an instance of the default event batching config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the event batching config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEventBatchingConfig of(final Config config) {
+        return new DefaultEventBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EventBatchingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEventBatchingConfig that = (DefaultEventBatchingConfig) o;
+        return enabled == that.enabled && maxBatchSize == that.maxBatchSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxBatchSize=" + maxBatchSize +
+                "]";
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for persisting the events of several commands to an entity with one journal write.
+ */
+@Immutable
+public interface EventBatchingConfig {
+
+    /**
+     * Indicates whether the events of commands arriving while a journal write is in flight are persisted together.
+     *
+     * @return {@code true} if events are persisted in batches, {@code false} if each event is persisted on its own.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events persisted with one journal write.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EventBatchingConfig}.
+     */
+    enum EventBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the events of commands arriving while a journal write is in flight are persisted together.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events persisted with one journal write.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        EventBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
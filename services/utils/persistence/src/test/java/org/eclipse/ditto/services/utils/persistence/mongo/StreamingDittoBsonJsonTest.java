@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StreamingDittoBsonJson}.
+ */
+public final class StreamingDittoBsonJsonTest {
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObject("{" +
+            "\"thingId\": \"org.eclipse.ditto:thing\"," +
+            "\"revision\": 2147483648," +
+            "\"attributes\": {" +
+            "  \"org.eclipse.ditto\": 42," +
+            "  \"$something\": [1, 2.5, true, null, \"text\", {\"a.b\": {\"$c\": []}}]," +
+            "  \"empty\": {}" +
+            "}" +
+            "}");
+
+    private final StreamingDittoBsonJson underTest = StreamingDittoBsonJson.getInstance();
+
+    @Test
+    public void writesSameDocumentAsDittoBsonJson() {
+        final RawBsonDocument rawBsonDocument = underTest.toRawBsonDocument(JSON_OBJECT);
+
+        assertThat(rawBsonDocument).isEqualTo(DittoBsonJson.getInstance().parse(JSON_OBJECT));
+    }
+
+    @Test
+    public void readsRawBsonDocument() {
+        final RawBsonDocument rawBsonDocument = underTest.toRawBsonDocument(JSON_OBJECT);
+
+        assertThat(underTest.toJsonObject(rawBsonDocument)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void readsSameJsonObjectAsDittoBsonJson() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+        bsonDocument.put("timestamp", new BsonTimestamp(1_500_000_000, 1));
+        bsonDocument.put("objectId", new BsonObjectId());
+        final RawBsonDocument rawBsonDocument = new RawBsonDocument(bsonDocument, new BsonDocumentCodec());
+
+        final JsonObject expected = DittoBsonJson.getInstance().serialize(bsonDocument);
+
+        assertThat(underTest.toJsonObject(bsonDocument)).isEqualTo(expected);
+        assertThat(underTest.toJsonObject(rawBsonDocument)).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.StreamingDittoBsonJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the conversion between JSON and BSON of {@link DittoBsonJson} with the one of
+ * {@link StreamingDittoBsonJson} for thing-like JSON objects of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = DittoBsonJsonBenchmark.WARMUP_ITERATIONS, time = DittoBsonJsonBenchmark.WARMUP_TIME,
+        timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = DittoBsonJsonBenchmark.MEASUREMENT_ITERATIONS,
+        time = DittoBsonJsonBenchmark.MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+public class DittoBsonJsonBenchmark {
+
+    static final int WARMUP_ITERATIONS = 5;
+    static final int MEASUREMENT_ITERATIONS = 10;
+    static final int WARMUP_TIME = 1000;
+    static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1", "10", "100"})
+    public int features;
+
+    private JsonObject jsonObject;
+    private BsonDocument bsonDocument;
+    private RawBsonDocument rawBsonDocument;
+
+    @Setup
+    public void setup() {
+        jsonObject = createThingJson(features);
+        bsonDocument = DittoBsonJson.getInstance().parse(jsonObject);
+        rawBsonDocument = StreamingDittoBsonJson.getInstance().toRawBsonDocument(jsonObject);
+    }
+
+    @Benchmark
+    public BsonDocument writeWithDittoBsonJson() {
+        return DittoBsonJson.getInstance().parse(jsonObject);
+    }
+
+    @Benchmark
+    public RawBsonDocument writeWithStreamingDittoBsonJson() {
+        return StreamingDittoBsonJson.getInstance().toRawBsonDocument(jsonObject);
+    }
+
+    @Benchmark
+    public JsonObject readWithDittoBsonJson() {
+        return DittoBsonJson.getInstance().serialize(bsonDocument);
+    }
+
+    @Benchmark
+    public JsonObject readWithStreamingDittoBsonJson() {
+        return StreamingDittoBsonJson.getInstance().toJsonObject(rawBsonDocument);
+    }
+
+    private static JsonObject createThingJson(final int numberOfFeatures) {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < numberOfFeatures; i++) {
+            featuresBuilder.set("feature-" + i, JsonFactory.newObject("{" +
+                    "\"definition\": [\"org.eclipse.ditto:sensor:1.0.0\"]," +
+                    "\"properties\": {" +
+                    "  \"status\": {\"temperature\": 23.5, \"humidity\": 42, \"on\": true}," +
+                    "  \"config\": {\"interval\": 60000, \"unit\": \"°C\", \"$tag\": null}," +
+                    "  \"lastUpdate\": 1591024345123" +
+                    "}" +
+                    "}"));
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("type", "things.events:modified")
+                .set("_timestamp", "2020-06-01T15:12:25.123Z")
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("thing", JsonFactory.newObjectBuilder()
+                        .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                        .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                        .set("attributes", JsonFactory.newObject("{" +
+                                "\"manufacturer\": \"ACME\"," +
+                                "\"location\": {\"latitude\": 47.68, \"longitude\": 9.38}," +
+                                "\"org.eclipse.ditto.serial\": \"4711\"" +
+                                "}"))
+                        .set("features", featuresBuilder.build())
+                        .build())
+                .build();
+    }
+
+}
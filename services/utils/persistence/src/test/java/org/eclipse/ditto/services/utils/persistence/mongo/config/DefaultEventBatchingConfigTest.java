@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventBatchingConfig}.
+ */
+public final class DefaultEventBatchingConfigTest {
+
+    private static Config eventBatchingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        eventBatchingTestConf = ConfigFactory.load("event-batching-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultEventBatchingConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEventBatchingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultEventBatchingConfig underTest = DefaultEventBatchingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventBatchingConfig.EventBatchingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(EventBatchingConfig.EventBatchingConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(EventBatchingConfig.EventBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(EventBatchingConfig.EventBatchingConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultEventBatchingConfig underTest = DefaultEventBatchingConfig.of(eventBatchingTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventBatchingConfig.EventBatchingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(EventBatchingConfig.EventBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+    }
+
+    @Test
+    public void nonPositiveMaxBatchSizeIsRejected() {
+        softly.assertThatThrownBy(() -> DefaultEventBatchingConfig.of(
+                ConfigFactory.parseString("event-batching.max-batch-size = 0")))
+                .isInstanceOf(DittoConfigError.class);
+    }
+
+}
@@ -103,6 +103,17 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
      */
     protected abstract DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable E entityId);
 
+    /**
+     * Create the behavior for messages handled by this supervisor itself instead of being forwarded to the
+     * supervised persistence actor. It is consulted only while the supervisor is active; unmatched messages are
+     * forwarded to the child. The default behavior matches no message.
+     *
+     * @return the behavior for messages handled by the supervisor.
+     */
+    protected Receive activeBehaviour() {
+        return ReceiveBuilder.create().build();
+    }
+
     /**
      * Return a preferably static supervisor strategy for this actor. By default, child actor is stopped when killed
      * or failing, triggering restart after exponential back-off.
@@ -143,8 +154,11 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
                 .matchEquals(Control.PASSIVATE, this::passivate)
-                .matchAny(this::forwardToChildIfAvailable)
-                .build());
+                .build()
+                .orElse(activeBehaviour())
+                .orElse(ReceiveBuilder.create()
+                        .matchAny(this::forwardToChildIfAvailable)
+                        .build()));
     }
 
     private void becomeCorrupted() {
@@ -13,8 +13,13 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -26,16 +31,23 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventBatchingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchingConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
@@ -62,11 +74,21 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final EventBatchingConfig DISABLED_EVENT_BATCHING =
+            DefaultEventBatchingConfig.of(ConfigFactory.empty());
+
+    private static final String EVENT_BATCH_SIZE_METRIC = "persistence_event_batch_size";
+    private static final String JOURNAL_WRITE_METRIC = "persistence_journal_write";
+    private static final String JOURNAL_TAG = "journal";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
+    private final List<PendingMutation<E>> pendingMutations;
+    private final Deque<PendingMutation<E>> persistingMutations;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    private boolean flushOfPendingMutationsScheduled;
 
     /**
      * The current entity, or null if it was never created.
@@ -74,6 +96,12 @@ public abstract class AbstractShardedPersistenceActor<
     @Nullable
     protected S entity;
 
+    /**
+     * The entity resulting from the pending mutations, which commands are handled on as long as there are any.
+     */
+    @Nullable
+    private S pendingEntity;
+
     /**
      * The entity ID.
      */
@@ -94,6 +122,10 @@ public abstract class AbstractShardedPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        pendingMutations = new ArrayList<>();
+        persistingMutations = new ArrayDeque<>();
+        pendingEntity = null;
+        flushOfPendingMutationsScheduled = false;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
@@ -146,6 +178,16 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for persisting the events of several commands with one journal write.
+     * Event batching is disabled unless this method is overridden.
+     *
+     * @return configuration for event batching.
+     */
+    protected EventBatchingConfig getEventBatchingConfig() {
+        return DISABLED_EVENT_BATCHING;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -158,6 +200,16 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract DittoRuntimeExceptionBuilder newNotAccessibleExceptionBuilder();
 
+    /**
+     * Returns an exception builder to respond to commands whose batched events could not be persisted.
+     * Subclasses enabling event batching should override this method, the default builds an internal error.
+     *
+     * @return the exception builder.
+     */
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return GatewayInternalErrorException.newBuilder();
+    }
+
     /**
      * Publish an event.
      *
@@ -165,6 +217,18 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract void publishEvent(E event);
 
+    /**
+     * Publish an event on behalf of the sender of the command which caused it. Events persisted in batches are
+     * published after the sender of their command is no longer the sender of the current message.
+     * Subclasses enabling event batching should override this method, the default ignores the passed sender.
+     *
+     * @param event the event.
+     * @param sender the sender of the command which caused the event.
+     */
+    protected void publishEvent(final E event, final ActorRef sender) {
+        publishEvent(event);
+    }
+
     /**
      * Get the implemented schema version of an entity.
      *
@@ -199,7 +263,8 @@ public abstract class AbstractShardedPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        // commands are handled on the entity resulting from the pending mutations
+        return lastSequenceNr() + pendingMutations.size();
     }
 
     @Override
@@ -218,6 +283,25 @@ public abstract class AbstractShardedPersistenceActor<
         log.error(cause, "Recovery Failure for entity with ID <{}>", entityId);
     }
 
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        // all events of a batch are rejected; the entity is still the one of the last persisted event
+        final PendingMutation<E> mutation = persistingMutations.poll();
+        if (null != mutation) {
+            respondWithUnavailable(mutation);
+        }
+    }
+
+    @Override
+    public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistFailure(cause, event, seqNr);
+        // the actor is stopped and recovers the last persisted entity when it is started again
+        while (!persistingMutations.isEmpty()) {
+            respondWithUnavailable(persistingMutations.poll());
+        }
+    }
+
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
@@ -247,6 +331,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.FLUSH_PENDING_MUTATIONS, this::flushScheduledMutations)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .build())
@@ -277,16 +362,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
+        final E modifiedEvent = withEntitySchemaVersion(event);
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
@@ -338,6 +414,7 @@ public abstract class AbstractShardedPersistenceActor<
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.FLUSH_PENDING_MUTATIONS, this::flushScheduledMutations)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::notAccessible)
@@ -383,7 +460,7 @@ public abstract class AbstractShardedPersistenceActor<
         accessCounter++;
         final Result<E> result;
         try {
-            result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
+            result = strategy.apply(getStrategyContext(), getEntityForCommands(), getNextRevisionNumber(), command);
         } catch (final DittoRuntimeException e) {
             getSender().tell(e, getSelf());
             return;
@@ -395,17 +472,21 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
-            if (shouldSendResponse(command.getDittoHeaders())) {
-                notifySender(response);
-            }
-            if (becomeDeleted) {
-                becomeDeletedHandler();
-            }
-            if (becomeCreated) {
-                becomeCreatedHandler();
-            }
-        });
+        if (getEventBatchingConfig().isEnabled() && !event.getDittoHeaders().isDryRun()) {
+            addPendingMutation(command, event, response, becomeCreated, becomeDeleted);
+        } else {
+            runAfterPendingMutations(() -> persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+                if (shouldSendResponse(command.getDittoHeaders())) {
+                    notifySender(response);
+                }
+                if (becomeDeleted) {
+                    becomeDeletedHandler();
+                }
+                if (becomeCreated) {
+                    becomeCreatedHandler();
+                }
+            }));
+        }
     }
 
     private boolean shouldSendResponse(final DittoHeaders dittoHeaders) {
@@ -418,15 +499,120 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void onQuery(final Command command, final WithDittoHeaders response) {
         if (command.getDittoHeaders().isResponseRequired()) {
-            notifySender(response);
+            runAfterPendingMutations(() -> notifySender(response));
         }
     }
 
     @Override
     public void onError(final DittoRuntimeException error, final Command errorCausingCommand) {
         if (errorCausingCommand.getDittoHeaders().isResponseRequired()) {
-            notifySender(error);
+            runAfterPendingMutations(() -> notifySender(error));
+        }
+    }
+
+    private E withEntitySchemaVersion(final E event) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
+    @Nullable
+    private S getEntityForCommands() {
+        return pendingMutations.isEmpty() ? entity : pendingEntity;
+    }
+
+    /**
+     * Persist the event of a mutation together with the events of the commands handled before the pending mutations
+     * are flushed. Those are the commands which arrived while the previous journal write was in flight.
+     */
+    private void addPendingMutation(final Command command, final E event, final WithDittoHeaders response,
+            final boolean becomeCreated, final boolean becomeDeleted) {
+
+        final E modifiedEvent = withEntitySchemaVersion(event);
+        // subsequent commands are handled on the entity resulting from the pending mutations, while the entity itself
+        // is only modified after the events were persisted
+        pendingEntity = getEventStrategy().handle(modifiedEvent, getEntityForCommands(), getNextRevisionNumber());
+        pendingMutations.add(new PendingMutation<>(modifiedEvent, getSender(),
+                shouldSendResponse(command.getDittoHeaders()) ? response : null, becomeCreated, becomeDeleted));
+
+        if (becomeCreated || becomeDeleted ||
+                pendingMutations.size() >= getEventBatchingConfig().getMaxBatchSize()) {
+            // subsequent commands must wait for the changed behavior or a full batch
+            flushPendingMutations();
+        } else if (!flushOfPendingMutationsScheduled) {
+            // commands already in the mailbox are handled before the flush
+            flushOfPendingMutationsScheduled = true;
+            getSelf().tell(Control.FLUSH_PENDING_MUTATIONS, getSelf());
+        }
+    }
+
+    private void flushScheduledMutations(final Control flush) {
+        flushOfPendingMutationsScheduled = false;
+        flushPendingMutations();
+    }
+
+    private void flushPendingMutations() {
+        if (pendingMutations.isEmpty()) {
+            return;
         }
+        final List<E> events = pendingMutations.stream().map(mutation -> mutation.event).collect(Collectors.toList());
+        persistingMutations.addAll(pendingMutations);
+        pendingMutations.clear();
+        pendingEntity = null;
+        log.debug("Persisting batch of <{}> events.", events.size());
+
+        DittoMetrics.histogram(EVENT_BATCH_SIZE_METRIC)
+                .tag(JOURNAL_TAG, journalPluginId())
+                .record((long) events.size());
+        final StartedTimer journalWriteTimer = startJournalWriteTimer();
+        // messages arriving during the journal write are stashed and form the next batch
+        persistAll(events, persistedEvent -> {
+            final PendingMutation<E> mutation = persistingMutations.poll();
+            // after the event was persisted, apply the event on the current actor state
+            handleEvents.onMessage().apply(persistedEvent);
+            publishEvent(persistedEvent, mutation.sender);
+            if (null != mutation.response) {
+                notifySender(mutation.sender, mutation.response);
+            }
+            if (persistingMutations.isEmpty()) {
+                journalWriteTimer.stop();
+                log.info("Successfully persisted batch of <{}> events.", events.size());
+                // the entity contains all events of the batch only after the last one is persisted
+                if (snapshotThresholdPassed()) {
+                    takeSnapshot("snapshot threshold is reached");
+                }
+            }
+            if (mutation.becomeDeleted) {
+                becomeDeletedHandler();
+            }
+            if (mutation.becomeCreated) {
+                becomeCreatedHandler();
+            }
+        });
+    }
+
+    /**
+     * Run an action which must not overtake the pending mutations, e. g. a response to a command handled after them.
+     */
+    private void runAfterPendingMutations(final Runnable action) {
+        if (pendingMutations.isEmpty()) {
+            action.run();
+        } else {
+            flushPendingMutations();
+            defer(action, Runnable::run);
+        }
+    }
+
+    private StartedTimer startJournalWriteTimer() {
+        return DittoMetrics.timer(JOURNAL_WRITE_METRIC)
+                .tag(JOURNAL_TAG, journalPluginId())
+                .start();
     }
 
     private long getNextRevisionNumber() {
@@ -437,7 +623,9 @@ public abstract class AbstractShardedPersistenceActor<
         LogUtil.enhanceLogWithCorrelationId(log, event);
         log.debug("Persisting Event <{}>.", event.getType());
 
+        final StartedTimer journalWriteTimer = startJournalWriteTimer();
         persist(event, persistedEvent -> {
+            journalWriteTimer.stop();
             LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
             log.info("Successfully persisted Event <{}>.", event.getType());
 
@@ -456,7 +644,9 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (!pendingMutations.isEmpty()) {
+            log.debug("Not taking snapshot for entity <{}> with unpersisted mutations even if {}.", entityId, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
@@ -482,6 +672,14 @@ public abstract class AbstractShardedPersistenceActor<
         publishEvent(event);
     }
 
+    private void respondWithUnavailable(final PendingMutation<E> mutation) {
+        if (null != mutation.response) {
+            notifySender(mutation.sender, newUnavailableExceptionBuilder()
+                    .dittoHeaders(mutation.response.getDittoHeaders())
+                    .build());
+        }
+    }
+
     private void notifySender(final WithDittoHeaders message) {
         notifySender(getSender(), message);
     }
@@ -572,7 +770,31 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        FLUSH_PENDING_MUTATIONS
+    }
+
+    /**
+     * A mutation whose event is not yet persisted.
+     */
+    private static final class PendingMutation<E> {
+
+        private final E event;
+        private final ActorRef sender;
+        @Nullable private final WithDittoHeaders response;
+        private final boolean becomeCreated;
+        private final boolean becomeDeleted;
+
+        private PendingMutation(final E event, final ActorRef sender, @Nullable final WithDittoHeaders response,
+                final boolean becomeCreated, final boolean becomeDeleted) {
+
+            this.event = event;
+            this.sender = sender;
+            this.response = response;
+            this.becomeCreated = becomeCreated;
+            this.becomeDeleted = becomeDeleted;
+        }
+
     }
 
 }
@@ -26,11 +26,14 @@ import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.ddata.Replicator;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Publishes messages according to topic Bloom filters.
+ * The subscribers of published topics are looked up in the local index of the distributed data reader, which this
+ * actor keeps up to date with the change notifications of the distributed data.
  *
  * @param <T> representation of topics in the distributed data.
  */
@@ -67,10 +70,16 @@ public final class Publisher<T> extends AbstractActor {
         return Props.create(Publisher.class, ddataReader);
     }
 
+    @Override
+    public void preStart() {
+        ddataReader.subscribeForChanges(getSelf());
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Publish.class, this::publish)
+                .match(Replicator.Changed.class, this::updateIndex)
                 .matchAny(this::logUnhandled)
                 .build();
     }
@@ -91,6 +100,10 @@ public final class Publisher<T> extends AbstractActor {
         );
     }
 
+    private void updateIndex(final Replicator.Changed<?> changed) {
+        ddataReader.updateIndex(changed);
+    }
+
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.concurrent.CompletionStage;
 
 import akka.actor.ActorRef;
+import akka.cluster.ddata.Replicator;
 
 /**
  * Reader of distributed Bloom filters of subscribed topics.
@@ -39,4 +40,23 @@ public interface DDataReader<T> {
      * @return its approximation in the distributed data.
      */
     T approximate(String topic);
+
+    /**
+     * Subscribe an actor for {@link Replicator.Changed} notifications of the distributed data. The actor should
+     * pass them on to {@link #updateIndex(Replicator.Changed)}.
+     *
+     * @param subscriber the actor to receive the change notifications.
+     * @since 1.3.0
+     */
+    void subscribeForChanges(ActorRef subscriber);
+
+    /**
+     * Update the local index of subscribers by topic approximation with a change notification of the distributed data,
+     * so that the index is up to date before the next call of {@link #getSubscribers(Collection)}.
+     * Change notifications of other distributed data are ignored.
+     *
+     * @param changed the change notification.
+     * @since 1.3.0
+     */
+    void updateIndex(Replicator.Changed<?> changed);
 }
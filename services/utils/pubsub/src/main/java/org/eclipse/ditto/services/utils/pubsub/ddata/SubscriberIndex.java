@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.actor.ActorRef;
+
+/**
+ * Local inverted index of the distributed subscriptions from topic approximations to subscribers, so that looking up
+ * the subscribers of published topics does not have to scan all subscriptions. The index is updated incrementally:
+ * only the entries of subscribers whose topics changed since the last indexed version are touched.
+ *
+ * @param <T> type of topic approximations.
+ * @since 1.3.0
+ */
+@NotThreadSafe
+public final class SubscriberIndex<T> {
+
+    /**
+     * Map from subscribers to the topic approximations they subscribe to.
+     */
+    private final Map<ActorRef, Set<T>> subscriberToTopics;
+
+    /**
+     * Map from topic approximations to their subscribers.
+     */
+    private final Map<T, Set<ActorRef>> topicToSubscribers;
+
+    private final Gauge updateTimeGauge;
+
+    @Nullable private Object indexedVersion;
+
+    private SubscriberIndex(final Gauge updateTimeGauge) {
+        this.updateTimeGauge = updateTimeGauge;
+        subscriberToTopics = new HashMap<>();
+        topicToSubscribers = new HashMap<>();
+        indexedVersion = null;
+    }
+
+    /**
+     * Create an empty subscriber index.
+     *
+     * @param updateTimeGauge gauge to set to the duration of each update of the index in nanoseconds.
+     * @param <T> type of topic approximations.
+     * @return the subscriber index.
+     */
+    public static <T> SubscriberIndex<T> of(final Gauge updateTimeGauge) {
+        return new SubscriberIndex<>(updateTimeGauge);
+    }
+
+    /**
+     * Update the index with a version of the distributed subscriptions unless that version was indexed already.
+     *
+     * @param version the version of the distributed subscriptions, e.g. the replicated data. Versions are compared
+     * by identity.
+     * @param subscriptions supplier of the topic approximations by subscriber of the version. Only called if the
+     * version is not indexed yet.
+     * @return whether the index was updated.
+     */
+    public boolean update(final Object version,
+            final Supplier<? extends Map<ActorRef, ? extends Collection<T>>> subscriptions) {
+
+        if (version == indexedVersion) {
+            return false;
+        }
+        final long startTime = System.nanoTime();
+        final Map<ActorRef, ? extends Collection<T>> subscriberToNewTopics = subscriptions.get();
+
+        // remove subscribers without subscriptions
+        final Iterator<Map.Entry<ActorRef, Set<T>>> iterator = subscriberToTopics.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<ActorRef, Set<T>> entry = iterator.next();
+            if (!subscriberToNewTopics.containsKey(entry.getKey())) {
+                removeSubscriberForTopics(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        // add new subscribers and change the topics of existing subscribers if necessary
+        subscriberToNewTopics.forEach((subscriber, newTopics) -> {
+            final Set<T> previousTopics = subscriberToTopics.get(subscriber);
+            if (previousTopics == null) {
+                final Set<T> topics = new HashSet<>(newTopics);
+                addSubscriberForTopics(subscriber, topics);
+                subscriberToTopics.put(subscriber, topics);
+            } else if (!previousTopics.equals(asSet(newTopics))) {
+                final Set<T> topics = new HashSet<>(newTopics);
+                final Set<T> removed = new HashSet<>(previousTopics);
+                removed.removeAll(topics);
+                final Set<T> added = new HashSet<>(topics);
+                added.removeAll(previousTopics);
+                removeSubscriberForTopics(subscriber, removed);
+                addSubscriberForTopics(subscriber, added);
+                subscriberToTopics.put(subscriber, topics);
+            }
+        });
+
+        indexedVersion = version;
+        updateTimeGauge.set(System.nanoTime() - startTime);
+        return true;
+    }
+
+    /**
+     * Get subscribers of any of the given topic approximations.
+     *
+     * @param topics the topic approximations.
+     * @return the distinct subscribers of the topics.
+     */
+    public Collection<ActorRef> getSubscribers(final Collection<T> topics) {
+        if (topics.size() == 1) {
+            final Set<ActorRef> subscribers = topicToSubscribers.get(topics.iterator().next());
+            return subscribers == null ? Collections.emptyList() : new ArrayList<>(subscribers);
+        }
+        final Set<ActorRef> result = new HashSet<>();
+        for (final T topic : topics) {
+            final Set<ActorRef> subscribers = topicToSubscribers.get(topic);
+            if (subscribers != null) {
+                result.addAll(subscribers);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of indexed subscribers.
+     */
+    public int countSubscribers() {
+        return subscriberToTopics.size();
+    }
+
+    /**
+     * @return the number of indexed topic approximations.
+     */
+    public int countTopics() {
+        return topicToSubscribers.size();
+    }
+
+    private void addSubscriberForTopics(final ActorRef subscriber, final Collection<T> topics) {
+        for (final T topic : topics) {
+            topicToSubscribers.computeIfAbsent(topic, k -> new HashSet<>()).add(subscriber);
+        }
+    }
+
+    private void removeSubscriberForTopics(final ActorRef subscriber, final Collection<T> topics) {
+        for (final T topic : topics) {
+            topicToSubscribers.computeIfPresent(topic, (k, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    private static <T> Set<T> asSet(final Collection<T> collection) {
+        return collection instanceof Set ? (Set<T>) collection : new HashSet<>(collection);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "subscribers=" + subscriberToTopics.size() +
+                ", topics=" + topicToSubscribers.size() +
+                "]";
+    }
+}
@@ -15,10 +15,8 @@ package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
 
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
 import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
@@ -28,6 +26,7 @@ import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataWriter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.Hashes;
+import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriberIndex;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
@@ -53,6 +52,8 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
     private final SelfUniqueAddress selfUniqueAddress;
     private final List<Integer> seeds;
 
+    private final SubscriberIndex<ByteString> subscriberIndex;
+
     private final Gauge ddataMetrics = DittoMetrics.gauge("pubsub-ddata-entries");
 
     private CompressedDDataHandler(final DistributedDataConfig config,
@@ -65,6 +66,8 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         this.topicType = topicType;
         this.selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(actorSystem).selfUniqueAddress());
         this.seeds = seeds;
+        subscriberIndex = SubscriberIndex.of(
+                DittoMetrics.gauge("pubsub-subscriber-index-update-nanos").tag("type", topicType));
     }
 
     /**
@@ -98,12 +101,11 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
             if (optional.isPresent()) {
                 final ORMultiMap<ActorRef, ByteString> mmap = optional.get();
                 ddataMetrics.set((long) mmap.size());
-                return JavaConverters.mapAsJavaMap(mmap.entries())
-                        .entrySet()
-                        .stream()
-                        .filter(entry -> topic.stream().anyMatch(entry.getValue()::contains))
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList());
+                // the index is usually up to date through change notifications; the local replica may be newer.
+                synchronized (subscriberIndex) {
+                    subscriberIndex.update(mmap, mmap::getEntries);
+                    return subscriberIndex.getSubscribers(topic);
+                }
             } else {
                 ddataMetrics.set(0L);
                 return Collections.emptyList();
@@ -111,6 +113,17 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         });
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void updateIndex(final Replicator.Changed<?> changed) {
+        if (getKey().equals(changed.key())) {
+            final ORMultiMap<ActorRef, ByteString> mmap = (ORMultiMap<ActorRef, ByteString>) changed.dataValue();
+            synchronized (subscriberIndex) {
+                subscriberIndex.update(mmap, mmap::getEntries);
+            }
+        }
+    }
+
     /**
      * Lossy-compress a topic into a ByteString consisting of hash codes from the family of hash functions.
      *
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.utils.pubsub.ddata.AbstractSubscriptionsTest.ACTOR1;
+import static org.eclipse.ditto.services.utils.pubsub.ddata.AbstractSubscriptionsTest.ACTOR2;
+import static org.eclipse.ditto.services.utils.pubsub.ddata.AbstractSubscriptionsTest.ACTOR3;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+
+/**
+ * Tests {@link SubscriberIndex}.
+ */
+public final class SubscriberIndexTest {
+
+    @Test
+    public void indexVennDiagram() {
+        final SubscriberIndex<String> underTest = newSubscriberIndex();
+
+        assertThat(underTest.update(new Object(), SubscriberIndexTest::getVennDiagram)).isTrue();
+
+        assertThat(underTest.getSubscribers(singleton("1"))).containsExactlyInAnyOrder(ACTOR1);
+        assertThat(underTest.getSubscribers(singleton("2"))).containsExactlyInAnyOrder(ACTOR1, ACTOR2);
+        assertThat(underTest.getSubscribers(singleton("5"))).containsExactlyInAnyOrder(ACTOR1, ACTOR2, ACTOR3);
+        assertThat(underTest.getSubscribers(singleton("7"))).containsExactlyInAnyOrder(ACTOR3);
+        assertThat(underTest.getSubscribers(singleton("8"))).isEmpty();
+        assertThat(underTest.getSubscribers(asSet("1", "3"))).containsExactlyInAnyOrder(ACTOR1, ACTOR2);
+        assertThat(underTest.getSubscribers(asSet("2", "5", "6"))).containsExactlyInAnyOrder(ACTOR1, ACTOR2, ACTOR3);
+        assertThat(underTest.countSubscribers()).isEqualTo(3);
+        assertThat(underTest.countTopics()).isEqualTo(7);
+    }
+
+    @Test
+    public void sameVersionIsIndexedOnce() {
+        final SubscriberIndex<String> underTest = newSubscriberIndex();
+        final Object version = new Object();
+
+        assertThat(underTest.update(version, SubscriberIndexTest::getVennDiagram)).isTrue();
+        assertThat(underTest.update(version, () -> {
+            throw new AssertionError("Subscriptions of an indexed version should not be computed");
+        })).isFalse();
+    }
+
+    @Test
+    public void updateChangedSubscriptions() {
+        final SubscriberIndex<String> underTest = newSubscriberIndex();
+        underTest.update(new Object(), SubscriberIndexTest::getVennDiagram);
+
+        final Map<ActorRef, Set<String>> changed = getVennDiagram();
+        changed.remove(ACTOR1);
+        changed.put(ACTOR2, asSet("2", "3", "8"));
+        underTest.update(new Object(), () -> changed);
+
+        assertThat(underTest.getSubscribers(singleton("1"))).isEmpty();
+        assertThat(underTest.getSubscribers(singleton("2"))).containsExactlyInAnyOrder(ACTOR2);
+        assertThat(underTest.getSubscribers(singleton("5"))).containsExactlyInAnyOrder(ACTOR3);
+        assertThat(underTest.getSubscribers(singleton("6"))).containsExactlyInAnyOrder(ACTOR3);
+        assertThat(underTest.getSubscribers(singleton("8"))).containsExactlyInAnyOrder(ACTOR2);
+        assertThat(underTest.countSubscribers()).isEqualTo(2);
+        assertThat(underTest.countTopics()).isEqualTo(7);
+
+        underTest.update(new Object(), HashMap::new);
+
+        assertThat(underTest.getSubscribers(asSet("2", "3", "4", "5", "6", "7", "8"))).isEmpty();
+        assertThat(underTest.countSubscribers()).isZero();
+        assertThat(underTest.countTopics()).isZero();
+    }
+
+    private static SubscriberIndex<String> newSubscriberIndex() {
+        return SubscriberIndex.of(DittoMetrics.gauge("subscriber-index-test"));
+    }
+
+    private static Map<ActorRef, Set<String>> getVennDiagram() {
+        final Map<ActorRef, Set<String>> subscriptions = new HashMap<>();
+        subscriptions.put(ACTOR1, asSet("1", "2", "4", "5"));
+        subscriptions.put(ACTOR2, asSet("2", "3", "5", "6"));
+        subscriptions.put(ACTOR3, asSet("4", "5", "6", "7"));
+        return subscriptions;
+    }
+
+    private static Set<String> asSet(final String... elements) {
+        return new HashSet<>(Arrays.asList(elements));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriberIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.Props;
+import akka.cluster.UniqueAddress;
+import akka.cluster.ddata.ORMultiMap;
+import akka.cluster.ddata.SelfUniqueAddress;
+import akka.util.ByteString;
+import scala.collection.JavaConverters;
+
+/**
+ * JMH Benchmark comparing the lookup of the subscribers of a published topic by scanning all distributed
+ * subscriptions with the lookup in a {@link SubscriberIndex}, and measuring the incremental update of the index after
+ * the subscriptions of one subscriber changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = SubscriberIndexBenchmark.WARMUP_ITERATIONS,
+        time = SubscriberIndexBenchmark.WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = SubscriberIndexBenchmark.MEASUREMENT_ITERATIONS,
+        time = SubscriberIndexBenchmark.MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+public class SubscriberIndexBenchmark {
+
+    static final int WARMUP_ITERATIONS = 5;
+    static final int MEASUREMENT_ITERATIONS = 10;
+    static final int WARMUP_TIME = 1000;
+    static final int MEASUREMENT_TIME = 1000;
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int PUBLISHED_TOPICS = 1024;
+
+    @Param({"1", "10"})
+    public int topicsPerSubscriber;
+
+    private ActorSystem actorSystem;
+    private ORMultiMap<ActorRef, ByteString> subscriptions;
+    private ORMultiMap<ActorRef, ByteString> changedSubscriptions;
+    private SubscriberIndex<ByteString> subscriberIndex;
+    private List<Collection<ByteString>> publishedTopics;
+    private int publication;
+    private boolean changed;
+
+    @Setup
+    public void setup() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        final SelfUniqueAddress node =
+                SelfUniqueAddress.apply(new UniqueAddress(new Address("akka", actorSystem.name()), 1L));
+        final Random random = new Random(0L);
+        ORMultiMap<ActorRef, ByteString> mmap = ORMultiMap.emptyWithValueDeltas();
+        ActorRef subscriber = null;
+        for (int i = 0; i < SUBSCRIBERS; ++i) {
+            subscriber = actorSystem.actorOf(Props.empty());
+            final Set<ByteString> topics = new HashSet<>();
+            for (int j = 0; j < topicsPerSubscriber; ++j) {
+                topics.add(topic(random.nextInt(SUBSCRIBERS)));
+            }
+            mmap = mmap.put(node, subscriber, topics);
+        }
+        subscriptions = mmap;
+        changedSubscriptions = mmap.addBinding(node, subscriber, topic(SUBSCRIBERS));
+
+        subscriberIndex = SubscriberIndex.of(DittoMetrics.gauge("subscriber-index-benchmark"));
+        subscriberIndex.update(subscriptions, subscriptions::getEntries);
+
+        publishedTopics = new ArrayList<>(PUBLISHED_TOPICS);
+        for (int i = 0; i < PUBLISHED_TOPICS; ++i) {
+            publishedTopics.add(Collections.singleton(topic(random.nextInt(SUBSCRIBERS))));
+        }
+        publication = 0;
+        changed = false;
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    public Collection<ActorRef> scanSubscriptions() {
+        final Collection<ByteString> topics = nextPublishedTopics();
+        return JavaConverters.mapAsJavaMap(subscriptions.entries())
+                .entrySet()
+                .stream()
+                .filter(entry -> topics.stream().anyMatch(entry.getValue()::contains))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Collection<ActorRef> lookUpSubscriberIndex() {
+        return subscriberIndex.getSubscribers(nextPublishedTopics());
+    }
+
+    @Benchmark
+    public boolean updateSubscriberIndex() {
+        changed = !changed;
+        final ORMultiMap<ActorRef, ByteString> version = changed ? changedSubscriptions : subscriptions;
+        return subscriberIndex.update(version, version::getEntries);
+    }
+
+    private Collection<ByteString> nextPublishedTopics() {
+        publication = (publication + 1) % PUBLISHED_TOPICS;
+        return publishedTopics.get(publication);
+    }
+
+    private static ByteString topic(final int i) {
+        return ByteString.fromString("topic-" + i);
+    }
+
+}
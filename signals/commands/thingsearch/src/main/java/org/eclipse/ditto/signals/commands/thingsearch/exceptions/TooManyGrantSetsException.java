@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.thingsearch.exceptions;
+
+import java.net.URI;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableException;
+import org.eclipse.ditto.model.thingsearch.ThingSearchException;
+
+/**
+ * Thrown if the authorization subjects of a search can read more distinct grant sets of the search index than can be
+ * searched with.
+ *
+ * @since 1.3.0
+ */
+@JsonParsableException(errorCode = TooManyGrantSetsException.ERROR_CODE)
+public class TooManyGrantSetsException extends DittoRuntimeException implements ThingSearchException {
+
+    /**
+     * Error code of this exception.
+     */
+    public static final String ERROR_CODE = ERROR_CODE_PREFIX + "search.grantsets.toomany";
+
+    private static final String MESSAGE_TEMPLATE =
+            "The authorization subjects can read more than <{0}> distinct sets of permissions in the search index.";
+
+    static final String DEFAULT_DESCRIPTION = "Search with fewer authorization subjects or contact the operator " +
+            "to search with the permissions stored per attribute.";
+
+    static final HttpStatusCode STATUS_CODE = HttpStatusCode.BAD_REQUEST;
+
+    private static final long serialVersionUID = -4810592745873626130L;
+
+    private TooManyGrantSetsException(final DittoHeaders dittoHeaders,
+            @Nullable final String message,
+            @Nullable final String description,
+            @Nullable final Throwable cause,
+            @Nullable final URI href) {
+        super(ERROR_CODE, STATUS_CODE, dittoHeaders, message, description, cause, href);
+    }
+
+    @Override
+    protected DittoRuntimeExceptionBuilder<? extends DittoRuntimeException> getEmptyBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * A mutable builder for a {@code TooManyGrantSetsException}.
+     *
+     * @param maxGrantSets the maximum number of grant sets which can be searched with.
+     * @return the builder.
+     */
+    public static Builder newBuilder(final int maxGrantSets) {
+        return new Builder(maxGrantSets);
+    }
+
+    /**
+     * Constructs a new {@code TooManyGrantSetsException} object with given message.
+     *
+     * @param message detail message. This message can be later retrieved by the {@link #getMessage()} method.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new TooManyGrantSetsException.
+     */
+    public static TooManyGrantSetsException fromMessage(final String message, final DittoHeaders dittoHeaders) {
+        return new Builder()
+                .dittoHeaders(dittoHeaders)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Constructs a new {@code TooManyGrantSetsException} object with the exception message extracted from the
+     * given JSON object.
+     *
+     * @param jsonObject the JSON to read the {@link JsonFields#MESSAGE} field from.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new TooManyGrantSetsException.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the {@code jsonObject} does not have the {@link
+     * JsonFields#MESSAGE} field.
+     */
+    public static TooManyGrantSetsException fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new Builder()
+                .dittoHeaders(dittoHeaders)
+                .message(readMessage(jsonObject))
+                .description(readDescription(jsonObject).orElse(DEFAULT_DESCRIPTION))
+                .href(readHRef(jsonObject).orElse(null))
+                .build();
+    }
+
+    /**
+     * A mutable builder with a fluent API for a {@link TooManyGrantSetsException}.
+     */
+    @NotThreadSafe
+    public static final class Builder extends DittoRuntimeExceptionBuilder<TooManyGrantSetsException> {
+
+        private Builder() {
+            description(DEFAULT_DESCRIPTION);
+        }
+
+        private Builder(final int maxGrantSets) {
+            this();
+            message(MessageFormat.format(MESSAGE_TEMPLATE, String.valueOf(maxGrantSets)));
+        }
+
+        @Override
+        protected TooManyGrantSetsException doBuild(final DittoHeaders dittoHeaders,
+                @Nullable final String message,
+                @Nullable final String description,
+                @Nullable final Throwable cause,
+                @Nullable final URI href) {
+            return new TooManyGrantSetsException(dittoHeaders, message, description, cause, href);
+        }
+    }
+}